@@ -158,6 +158,7 @@ gcloud run deploy $SERVICE_NAME `
   --set-secrets "API_PASSWORD=api-password:latest" `
   --set-env-vars "API_USERNAME=admin" `
   --set-env-vars "API_ROLE=USER" `
+  --set-env-vars "APP_SNAPSHOT_DIRECTORY=/tmp/client-snapshots" `
   --memory 1Gi `
   --cpu 2 `
   --timeout 300 `
@@ -0,0 +1,92 @@
+package com.pinapp.challenge.benchmark;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.service.AgeColumnKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the age column kernel, over the whole column and folded batch by batch as exact mode
+ * streams it, with the original list-of-clients stream calculation (boxed ages, two passes, Math.pow).
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AgeColumnKernel"
+ * </pre>
+ * The 50M row case needs a few gigabytes of heap for the client list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class AgeColumnKernelBenchmark {
+
+    /**
+     * Batch size of the exact-mode age cursor
+     */
+    private static final int BATCH_SIZE = 1 << 18;
+
+    @Param({"1000000", "50000000"})
+    private int rows;
+
+    private int[] ages;
+    private List<Client> clients;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ages = new int[rows];
+        clients = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ages[i] = 1 + random.nextInt(100);
+            clients.add(new Client(null, null, ages[i], null));
+        }
+    }
+
+    /**
+     * The calculation ClientService used before the summary table: two passes over boxed ages
+     */
+    @Benchmark
+    public double stream() {
+        double average = clients.stream().mapToInt(Client::getAge).average().orElse(0.0);
+        double variance = clients.stream()
+                .mapToDouble(client -> Math.pow(client.getAge() - average, 2))
+                .sum() / (clients.size() - 1);
+        return Math.sqrt(variance);
+    }
+
+    @Benchmark
+    public AgeStatistics kernel() {
+        return AgeColumnKernel.compute(ages);
+    }
+
+    /**
+     * Exact mode: the column copied into one reused batch at a time and folded into running sums
+     */
+    @Benchmark
+    public AgeStatistics batched() {
+        AgeColumnKernel.Accumulator accumulator = new AgeColumnKernel.Accumulator();
+        int[] batch = new int[BATCH_SIZE];
+        for (int from = 0; from < rows; from += BATCH_SIZE) {
+            int length = Math.min(BATCH_SIZE, rows - from);
+            System.arraycopy(ages, from, batch, 0, length);
+            accumulator.accept(batch, length);
+        }
+        return accumulator.toStatistics();
+    }
+}
@@ -0,0 +1,146 @@
+package com.pinapp.challenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.SortDirection;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientResponse;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.ClientRepositoryAdapter;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.PostgresClientJsonRenderer;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the two ways of building a client list page against a PostgreSQL database:
+ * mapping rows to clients and responses and serializing them with Jackson, or having
+ * PostgreSQL build the JSON with json_agg. The database is migrated and filled with generated
+ * clients up to {@code rows}, so point it at a scratch database, e.g.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ClientListRendering \
+ *     -p url=jdbc:postgresql://localhost:5432/clientdb -p user=postgres -p password=postgres -prof gc"
+ * </pre>
+ * The score is the wall time per page, which includes the database; the allocation per page
+ * reported by {@code -prof gc} shows the application-side work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClientListRenderingBenchmark {
+
+    private static final int FILL_BATCH = 10_000;
+
+    @Param("jdbc:postgresql://localhost:5432/clientdb")
+    private String url;
+
+    @Param("postgres")
+    private String user;
+
+    @Param("postgres")
+    private String password;
+
+    @Param("1000000")
+    private long rows;
+
+    @Param({"100", "1000"})
+    private int limit;
+
+    @Param({"ID", "LAST_NAME"})
+    private ClientSort sort;
+
+    private SingleConnectionDataSource dataSource;
+    private ClientRepositoryAdapter adapter;
+    private PostgresClientJsonRenderer renderer;
+    private ObjectMapper objectMapper;
+    private ClientQuery query;
+    private ClientPosition position;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(url, user, password, true);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        fill(jdbcTemplate);
+
+        adapter = new ClientRepositoryAdapter(null, jdbcTemplate, null, null, null);
+        renderer = new PostgresClientJsonRenderer(jdbcTemplate);
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        // Start in the middle of the table so each page reads through the index like a later page would
+        query = new ClientQuery(null, null, null, null, null, null, sort, SortDirection.ASC);
+        position = new ClientPosition(sort == ClientSort.LAST_NAME ? "Last" + rows / 2 : null, rows / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public byte[] application() throws Exception {
+        return objectMapper.writeValueAsBytes(toResponses(adapter.findPage(query, position, limit + 1)));
+    }
+
+    @Benchmark
+    public byte[] database() {
+        return renderer.render(query, position, limit).orElseThrow().getJson();
+    }
+
+    private void fill(JdbcTemplate jdbcTemplate) {
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM clients", Long.class);
+        if (existing != null && existing < rows) {
+            // The metrics trigger updates one row per insert, so keep each statement's version chain short
+            for (long from = existing + 1; from <= rows; from += FILL_BATCH) {
+                jdbcTemplate.update("INSERT INTO clients (first_name, last_name, age, birth_date) "
+                        + "SELECT 'First' || g, 'Last' || g, 18 + g % 70, DATE '1950-01-01' + (g % 20000)::int "
+                        + "FROM generate_series(?, ?) g", from, Math.min(from + FILL_BATCH - 1, rows));
+            }
+            jdbcTemplate.execute("ANALYZE clients");
+        }
+    }
+
+    /**
+     * What the controller does with a page: drop the look-ahead row and map each client to its response
+     */
+    private List<ClientResponse> toResponses(List<Client> clients) {
+        return clients.stream()
+                .limit(limit)
+                .map(client -> ClientResponse.builder()
+                        .id(client.getId())
+                        .firstName(client.getFirstName())
+                        .lastName(client.getLastName())
+                        .age(client.getAge())
+                        .birthDate(client.getBirthDate())
+                        .estimatedDeathDate(client.calculateLifeExpectancy())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,87 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.AgeDistribution;
+import com.pinapp.challenge.domain.model.Client;
+import org.springframework.stereotype.Component;
+
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Number of clients per year of age, kept in a fixed-size counting array.
+ * Ages above {@link #MAX_AGE} are counted in the last bucket, so percentiles
+ * are exact and cost O(MAX_AGE) regardless of the number of clients.
+ */
+@Component
+public class AgeHistogram implements ClientIndex {
+
+    public static final int MAX_AGE = 130;
+
+    private final AtomicLongArray counts = new AtomicLongArray(MAX_AGE + 1);
+
+    @Override
+    public void clear() {
+        for (int age = 0; age <= MAX_AGE; age++) {
+            counts.set(age, 0);
+        }
+    }
+
+    @Override
+    public void add(Client client) {
+        counts.incrementAndGet(bucket(client.getAge()));
+    }
+
+    @Override
+    public void remove(Client client) {
+        counts.updateAndGet(bucket(client.getAge()), count -> Math.max(0, count - 1));
+    }
+
+    /**
+     * Builds the age distribution from the current counts
+     * @return AgeDistribution with nearest-rank percentiles and the per-age histogram
+     */
+    public AgeDistribution distribution() {
+        long[] snapshot = new long[MAX_AGE + 1];
+        long total = 0;
+        for (int age = 0; age <= MAX_AGE; age++) {
+            snapshot[age] = counts.get(age);
+            total += snapshot[age];
+        }
+        if (total == 0) {
+            return AgeDistribution.EMPTY;
+        }
+
+        TreeMap<Integer, Long> histogram = new TreeMap<>();
+        for (int age = 0; age <= MAX_AGE; age++) {
+            if (snapshot[age] > 0) {
+                histogram.put(age, snapshot[age]);
+            }
+        }
+
+        return new AgeDistribution(
+                total,
+                histogram.firstKey(),
+                histogram.lastKey(),
+                percentile(snapshot, total, 0.50),
+                percentile(snapshot, total, 0.90),
+                percentile(snapshot, total, 0.99),
+                histogram
+        );
+    }
+
+    private static int percentile(long[] snapshot, long total, double fraction) {
+        long rank = (long) Math.ceil(fraction * total);
+        long cumulative = 0;
+        for (int age = 0; age <= MAX_AGE; age++) {
+            cumulative += snapshot[age];
+            if (cumulative >= rank) {
+                return age;
+            }
+        }
+        return MAX_AGE;
+    }
+
+    private static int bucket(int age) {
+        return Math.min(Math.max(age, 0), MAX_AGE);
+    }
+}
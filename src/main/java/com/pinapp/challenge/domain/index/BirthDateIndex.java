@@ -0,0 +1,165 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+import com.pinapp.challenge.domain.model.Client;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Client birth dates kept as a sorted array of epoch days.
+ * A client is at least {@code k} years old on a date exactly when it was born on or before
+ * that date minus {@code k} years, so the number of such clients is one binary search.
+ * Age statistics at any reference date therefore cost O(A log n), where A is the oldest age,
+ * instead of a {@code Period.between} call per stored client. When A exceeds the number of
+ * clients born by that date, which only a reference date far in the future can cause, the ages
+ * are summed one client at a time instead, so the cost never exceeds O(n).
+ */
+@Component
+public class BirthDateIndex implements ClientIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            epochDays = new int[INITIAL_CAPACITY];
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(Client client) {
+        if (client.getBirthDate() == null) {
+            return;
+        }
+        int epochDay = (int) client.getBirthDate().toEpochDay();
+        lock.writeLock().lock();
+        try {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+            }
+            int position = countOnOrBefore(epochDay);
+            System.arraycopy(epochDays, position, epochDays, position + 1, size - position);
+            epochDays[position] = epochDay;
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Collects the scanned birth dates unsorted and sorts them once at the end, instead of
+     * shifting the array on every insert, then swaps the result in
+     */
+    @Override
+    public Loader load() {
+        clear();
+        return new Loader() {
+
+            private int[] loaded = new int[INITIAL_CAPACITY];
+            private int count;
+
+            @Override
+            public void accept(Client client) {
+                if (client.getBirthDate() == null) {
+                    return;
+                }
+                if (count == loaded.length) {
+                    loaded = Arrays.copyOf(loaded, count * 2);
+                }
+                loaded[count++] = (int) client.getBirthDate().toEpochDay();
+            }
+
+            @Override
+            public void finish() {
+                Arrays.sort(loaded, 0, count);
+                lock.writeLock().lock();
+                try {
+                    epochDays = loaded;
+                    size = count;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void remove(Client client) {
+        if (client.getBirthDate() == null) {
+            return;
+        }
+        int epochDay = (int) client.getBirthDate().toEpochDay();
+        lock.writeLock().lock();
+        try {
+            int position = Arrays.binarySearch(epochDays, 0, size, epochDay);
+            if (position >= 0) {
+                System.arraycopy(epochDays, position + 1, epochDays, position, size - position - 1);
+                size--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Calculates the age statistics of the clients born on or before the given date,
+     * using each client's age in whole years on that date
+     * @return AgeStatistics of the ages on the reference date
+     */
+    public AgeStatistics statisticsAsOf(LocalDate asOf) {
+        lock.readLock().lock();
+        try {
+            int born = countOnOrBefore(asOf.toEpochDay());
+            long oldestAge = born == 0 ? 0 : ChronoUnit.YEARS.between(LocalDate.ofEpochDay(epochDays[0]), asOf);
+            long sum = 0;
+            long sumOfSquares = 0;
+            if (oldestAge > born) {
+                for (int position = 0; position < born; position++) {
+                    long age = ChronoUnit.YEARS.between(LocalDate.ofEpochDay(epochDays[position]), asOf);
+                    sum += age;
+                    sumOfSquares += age * age;
+                }
+                return AgeStatistics.fromSums(born, sum, sumOfSquares);
+            }
+            // sum of ages = sum over k >= 1 of #(age >= k); sum of squares weights each term by 2k - 1
+            for (int years = 1; years <= oldestAge; years++) {
+                long atLeast = countOnOrBefore(asOf.minusYears(years).toEpochDay());
+                sum += atLeast;
+                sumOfSquares += (2L * years - 1) * atLeast;
+            }
+            return AgeStatistics.fromSums(born, sum, sumOfSquares);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Binary search for the number of stored birth dates on or before the given epoch day
+     */
+    private int countOnOrBefore(long epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] <= epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
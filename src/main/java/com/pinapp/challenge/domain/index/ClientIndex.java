@@ -0,0 +1,37 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+
+import java.util.function.Consumer;
+
+/**
+ * In-memory structure derived from the stored clients and maintained incrementally
+ * as clients are created and deleted. Implementations must be safe for concurrent use.
+ */
+public interface ClientIndex {
+
+    void clear();
+
+    void add(Client client);
+
+    void remove(Client client);
+
+    /**
+     * Starts reloading the index from a scan of every stored client. By default it is cleared and
+     * the scanned clients are added one by one; indexes that build faster in bulk override this.
+     * @return the loader the scanned clients are passed to
+     */
+    default Loader load() {
+        clear();
+        return this::add;
+    }
+
+    /**
+     * Receives the clients of a reload scan, then is told when the scan is over
+     */
+    interface Loader extends Consumer<Client> {
+
+        default void finish() {
+        }
+    }
+}
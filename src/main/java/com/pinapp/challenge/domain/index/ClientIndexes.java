@@ -0,0 +1,51 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fans client writes out to every registered {@link ClientIndex} and seeds them
+ * from a single streamed scan of the repository at startup.
+ */
+@Component
+public class ClientIndexes implements SmartInitializingSingleton {
+
+    private final ClientRepositoryPort clientRepositoryPort;
+    private final List<ClientIndex> indexes;
+
+    public ClientIndexes(ClientRepositoryPort clientRepositoryPort, List<ClientIndex> indexes) {
+        this.clientRepositoryPort = clientRepositoryPort;
+        this.indexes = indexes;
+    }
+
+    public void add(Client client) {
+        indexes.forEach(index -> index.add(client));
+    }
+
+    public void remove(Client client) {
+        indexes.forEach(index -> index.remove(client));
+    }
+
+    /**
+     * Clears every index and reloads it from the clients currently stored in the repository.
+     * A write landing during the scan would be lost or counted twice, so this only runs while no
+     * requests are served: at startup, before the web server is started.
+     */
+    public void rebuild() {
+        List<ClientIndex.Loader> loaders = indexes.stream().map(ClientIndex::load).toList();
+        clientRepositoryPort.streamAll(client -> loaders.forEach(loader -> loader.accept(client)));
+        loaders.forEach(ClientIndex.Loader::finish);
+    }
+
+    /**
+     * Seeds the indexes once all beans exist, before the web server starts accepting requests
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+}
@@ -0,0 +1,59 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-cohort age statistics for every {@link MetricsGrouping}, updated on each write.
+ * A grouped metrics request only reads one small map, so its cost depends on the
+ * number of groups and not on the number of clients.
+ */
+@Component
+public class CohortRollups implements ClientIndex {
+
+    private final Map<MetricsGrouping, ConcurrentMap<String, AgeStatistics>> rollups = new EnumMap<>(MetricsGrouping.class);
+
+    public CohortRollups() {
+        for (MetricsGrouping grouping : MetricsGrouping.values()) {
+            rollups.put(grouping, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void clear() {
+        rollups.values().forEach(Map::clear);
+    }
+
+    @Override
+    public void add(Client client) {
+        rollups.forEach((grouping, groups) -> groups.merge(grouping.keyOf(client),
+                AgeStatistics.EMPTY.add(client.getAge()),
+                AgeStatistics::merge));
+    }
+
+    @Override
+    public void remove(Client client) {
+        // Returning null drops the group once its last client is gone
+        rollups.forEach((grouping, groups) -> groups.computeIfPresent(grouping.keyOf(client),
+                (key, statistics) -> statistics.getCount() <= 1 ? null : statistics.remove(client.getAge())));
+    }
+
+    /**
+     * Returns the metrics of every non-empty group, ordered by group key
+     * @return map from group key to the metrics of its clients
+     */
+    public Map<String, ClientMetrics> metricsBy(MetricsGrouping grouping) {
+        Map<String, ClientMetrics> metrics = new TreeMap<>();
+        rollups.get(grouping).forEach((key, statistics) -> metrics.put(key, statistics.toClientMetrics()));
+        return metrics;
+    }
+}
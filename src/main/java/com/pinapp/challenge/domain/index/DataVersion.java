@@ -0,0 +1,51 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter bumped on every client write, so cached results can tell whether they are still current.
+ * It starts at a random value, so versions reported by different instances do not collide.
+ * <p>
+ * Writes made by other instances or outside the application never reach the indexes, so the
+ * counter is also bumped whenever a clients table version read elsewhere differs from the last
+ * one seen, letting in-memory caches notice them without a database read of their own.
+ */
+@Component
+public class DataVersion implements ClientIndex {
+
+    private final AtomicLong version = new AtomicLong(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE / 2));
+    private final AtomicLong tableVersion = new AtomicLong(Long.MIN_VALUE);
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Records a clients table version that was just read, bumping the counter when it moved
+     */
+    public void observeTableVersion(long observed) {
+        long last = tableVersion.get();
+        if (last != observed && tableVersion.compareAndSet(last, observed)) {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void clear() {
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void add(Client client) {
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void remove(Client client) {
+        version.incrementAndGet();
+    }
+}
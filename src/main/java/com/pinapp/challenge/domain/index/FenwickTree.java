@@ -0,0 +1,51 @@
+package com.pinapp.challenge.domain.index;
+
+import java.util.Arrays;
+
+/**
+ * Binary indexed tree of longs over the positions {@code 0..size-1}.
+ * Point updates and prefix sums both cost O(log size). Not thread-safe.
+ */
+final class FenwickTree {
+
+    private final long[] tree;
+
+    FenwickTree(int size) {
+        this.tree = new long[size + 1];
+    }
+
+    int size() {
+        return tree.length - 1;
+    }
+
+    void add(int position, long delta) {
+        for (int i = position + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Sum of the values at positions {@code 0..position}, or 0 when position is negative
+     */
+    long prefixSum(int position) {
+        long sum = 0;
+        for (int i = Math.min(position + 1, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of the values at positions {@code from..to}, both inclusive
+     */
+    long rangeSum(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    void clear() {
+        Arrays.fill(tree, 0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.pinapp.challenge.domain.index;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct strings offered to it.
+ * With 2^14 one-byte registers it takes 16 KB and has a standard error of about 0.8%,
+ * whatever the number of values. Offering a value twice never changes the sketch, and two
+ * sketches merge into the sketch of the union by taking the maximum of each register.
+ * Instances are not thread-safe.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISION = 14;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    /**
+     * Restores a sketch from registers previously returned by {@link #toByteArray()}
+     * @return HyperLogLog with a copy of the given registers
+     */
+    public static HyperLogLog fromByteArray(byte[] registers) {
+        if (registers.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("Expected " + REGISTER_COUNT + " registers but got " + registers.length);
+        }
+        HyperLogLog sketch = new HyperLogLog();
+        System.arraycopy(registers, 0, sketch.registers, 0, REGISTER_COUNT);
+        return sketch;
+    }
+
+    /**
+     * Adds a value to the sketch
+     * @return true if a register changed, i.e. the sketch has to be persisted again
+     */
+    public boolean offer(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // The marker bit caps the rank at 64 - PRECISION + 1 when the remaining bits are all zero
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank <= registers[index]) {
+            return false;
+        }
+        registers[index] = rank;
+        return true;
+    }
+
+    /**
+     * Folds another sketch into this one
+     * @return true if a register changed
+     */
+    public boolean merge(HyperLogLog other) {
+        boolean changed = false;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Estimates the number of distinct values offered, switching to linear counting
+     * while many registers are still empty
+     * @return estimated cardinality
+     */
+    public long estimate() {
+        double inverseSum = 0.0;
+        int emptyRegisters = 0;
+        for (byte register : registers) {
+            inverseSum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                emptyRegisters++;
+            }
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / inverseSum;
+        if (estimate <= 2.5 * REGISTER_COUNT && emptyRegisters > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / emptyRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toByteArray() {
+        return registers.clone();
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units followed by the MurmurHash3 finalizer,
+     * which spreads short, similar names over all the bits the sketch reads
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,165 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import com.pinapp.challenge.domain.port.out.NameSketchRepositoryPort;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * HyperLogLog sketches of the first and last names of created clients, persisted so that
+ * distinct name counts never need a {@code COUNT(DISTINCT ...)} scan, not even after a restart.
+ * <p>
+ * Creates only touch the in-memory registers. Every {@code app.metrics.name-sketches.sync-interval}
+ * a background sync merges the registers of each sketch that changed into the stored ones, and
+ * merges the stored registers of the others into the local sketch, so every instance picks up the
+ * names seen by all of them without a database read on the request path. A sketch cannot forget a
+ * value, so deleted clients keep counting towards the estimates.
+ */
+@Component
+public class NameSketches implements SmartInitializingSingleton {
+
+    static final String FIRST_NAMES = "first_name";
+    static final String LAST_NAMES = "last_name";
+
+    private final NameSketchRepositoryPort nameSketchRepositoryPort;
+    private final ClientRepositoryPort clientRepositoryPort;
+    private final Sketch firstNames = new Sketch(FIRST_NAMES);
+    private final Sketch lastNames = new Sketch(LAST_NAMES);
+
+    public NameSketches(NameSketchRepositoryPort nameSketchRepositoryPort, ClientRepositoryPort clientRepositoryPort) {
+        this.nameSketchRepositoryPort = nameSketchRepositoryPort;
+        this.clientRepositoryPort = clientRepositoryPort;
+    }
+
+    /**
+     * Offers the names of a created client to the local sketches, leaving persistence to the next sync
+     */
+    public void add(Client client) {
+        firstNames.offer(client.getFirstName());
+        lastNames.offer(client.getLastName());
+    }
+
+    /**
+     * Persists the sketches changed since the last sync, merged with the stored ones, and merges the
+     * stored registers of the unchanged ones, picking up the names added through other instances.
+     * The database is read and written outside the sketch monitors, so creates never wait for it.
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.name-sketches.sync-interval:PT5S}",
+            initialDelayString = "${app.metrics.name-sketches.sync-interval:PT5S}")
+    public void sync() {
+        sync(firstNames);
+        sync(lastNames);
+    }
+
+    public long distinctFirstNames() {
+        return firstNames.estimate;
+    }
+
+    public long distinctLastNames() {
+        return lastNames.estimate;
+    }
+
+    /**
+     * Loads the persisted sketches. When none have been stored yet, they are built from one
+     * streamed scan of the clients and saved.
+     */
+    public synchronized void restore() {
+        byte[] storedFirstNames = nameSketchRepositoryPort.load(FIRST_NAMES).orElse(null);
+        byte[] storedLastNames = nameSketchRepositoryPort.load(LAST_NAMES).orElse(null);
+        if (storedFirstNames != null && storedLastNames != null) {
+            firstNames.replace(HyperLogLog.fromByteArray(storedFirstNames));
+            lastNames.replace(HyperLogLog.fromByteArray(storedLastNames));
+            return;
+        }
+        HyperLogLog scannedFirstNames = new HyperLogLog();
+        HyperLogLog scannedLastNames = new HyperLogLog();
+        clientRepositoryPort.streamAll(client -> {
+            scannedFirstNames.offer(client.getFirstName());
+            scannedLastNames.offer(client.getLastName());
+        });
+        firstNames.replace(persist(FIRST_NAMES, scannedFirstNames));
+        lastNames.replace(persist(LAST_NAMES, scannedLastNames));
+    }
+
+    private void sync(Sketch sketch) {
+        boolean changed;
+        HyperLogLog copy;
+        synchronized (sketch) {
+            changed = sketch.changed;
+            copy = HyperLogLog.fromByteArray(sketch.registers.toByteArray());
+            sketch.changed = false;
+        }
+        try {
+            if (changed) {
+                persist(sketch.name, copy);
+            } else {
+                nameSketchRepositoryPort.load(sketch.name).ifPresent(stored -> copy.merge(HyperLogLog.fromByteArray(stored)));
+            }
+        } catch (RuntimeException e) {
+            // Retried on the next sync; the local registers already hold the names
+            sketch.markChanged(changed);
+            throw e;
+        }
+        sketch.merge(copy);
+    }
+
+    /**
+     * Stores the register-wise maximum of the given and stored sketches, which the given one takes too
+     * @return the merged sketch
+     */
+    private HyperLogLog persist(String name, HyperLogLog sketch) {
+        nameSketchRepositoryPort.update(name, stored -> {
+            if (stored != null) {
+                sketch.merge(HyperLogLog.fromByteArray(stored));
+            }
+            return sketch.toByteArray();
+        });
+        return sketch;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+    }
+
+    /**
+     * Local registers of one sketch, guarded by its own monitor, with a flag telling the sync
+     * whether they changed since they were last persisted
+     */
+    private static final class Sketch {
+
+        private final String name;
+        private HyperLogLog registers = new HyperLogLog();
+        private boolean changed;
+        private volatile long estimate;
+
+        private Sketch(String name) {
+            this.name = name;
+        }
+
+        private synchronized void offer(String value) {
+            if (registers.offer(value)) {
+                changed = true;
+                estimate = registers.estimate();
+            }
+        }
+
+        private synchronized void merge(HyperLogLog other) {
+            if (registers.merge(other)) {
+                estimate = registers.estimate();
+            }
+        }
+
+        private synchronized void replace(HyperLogLog other) {
+            registers = other;
+            changed = false;
+            estimate = registers.estimate();
+        }
+
+        private synchronized void markChanged(boolean changed) {
+            this.changed |= changed;
+        }
+    }
+}
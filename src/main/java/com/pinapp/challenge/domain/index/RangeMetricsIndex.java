@@ -0,0 +1,140 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Count, sum and sum of squares of client ages in Fenwick trees keyed by age and by
+ * birth date, so the statistics of any age range or birth date window are a few
+ * O(log n) prefix sums and every write is O(log n).
+ * Clients are only created with ages up to {@link AgeHistogram#MAX_AGE} and birth dates within
+ * {@link #MIN_BIRTH_DATE}..{@link #MAX_BIRTH_DATE}, so every client has its own bucket and filters are
+ * exact; rows written around the service with values past those bounds are clamped to the nearest one.
+ * A filter reaching past the supported ages or dates is cut at the bound it crosses, and one lying
+ * entirely outside them matches no client.
+ */
+@Component
+public class RangeMetricsIndex implements ClientIndex {
+
+    public static final LocalDate MIN_BIRTH_DATE = LocalDate.of(1850, 1, 1);
+    public static final LocalDate MAX_BIRTH_DATE = LocalDate.of(2149, 12, 31);
+
+    private static final long FIRST_EPOCH_DAY = MIN_BIRTH_DATE.toEpochDay();
+    private static final int BIRTH_DATE_POSITIONS = (int) (MAX_BIRTH_DATE.toEpochDay() - FIRST_EPOCH_DAY + 1);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AgeSums byAge = new AgeSums(AgeHistogram.MAX_AGE + 1);
+    private final AgeSums byBirthDate = new AgeSums(BIRTH_DATE_POSITIONS);
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byAge.clear();
+            byBirthDate.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(Client client) {
+        update(client, 1);
+    }
+
+    @Override
+    public void remove(Client client) {
+        update(client, -1);
+    }
+
+    private void update(Client client, int sign) {
+        int age = client.getAge();
+        lock.writeLock().lock();
+        try {
+            byAge.add(agePosition(age), age, sign);
+            if (client.getBirthDate() != null) {
+                byBirthDate.add(birthDatePosition(client.getBirthDate()), age, sign);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Calculates the age statistics of the clients matching an age range or a birth date window
+     * @return AgeStatistics of the matching clients' stored ages
+     */
+    public AgeStatistics statistics(ClientMetricsFilter filter) {
+        lock.readLock().lock();
+        try {
+            if (filter.isAgeRange()) {
+                long from = filter.getMinAge() == null ? 0 : filter.getMinAge();
+                long to = filter.getMaxAge() == null ? AgeHistogram.MAX_AGE : filter.getMaxAge();
+                return statistics(byAge, from, to, AgeHistogram.MAX_AGE);
+            }
+            long from = filter.getBornFrom() == null ? 0 : filter.getBornFrom().toEpochDay() - FIRST_EPOCH_DAY;
+            long to = filter.getBornTo() == null ? BIRTH_DATE_POSITIONS - 1 : filter.getBornTo().toEpochDay() - FIRST_EPOCH_DAY;
+            return statistics(byBirthDate, from, to, BIRTH_DATE_POSITIONS - 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static AgeStatistics statistics(AgeSums sums, long from, long to, int lastPosition) {
+        if (from > lastPosition || to < 0) {
+            return AgeStatistics.EMPTY;
+        }
+        return sums.statistics((int) Math.max(from, 0), (int) Math.min(to, lastPosition));
+    }
+
+    private static int agePosition(int age) {
+        return Math.max(0, Math.min(age, AgeHistogram.MAX_AGE));
+    }
+
+    private static int birthDatePosition(LocalDate birthDate) {
+        long position = birthDate.toEpochDay() - FIRST_EPOCH_DAY;
+        return (int) Math.max(0, Math.min(position, BIRTH_DATE_POSITIONS - 1));
+    }
+
+    /**
+     * Three parallel Fenwick trees holding the count, sum and sum of squares of ages per position
+     */
+    private static final class AgeSums {
+
+        private final FenwickTree counts;
+        private final FenwickTree sums;
+        private final FenwickTree sumsOfSquares;
+
+        private AgeSums(int positions) {
+            this.counts = new FenwickTree(positions);
+            this.sums = new FenwickTree(positions);
+            this.sumsOfSquares = new FenwickTree(positions);
+        }
+
+        private void add(int position, int age, int sign) {
+            counts.add(position, sign);
+            sums.add(position, (long) sign * age);
+            sumsOfSquares.add(position, (long) sign * age * age);
+        }
+
+        private AgeStatistics statistics(int from, int to) {
+            return AgeStatistics.fromSums(
+                    counts.rangeSum(from, to),
+                    sums.rangeSum(from, to),
+                    sumsOfSquares.rangeSum(from, to)
+            );
+        }
+
+        private void clear() {
+            counts.clear();
+            sums.clear();
+            sumsOfSquares.clear();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.NameCount;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving heavy hitters summary (Metwally et al.) with a fixed number of counters.
+ * When every counter is taken, a new item replaces the least frequent one and inherits its
+ * count as error, so counts are overestimated by at most that error and every item occurring
+ * more than n / capacity times is guaranteed to be tracked. Not thread-safe.
+ */
+final class SpaceSaving {
+
+    // Ascending, so ties are listed by top() with the smallest error first, then in name order
+    private static final Comparator<Counter> BY_COUNT = Comparator.<Counter>comparingLong(counter -> counter.count)
+            .thenComparing(Comparator.<Counter>comparingLong(counter -> counter.error).reversed())
+            .thenComparing(counter -> counter.item, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void add(String item) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count++;
+            byCount.add(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter(item, 1, 0);
+        } else {
+            Counter evicted = byCount.pollFirst();
+            counters.remove(evicted.item);
+            counter = new Counter(item, evicted.count + 1, evicted.count);
+        }
+        counters.put(item, counter);
+        byCount.add(counter);
+    }
+
+    /**
+     * Takes one occurrence back. Occurrences of an item that is no longer tracked are ignored.
+     */
+    void remove(String item) {
+        Counter counter = counters.get(item);
+        if (counter == null) {
+            return;
+        }
+        byCount.remove(counter);
+        counter.count--;
+        if (counter.count == 0) {
+            counters.remove(item);
+            return;
+        }
+        counter.error = Math.min(counter.error, counter.count);
+        byCount.add(counter);
+    }
+
+    /**
+     * @return up to k tracked items, from the highest to the lowest count
+     */
+    List<NameCount> top(int k) {
+        List<NameCount> top = new ArrayList<>(Math.min(k, counters.size()));
+        Iterator<Counter> iterator = byCount.descendingIterator();
+        while (top.size() < k && iterator.hasNext()) {
+            Counter counter = iterator.next();
+            top.add(new NameCount(counter.item, counter.count, counter.error));
+        }
+        return top;
+    }
+
+    void clear() {
+        counters.clear();
+        byCount.clear();
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    private static final class Counter {
+        private final String item;
+        private long count;
+        private long error;
+
+        private Counter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.TopNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Most frequent first and last names, tracked with one Space-Saving summary each.
+ * Memory is bounded by the number of counters whatever the number of distinct names,
+ * and a top-k request reads at most k counters instead of grouping the whole table.
+ */
+@Component
+public class TopNamesIndex implements ClientIndex {
+
+    private final int capacity;
+    private final SpaceSaving firstNames;
+    private final SpaceSaving lastNames;
+
+    public TopNamesIndex(@Value("${app.metrics.top-names.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+        this.firstNames = new SpaceSaving(capacity);
+        this.lastNames = new SpaceSaving(capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized void clear() {
+        firstNames.clear();
+        lastNames.clear();
+    }
+
+    @Override
+    public synchronized void add(Client client) {
+        if (client.getFirstName() != null) {
+            firstNames.add(client.getFirstName());
+        }
+        if (client.getLastName() != null) {
+            lastNames.add(client.getLastName());
+        }
+    }
+
+    @Override
+    public synchronized void remove(Client client) {
+        if (client.getFirstName() != null) {
+            firstNames.remove(client.getFirstName());
+        }
+        if (client.getLastName() != null) {
+            lastNames.remove(client.getLastName());
+        }
+    }
+
+    public synchronized TopNames top(int k) {
+        return new TopNames(firstNames.top(k), lastNames.top(k));
+    }
+}
@@ -0,0 +1,97 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Distribution of client ages: extremes, percentiles and the number of clients per age.
+ * Percentiles use the nearest-rank method, so they are always ages present in the data.
+ */
+public class AgeDistribution {
+
+    public static final AgeDistribution EMPTY = new AgeDistribution(0L, null, null, null, null, null, Map.of());
+
+    private final Long totalClients;
+    private final Integer minAge;
+    private final Integer maxAge;
+    private final Integer medianAge;
+    private final Integer p90Age;
+    private final Integer p99Age;
+    private final Map<Integer, Long> histogram;
+
+    public AgeDistribution(Long totalClients, Integer minAge, Integer maxAge, Integer medianAge,
+                           Integer p90Age, Integer p99Age, Map<Integer, Long> histogram) {
+        this.totalClients = totalClients;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.medianAge = medianAge;
+        this.p90Age = p90Age;
+        this.p99Age = p99Age;
+        this.histogram = Collections.unmodifiableMap(histogram);
+    }
+
+    public Long getTotalClients() {
+        return totalClients;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public Integer getMedianAge() {
+        return medianAge;
+    }
+
+    public Integer getP90Age() {
+        return p90Age;
+    }
+
+    public Integer getP99Age() {
+        return p99Age;
+    }
+
+    /**
+     * Number of clients per age, ordered by age and omitting ages with no clients
+     * @return unmodifiable map from age to number of clients
+     */
+    public Map<Integer, Long> getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AgeDistribution that = (AgeDistribution) o;
+        return Objects.equals(totalClients, that.totalClients) &&
+                Objects.equals(minAge, that.minAge) &&
+                Objects.equals(maxAge, that.maxAge) &&
+                Objects.equals(medianAge, that.medianAge) &&
+                Objects.equals(p90Age, that.p90Age) &&
+                Objects.equals(p99Age, that.p99Age) &&
+                Objects.equals(histogram, that.histogram);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalClients, minAge, maxAge, medianAge, p90Age, p99Age, histogram);
+    }
+
+    @Override
+    public String toString() {
+        return "AgeDistribution{" +
+                "totalClients=" + totalClients +
+                ", minAge=" + minAge +
+                ", maxAge=" + maxAge +
+                ", medianAge=" + medianAge +
+                ", p90Age=" + p90Age +
+                ", p99Age=" + p99Age +
+                ", histogram=" + histogram +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Random sample of client ages together with the estimated number of clients it was drawn from
+ */
+public final class AgeSample {
+
+    private final int[] ages;
+    private final long estimatedTotal;
+
+    public AgeSample(int[] ages, long estimatedTotal) {
+        this.ages = ages;
+        this.estimatedTotal = estimatedTotal;
+    }
+
+    public int[] getAges() {
+        return ages;
+    }
+
+    public int size() {
+        return ages.length;
+    }
+
+    public long getEstimatedTotal() {
+        return estimatedTotal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AgeSample that = (AgeSample) o;
+        return estimatedTotal == that.estimatedTotal && Arrays.equals(ages, that.ages);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(ages), estimatedTotal);
+    }
+
+    @Override
+    public String toString() {
+        return "AgeSample{" +
+                "size=" + ages.length +
+                ", estimatedTotal=" + estimatedTotal +
+                '}';
+    }
+}
@@ -0,0 +1,133 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Immutable running statistics over client ages (count, mean and sum of squared
+ * deviations from the mean), maintained with Welford's online algorithm.
+ * Instances can be merged, so partial statistics computed separately can be combined.
+ */
+public final class AgeStatistics {
+
+    public static final AgeStatistics EMPTY = new AgeStatistics(0L, 0.0, 0.0);
+
+    private final long count;
+    private final double mean;
+    private final double sumOfSquaredDeviations;
+
+    public AgeStatistics(long count, double mean, double sumOfSquaredDeviations) {
+        this.count = count;
+        this.mean = mean;
+        this.sumOfSquaredDeviations = sumOfSquaredDeviations;
+    }
+
+    /**
+     * Builds statistics from a count, sum of ages and sum of squared ages
+     * @return AgeStatistics equivalent to the given sums
+     */
+    public static AgeStatistics fromSums(long count, long sum, long sumOfSquares) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        double mean = (double) sum / count;
+        return new AgeStatistics(count, mean, Math.max(0.0, sumOfSquares - sum * mean));
+    }
+
+    /**
+     * Returns the statistics resulting from adding one age
+     * @return new AgeStatistics including the given age
+     */
+    public AgeStatistics add(int age) {
+        long newCount = count + 1;
+        double delta = age - mean;
+        double newMean = mean + delta / newCount;
+        return new AgeStatistics(newCount, newMean, sumOfSquaredDeviations + delta * (age - newMean));
+    }
+
+    /**
+     * Returns the statistics resulting from removing one previously added age
+     * @return new AgeStatistics excluding the given age
+     */
+    public AgeStatistics remove(int age) {
+        if (count <= 1) {
+            return EMPTY;
+        }
+        long newCount = count - 1;
+        double newMean = (count * mean - age) / newCount;
+        double newSumOfSquaredDeviations = sumOfSquaredDeviations - (age - mean) * (age - newMean);
+        return new AgeStatistics(newCount, newMean, Math.max(0.0, newSumOfSquaredDeviations));
+    }
+
+    /**
+     * Combines these statistics with another set (Chan et al. parallel algorithm)
+     * @return new AgeStatistics covering both sets of ages
+     */
+    public AgeStatistics merge(AgeStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        long newCount = count + other.count;
+        double delta = other.mean - mean;
+        double newMean = mean + delta * other.count / newCount;
+        double newSumOfSquaredDeviations = sumOfSquaredDeviations + other.sumOfSquaredDeviations
+                + delta * delta * count * other.count / newCount;
+        return new AgeStatistics(newCount, newMean, newSumOfSquaredDeviations);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getSumOfSquaredDeviations() {
+        return sumOfSquaredDeviations;
+    }
+
+    /**
+     * Calculates the sample standard deviation of the ages
+     * @return standard deviation, or 0 when there are fewer than two ages
+     */
+    public double getStandardDeviation() {
+        if (count <= 1) {
+            return 0.0;
+        }
+        return Math.sqrt(sumOfSquaredDeviations / (count - 1));
+    }
+
+    public ClientMetrics toClientMetrics() {
+        if (count == 0) {
+            return new ClientMetrics(0.0, 0.0, 0L);
+        }
+        return new ClientMetrics(mean, getStandardDeviation(), count);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AgeStatistics that = (AgeStatistics) o;
+        return count == that.count &&
+                Double.compare(mean, that.mean) == 0 &&
+                Double.compare(sumOfSquaredDeviations, that.sumOfSquaredDeviations) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, mean, sumOfSquaredDeviations);
+    }
+
+    @Override
+    public String toString() {
+        return "AgeStatistics{" +
+                "count=" + count +
+                ", mean=" + mean +
+                ", sumOfSquaredDeviations=" + sumOfSquaredDeviations +
+                '}';
+    }
+}
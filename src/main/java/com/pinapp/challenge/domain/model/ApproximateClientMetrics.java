@@ -0,0 +1,107 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Client metrics estimated from a random sample of ages, with 95% confidence intervals
+ * for the average age and the standard deviation
+ */
+public final class ApproximateClientMetrics {
+
+    public static final double CONFIDENCE_LEVEL = 0.95;
+    private static final double Z_SCORE = 1.959963984540054;
+
+    private final ClientMetrics metrics;
+    private final int sampleSize;
+    private final double averageAgeLower;
+    private final double averageAgeUpper;
+    private final double standardDeviationLower;
+    private final double standardDeviationUpper;
+
+    public ApproximateClientMetrics(ClientMetrics metrics, int sampleSize,
+                                    double averageAgeLower, double averageAgeUpper,
+                                    double standardDeviationLower, double standardDeviationUpper) {
+        this.metrics = metrics;
+        this.sampleSize = sampleSize;
+        this.averageAgeLower = averageAgeLower;
+        this.averageAgeUpper = averageAgeUpper;
+        this.standardDeviationLower = standardDeviationLower;
+        this.standardDeviationUpper = standardDeviationUpper;
+    }
+
+    /**
+     * Estimates the metrics of all clients from a sample. The average age interval uses the
+     * standard error with a finite population correction; the standard deviation interval
+     * uses the large-sample approximation SE(s) = s / sqrt(2(n - 1)).
+     * @return ApproximateClientMetrics reporting the estimated total number of clients
+     */
+    public static ApproximateClientMetrics fromSample(AgeStatistics statistics, long estimatedTotal) {
+        int n = (int) statistics.getCount();
+        long total = Math.max(estimatedTotal, n);
+        double mean = statistics.getMean();
+        double deviation = statistics.getStandardDeviation();
+        ClientMetrics metrics = new ClientMetrics(mean, deviation, total);
+        if (n < 2) {
+            return new ApproximateClientMetrics(metrics, n, mean, mean, deviation, deviation);
+        }
+
+        double finitePopulationCorrection = total > 1 ? Math.sqrt((double) (total - n) / (total - 1)) : 0.0;
+        double meanMargin = Z_SCORE * deviation / Math.sqrt(n) * finitePopulationCorrection;
+        double deviationMargin = Z_SCORE * deviation / Math.sqrt(2.0 * (n - 1)) * finitePopulationCorrection;
+        return new ApproximateClientMetrics(metrics, n,
+                mean - meanMargin, mean + meanMargin,
+                Math.max(0.0, deviation - deviationMargin), deviation + deviationMargin);
+    }
+
+    public ClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public double getAverageAgeLower() {
+        return averageAgeLower;
+    }
+
+    public double getAverageAgeUpper() {
+        return averageAgeUpper;
+    }
+
+    public double getStandardDeviationLower() {
+        return standardDeviationLower;
+    }
+
+    public double getStandardDeviationUpper() {
+        return standardDeviationUpper;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApproximateClientMetrics that = (ApproximateClientMetrics) o;
+        return sampleSize == that.sampleSize &&
+                Double.compare(averageAgeLower, that.averageAgeLower) == 0 &&
+                Double.compare(averageAgeUpper, that.averageAgeUpper) == 0 &&
+                Double.compare(standardDeviationLower, that.standardDeviationLower) == 0 &&
+                Double.compare(standardDeviationUpper, that.standardDeviationUpper) == 0 &&
+                Objects.equals(metrics, that.metrics);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(metrics, sampleSize, averageAgeLower, averageAgeUpper, standardDeviationLower, standardDeviationUpper);
+    }
+
+    @Override
+    public String toString() {
+        return "ApproximateClientMetrics{" +
+                "metrics=" + metrics +
+                ", sampleSize=" + sampleSize +
+                ", averageAge=[" + averageAgeLower + ", " + averageAgeUpper + "]" +
+                ", standardDeviation=[" + standardDeviationLower + ", " + standardDeviationUpper + "]" +
+                '}';
+    }
+}
@@ -5,6 +5,9 @@ import java.time.Period;
 import java.util.Objects;
 
 public class Client {
+
+    public static final int LIFE_EXPECTANCY_YEARS = 80;
+
     private Long id;
     private String firstName;
     private String lastName;
@@ -76,7 +79,7 @@ public class Client {
         if (birthDate == null) {
             return null;
         }
-        return birthDate.plusYears(80);
+        return birthDate.plusYears(LIFE_EXPECTANCY_YEARS);
     }
 
     /**
@@ -0,0 +1,68 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Latest change to one client: its current state, or a deletion.
+ * Several writes to the same client between two syncs show up as a single change.
+ */
+public final class ClientChange {
+
+    private final long clientId;
+    private final long version;
+    private final Client client;
+
+    public ClientChange(long clientId, long version, Client client) {
+        this.clientId = clientId;
+        this.version = version;
+        this.client = client;
+    }
+
+    public static ClientChange deleted(long clientId, long version) {
+        return new ClientChange(clientId, version, null);
+    }
+
+    public long getClientId() {
+        return clientId;
+    }
+
+    /**
+     * @return clients table version that made the change
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the client as stored now, or null when it was deleted
+     */
+    public Client getClient() {
+        return client;
+    }
+
+    public boolean isDeleted() {
+        return client == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientChange that = (ClientChange) o;
+        return clientId == that.clientId && version == that.version && Objects.equals(client, that.client);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clientId, version, client);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientChange{" +
+                "clientId=" + clientId +
+                ", version=" + version +
+                ", client=" + client +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Position in the change log, ordered by table version and then client identifier.
+ * Changes strictly after it have not been seen yet.
+ */
+public final class ClientChangePosition {
+
+    private final long version;
+    private final Long clientId;
+
+    public ClientChangePosition(long version, Long clientId) {
+        this.version = version;
+        this.clientId = clientId;
+    }
+
+    /**
+     * @return position right after every change up to and including the given table version
+     */
+    public static ClientChangePosition atVersion(long version) {
+        return new ClientChangePosition(version, null);
+    }
+
+    /**
+     * @return position right after the given change
+     */
+    public static ClientChangePosition after(ClientChange change) {
+        return new ClientChangePosition(change.getVersion(), change.getClientId());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return identifier of the last client seen within the version, or null when the whole version was seen
+     */
+    public Long getClientId() {
+        return clientId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientChangePosition that = (ClientChangePosition) o;
+        return version == that.version && Objects.equals(clientId, that.clientId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, clientId);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientChangePosition{" +
+                "version=" + version +
+                ", clientId=" + clientId +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of client changes in log order, with the position to resume from
+ */
+public final class ClientChanges {
+
+    private final List<ClientChange> changes;
+    private final ClientChangePosition next;
+    private final boolean hasMore;
+
+    public ClientChanges(List<ClientChange> changes, ClientChangePosition next, boolean hasMore) {
+        this.changes = List.copyOf(changes);
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+
+    public List<ClientChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * @return position after this page; once there are no more changes, the table version the page was read at
+     */
+    public ClientChangePosition getNext() {
+        return next;
+    }
+
+    /**
+     * @return true when further changes were already waiting past this page
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientChanges that = (ClientChanges) o;
+        return hasMore == that.hasMore && Objects.equals(changes, that.changes) && Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changes, next, hasMore);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientChanges{" +
+                "changes=" + changes.size() +
+                ", next=" + next +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Client attribute that can be requested in a sparse fieldset
+ */
+public enum ClientField {
+
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    AGE("age"),
+    BIRTH_DATE("birthDate"),
+
+    /**
+     * Derived from the birth date, so requesting it reads the birth date column
+     */
+    ESTIMATED_DEATH_DATE("estimatedDeathDate");
+
+    public static final Set<ClientField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ClientField.class));
+
+    private final String parameterName;
+
+    ClientField(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Resolves a comma-separated list of field names
+     * @return requested fields, or ALL when no list is given
+     * @throws IllegalArgumentException if a name is not a supported field
+     */
+    public static Set<ClientField> fromParameter(String parameterNames) {
+        if (parameterNames == null || parameterNames.isBlank()) {
+            return ALL;
+        }
+        Set<ClientField> fields = EnumSet.noneOf(ClientField.class);
+        for (String parameterName : parameterNames.split(",")) {
+            String name = parameterName.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            fields.add(Arrays.stream(values())
+                    .filter(field -> field.parameterName.equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported field value: " + name)));
+        }
+        return fields.isEmpty() ? ALL : Collections.unmodifiableSet(fields);
+    }
+}
@@ -6,6 +6,8 @@ public class ClientMetrics {
     private Double averageAge;
     private Double standardDeviation;
     private Long totalClients;
+    private Long distinctFirstNames;
+    private Long distinctLastNames;
 
     public ClientMetrics() {}
 
@@ -39,6 +41,22 @@ public class ClientMetrics {
         this.totalClients = totalClients;
     }
 
+    public Long getDistinctFirstNames() {
+        return distinctFirstNames;
+    }
+
+    public void setDistinctFirstNames(Long distinctFirstNames) {
+        this.distinctFirstNames = distinctFirstNames;
+    }
+
+    public Long getDistinctLastNames() {
+        return distinctLastNames;
+    }
+
+    public void setDistinctLastNames(Long distinctLastNames) {
+        this.distinctLastNames = distinctLastNames;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -46,12 +64,14 @@ public class ClientMetrics {
         ClientMetrics that = (ClientMetrics) o;
         return Objects.equals(averageAge, that.averageAge) &&
                 Objects.equals(standardDeviation, that.standardDeviation) &&
-                Objects.equals(totalClients, that.totalClients);
+                Objects.equals(totalClients, that.totalClients) &&
+                Objects.equals(distinctFirstNames, that.distinctFirstNames) &&
+                Objects.equals(distinctLastNames, that.distinctLastNames);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(averageAge, standardDeviation, totalClients);
+        return Objects.hash(averageAge, standardDeviation, totalClients, distinctFirstNames, distinctLastNames);
     }
 
     @Override
@@ -60,6 +80,8 @@ public class ClientMetrics {
                 "averageAge=" + averageAge +
                 ", standardDeviation=" + standardDeviation +
                 ", totalClients=" + totalClients +
+                ", distinctFirstNames=" + distinctFirstNames +
+                ", distinctLastNames=" + distinctLastNames +
                 '}';
     }
 }
@@ -0,0 +1,90 @@
+package com.pinapp.challenge.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Inclusive age range or birth date window that client metrics are restricted to.
+ * Missing bounds are open; age and birth date ranges cannot be combined.
+ */
+public final class ClientMetricsFilter {
+
+    private final Integer minAge;
+    private final Integer maxAge;
+    private final LocalDate bornFrom;
+    private final LocalDate bornTo;
+
+    public ClientMetricsFilter(Integer minAge, Integer maxAge, LocalDate bornFrom, LocalDate bornTo) {
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new IllegalArgumentException("minAge must not be greater than maxAge");
+        }
+        if (bornFrom != null && bornTo != null && bornFrom.isAfter(bornTo)) {
+            throw new IllegalArgumentException("bornFrom must not be after bornTo");
+        }
+        if ((minAge != null || maxAge != null) && (bornFrom != null || bornTo != null)) {
+            throw new IllegalArgumentException("Age and birth date ranges cannot be combined");
+        }
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.bornFrom = bornFrom;
+        this.bornTo = bornTo;
+    }
+
+    public static ClientMetricsFilter ageBetween(Integer minAge, Integer maxAge) {
+        return new ClientMetricsFilter(minAge, maxAge, null, null);
+    }
+
+    public static ClientMetricsFilter bornBetween(LocalDate bornFrom, LocalDate bornTo) {
+        return new ClientMetricsFilter(null, null, bornFrom, bornTo);
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public LocalDate getBornFrom() {
+        return bornFrom;
+    }
+
+    public LocalDate getBornTo() {
+        return bornTo;
+    }
+
+    public boolean isAgeRange() {
+        return minAge != null || maxAge != null;
+    }
+
+    public boolean isEmpty() {
+        return !isAgeRange() && bornFrom == null && bornTo == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientMetricsFilter that = (ClientMetricsFilter) o;
+        return Objects.equals(minAge, that.minAge) &&
+                Objects.equals(maxAge, that.maxAge) &&
+                Objects.equals(bornFrom, that.bornFrom) &&
+                Objects.equals(bornTo, that.bornTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minAge, maxAge, bornFrom, bornTo);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientMetricsFilter{" +
+                "minAge=" + minAge +
+                ", maxAge=" + maxAge +
+                ", bornFrom=" + bornFrom +
+                ", bornTo=" + bornTo +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of an ordered client list, with the position to continue after
+ * when more clients follow
+ */
+public final class ClientPage {
+
+    private final List<Client> clients;
+    private final ClientPosition next;
+
+    public ClientPage(List<Client> clients, ClientPosition next) {
+        this.clients = List.copyOf(clients);
+        this.next = next;
+    }
+
+    public List<Client> getClients() {
+        return clients;
+    }
+
+    /**
+     * @return position of the last client of this page, or null when this is the last page
+     */
+    public ClientPosition getNext() {
+        return next;
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientPage that = (ClientPage) o;
+        return Objects.equals(clients, that.clients) && Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clients, next);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientPage{" +
+                "clients=" + clients.size() +
+                ", next=" + next +
+                '}';
+    }
+}
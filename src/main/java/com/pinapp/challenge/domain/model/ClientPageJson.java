@@ -0,0 +1,56 @@
+package com.pinapp.challenge.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * One page of the client list already rendered as a UTF-8 JSON array by the database,
+ * with the position to continue from when more clients follow.
+ */
+public final class ClientPageJson {
+
+    private final byte[] json;
+    private final ClientPosition next;
+
+    public ClientPageJson(byte[] json, ClientPosition next) {
+        this.json = json;
+        this.next = next;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * @return position after the last client of this page, or null if this is the last page
+     */
+    public ClientPosition getNext() {
+        return next;
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientPageJson that = (ClientPageJson) o;
+        return Arrays.equals(json, that.json) && Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(json) + Objects.hashCode(next);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientPageJson{" +
+                "json=" + new String(json, StandardCharsets.UTF_8) +
+                ", next=" + next +
+                '}';
+    }
+}
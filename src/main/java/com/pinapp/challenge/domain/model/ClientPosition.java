@@ -0,0 +1,57 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Keyset position in an ordered client list: the sort value and identifier of the last client seen.
+ * The next page starts strictly after it.
+ */
+public final class ClientPosition {
+
+    private final Object key;
+    private final long id;
+
+    public ClientPosition(Object key, long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    /**
+     * @return position right after the given client in a list ordered by the given field
+     */
+    public static ClientPosition after(ClientSort sort, Client client) {
+        return new ClientPosition(sort.keyOf(client), client.getId());
+    }
+
+    /**
+     * @return sort value of the last client seen, or null when ordering by identifier
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientPosition that = (ClientPosition) o;
+        return id == that.id && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, id);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientPosition{" +
+                "key=" + key +
+                ", id=" + id +
+                '}';
+    }
+}
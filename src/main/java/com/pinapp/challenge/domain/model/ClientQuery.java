@@ -0,0 +1,132 @@
+package com.pinapp.challenge.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Filters, ordering and fieldset of the client list. Name filters match case-sensitive prefixes;
+ * ranges are inclusive and missing bounds are open. Fields left out of the fieldset are not read.
+ */
+public final class ClientQuery {
+
+    public static final ClientQuery ALL = new ClientQuery(null, null, null, null, null, null, ClientSort.ID, SortDirection.ASC);
+
+    private final String firstNamePrefix;
+    private final String lastNamePrefix;
+    private final Integer minAge;
+    private final Integer maxAge;
+    private final LocalDate bornFrom;
+    private final LocalDate bornTo;
+    private final ClientSort sort;
+    private final SortDirection direction;
+    private final Set<ClientField> fields;
+
+    public ClientQuery(String firstNamePrefix, String lastNamePrefix, Integer minAge, Integer maxAge,
+                       LocalDate bornFrom, LocalDate bornTo, ClientSort sort, SortDirection direction) {
+        this(firstNamePrefix, lastNamePrefix, minAge, maxAge, bornFrom, bornTo, sort, direction, ClientField.ALL);
+    }
+
+    private ClientQuery(String firstNamePrefix, String lastNamePrefix, Integer minAge, Integer maxAge,
+                        LocalDate bornFrom, LocalDate bornTo, ClientSort sort, SortDirection direction,
+                        Set<ClientField> fields) {
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new IllegalArgumentException("minAge must not be greater than maxAge");
+        }
+        if (bornFrom != null && bornTo != null && bornFrom.isAfter(bornTo)) {
+            throw new IllegalArgumentException("bornFrom must not be after bornTo");
+        }
+        this.firstNamePrefix = firstNamePrefix == null || firstNamePrefix.isEmpty() ? null : firstNamePrefix;
+        this.lastNamePrefix = lastNamePrefix == null || lastNamePrefix.isEmpty() ? null : lastNamePrefix;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.bornFrom = bornFrom;
+        this.bornTo = bornTo;
+        this.sort = sort != null ? sort : ClientSort.ID;
+        this.direction = direction != null ? direction : SortDirection.ASC;
+        this.fields = fields == null || fields.isEmpty() ? ClientField.ALL : Set.copyOf(fields);
+    }
+
+    /**
+     * @return the same query restricted to the given fields
+     */
+    public ClientQuery withFields(Set<ClientField> fields) {
+        return new ClientQuery(firstNamePrefix, lastNamePrefix, minAge, maxAge, bornFrom, bornTo, sort, direction, fields);
+    }
+
+    public String getFirstNamePrefix() {
+        return firstNamePrefix;
+    }
+
+    public String getLastNamePrefix() {
+        return lastNamePrefix;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public LocalDate getBornFrom() {
+        return bornFrom;
+    }
+
+    public LocalDate getBornTo() {
+        return bornTo;
+    }
+
+    public ClientSort getSort() {
+        return sort;
+    }
+
+    public SortDirection getDirection() {
+        return direction;
+    }
+
+    public Set<ClientField> getFields() {
+        return fields;
+    }
+
+    public boolean includes(ClientField field) {
+        return fields.contains(field);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientQuery that = (ClientQuery) o;
+        return Objects.equals(firstNamePrefix, that.firstNamePrefix) &&
+                Objects.equals(lastNamePrefix, that.lastNamePrefix) &&
+                Objects.equals(minAge, that.minAge) &&
+                Objects.equals(maxAge, that.maxAge) &&
+                Objects.equals(bornFrom, that.bornFrom) &&
+                Objects.equals(bornTo, that.bornTo) &&
+                sort == that.sort &&
+                direction == that.direction &&
+                fields.equals(that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstNamePrefix, lastNamePrefix, minAge, maxAge, bornFrom, bornTo, sort, direction, fields);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientQuery{" +
+                "firstNamePrefix='" + firstNamePrefix + '\'' +
+                ", lastNamePrefix='" + lastNamePrefix + '\'' +
+                ", minAge=" + minAge +
+                ", maxAge=" + maxAge +
+                ", bornFrom=" + bornFrom +
+                ", bornTo=" + bornTo +
+                ", sort=" + sort +
+                ", direction=" + direction +
+                ", fields=" + fields +
+                '}';
+    }
+}
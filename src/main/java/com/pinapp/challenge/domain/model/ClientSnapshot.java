@@ -0,0 +1,58 @@
+package com.pinapp.challenge.domain.model;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Gzip-compressed CSV file holding every client as of one table version.
+ * The file is never modified once written; a newer version gets a new file.
+ */
+public final class ClientSnapshot {
+
+    private final ClientTableVersion tableVersion;
+    private final Path file;
+    private final long size;
+
+    public ClientSnapshot(ClientTableVersion tableVersion, Path file, long size) {
+        this.tableVersion = tableVersion;
+        this.file = file;
+        this.size = size;
+    }
+
+    public ClientTableVersion getTableVersion() {
+        return tableVersion;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return compressed file size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientSnapshot that = (ClientSnapshot) o;
+        return size == that.size && Objects.equals(tableVersion, that.tableVersion) && Objects.equals(file, that.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableVersion, file, size);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientSnapshot{" +
+                "tableVersion=" + tableVersion +
+                ", file=" + file +
+                ", size=" + size +
+                '}';
+    }
+}
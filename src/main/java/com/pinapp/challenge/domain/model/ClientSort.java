@@ -0,0 +1,73 @@
+package com.pinapp.challenge.domain.model;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Field the client list is ordered by. Ties are always broken by identifier,
+ * so every ordering is total and can be paged with a keyset.
+ */
+public enum ClientSort {
+
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    AGE("age"),
+    BIRTH_DATE("birthDate");
+
+    private final String parameterName;
+
+    ClientSort(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Resolves a sort field from its request parameter name
+     * @return matching ClientSort, or ID when no sort is given
+     * @throws IllegalArgumentException if the name is not a supported sort field
+     */
+    public static ClientSort fromParameter(String parameterName) {
+        if (parameterName == null) {
+            return ID;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort value: " + parameterName));
+    }
+
+    /**
+     * @return value of this field for the given client, or null for ID since the identifier is the key itself
+     */
+    public Object keyOf(Client client) {
+        return switch (this) {
+            case ID -> null;
+            case FIRST_NAME -> client.getFirstName();
+            case LAST_NAME -> client.getLastName();
+            case AGE -> client.getAge();
+            case BIRTH_DATE -> client.getBirthDate();
+        };
+    }
+
+    /**
+     * Parses a value of this field from its string form
+     * @throws IllegalArgumentException if the text is not a valid value of this field
+     */
+    public Object parseKey(String text) {
+        try {
+            return switch (this) {
+                case ID -> null;
+                case FIRST_NAME, LAST_NAME -> text;
+                case AGE -> Integer.valueOf(text);
+                case BIRTH_DATE -> LocalDate.parse(text);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + parameterName + " value: " + text);
+        }
+    }
+}
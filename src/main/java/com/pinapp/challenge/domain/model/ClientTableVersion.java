@@ -0,0 +1,48 @@
+package com.pinapp.challenge.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Version of the stored clients, bumped by the database on every write, and when it last changed.
+ * Equal versions mean equal data, so it can validate cached client representations.
+ */
+public final class ClientTableVersion {
+
+    private final long version;
+    private final Instant lastModified;
+
+    public ClientTableVersion(long version, Instant lastModified) {
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientTableVersion that = (ClientTableVersion) o;
+        return version == that.version && Objects.equals(lastModified, that.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientTableVersion{" +
+                "version=" + version +
+                ", lastModified=" + lastModified +
+                '}';
+    }
+}
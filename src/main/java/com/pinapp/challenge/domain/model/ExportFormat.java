@@ -0,0 +1,41 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * File formats the full client set can be exported in
+ */
+public enum ExportFormat {
+
+    /**
+     * Apache Arrow IPC stream of columnar record batches
+     */
+    ARROW("arrow"),
+
+    /**
+     * Comma-separated values with a header row, one line per client
+     */
+    CSV("csv");
+
+    private final String parameterName;
+
+    ExportFormat(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Resolves a format from its request parameter name
+     * @return matching ExportFormat
+     * @throws IllegalArgumentException if the name is missing or not a supported format
+     */
+    public static ExportFormat fromParameter(String parameterName) {
+        return Arrays.stream(values())
+                .filter(format -> format.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported format value: " + parameterName));
+    }
+}
@@ -0,0 +1,45 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Where the JSON of a client list page is built
+ */
+public enum ListRendering {
+
+    /**
+     * Rows are mapped to clients and serialized by the application
+     */
+    APPLICATION("application"),
+
+    /**
+     * The database builds the JSON document and the application passes it through,
+     * falling back to APPLICATION on databases that cannot
+     */
+    DATABASE("database");
+
+    private final String parameterName;
+
+    ListRendering(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Resolves a rendering from its request parameter name
+     * @return matching ListRendering, or APPLICATION when none is given
+     * @throws IllegalArgumentException if the name is not a supported rendering
+     */
+    public static ListRendering fromParameter(String parameterName) {
+        if (parameterName == null) {
+            return APPLICATION;
+        }
+        return Arrays.stream(values())
+                .filter(rendering -> rendering.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported render value: " + parameterName));
+    }
+}
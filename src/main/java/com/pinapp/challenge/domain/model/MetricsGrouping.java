@@ -0,0 +1,54 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Cohorts that client metrics can be grouped by
+ */
+public enum MetricsGrouping {
+
+    BIRTH_DECADE("birthDecade"),
+    BIRTH_YEAR("birthYear"),
+    LAST_NAME_INITIAL("lastNameInitial");
+
+    private static final String UNKNOWN = "unknown";
+
+    private final String parameterName;
+
+    MetricsGrouping(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Resolves a grouping from its request parameter name
+     * @return matching MetricsGrouping
+     * @throws IllegalArgumentException if the name is not a supported grouping
+     */
+    public static MetricsGrouping fromParameter(String parameterName) {
+        return Arrays.stream(values())
+                .filter(grouping -> grouping.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported groupBy value: " + parameterName));
+    }
+
+    /**
+     * Calculates the cohort a client belongs to, e.g. "1990s", "1994" or "D"
+     * @return group key, or "unknown" when the grouped field is missing
+     */
+    public String keyOf(Client client) {
+        if (this == LAST_NAME_INITIAL) {
+            String lastName = client.getLastName() == null ? "" : client.getLastName().trim();
+            return lastName.isEmpty() ? UNKNOWN : lastName.substring(0, 1).toUpperCase(Locale.ROOT);
+        }
+        if (client.getBirthDate() == null) {
+            return UNKNOWN;
+        }
+        int year = client.getBirthDate().getYear();
+        return this == BIRTH_DECADE ? Math.floorDiv(year, 10) * 10 + "s" : String.valueOf(year);
+    }
+}
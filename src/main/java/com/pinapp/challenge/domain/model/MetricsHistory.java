@@ -0,0 +1,65 @@
+package com.pinapp.challenge.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Metrics history points of one resolution within a time range, in chronological order
+ */
+public final class MetricsHistory {
+
+    private final Instant from;
+    private final Instant to;
+    private final MetricsResolution resolution;
+    private final List<MetricsHistoryPoint> points;
+
+    public MetricsHistory(Instant from, Instant to, MetricsResolution resolution, List<MetricsHistoryPoint> points) {
+        this.from = from;
+        this.to = to;
+        this.resolution = resolution;
+        this.points = List.copyOf(points);
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public MetricsResolution getResolution() {
+        return resolution;
+    }
+
+    public List<MetricsHistoryPoint> getPoints() {
+        return points;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MetricsHistory that = (MetricsHistory) o;
+        return Objects.equals(from, that.from) &&
+                Objects.equals(to, that.to) &&
+                resolution == that.resolution &&
+                Objects.equals(points, that.points);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, resolution, points);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsHistory{" +
+                "from=" + from +
+                ", to=" + to +
+                ", resolution=" + resolution +
+                ", points=" + points.size() +
+                '}';
+    }
+}
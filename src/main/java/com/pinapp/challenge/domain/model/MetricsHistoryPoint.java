@@ -0,0 +1,72 @@
+package com.pinapp.challenge.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Client metrics averaged over the snapshots taken in one history bucket
+ */
+public final class MetricsHistoryPoint {
+
+    private final Instant timestamp;
+    private final int samples;
+    private final double averageAge;
+    private final double standardDeviation;
+    private final double totalClients;
+
+    public MetricsHistoryPoint(Instant timestamp, int samples, double averageAge, double standardDeviation, double totalClients) {
+        this.timestamp = timestamp;
+        this.samples = samples;
+        this.averageAge = averageAge;
+        this.standardDeviation = standardDeviation;
+        this.totalClients = totalClients;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public double getAverageAge() {
+        return averageAge;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public double getTotalClients() {
+        return totalClients;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MetricsHistoryPoint that = (MetricsHistoryPoint) o;
+        return samples == that.samples &&
+                Double.compare(averageAge, that.averageAge) == 0 &&
+                Double.compare(standardDeviation, that.standardDeviation) == 0 &&
+                Double.compare(totalClients, that.totalClients) == 0 &&
+                Objects.equals(timestamp, that.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timestamp, samples, averageAge, standardDeviation, totalClients);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsHistoryPoint{" +
+                "timestamp=" + timestamp +
+                ", samples=" + samples +
+                ", averageAge=" + averageAge +
+                ", standardDeviation=" + standardDeviation +
+                ", totalClients=" + totalClients +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * How client metrics are computed
+ */
+public enum MetricsMode {
+
+    /**
+     * Read from the trigger-maintained summary row
+     */
+    SUMMARY("summary"),
+
+    /**
+     * Recomputed from the raw age column, for audits of the summary
+     */
+    EXACT("exact"),
+
+    /**
+     * Estimated from a random sample of ages, with confidence intervals
+     */
+    APPROX("approx");
+
+    private final String parameterName;
+
+    MetricsMode(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Resolves a mode from its request parameter name
+     * @return matching MetricsMode, or SUMMARY when no mode is given
+     * @throws IllegalArgumentException if the name is not a supported mode
+     */
+    public static MetricsMode fromParameter(String parameterName) {
+        if (parameterName == null) {
+            return SUMMARY;
+        }
+        return Arrays.stream(values())
+                .filter(mode -> mode.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported mode value: " + parameterName));
+    }
+}
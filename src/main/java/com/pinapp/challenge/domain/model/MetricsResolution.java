@@ -0,0 +1,75 @@
+package com.pinapp.challenge.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * Time resolutions of the metrics history. Every snapshot is stored as a raw point and folded
+ * into the minute, hour and day bucket that contains it; finer resolutions are kept for less time.
+ */
+public enum MetricsResolution {
+
+    RAW("raw", ChronoUnit.MILLIS, Duration.ofDays(1)),
+    MINUTE("minute", ChronoUnit.MINUTES, Duration.ofDays(7)),
+    HOUR("hour", ChronoUnit.HOURS, Duration.ofDays(90)),
+    DAY("day", ChronoUnit.DAYS, null);
+
+    private final String parameterName;
+    private final ChronoUnit unit;
+    private final Duration retention;
+
+    MetricsResolution(String parameterName, ChronoUnit unit, Duration retention) {
+        this.parameterName = parameterName;
+        this.unit = unit;
+        this.retention = retention;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * @return how long points are kept at this resolution, or null when they are never pruned
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * @return start of the UTC bucket containing the given instant
+     */
+    public Instant bucketStart(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+
+    /**
+     * Resolves a resolution from its request parameter name
+     * @return matching MetricsResolution
+     * @throws IllegalArgumentException if the name is not a supported resolution
+     */
+    public static MetricsResolution fromParameter(String parameterName) {
+        return Arrays.stream(values())
+                .filter(resolution -> resolution.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported step value: " + parameterName));
+    }
+
+    /**
+     * Picks the finest resolution that keeps a time range to a few hundred points
+     * @return RAW up to one hour, MINUTE up to one day, HOUR up to 30 days, DAY beyond
+     */
+    public static MetricsResolution forSpan(Duration span) {
+        if (span.compareTo(Duration.ofHours(1)) <= 0) {
+            return RAW;
+        }
+        if (span.compareTo(Duration.ofDays(1)) <= 0) {
+            return MINUTE;
+        }
+        if (span.compareTo(Duration.ofDays(30)) <= 0) {
+            return HOUR;
+        }
+        return DAY;
+    }
+}
@@ -0,0 +1,55 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Estimated number of clients sharing a name. The true count lies between
+ * {@code count - error} and {@code count}; the error is 0 while the name has been tracked
+ * since its first occurrence.
+ */
+public final class NameCount {
+
+    private final String name;
+    private final long count;
+    private final long error;
+
+    public NameCount(String name, long count, long error) {
+        this.name = name;
+        this.count = count;
+        this.error = error;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NameCount that = (NameCount) o;
+        return count == that.count && error == that.error && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, count, error);
+    }
+
+    @Override
+    public String toString() {
+        return "NameCount{" +
+                "name='" + name + '\'' +
+                ", count=" + count +
+                ", error=" + error +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.Arrays;
+
+public enum SortDirection {
+
+    ASC("asc"),
+    DESC("desc");
+
+    private final String parameterName;
+
+    SortDirection(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Resolves a direction from its request parameter name
+     * @return matching SortDirection, or ASC when no direction is given
+     * @throws IllegalArgumentException if the name is not a supported direction
+     */
+    public static SortDirection fromParameter(String parameterName) {
+        if (parameterName == null) {
+            return ASC;
+        }
+        return Arrays.stream(values())
+                .filter(direction -> direction.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported direction value: " + parameterName));
+    }
+}
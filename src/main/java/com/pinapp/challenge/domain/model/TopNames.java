@@ -0,0 +1,47 @@
+package com.pinapp.challenge.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Most common first and last names, each list ordered from the most to the least frequent
+ */
+public final class TopNames {
+
+    private final List<NameCount> firstNames;
+    private final List<NameCount> lastNames;
+
+    public TopNames(List<NameCount> firstNames, List<NameCount> lastNames) {
+        this.firstNames = List.copyOf(firstNames);
+        this.lastNames = List.copyOf(lastNames);
+    }
+
+    public List<NameCount> getFirstNames() {
+        return firstNames;
+    }
+
+    public List<NameCount> getLastNames() {
+        return lastNames;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TopNames that = (TopNames) o;
+        return Objects.equals(firstNames, that.firstNames) && Objects.equals(lastNames, that.lastNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstNames, lastNames);
+    }
+
+    @Override
+    public String toString() {
+        return "TopNames{" +
+                "firstNames=" + firstNames +
+                ", lastNames=" + lastNames +
+                '}';
+    }
+}
@@ -0,0 +1,5 @@
+package com.pinapp.challenge.domain.port.in;
+
+public interface DeleteClientUseCase {
+    boolean deleteClient(Long id);
+}
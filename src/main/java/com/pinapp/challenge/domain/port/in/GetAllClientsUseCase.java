@@ -1,9 +1,21 @@
 package com.pinapp.challenge.domain.port.in;
 
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientPage;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GetAllClientsUseCase {
     List<Client> getAllClients();
+    ClientPage getClients(ClientQuery query, ClientPosition after, int limit);
+    Optional<ClientPageJson> getClientsAsJson(ClientQuery query, ClientPosition after, int limit);
+    void streamAllClients(ClientQuery query, Consumer<Client> consumer);
+    void exportAllClientsAsCsv(OutputStream output);
+    void exportAllClientsAsArrow(OutputStream output);
 }
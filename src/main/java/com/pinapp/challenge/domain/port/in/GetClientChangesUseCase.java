@@ -0,0 +1,8 @@
+package com.pinapp.challenge.domain.port.in;
+
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import com.pinapp.challenge.domain.model.ClientChanges;
+
+public interface GetClientChangesUseCase {
+    ClientChanges getClientChanges(ClientChangePosition since, int limit);
+}
@@ -1,7 +1,28 @@
 package com.pinapp.challenge.domain.port.in;
 
+import com.pinapp.challenge.domain.model.ApproximateClientMetrics;
 import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+
+import java.time.LocalDate;
+import java.util.Map;
 
 public interface GetClientMetricsUseCase {
     ClientMetrics getClientMetrics();
+
+    Map<String, ClientMetrics> getClientMetrics(MetricsGrouping grouping);
+
+    ClientMetrics getClientMetricsAsOf(LocalDate asOf);
+
+    ClientMetrics getClientMetrics(ClientMetricsFilter filter);
+
+    ClientMetrics getExactClientMetrics();
+
+    ApproximateClientMetrics getApproximateClientMetrics();
+
+    /**
+     * @return version of this instance's in-memory indexes, which changes on every write they see
+     */
+    long getIndexVersion();
 }
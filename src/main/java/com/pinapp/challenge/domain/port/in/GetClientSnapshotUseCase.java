@@ -0,0 +1,9 @@
+package com.pinapp.challenge.domain.port.in;
+
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+
+import java.util.Optional;
+
+public interface GetClientSnapshotUseCase {
+    Optional<ClientSnapshot> getLatestSnapshot();
+}
@@ -0,0 +1,7 @@
+package com.pinapp.challenge.domain.port.in;
+
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+
+public interface GetClientTableVersionUseCase {
+    ClientTableVersion getClientTableVersion();
+}
@@ -0,0 +1,10 @@
+package com.pinapp.challenge.domain.port.in;
+
+import com.pinapp.challenge.domain.model.MetricsHistory;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+
+import java.time.Instant;
+
+public interface GetMetricsHistoryUseCase {
+    MetricsHistory getMetricsHistory(Instant from, Instant to, MetricsResolution resolution);
+}
@@ -1,14 +1,39 @@
 package com.pinapp.challenge.domain.port.out;
 
+import com.pinapp.challenge.domain.model.AgeSample;
+import com.pinapp.challenge.domain.model.AgeStatistics;
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import com.pinapp.challenge.domain.model.ClientChanges;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 public interface ClientRepositoryPort {
     Client save(Client client);
     Optional<Client> findById(Long id);
     List<Client> findAll();
+    List<Client> findPage(ClientQuery query, ClientPosition after, int limit);
+    Optional<ClientPageJson> findPageJson(ClientQuery query, ClientPosition after, int limit);
+    void streamAll(Consumer<Client> consumer);
+    void streamAll(ClientQuery query, Consumer<Client> consumer);
+    void exportCsv(OutputStream output);
+    void exportArrow(OutputStream output);
     void deleteById(Long id);
     long count();
+    AgeStatistics getAgeStatistics();
+    /**
+     * Streams the age column in batches, reusing one array: only the first {@code length} entries of each batch are set
+     */
+    void forEachAgeBatch(ObjIntConsumer<int[]> batchConsumer);
+    AgeSample sampleAges(int targetSize);
+    ClientTableVersion getTableVersion();
+    ClientChanges findChanges(ClientChangePosition since, int limit);
 }
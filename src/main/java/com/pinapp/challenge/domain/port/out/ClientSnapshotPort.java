@@ -0,0 +1,13 @@
+package com.pinapp.challenge.domain.port.out;
+
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface ClientSnapshotPort {
+    Optional<ClientSnapshot> findLatest();
+    ClientSnapshot write(ClientTableVersion tableVersion, Consumer<OutputStream> content);
+}
@@ -0,0 +1,14 @@
+package com.pinapp.challenge.domain.port.out;
+
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.MetricsHistoryPoint;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MetricsHistoryRepositoryPort {
+    void record(MetricsResolution resolution, Instant bucketStart, ClientMetrics metrics);
+    List<MetricsHistoryPoint> find(MetricsResolution resolution, Instant from, Instant to);
+    void deleteBefore(MetricsResolution resolution, Instant cutoff);
+}
@@ -0,0 +1,15 @@
+package com.pinapp.challenge.domain.port.out;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+public interface NameSketchRepositoryPort {
+    Optional<byte[]> load(String name);
+
+    /**
+     * Replaces the stored registers with what the function returns for them, holding the row
+     * lock in between so concurrent writers see each other's registers
+     * @param update receives the stored registers, or null when none have been saved yet
+     */
+    void update(String name, UnaryOperator<byte[]> update);
+}
@@ -0,0 +1,121 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Computes age statistics from a primitive age column in a single pass.
+ * Ages are accumulated as exact {@code long} sums and sums of squares, so the result does not
+ * depend on summation order; large columns are split across cores with fork/join, and a column
+ * streamed in batches is folded one batch at a time with an {@link Accumulator}.
+ */
+public final class AgeColumnKernel {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    private AgeColumnKernel() {
+    }
+
+    /**
+     * Calculates the statistics of the first {@code length} ages of the column
+     * @return AgeStatistics of those ages
+     */
+    public static AgeStatistics compute(int[] ages, int length) {
+        long[] sums = sums(ages, length);
+        return AgeStatistics.fromSums(length, sums[0], sums[1]);
+    }
+
+    public static AgeStatistics compute(int[] ages) {
+        return compute(ages, ages.length);
+    }
+
+    private static long[] sums(int[] ages, int length) {
+        if (length < 0 || length > ages.length) {
+            throw new IllegalArgumentException("Length must be between 0 and the column size");
+        }
+        return length <= SEQUENTIAL_THRESHOLD
+                ? sum(ages, 0, length)
+                : ForkJoinPool.commonPool().invoke(new SumTask(ages, 0, length));
+    }
+
+    /**
+     * Sum and sum of squares of a slice. Four independent accumulators keep the loop free of
+     * a single dependency chain so the JIT can pipeline and vectorize it.
+     */
+    static long[] sum(int[] ages, int from, int to) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        long squares0 = 0, squares1 = 0, squares2 = 0, squares3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            long a0 = ages[i], a1 = ages[i + 1], a2 = ages[i + 2], a3 = ages[i + 3];
+            sum0 += a0;
+            sum1 += a1;
+            sum2 += a2;
+            sum3 += a3;
+            squares0 += a0 * a0;
+            squares1 += a1 * a1;
+            squares2 += a2 * a2;
+            squares3 += a3 * a3;
+        }
+        for (; i < to; i++) {
+            long age = ages[i];
+            sum0 += age;
+            squares0 += age * age;
+        }
+        return new long[]{sum0 + sum1 + sum2 + sum3, squares0 + squares1 + squares2 + squares3};
+    }
+
+    /**
+     * Folds consecutive batches of a column into exact running sums, so only one batch is ever in memory
+     */
+    public static final class Accumulator implements ObjIntConsumer<int[]> {
+
+        private long count;
+        private long sum;
+        private long sumOfSquares;
+
+        /**
+         * Adds the first {@code length} ages of the batch, which may be reused once this returns
+         */
+        @Override
+        public void accept(int[] ages, int length) {
+            long[] sums = sums(ages, length);
+            count += length;
+            sum += sums[0];
+            sumOfSquares += sums[1];
+        }
+
+        public AgeStatistics toStatistics() {
+            return AgeStatistics.fromSums(count, sum, sumOfSquares);
+        }
+    }
+
+    private static final class SumTask extends RecursiveTask<long[]> {
+
+        private final int[] ages;
+        private final int from;
+        private final int to;
+
+        private SumTask(int[] ages, int from, int to) {
+            this.ages = ages;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return sum(ages, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(ages, from, middle);
+            left.fork();
+            long[] right = new SumTask(ages, middle, to).compute();
+            long[] leftSums = left.join();
+            return new long[]{leftSums[0] + right[0], leftSums[1] + right[1]};
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.index.DataVersion;
+import com.pinapp.challenge.domain.model.ApproximateClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import com.pinapp.challenge.domain.port.in.GetClientMetricsUseCase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the default client metrics for the current {@link DataVersion}, so a hit costs no
+ * database read.
+ * <p>
+ * The data version moves on writes through this instance and whenever a clients table version
+ * read for a request differs from the last one, so writes made by other instances or outside the
+ * application invalidate the entry as soon as a request validator sees them, and within the TTL
+ * otherwise. Expiry is
+ * probabilistic and early (XFetch): each read refreshes with a probability that grows as the
+ * entry approaches its TTL, scaled by how long the last computation took. Only one thread
+ * recomputes at a time. While it does, the others keep serving the previous value if it only
+ * expired, and wait for the new one if the data version has moved since it was computed.
+ * Other metrics variants are passed straight to the delegate.
+ */
+@Service
+@Primary
+public class CachingClientMetricsService implements GetClientMetricsUseCase {
+
+    private final GetClientMetricsUseCase delegate;
+    private final DataVersion dataVersion;
+    private final long ttlNanos;
+    private final double beta;
+    private final LongSupplier nanoClock;
+    private final DoubleSupplier random;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile CachedMetrics cached;
+
+    @Autowired
+    public CachingClientMetricsService(ClientService delegate,
+                                       DataVersion dataVersion,
+                                       @Value("${app.metrics.cache.ttl:PT5S}") Duration ttl,
+                                       @Value("${app.metrics.cache.beta:1.0}") double beta) {
+        this(delegate, dataVersion, ttl, beta, System::nanoTime, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    CachingClientMetricsService(GetClientMetricsUseCase delegate, DataVersion dataVersion, Duration ttl, double beta,
+                                LongSupplier nanoClock, DoubleSupplier random) {
+        this.delegate = delegate;
+        this.dataVersion = dataVersion;
+        this.ttlNanos = ttl.toNanos();
+        this.beta = beta;
+        this.nanoClock = nanoClock;
+        this.random = random;
+    }
+
+    @Override
+    public ClientMetrics getClientMetrics() {
+        CachedMetrics current = cached;
+        if (isFresh(current)) {
+            return current.value;
+        }
+        if (isCurrent(current)) {
+            if (!refreshLock.tryLock()) {
+                // Only expired, and another thread is already recomputing
+                return current.value;
+            }
+        } else {
+            // Computed for older data, so it must not be served under the new version
+            refreshLock.lock();
+        }
+        try {
+            CachedMetrics latest = cached;
+            if (latest != current && isFresh(latest)) {
+                return latest.value;
+            }
+            return refresh().value;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<String, ClientMetrics> getClientMetrics(MetricsGrouping grouping) {
+        return delegate.getClientMetrics(grouping);
+    }
+
+    @Override
+    public ClientMetrics getClientMetricsAsOf(LocalDate asOf) {
+        return delegate.getClientMetricsAsOf(asOf);
+    }
+
+    @Override
+    public ClientMetrics getClientMetrics(ClientMetricsFilter filter) {
+        return delegate.getClientMetrics(filter);
+    }
+
+    @Override
+    public ClientMetrics getExactClientMetrics() {
+        return delegate.getExactClientMetrics();
+    }
+
+    @Override
+    public ApproximateClientMetrics getApproximateClientMetrics() {
+        return delegate.getApproximateClientMetrics();
+    }
+
+    @Override
+    public long getIndexVersion() {
+        return dataVersion.current();
+    }
+
+    private CachedMetrics refresh() {
+        // Read before computing, so a write racing with the computation leaves the entry stale
+        long version = dataVersion.current();
+        long start = nanoClock.getAsLong();
+        ClientMetrics value = delegate.getClientMetrics();
+        long end = nanoClock.getAsLong();
+        CachedMetrics refreshed = new CachedMetrics(value, version, end, end - start);
+        cached = refreshed;
+        return refreshed;
+    }
+
+    private boolean isCurrent(CachedMetrics entry) {
+        return entry != null && entry.version == dataVersion.current();
+    }
+
+    private boolean isFresh(CachedMetrics entry) {
+        if (!isCurrent(entry)) {
+            return false;
+        }
+        // XFetch: now - delta * beta * ln(rand) < expiry, with rand in (0, 1]
+        double earlyBy = -entry.computeNanos * beta * Math.log(1.0 - random.getAsDouble());
+        return nanoClock.getAsLong() + earlyBy < entry.computedAtNanos + ttlNanos;
+    }
+
+    private static final class CachedMetrics {
+
+        private final ClientMetrics value;
+        private final long version;
+        private final long computedAtNanos;
+        private final long computeNanos;
+
+        private CachedMetrics(ClientMetrics value, long version, long computedAtNanos, long computeNanos) {
+            this.value = value;
+            this.version = version;
+            this.computedAtNanos = computedAtNanos;
+            this.computeNanos = computeNanos;
+        }
+    }
+}
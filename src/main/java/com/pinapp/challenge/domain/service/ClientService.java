@@ -1,22 +1,78 @@
 package com.pinapp.challenge.domain.service;
 
+import com.pinapp.challenge.domain.index.AgeHistogram;
+import com.pinapp.challenge.domain.index.BirthDateIndex;
+import com.pinapp.challenge.domain.index.ClientIndexes;
+import com.pinapp.challenge.domain.index.DataVersion;
+import com.pinapp.challenge.domain.index.CohortRollups;
+import com.pinapp.challenge.domain.index.NameSketches;
+import com.pinapp.challenge.domain.index.RangeMetricsIndex;
+import com.pinapp.challenge.domain.index.TopNamesIndex;
+import com.pinapp.challenge.domain.model.AgeDistribution;
+import com.pinapp.challenge.domain.model.AgeSample;
+import com.pinapp.challenge.domain.model.ApproximateClientMetrics;
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import com.pinapp.challenge.domain.model.ClientChanges;
 import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.domain.model.ClientPage;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import com.pinapp.challenge.domain.model.TopNames;
 import com.pinapp.challenge.domain.port.in.CreateClientUseCase;
+import com.pinapp.challenge.domain.port.in.DeleteClientUseCase;
+import com.pinapp.challenge.domain.port.in.GetAgeDistributionUseCase;
 import com.pinapp.challenge.domain.port.in.GetAllClientsUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientChangesUseCase;
 import com.pinapp.challenge.domain.port.in.GetClientMetricsUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientTableVersionUseCase;
+import com.pinapp.challenge.domain.port.in.GetTopNamesUseCase;
 import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
-public class ClientService implements CreateClientUseCase, GetAllClientsUseCase, GetClientMetricsUseCase {
+public class ClientService implements CreateClientUseCase, GetAllClientsUseCase, GetClientMetricsUseCase, DeleteClientUseCase,
+        GetAgeDistributionUseCase, GetTopNamesUseCase, GetClientTableVersionUseCase, GetClientChangesUseCase {
+
+    public static final int MAX_PAGE_SIZE = 1000;
 
     private final ClientRepositoryPort clientRepositoryPort;
+    private final ClientIndexes clientIndexes;
+    private final AgeHistogram ageHistogram;
+    private final CohortRollups cohortRollups;
+    private final BirthDateIndex birthDateIndex;
+    private final RangeMetricsIndex rangeMetricsIndex;
+    private final NameSketches nameSketches;
+    private final TopNamesIndex topNamesIndex;
+    private final DataVersion dataVersion;
+    private final int approximateSampleSize;
 
-    public ClientService(ClientRepositoryPort clientRepositoryPort) {
+    public ClientService(ClientRepositoryPort clientRepositoryPort, ClientIndexes clientIndexes, AgeHistogram ageHistogram,
+                         CohortRollups cohortRollups, BirthDateIndex birthDateIndex, RangeMetricsIndex rangeMetricsIndex,
+                         NameSketches nameSketches, TopNamesIndex topNamesIndex, DataVersion dataVersion,
+                         @Value("${app.metrics.approx.sample-size:10000}") int approximateSampleSize) {
         this.clientRepositoryPort = clientRepositoryPort;
+        this.clientIndexes = clientIndexes;
+        this.ageHistogram = ageHistogram;
+        this.cohortRollups = cohortRollups;
+        this.birthDateIndex = birthDateIndex;
+        this.rangeMetricsIndex = rangeMetricsIndex;
+        this.nameSketches = nameSketches;
+        this.topNamesIndex = topNamesIndex;
+        this.dataVersion = dataVersion;
+        this.approximateSampleSize = approximateSampleSize;
     }
 
     @Override
@@ -31,11 +87,36 @@ public class ClientService implements CreateClientUseCase, GetAllClientsUseCase,
         if (client.getAge() == null || client.getAge() <= 0) {
             throw new IllegalArgumentException("Age must be greater than 0");
         }
+        // The range metrics index keeps one bucket per age and per day, so values past its bounds are refused
+        if (client.getAge() > AgeHistogram.MAX_AGE) {
+            throw new IllegalArgumentException("Age must be at most " + AgeHistogram.MAX_AGE);
+        }
         if (client.getBirthDate() == null) {
             throw new IllegalArgumentException("Birth date is required");
         }
+        if (client.getBirthDate().isBefore(RangeMetricsIndex.MIN_BIRTH_DATE)
+                || client.getBirthDate().isAfter(RangeMetricsIndex.MAX_BIRTH_DATE)) {
+            throw new IllegalArgumentException("Birth date must be between " + RangeMetricsIndex.MIN_BIRTH_DATE
+                    + " and " + RangeMetricsIndex.MAX_BIRTH_DATE);
+        }
 
-        return clientRepositoryPort.save(client);
+        Client savedClient = clientRepositoryPort.save(client);
+        // Sketches first: adding to the indexes bumps the data version that cached metrics are keyed on
+        nameSketches.add(savedClient);
+        clientIndexes.add(savedClient);
+        return savedClient;
+    }
+
+    @Override
+    public boolean deleteClient(Long id) {
+        Optional<Client> existingClient = clientRepositoryPort.findById(id);
+        if (existingClient.isEmpty()) {
+            return false;
+        }
+
+        clientRepositoryPort.deleteById(id);
+        clientIndexes.remove(existingClient.get());
+        return true;
     }
 
     @Override
@@ -43,35 +124,122 @@ public class ClientService implements CreateClientUseCase, GetAllClientsUseCase,
         return clientRepositoryPort.findAll();
     }
 
+    @Override
+    public void streamAllClients(ClientQuery query, Consumer<Client> consumer) {
+        clientRepositoryPort.streamAll(query, consumer);
+    }
+
+    @Override
+    public void exportAllClientsAsCsv(OutputStream output) {
+        clientRepositoryPort.exportCsv(output);
+    }
+
+    @Override
+    public void exportAllClientsAsArrow(OutputStream output) {
+        clientRepositoryPort.exportArrow(output);
+    }
+
+    @Override
+    public ClientPage getClients(ClientQuery query, ClientPosition after, int limit) {
+        checkLimit(limit);
+        // One extra row tells whether another page follows without a count query
+        List<Client> clients = clientRepositoryPort.findPage(query, after, limit + 1);
+        if (clients.size() <= limit) {
+            return new ClientPage(clients, null);
+        }
+        List<Client> page = clients.subList(0, limit);
+        return new ClientPage(page, ClientPosition.after(query.getSort(), page.get(limit - 1)));
+    }
+
+    /**
+     * @return the page as JSON built by the database, or empty when the database cannot build it
+     */
+    @Override
+    public Optional<ClientPageJson> getClientsAsJson(ClientQuery query, ClientPosition after, int limit) {
+        checkLimit(limit);
+        return clientRepositoryPort.findPageJson(query, after, limit);
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
     @Override
     public ClientMetrics getClientMetrics() {
-        List<Client> clients = clientRepositoryPort.findAll();
-        
-        if (clients.isEmpty()) {
-            return new ClientMetrics(0.0, 0.0, 0L);
+        // Served from the trigger-maintained summary row: a single primary key read
+        ClientMetrics metrics = clientRepositoryPort.getAgeStatistics().toClientMetrics();
+        metrics.setDistinctFirstNames(nameSketches.distinctFirstNames());
+        metrics.setDistinctLastNames(nameSketches.distinctLastNames());
+        return metrics;
+    }
+
+    @Override
+    public Map<String, ClientMetrics> getClientMetrics(MetricsGrouping grouping) {
+        return cohortRollups.metricsBy(grouping);
+    }
+
+    @Override
+    public ClientMetrics getClientMetricsAsOf(LocalDate asOf) {
+        if (asOf.isBefore(RangeMetricsIndex.MIN_BIRTH_DATE) || asOf.isAfter(RangeMetricsIndex.MAX_BIRTH_DATE)) {
+            throw new IllegalArgumentException("asOf must be between " + RangeMetricsIndex.MIN_BIRTH_DATE
+                    + " and " + RangeMetricsIndex.MAX_BIRTH_DATE);
         }
+        // Ages are derived from birth dates, so clients born after asOf are not counted
+        return birthDateIndex.statisticsAsOf(asOf).toClientMetrics();
+    }
 
-        // Calculate average age
-        double averageAge = clients.stream()
-                .mapToInt(Client::getAge)
-                .average()
-                .orElse(0.0);
+    @Override
+    public ClientMetrics getClientMetrics(ClientMetricsFilter filter) {
+        return rangeMetricsIndex.statistics(filter).toClientMetrics();
+    }
 
-        // Calculate standard deviation
-        double standardDeviation = calculateStandardDeviation(clients, averageAge);
+    @Override
+    public ClientMetrics getExactClientMetrics() {
+        // Recomputed from the raw age column, independently of the summary row and the indexes
+        AgeColumnKernel.Accumulator accumulator = new AgeColumnKernel.Accumulator();
+        clientRepositoryPort.forEachAgeBatch(accumulator);
+        return accumulator.toStatistics().toClientMetrics();
+    }
 
-        return new ClientMetrics(averageAge, standardDeviation, (long) clients.size());
+    @Override
+    public ApproximateClientMetrics getApproximateClientMetrics() {
+        AgeSample sample = clientRepositoryPort.sampleAges(approximateSampleSize);
+        return ApproximateClientMetrics.fromSample(AgeColumnKernel.compute(sample.getAges()), sample.getEstimatedTotal());
+    }
+
+    @Override
+    public long getIndexVersion() {
+        return dataVersion.current();
+    }
+
+    @Override
+    public AgeDistribution getAgeDistribution() {
+        return ageHistogram.distribution();
     }
 
-    private double calculateStandardDeviation(List<Client> clients, double mean) {
-        if (clients.size() <= 1) {
-            return 0.0;
+    @Override
+    public TopNames getTopNames(int k) {
+        if (k < 1 || k > topNamesIndex.getCapacity()) {
+            throw new IllegalArgumentException("k must be between 1 and " + topNamesIndex.getCapacity());
         }
+        return topNamesIndex.top(k);
+    }
 
-        double sumSquaredDifferences = clients.stream()
-                .mapToDouble(client -> Math.pow(client.getAge() - mean, 2))
-                .sum();
+    @Override
+    public ClientTableVersion getClientTableVersion() {
+        ClientTableVersion tableVersion = clientRepositoryPort.getTableVersion();
+        dataVersion.observeTableVersion(tableVersion.getVersion());
+        return tableVersion;
+    }
 
-        return Math.sqrt(sumSquaredDifferences / (clients.size() - 1));
+    /**
+     * @param since position returned by the previous sync, or null to receive every client from the start
+     */
+    @Override
+    public ClientChanges getClientChanges(ClientChangePosition since, int limit) {
+        checkLimit(limit);
+        return clientRepositoryPort.findChanges(since, limit);
     }
 }
@@ -0,0 +1,48 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.port.in.GetClientSnapshotUseCase;
+import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import com.pinapp.challenge.domain.port.out.ClientSnapshotPort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Keeps a compressed CSV snapshot of all clients for bulk downloads, rewritten on a fixed delay
+ * whenever the table version has moved. Downloads are served from the file and never reach the
+ * database.
+ */
+@Service
+public class ClientSnapshotService implements GetClientSnapshotUseCase {
+
+    private final ClientRepositoryPort clientRepositoryPort;
+    private final ClientSnapshotPort clientSnapshotPort;
+
+    public ClientSnapshotService(ClientRepositoryPort clientRepositoryPort, ClientSnapshotPort clientSnapshotPort) {
+        this.clientRepositoryPort = clientRepositoryPort;
+        this.clientSnapshotPort = clientSnapshotPort;
+    }
+
+    /**
+     * Writes a new snapshot unless the latest one is already at the current table version.
+     * Runs once at startup, then after each interval.
+     */
+    @Scheduled(fixedDelayString = "${app.snapshot.interval:PT1M}")
+    public synchronized void refreshSnapshot() {
+        ClientTableVersion tableVersion = clientRepositoryPort.getTableVersion();
+        Optional<ClientSnapshot> latest = clientSnapshotPort.findLatest();
+        if (latest.isPresent() && latest.get().getTableVersion().getVersion() == tableVersion.getVersion()) {
+            return;
+        }
+        // Labelled with the version read before the export, so rows written meanwhile trigger another refresh
+        clientSnapshotPort.write(tableVersion, clientRepositoryPort::exportCsv);
+    }
+
+    @Override
+    public Optional<ClientSnapshot> getLatestSnapshot() {
+        return clientSnapshotPort.findLatest();
+    }
+}
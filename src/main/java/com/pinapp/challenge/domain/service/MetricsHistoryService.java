@@ -0,0 +1,76 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.MetricsHistory;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+import com.pinapp.challenge.domain.port.in.GetClientMetricsUseCase;
+import com.pinapp.challenge.domain.port.in.GetMetricsHistoryUseCase;
+import com.pinapp.challenge.domain.port.out.MetricsHistoryRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Records snapshots of the default client metrics and serves them back as a time series.
+ * Each snapshot is appended as a raw point and folded into its minute, hour and day buckets,
+ * so a long range is answered from a few hundred pre-aggregated rows.
+ */
+@Service
+public class MetricsHistoryService implements GetMetricsHistoryUseCase {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(1);
+
+    private final GetClientMetricsUseCase getClientMetricsUseCase;
+    private final MetricsHistoryRepositoryPort metricsHistoryRepositoryPort;
+    private final Clock clock;
+
+    @Autowired
+    public MetricsHistoryService(GetClientMetricsUseCase getClientMetricsUseCase,
+                                 MetricsHistoryRepositoryPort metricsHistoryRepositoryPort) {
+        this(getClientMetricsUseCase, metricsHistoryRepositoryPort, Clock.systemUTC());
+    }
+
+    MetricsHistoryService(GetClientMetricsUseCase getClientMetricsUseCase,
+                          MetricsHistoryRepositoryPort metricsHistoryRepositoryPort, Clock clock) {
+        this.getClientMetricsUseCase = getClientMetricsUseCase;
+        this.metricsHistoryRepositoryPort = metricsHistoryRepositoryPort;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes one snapshot and prunes the points that are past their resolution's retention.
+     * Called on a fixed schedule by {@code MetricsHistoryScheduler}
+     */
+    public void recordSnapshot() {
+        // Served by the metrics cache, so a snapshot does not recompute anything between writes
+        ClientMetrics metrics = getClientMetricsUseCase.getClientMetrics();
+        Instant now = clock.instant();
+        for (MetricsResolution resolution : MetricsResolution.values()) {
+            metricsHistoryRepositoryPort.record(resolution, resolution.bucketStart(now), metrics);
+            if (resolution.getRetention() != null) {
+                metricsHistoryRepositoryPort.deleteBefore(resolution, now.minus(resolution.getRetention()));
+            }
+        }
+    }
+
+    /**
+     * Returns the history between two instants. Without {@code to} the range ends now, without
+     * {@code from} it covers the day before {@code to}, and without a resolution the finest one
+     * that keeps the range to a few hundred points is used.
+     */
+    @Override
+    public MetricsHistory getMetricsHistory(Instant from, Instant to, MetricsResolution resolution) {
+        Instant end = to != null ? to : clock.instant();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        MetricsResolution step = resolution != null ? resolution : MetricsResolution.forSpan(Duration.between(start, end));
+        // Include the bucket that contains the start of the range
+        return new MetricsHistory(start, end, step,
+                metricsHistoryRepositoryPort.find(step, step.bucketStart(start), end));
+    }
+}
@@ -0,0 +1,50 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest;
+
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque sync token for the client change feed. Clients store it and send it back unchanged
+ * as 'since', so the change log position it wraps can change without breaking the API.
+ */
+final class ClientChangeToken {
+
+    private static final String PREFIX = "changes";
+    private static final String SEPARATOR = ":";
+    private static final String NUMBER = "\\d{1,18}";
+
+    private ClientChangeToken() {
+    }
+
+    static String encode(ClientChangePosition position) {
+        String value = PREFIX + SEPARATOR + position.getVersion();
+        if (position.getClientId() != null) {
+            value += SEPARATOR + position.getClientId();
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return position to sync from, or null when no token was given
+     */
+    static ClientChangePosition decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid token: " + token);
+        }
+        String[] parts = value.split(SEPARATOR, -1);
+        if (parts.length < 2 || parts.length > 3 || !parts[0].equals(PREFIX) || !parts[1].matches(NUMBER)
+                || (parts.length == 3 && !parts[2].matches(NUMBER))) {
+            throw new IllegalArgumentException("Invalid token: " + token);
+        }
+        return new ClientChangePosition(Long.parseLong(parts[1]), parts.length == 3 ? Long.valueOf(parts[2]) : null);
+    }
+}
@@ -1,13 +1,60 @@
 package com.pinapp.challenge.infrastructure.adapter.in.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pinapp.challenge.domain.model.AgeDistribution;
+import com.pinapp.challenge.domain.model.ApproximateClientMetrics;
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientChange;
+import com.pinapp.challenge.domain.model.ClientChanges;
+import com.pinapp.challenge.domain.model.ClientField;
 import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.domain.model.ClientPage;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.model.ExportFormat;
+import com.pinapp.challenge.domain.model.ListRendering;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import com.pinapp.challenge.domain.model.MetricsHistory;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+import com.pinapp.challenge.domain.model.MetricsMode;
+import com.pinapp.challenge.domain.model.NameCount;
+import com.pinapp.challenge.domain.model.SortDirection;
+import com.pinapp.challenge.domain.model.TopNames;
 import com.pinapp.challenge.domain.port.in.CreateClientUseCase;
+import com.pinapp.challenge.domain.port.in.DeleteClientUseCase;
+import com.pinapp.challenge.domain.port.in.GetAgeDistributionUseCase;
 import com.pinapp.challenge.domain.port.in.GetAllClientsUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientChangesUseCase;
 import com.pinapp.challenge.domain.port.in.GetClientMetricsUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientSnapshotUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientTableVersionUseCase;
+import com.pinapp.challenge.domain.port.in.GetMetricsHistoryUseCase;
+import com.pinapp.challenge.domain.port.in.GetTopNamesUseCase;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.AgeDistributionResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientChangeResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientChangesResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientMetricsGroupResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientListQuery;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientMetricsQuery;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientMetricsResponse;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ConfidenceIntervalResponse;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.CreateClientRequest;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.MetricsHistoryPointResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.MetricsHistoryQuery;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.MetricsHistoryResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.NameCountResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.SerializedResponseCache.CachedResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.TopNamesResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,12 +64,32 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,16 +97,61 @@ import java.util.stream.Collectors;
 @Tag(name = "Client Management", description = "API para gestión de clientes")
 public class ClientController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String NDJSON = "application/x-ndjson";
+    static final String CBOR = MediaType.APPLICATION_CBOR_VALUE;
+    static final String SMILE = "application/x-jackson-smile";
+    static final String CSV = "text/csv;charset=UTF-8";
+    static final String ARROW_STREAM = "application/vnd.apache.arrow.stream";
+    // Request attributes through which Tomcat hands a file to the socket with sendfile
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // Cacheable by the caller only, and always revalidated against the table version
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final CreateClientUseCase createClientUseCase;
     private final GetAllClientsUseCase getAllClientsUseCase;
     private final GetClientMetricsUseCase getClientMetricsUseCase;
+    private final DeleteClientUseCase deleteClientUseCase;
+    private final GetAgeDistributionUseCase getAgeDistributionUseCase;
+    private final GetTopNamesUseCase getTopNamesUseCase;
+    private final GetMetricsHistoryUseCase getMetricsHistoryUseCase;
+    private final GetClientTableVersionUseCase getClientTableVersionUseCase;
+    private final GetClientSnapshotUseCase getClientSnapshotUseCase;
+    private final GetClientChangesUseCase getClientChangesUseCase;
+    private final SerializedResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
 
     public ClientController(CreateClientUseCase createClientUseCase,
                            GetAllClientsUseCase getAllClientsUseCase,
-                           GetClientMetricsUseCase getClientMetricsUseCase) {
+                           GetClientMetricsUseCase getClientMetricsUseCase,
+                           DeleteClientUseCase deleteClientUseCase,
+                           GetAgeDistributionUseCase getAgeDistributionUseCase,
+                           GetTopNamesUseCase getTopNamesUseCase,
+                           GetMetricsHistoryUseCase getMetricsHistoryUseCase,
+                           GetClientTableVersionUseCase getClientTableVersionUseCase,
+                           GetClientSnapshotUseCase getClientSnapshotUseCase,
+                           GetClientChangesUseCase getClientChangesUseCase,
+                           SerializedResponseCache responseCache,
+                           ObjectMapper objectMapper) {
         this.createClientUseCase = createClientUseCase;
         this.getAllClientsUseCase = getAllClientsUseCase;
         this.getClientMetricsUseCase = getClientMetricsUseCase;
+        this.deleteClientUseCase = deleteClientUseCase;
+        this.getAgeDistributionUseCase = getAgeDistributionUseCase;
+        this.getTopNamesUseCase = getTopNamesUseCase;
+        this.getMetricsHistoryUseCase = getMetricsHistoryUseCase;
+        this.getClientTableVersionUseCase = getClientTableVersionUseCase;
+        this.getClientSnapshotUseCase = getClientSnapshotUseCase;
+        this.getClientChangesUseCase = getClientChangesUseCase;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        // Flushing after every value would turn each row into its own network write
+        this.ndjsonWriter = objectMapper.writerFor(ClientResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
         @Operation(
@@ -82,18 +194,38 @@ public class ClientController {
         }
 
     @Operation(
-            summary = "List all clients",
-            description = "Gets the complete list of registered clients with their data and estimated death date"
+            summary = "List clients",
+            description = "Gets one page of registered clients with their data and estimated death date, "
+                    + "optionally filtered by name prefix, age range and birth date range, ordered by any field "
+                    + "and restricted to the fields listed in 'fields'. "
+                    + "The list is always paged: without 'limit' at most 100 clients are returned, where earlier versions "
+                    + "returned the whole table. When more clients follow, the response carries a Link header with "
+                    + "rel=\"next\" pointing at the next page, and the X-Next-Cursor header holds the value to pass as "
+                    + "'after' to fetch it; a response without them is the last page. "
+                    + "Responses carry an ETag and Last-Modified derived from the clients table version; "
+                    + "a matching If-None-Match or If-Modified-Since gets 304 without reading any client. "
+                    + "Serialized pages are cached per table version and sent gzip-compressed when Accept-Encoding allows it. "
+                    + "With render=database, PostgreSQL builds the JSON with json_agg and it is sent without being parsed"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Client list retrieved successfully",
+                    description = "Client page retrieved successfully",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ClientResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Clients unchanged since the version identified by If-None-Match or If-Modified-Since",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, filter or sort, or limit outside the supported range",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized - authentication required",
@@ -102,18 +234,322 @@ public class ClientController {
     })
     @SecurityRequirement(name = "basicAuth")
     @GetMapping
-    public ResponseEntity<List<ClientResponse>> getAllClients() {
-        List<Client> clients = getAllClientsUseCase.getAllClients();
-        List<ClientResponse> responses = clients.stream()
-                .map(this::toClientResponse)
-                .collect(Collectors.toList());
+    public ResponseEntity<byte[]> getAllClients(
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of clients to return, 100 when omitted", example = "100")
+            @RequestParam(defaultValue = "100") int limit,
+            @ParameterObject ClientListQuery query,
+            WebRequest webRequest) {
+        ClientQuery clientQuery = toClientQuery(query);
+        ClientPosition position = ClientCursor.decode(after, clientQuery.getSort(), clientQuery.getDirection());
+        ListRendering rendering = ListRendering.fromParameter(query.getRender());
+        // Read before the page, so the page is at least as new as the version it is cached and validated under
+        ClientTableVersion version = getClientTableVersionUseCase.getClientTableVersion();
+        if (webRequest.checkNotModified(toJsonETag(Long.toString(version.getVersion()), webRequest),
+                version.getLastModified().toEpochMilli())) {
+            return notModified(HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        List<Object> key = Arrays.asList("list", clientQuery, position, limit, rendering);
+        CachedResponse cached = responseCache.get(version.getVersion(), key);
+        if (cached == null) {
+            Optional<ClientPageJson> rendered = rendering == ListRendering.DATABASE
+                    ? getAllClientsUseCase.getClientsAsJson(clientQuery, position, limit)
+                    : Optional.empty();
+            if (rendered.isPresent()) {
+                cached = responseCache.put(version.getVersion(), key, rendered.get().getJson(),
+                        toPageHeaders(rendered.get().getNext(), clientQuery, limit, webRequest));
+            } else {
+                ClientPage page = getAllClientsUseCase.getClients(clientQuery, position, limit);
+                cached = responseCache.put(version.getVersion(), key, toJson(toClientResponses(page, clientQuery)),
+                        toPageHeaders(page.getNext(), clientQuery, limit, webRequest));
+            }
+        }
+        return toJsonResponse(cached, webRequest);
+    }
+
+    @Operation(
+            summary = "List clients in a binary format",
+            description = "Same page as the JSON list, encoded as CBOR or Smile when the Accept header asks for "
+                    + "application/cbor or application/x-jackson-smile. Dates are encoded as days since 1970-01-01 "
+                    + "(CBOR tag 100) instead of ISO strings"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Client page retrieved successfully",
+                    content = {
+                            @Content(mediaType = CBOR, schema = @Schema(implementation = ClientResponse.class)),
+                            @Content(mediaType = SMILE, schema = @Schema(implementation = ClientResponse.class))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Clients unchanged since the version identified by If-None-Match or If-Modified-Since",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, filter or sort, or limit outside the supported range",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping(produces = {CBOR, SMILE})
+    public ResponseEntity<List<ClientResponse>> getAllClientsBinary(
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of clients to return, 100 when omitted", example = "100")
+            @RequestParam(defaultValue = "100") int limit,
+            @ParameterObject ClientListQuery query,
+            WebRequest webRequest) {
+        ClientQuery clientQuery = toClientQuery(query);
+        ClientPosition position = ClientCursor.decode(after, clientQuery.getSort(), clientQuery.getDirection());
+        MediaType format = toBinaryFormat(webRequest.getHeader(HttpHeaders.ACCEPT));
+        ClientTableVersion version = getClientTableVersionUseCase.getClientTableVersion();
+        // Each encoding is its own representation, so it needs its own strong validator
+        if (webRequest.checkNotModified(toETag(version, format.getSubtype()), version.getLastModified().toEpochMilli())) {
+            return notModified(HttpHeaders.ACCEPT);
+        }
+
+        ClientPage page = getAllClientsUseCase.getClients(clientQuery, position, limit);
+        return ResponseEntity.ok()
+                .headers(toPageHeaders(page.getNext(), clientQuery, limit, webRequest))
+                .cacheControl(REVALIDATE)
+                .contentType(format)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(toClientResponses(page, clientQuery));
+    }
 
-        return ResponseEntity.ok(responses);
+    @Operation(
+            summary = "Stream all clients",
+            description = "Streams every registered client matching the filters as newline-delimited JSON, one client per line, "
+                    + "reading rows from a database cursor while writing them out. "
+                    + "Selected with Accept: application/x-ndjson"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Client stream started",
+                    content = @Content(
+                            mediaType = NDJSON,
+                            schema = @Schema(implementation = ClientResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter or sort",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping(produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllClients(@ParameterObject ClientListQuery query) {
+        // Validated before the response starts, so bad parameters still get a 400
+        ClientQuery clientQuery = toClientQuery(query);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = ndjsonWriter.createGenerator(outputStream)) {
+                // Lines are terminated explicitly, so no space between root values
+                generator.setRootValueSeparator(null);
+                boolean[] first = {true};
+                getAllClientsUseCase.streamAllClients(clientQuery, client -> {
+                    try {
+                        ndjsonWriter.writeValue(generator, toClientResponse(client, clientQuery));
+                        generator.writeRaw('\n');
+                        if (first[0]) {
+                            // Let the first row out right away; the rest go out as the buffer fills
+                            generator.flush();
+                            first[0] = false;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Export all clients",
+            description = "Streams every registered client as a file. "
+                    + "format=arrow writes an Apache Arrow IPC stream of record batches with the columns "
+                    + "id (int64), first_name, last_name (utf8), age (int32) and birth_date (date32), "
+                    + "filled straight from a database cursor. "
+                    + "format=csv writes CSV with a header row and the same columns; on PostgreSQL the server "
+                    + "formats it with COPY TO STDOUT and the bytes are piped through unchanged"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export started",
+                    content = {
+                            @Content(mediaType = ARROW_STREAM),
+                            @Content(mediaType = CSV)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported format value",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportClients(
+            @Parameter(description = "Export format: arrow or csv", example = "arrow", required = true)
+            @RequestParam String format) {
+        // Resolved before streaming starts so unsupported formats are still a 400
+        if (ExportFormat.fromParameter(format) == ExportFormat.CSV) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(CSV))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clients.csv\"")
+                    .body(getAllClientsUseCase::exportAllClientsAsCsv);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ARROW_STREAM))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clients.arrows\"")
+                .body(getAllClientsUseCase::exportAllClientsAsArrow);
+    }
+
+    @Operation(
+            summary = "Download the latest client snapshot",
+            description = "Returns every client as gzip-compressed CSV (header row, then id, first_name, last_name, age "
+                    + "and birth_date) from a file written in the background whenever the data changes. "
+                    + "The file is sent as is, without querying the database. "
+                    + "The ETag and Last-Modified identify the data version the snapshot was taken at"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Snapshot file",
+                    content = @Content(mediaType = "application/gzip")
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The cached snapshot is still the latest",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No snapshot has been written yet",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping("/snapshot")
+    public ResponseEntity<StreamingResponseBody> downloadSnapshot(WebRequest webRequest) {
+        Optional<ClientSnapshot> latest = getClientSnapshotUseCase.getLatestSnapshot();
+        if (latest.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ClientSnapshot snapshot = latest.get();
+        ClientTableVersion version = snapshot.getTableVersion();
+        if (webRequest.checkNotModified("\"snapshot-" + version.getVersion() + "\"", version.getLastModified().toEpochMilli())) {
+            return notModified();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .contentLength(snapshot.getSize())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + snapshot.getFile().getFileName() + "\"")
+                .cacheControl(REVALIDATE);
+        if (Boolean.TRUE.equals(webRequest.getAttribute(SENDFILE_SUPPORT, RequestAttributes.SCOPE_REQUEST))) {
+            // Tomcat sends the file after the headers with FileChannel.transferTo into the socket
+            webRequest.setAttribute(SENDFILE_FILENAME, snapshot.getFile().toAbsolutePath().toString(), RequestAttributes.SCOPE_REQUEST);
+            webRequest.setAttribute(SENDFILE_START, 0L, RequestAttributes.SCOPE_REQUEST);
+            webRequest.setAttribute(SENDFILE_END, snapshot.getSize(), RequestAttributes.SCOPE_REQUEST);
+            return response.build();
+        }
+        return response.body(outputStream -> transferFile(snapshot, outputStream));
+    }
+
+    @Operation(
+            summary = "Get client changes since a sync token",
+            description = "Returns the clients created, updated or deleted after the given token, oldest change first, "
+                    + "with the current state of each changed client and the ids of deleted ones. Several writes to the same "
+                    + "client collapse into its latest change. Without since, every client is returned, so a cache can start "
+                    + "from an empty state. Pass the returned token as since on the next call; while hasMore is true, "
+                    + "further changes are already waiting. Changes are recorded by database triggers, so writes made "
+                    + "outside the application are included"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes returned successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ClientChangesResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"changes\": [{\"id\": 1, \"deleted\": false, \"client\": {\"id\": 1, \"firstName\": \"John\", \"lastName\": \"Doe\", \"age\": 30, \"birthDate\": \"1994-01-15\", \"estimatedDeathDate\": \"2074-01-15\"}}, {\"id\": 2, \"deleted\": true}], \"token\": \"Y2hhbmdlczo0Mg\", \"hasMore\": false}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid token or limit outside 1-1000",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping("/changes")
+    public ResponseEntity<ClientChangesResponse> getClientChanges(
+            @Parameter(description = "Token returned by the previous call; omit it to receive every client")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes to return, from 1 to 1000", example = "1000")
+            @RequestParam(defaultValue = "1000") int limit) {
+        ClientChanges changes = getClientChangesUseCase.getClientChanges(ClientChangeToken.decode(since), limit);
+        ClientChangesResponse response = ClientChangesResponse.builder()
+                .changes(changes.getChanges().stream()
+                        .map(this::toClientChangeResponse)
+                        .collect(Collectors.toList()))
+                .token(ClientChangeToken.encode(changes.getNext()))
+                .hasMore(changes.hasMore())
+                .build();
+
+        return ResponseEntity.ok(response);
     }
 
     @Operation(
             summary = "Get client metrics",
-            description = "Calculates and returns statistical metrics about clients: average age, standard deviation and total clients"
+            description = "Calculates and returns statistical metrics about clients: average age, standard deviation, total clients "
+                    + "and the estimated number of distinct first and last names. "
+                    + "With groupBy, also returns the metrics of each birth decade, birth year or last name initial cohort. "
+                    + "With asOf, ages are calculated from birth dates at that reference date. "
+                    + "With minAge/maxAge or bornFrom/bornTo, only clients in that age range or birth date window are included. "
+                    + "With mode=exact, metrics are recomputed from the raw age column; "
+                    + "with mode=approx, they are estimated from a random sample and returned with 95% confidence intervals. "
+                    + "Except with mode=approx, responses carry an ETag derived from the clients table version and the version "
+                    + "of this instance's indexes; a matching If-None-Match gets 304 without computing any metric. "
+                    + "Those serialized responses are also cached per table version and sent gzip-compressed when Accept-Encoding allows it"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -123,10 +559,20 @@ public class ClientController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = ClientMetricsResponse.class),
                             examples = @ExampleObject(
-                                    value = "{\"averageAge\": 35.5, \"standardDeviation\": 12.3, \"totalClients\": 10}"
+                                    value = "{\"averageAge\": 35.5, \"standardDeviation\": 12.3, \"totalClients\": 10, \"distinctFirstNames\": 10, \"distinctLastNames\": 10}"
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Clients unchanged since the version identified by If-None-Match",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported groupBy or mode value, invalid date or range, or incompatible parameters combined",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized - authentication required",
@@ -135,17 +581,413 @@ public class ClientController {
     })
     @SecurityRequirement(name = "basicAuth")
     @GetMapping("/metrics")
-    public ResponseEntity<ClientMetricsResponse> getClientMetrics() {
-        ClientMetrics metrics = getClientMetricsUseCase.getClientMetrics();
+    public ResponseEntity<byte[]> getClientMetrics(@ParameterObject ClientMetricsQuery query, WebRequest webRequest) {
+        String groupBy = query.getGroupBy();
+        MetricsMode mode = MetricsMode.fromParameter(query.getMode());
+        ClientMetricsFilter filter = new ClientMetricsFilter(query.getMinAge(), query.getMaxAge(),
+                query.getBornFrom(), query.getBornTo());
+        int selectors = (query.getAsOf() != null ? 1 : 0) + (groupBy != null ? 1 : 0) + (filter.isEmpty() ? 0 : 1)
+                + (mode == MetricsMode.SUMMARY ? 0 : 1);
+        if (selectors > 1) {
+            throw new IllegalArgumentException("mode, asOf, groupBy and range filters cannot be combined");
+        }
+
+        if (mode == MetricsMode.APPROX) {
+            // A fresh random sample differs on every call, so it cannot carry a strong validator nor be cached
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(toJson(toApproximateMetricsResponse(getClientMetricsUseCase.getApproximateClientMetrics())));
+        }
+        // Metrics also come from this instance's indexes, which only see writes made through it, so the
+        // validator names both versions and no Last-Modified is sent: the table alone does not date them.
+        // The table version is read first, since reading it moves the index version when the table changed
+        ClientTableVersion version = getClientTableVersionUseCase.getClientTableVersion();
+        long indexVersion = getClientMetricsUseCase.getIndexVersion();
+        if (webRequest.checkNotModified(toJsonETag(version.getVersion() + "-" + indexVersion, webRequest))) {
+            return notModified(HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        List<Object> key = Arrays.asList("metrics", indexVersion, query);
+        CachedResponse cached = responseCache.get(version.getVersion(), key);
+        if (cached == null) {
+            cached = responseCache.put(version.getVersion(), key, toJson(computeClientMetrics(query, mode, filter)), new HttpHeaders());
+        }
+        return toJsonResponse(cached, webRequest);
+    }
+
+    private ClientMetricsResponse computeClientMetrics(ClientMetricsQuery query, MetricsMode mode, ClientMetricsFilter filter) {
+        String groupBy = query.getGroupBy();
+        ClientMetrics metrics;
+        if (mode == MetricsMode.EXACT) {
+            metrics = getClientMetricsUseCase.getExactClientMetrics();
+        } else if (query.getAsOf() != null) {
+            metrics = getClientMetricsUseCase.getClientMetricsAsOf(query.getAsOf());
+        } else if (!filter.isEmpty()) {
+            metrics = getClientMetricsUseCase.getClientMetrics(filter);
+        } else {
+            metrics = getClientMetricsUseCase.getClientMetrics();
+        }
         ClientMetricsResponse response = ClientMetricsResponse.builder()
                 .averageAge(metrics.getAverageAge())
                 .standardDeviation(metrics.getStandardDeviation())
                 .totalClients(metrics.getTotalClients())
+                .distinctFirstNames(metrics.getDistinctFirstNames())
+                .distinctLastNames(metrics.getDistinctLastNames())
+                .build();
+
+        if (groupBy != null) {
+            MetricsGrouping grouping = MetricsGrouping.fromParameter(groupBy);
+            Map<String, ClientMetrics> groups = getClientMetricsUseCase.getClientMetrics(grouping);
+            response.setGroupBy(grouping.getParameterName());
+            response.setGroups(groups.entrySet().stream()
+                    .map(group -> ClientMetricsGroupResponse.builder()
+                            .group(group.getKey())
+                            .averageAge(group.getValue().getAverageAge())
+                            .standardDeviation(group.getValue().getStandardDeviation())
+                            .totalClients(group.getValue().getTotalClients())
+                            .build())
+                    .collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    @Operation(
+            summary = "Get client age distribution",
+            description = "Returns minimum, maximum, median, 90th and 99th percentile ages and the number of clients per age"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Distribution calculated successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AgeDistributionResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"totalClients\": 3, \"minAge\": 25, \"maxAge\": 35, \"medianAge\": 30, \"p90Age\": 35, \"p99Age\": 35, \"histogram\": {\"25\": 1, \"30\": 1, \"35\": 1}}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping("/metrics/distribution")
+    public ResponseEntity<AgeDistributionResponse> getAgeDistribution() {
+        AgeDistribution distribution = getAgeDistributionUseCase.getAgeDistribution();
+        AgeDistributionResponse response = AgeDistributionResponse.builder()
+                .totalClients(distribution.getTotalClients())
+                .minAge(distribution.getMinAge())
+                .maxAge(distribution.getMaxAge())
+                .medianAge(distribution.getMedianAge())
+                .p90Age(distribution.getP90Age())
+                .p99Age(distribution.getP99Age())
+                .histogram(distribution.getHistogram())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get most common client names",
+            description = "Returns the k most common first names and last names with their estimated counts. "
+                    + "Counts come from bounded heavy-hitter summaries kept up to date on every write, "
+                    + "so they may overstate a name by at most its error"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Top names returned successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TopNamesResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"firstNames\": [{\"name\": \"John\", \"count\": 2, \"error\": 0}], \"lastNames\": [{\"name\": \"Doe\", \"count\": 3, \"error\": 0}]}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "k outside the supported range",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping("/metrics/top-names")
+    public ResponseEntity<TopNamesResponse> getTopNames(
+            @Parameter(description = "Number of names to return per list", example = "20")
+            @RequestParam(defaultValue = "10") int k) {
+        TopNames topNames = getTopNamesUseCase.getTopNames(k);
+        TopNamesResponse response = TopNamesResponse.builder()
+                .firstNames(toNameCountResponses(topNames.getFirstNames()))
+                .lastNames(toNameCountResponses(topNames.getLastNames()))
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get client metrics history",
+            description = "Returns snapshots of the client metrics, taken on a fixed schedule, between from and to. "
+                    + "With step=minute, hour or day, each point averages the snapshots taken in that bucket; "
+                    + "step=raw returns the snapshots themselves. Raw points are kept for one day, minute buckets "
+                    + "for 7 days, hour buckets for 90 days and day buckets indefinitely"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "History returned successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = MetricsHistoryResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"from\": \"2026-10-16T00:00:00Z\", \"to\": \"2026-10-17T00:00:00Z\", \"step\": \"hour\", \"points\": [{\"timestamp\": \"2026-10-16T00:00:00Z\", \"samples\": 360, \"averageAge\": 35.5, \"standardDeviation\": 12.3, \"totalClients\": 10.0}]}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported step value, invalid date-time, or from after to",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping("/metrics/history")
+    public ResponseEntity<MetricsHistoryResponse> getMetricsHistory(@ParameterObject MetricsHistoryQuery query) {
+        MetricsResolution step = query.getStep() != null ? MetricsResolution.fromParameter(query.getStep()) : null;
+        MetricsHistory history = getMetricsHistoryUseCase.getMetricsHistory(
+                query.getFrom() != null ? query.getFrom().toInstant() : null,
+                query.getTo() != null ? query.getTo().toInstant() : null,
+                step);
+        MetricsHistoryResponse response = MetricsHistoryResponse.builder()
+                .from(history.getFrom())
+                .to(history.getTo())
+                .step(history.getResolution().getParameterName())
+                .points(history.getPoints().stream()
+                        .map(point -> MetricsHistoryPointResponse.builder()
+                                .timestamp(point.getTimestamp())
+                                .samples(point.getSamples())
+                                .averageAge(point.getAverageAge())
+                                .standardDeviation(point.getStandardDeviation())
+                                .totalClients(point.getTotalClients())
+                                .build())
+                        .collect(Collectors.toList()))
                 .build();
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Delete client",
+            description = "Removes a client from the system by its identifier"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Client deleted successfully",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Client not found",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - authentication required",
+                    content = @Content
+            )
+    })
+    @SecurityRequirement(name = "basicAuth")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteClient(
+            @Parameter(description = "Identifier of the client to delete", required = true)
+            @PathVariable Long id) {
+        if (!deleteClientUseCase.deleteClient(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Sends the cached bytes as they are, picking the gzip copy when the caller accepts it
+     */
+    private ResponseEntity<byte[]> toJsonResponse(CachedResponse cached, WebRequest webRequest) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .headers(cached.getHeaders())
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (cached.getGzipBody() != null
+                && SerializedResponseCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.getGzipBody());
+        }
+        return builder.body(cached.getBody());
+    }
+
+    private byte[] toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Picks the strong validator of the JSON representation the caller gets: the gzip copy is a
+     * representation of its own. It follows Accept-Encoding alone so a 304 needs no body, which
+     * leaves bodies too small to compress sent as they are under the gzip validator
+     */
+    private static String toJsonETag(String validator, WebRequest webRequest) {
+        if (SerializedResponseCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return "\"" + validator + "-gzip\"";
+        }
+        return "\"" + validator + "\"";
+    }
+
+    private static String toETag(ClientTableVersion version, String encoding) {
+        return "\"" + version.getVersion() + "-" + encoding + "\"";
+    }
+
+    /**
+     * Picks the binary encoding the Accept header prefers; CBOR unless Smile ranks higher
+     */
+    static MediaType toBinaryFormat(String accept) {
+        MediaType cbor = MediaType.parseMediaType(CBOR);
+        MediaType smile = MediaType.parseMediaType(SMILE);
+        if (accept != null) {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType type : accepted) {
+                if (type.getQualityValue() > 0 && (type.includes(smile) || type.includes(cbor))) {
+                    return type.includes(cbor) ? cbor : smile;
+                }
+            }
+        }
+        return cbor;
+    }
+
+    private List<ClientResponse> toClientResponses(ClientPage page, ClientQuery query) {
+        return page.getClients().stream()
+                .map(client -> toClientResponse(client, query))
+                .collect(Collectors.toList());
+    }
+
+    private static HttpHeaders toPageHeaders(ClientPosition next, ClientQuery query, int limit, WebRequest webRequest) {
+        HttpHeaders headers = new HttpHeaders();
+        if (next != null) {
+            String cursor = ClientCursor.encode(query.getSort(), query.getDirection(), next);
+            headers.set(NEXT_CURSOR_HEADER, cursor);
+            headers.set(HttpHeaders.LINK, "<" + toNextPageLink(cursor, limit, webRequest) + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+
+    /**
+     * Same request with the cursor and limit replaced, so filters, sort and fields carry over to the next page
+     */
+    private static String toNextPageLink(String cursor, int limit, WebRequest webRequest) {
+        HttpServletRequest request = ((NativeWebRequest) webRequest).getNativeRequest(HttpServletRequest.class);
+        // The query string is already encoded and the cursor is URL-safe Base64, so nothing needs encoding
+        return UriComponentsBuilder.fromPath(request.getRequestURI())
+                .query(request.getQueryString())
+                .replaceQueryParam("after", cursor)
+                .replaceQueryParam("limit", limit)
+                .build()
+                .toUriString();
+    }
+
+    /**
+     * Fallback for containers without sendfile: still avoids reading the file into a byte array first
+     */
+    private static void transferFile(ClientSnapshot snapshot, OutputStream outputStream) throws IOException {
+        try (FileChannel file = FileChannel.open(snapshot.getFile())) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long size = file.size();
+            long position = 0;
+            while (position < size) {
+                position += file.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * A 304 stands in for the negotiated representation, so it carries the same Vary
+     */
+    private static <T> ResponseEntity<T> notModified(String varyBy) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).varyBy(varyBy).build();
+    }
+
+    private ClientMetricsResponse toApproximateMetricsResponse(ApproximateClientMetrics approximate) {
+        return ClientMetricsResponse.builder()
+                .averageAge(approximate.getMetrics().getAverageAge())
+                .standardDeviation(approximate.getMetrics().getStandardDeviation())
+                .totalClients(approximate.getMetrics().getTotalClients())
+                .sampleSize(approximate.getSampleSize())
+                .confidenceLevel(ApproximateClientMetrics.CONFIDENCE_LEVEL)
+                .averageAgeInterval(new ConfidenceIntervalResponse(
+                        approximate.getAverageAgeLower(), approximate.getAverageAgeUpper()))
+                .standardDeviationInterval(new ConfidenceIntervalResponse(
+                        approximate.getStandardDeviationLower(), approximate.getStandardDeviationUpper()))
+                .build();
+    }
+
+    private List<NameCountResponse> toNameCountResponses(List<NameCount> nameCounts) {
+        return nameCounts.stream()
+                .map(nameCount -> NameCountResponse.builder()
+                        .name(nameCount.getName())
+                        .count(nameCount.getCount())
+                        .error(nameCount.getError())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private ClientQuery toClientQuery(ClientListQuery query) {
+        return new ClientQuery(query.getFirstName(), query.getLastName(), query.getMinAge(), query.getMaxAge(),
+                query.getBornFrom(), query.getBornTo(),
+                ClientSort.fromParameter(query.getSort()), SortDirection.fromParameter(query.getDirection()))
+                .withFields(ClientField.fromParameter(query.getFields()));
+    }
+
+    /**
+     * Maps only the requested fields; the estimated death date is calculated only when asked for
+     */
+    private ClientResponse toClientResponse(Client client, ClientQuery query) {
+        return ClientResponse.builder()
+                .id(query.includes(ClientField.ID) ? client.getId() : null)
+                .firstName(query.includes(ClientField.FIRST_NAME) ? client.getFirstName() : null)
+                .lastName(query.includes(ClientField.LAST_NAME) ? client.getLastName() : null)
+                .age(query.includes(ClientField.AGE) ? client.getAge() : null)
+                .birthDate(query.includes(ClientField.BIRTH_DATE) ? client.getBirthDate() : null)
+                .estimatedDeathDate(query.includes(ClientField.ESTIMATED_DEATH_DATE) ? client.calculateLifeExpectancy() : null)
+                .build();
+    }
+
+    private ClientChangeResponse toClientChangeResponse(ClientChange change) {
+        return ClientChangeResponse.builder()
+                .id(change.getClientId())
+                .deleted(change.isDeleted())
+                .client(change.isDeleted() ? null : toClientResponse(change.getClient()))
+                .build();
+    }
+
     private ClientResponse toClientResponse(Client client) {
         return ClientResponse.builder()
                 .id(client.getId())
@@ -0,0 +1,60 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest;
+
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.SortDirection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque pagination cursor for the client list. Clients must echo it back unchanged,
+ * so the keyset it wraps can change without breaking the API. A cursor is only valid
+ * for the sort field and direction it was issued for.
+ */
+final class ClientCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private ClientCursor() {
+    }
+
+    static String encode(ClientSort sort, SortDirection direction, ClientPosition position) {
+        String value = sort.getParameterName() + SEPARATOR + direction.getParameterName() + SEPARATOR + position.getId();
+        if (position.getKey() != null) {
+            value += SEPARATOR + position.getKey();
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return position to continue after, or null when no cursor was given
+     */
+    static ClientPosition decode(String cursor, ClientSort sort, SortDirection direction) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        // The sort value goes last, so it may contain the separator itself
+        String[] parts = value.split(SEPARATOR, 4);
+        int expectedParts = sort == ClientSort.ID ? 3 : 4;
+        if (parts.length != expectedParts || !parts[2].matches("\\d{1,18}")) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        if (!parts[0].equals(sort.getParameterName())) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + parts[0] + ", not " + sort.getParameterName());
+        }
+        // Resuming in the other direction would skip everything before the position instead of after it
+        if (!parts[1].equals(direction.getParameterName())) {
+            throw new IllegalArgumentException("Cursor was issued for direction " + parts[1] + ", not " + direction.getParameterName());
+        }
+        Object key = sort == ClientSort.ID ? null : sort.parseKey(parts[3]);
+        return new ClientPosition(key, Long.parseLong(parts[2]));
+    }
+}
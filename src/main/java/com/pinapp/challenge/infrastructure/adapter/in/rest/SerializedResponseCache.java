@@ -0,0 +1,160 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps serialized JSON response bodies, with a gzip copy, for the current clients table version.
+ * <p>
+ * A hit skips the use case, DTO mapping, Jackson and compression. Entries are only valid for the
+ * version they were built for, so seeing a newer version drops everything cached before it.
+ * Within a version, least recently used entries are evicted once the bodies exceed the byte budget.
+ */
+@Component
+public class SerializedResponseCache {
+
+    // Below this size the gzip header and trailer outweigh what compression saves
+    static final int MIN_COMPRESSED_SIZE = 256;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Object, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long version = Long.MIN_VALUE;
+    private long totalBytes;
+
+    public SerializedResponseCache(@Value("${app.response-cache.max-size:32MB}") DataSize maxSize) {
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    /**
+     * @return the response cached for the key at this table version, or null
+     */
+    public synchronized CachedResponse get(long tableVersion, Object key) {
+        if (tableVersion != version) {
+            return null;
+        }
+        return entries.get(key);
+    }
+
+    /**
+     * Compresses the body and caches it for the key at this table version, unless a newer
+     * version has already been seen or the response alone exceeds the byte budget
+     * @return the response, cached or not
+     */
+    public CachedResponse put(long tableVersion, Object key, byte[] body, HttpHeaders headers) {
+        CachedResponse response = new CachedResponse(body, gzip(body), headers);
+        synchronized (this) {
+            if (tableVersion < version || response.size() > maxBytes) {
+                return response;
+            }
+            if (tableVersion > version) {
+                entries.clear();
+                totalBytes = 0;
+                version = tableVersion;
+            }
+            CachedResponse previous = entries.put(key, response);
+            totalBytes += response.size() - (previous != null ? previous.size() : 0);
+            Iterator<CachedResponse> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes) {
+                totalBytes -= eldest.next().size();
+                eldest.remove();
+            }
+        }
+        return response;
+    }
+
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        if (body.length < MIN_COMPRESSED_SIZE) {
+            return null;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        // Compressed once per version and served many times, so spend the CPU on the best ratio
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.size() < body.length ? compressed.toByteArray() : null;
+    }
+
+    /**
+     * Checks whether an Accept-Encoding header allows gzip, honouring q=0 exclusions
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim().toLowerCase();
+            boolean excluded = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.startsWith("q=")) {
+                    excluded = parameter.substring(2).matches("0(\\.0*)?");
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return !excluded;
+            }
+            if (name.equals("*")) {
+                wildcard = !excluded;
+            }
+        }
+        return wildcard;
+    }
+
+    /**
+     * A serialized body, its gzip copy when compression pays off, and the headers to send with it
+     */
+    public static final class CachedResponse {
+
+        private final byte[] body;
+        private final byte[] gzipBody;
+        private final HttpHeaders headers;
+
+        CachedResponse(byte[] body, byte[] gzipBody, HttpHeaders headers) {
+            this.body = body;
+            this.gzipBody = gzipBody;
+            this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public byte[] getGzipBody() {
+            return gzipBody;
+        }
+
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        long size() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+}
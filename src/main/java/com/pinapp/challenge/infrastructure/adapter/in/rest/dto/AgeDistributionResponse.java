@@ -0,0 +1,38 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Distribution of client ages")
+public class AgeDistributionResponse {
+
+    @Schema(description = "Total number of clients registered in the system", example = "10")
+    private Long totalClients;
+
+    @Schema(description = "Youngest client age", example = "25")
+    private Integer minAge;
+
+    @Schema(description = "Oldest client age", example = "50")
+    private Integer maxAge;
+
+    @Schema(description = "Median client age", example = "33")
+    private Integer medianAge;
+
+    @Schema(description = "90th percentile of client ages", example = "45")
+    private Integer p90Age;
+
+    @Schema(description = "99th percentile of client ages", example = "50")
+    private Integer p99Age;
+
+    @Schema(description = "Number of clients per age in years, ordered by age", example = "{\"25\": 1, \"28\": 2, \"30\": 1}")
+    private Map<Integer, Long> histogram;
+}
@@ -0,0 +1,26 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Latest change to one client since the token")
+public class ClientChangeResponse {
+
+    @Schema(description = "Identifier of the changed client", example = "1")
+    private Long id;
+
+    @Schema(description = "Whether the client was deleted", example = "false")
+    private Boolean deleted;
+
+    @Schema(description = "Current state of the client; omitted when it was deleted")
+    private ClientResponse client;
+}
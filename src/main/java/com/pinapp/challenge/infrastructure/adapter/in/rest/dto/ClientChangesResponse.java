@@ -0,0 +1,26 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Clients created, updated or deleted since a sync token")
+public class ClientChangesResponse {
+
+    @Schema(description = "Changes in the order they were made, at most one per client")
+    private List<ClientChangeResponse> changes;
+
+    @Schema(description = "Token to pass as 'since' on the next call", example = "Y2hhbmdlczo0Mg")
+    private String token;
+
+    @Schema(description = "Whether more changes are waiting; if so, call again right away with the new token", example = "false")
+    private Boolean hasMore;
+}
@@ -0,0 +1,52 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Optional filters, ordering and fieldset of the client list")
+public class ClientListQuery {
+
+    @Schema(description = "First name prefix, case-sensitive", example = "Jo")
+    private String firstName;
+
+    @Schema(description = "Last name prefix, case-sensitive", example = "Do")
+    private String lastName;
+
+    @Schema(description = "Minimum stored age, inclusive", example = "25")
+    private Integer minAge;
+
+    @Schema(description = "Maximum stored age, inclusive", example = "40")
+    private Integer maxAge;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Earliest birth date (yyyy-MM-dd), inclusive", example = "1980-01-01")
+    private LocalDate bornFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Latest birth date (yyyy-MM-dd), inclusive", example = "1999-12-31")
+    private LocalDate bornTo;
+
+    @Schema(description = "Field to order by: id (default), firstName, lastName, age or birthDate", example = "lastName")
+    private String sort;
+
+    @Schema(description = "Order direction: asc (default) or desc", example = "desc")
+    private String direction;
+
+    @Schema(description = "Comma-separated fields to return: id, firstName, lastName, age, birthDate, estimatedDeathDate "
+            + "(default all)", example = "id,lastName,birthDate")
+    private String fields;
+
+    @Schema(description = "JSON list only: where the JSON is built, application (default) or database. "
+            + "database has PostgreSQL build the document, other databases fall back to application", example = "database")
+    private String render;
+}
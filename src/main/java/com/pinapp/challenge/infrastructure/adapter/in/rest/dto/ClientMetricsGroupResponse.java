@@ -0,0 +1,27 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Statistical metrics of one client cohort")
+public class ClientMetricsGroupResponse {
+
+    @Schema(description = "Cohort key: birth decade, birth year or last name initial", example = "1990s")
+    private String group;
+
+    @Schema(description = "Average age of the clients in the cohort", example = "29.5")
+    private Double averageAge;
+
+    @Schema(description = "Standard deviation of the ages in the cohort", example = "3.1")
+    private Double standardDeviation;
+
+    @Schema(description = "Number of clients in the cohort", example = "4")
+    private Long totalClients;
+}
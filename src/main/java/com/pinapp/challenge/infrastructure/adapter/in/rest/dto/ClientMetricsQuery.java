@@ -0,0 +1,44 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Optional query parameters of the client metrics endpoint")
+public class ClientMetricsQuery {
+
+    @Schema(description = "Computation mode: summary (default), exact to recompute from the raw age column, "
+            + "or approx to estimate from a random sample with confidence intervals", example = "approx")
+    private String mode;
+
+    @Schema(description = "Cohort to group by: birthDecade, birthYear or lastNameInitial", example = "birthDecade")
+    private String groupBy;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Reference date (yyyy-MM-dd) at which ages are calculated from birth dates, "
+            + "between 1850-01-01 and 2149-12-31", example = "2030-01-01")
+    private LocalDate asOf;
+
+    @Schema(description = "Minimum stored age, inclusive", example = "25")
+    private Integer minAge;
+
+    @Schema(description = "Maximum stored age, inclusive", example = "40")
+    private Integer maxAge;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Earliest birth date (yyyy-MM-dd), inclusive", example = "1980-01-01")
+    private LocalDate bornFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Latest birth date (yyyy-MM-dd), inclusive", example = "1999-12-31")
+    private LocalDate bornTo;
+}
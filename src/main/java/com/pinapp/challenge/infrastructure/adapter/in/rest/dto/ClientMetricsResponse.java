@@ -1,11 +1,14 @@
 package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +24,36 @@ public class ClientMetricsResponse {
     
     @Schema(description = "Total number of clients registered in the system", example = "10")
     private Long totalClients;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Estimated number of distinct first names (HyperLogLog, about 1% error), only present in the default metrics", example = "8")
+    private Long distinctFirstNames;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Estimated number of distinct last names (HyperLogLog, about 1% error), only present in the default metrics", example = "9")
+    private Long distinctLastNames;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Grouping applied to the cohort metrics, only present when groupBy is requested", example = "birthDecade")
+    private String groupBy;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Metrics per cohort ordered by group key, only present when groupBy is requested")
+    private List<ClientMetricsGroupResponse> groups;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Number of sampled ages, only present in approx mode", example = "10000")
+    private Integer sampleSize;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Confidence level of the intervals, only present in approx mode", example = "0.95")
+    private Double confidenceLevel;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Confidence interval of the average age, only present in approx mode")
+    private ConfidenceIntervalResponse averageAgeInterval;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Confidence interval of the standard deviation, only present in approx mode")
+    private ConfidenceIntervalResponse standardDeviationInterval;
 }
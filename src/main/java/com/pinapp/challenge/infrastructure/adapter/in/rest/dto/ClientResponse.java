@@ -1,5 +1,6 @@
 package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,7 +13,8 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Schema(description = "Complete client information")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Client information; list endpoints omit the fields left out of a requested fieldset")
 public class ClientResponse {
     
     @Schema(description = "Client's unique identifier", example = "1")
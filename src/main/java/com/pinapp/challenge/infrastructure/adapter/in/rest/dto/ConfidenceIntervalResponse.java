@@ -0,0 +1,21 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Confidence interval of an estimated value")
+public class ConfidenceIntervalResponse {
+
+    @Schema(description = "Lower bound", example = "35.1")
+    private Double lower;
+
+    @Schema(description = "Upper bound", example = "35.9")
+    private Double upper;
+}
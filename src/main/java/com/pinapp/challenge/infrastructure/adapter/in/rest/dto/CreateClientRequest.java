@@ -1,6 +1,7 @@
 package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -26,12 +27,13 @@ public class CreateClientRequest {
     @NotBlank(message = "Last name is required")
     private String lastName;
     
-    @Schema(description = "Client's age in years", example = "30", minimum = "1", required = true)
+    @Schema(description = "Client's age in years", example = "30", minimum = "1", maximum = "130", required = true)
     @NotNull(message = "Age is required")
     @Positive(message = "Age must be greater than 0")
+    @Max(value = 130, message = "Age must be at most 130")
     private Integer age;
     
-    @Schema(description = "Client's birth date", example = "1994-01-15", required = true)
+    @Schema(description = "Client's birth date, between 1850-01-01 and 2149-12-31", example = "1994-01-15", required = true)
     @NotNull(message = "Birth date is required")
     private LocalDate birthDate;
 }
@@ -0,0 +1,32 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Client metrics averaged over the snapshots of one history bucket")
+public class MetricsHistoryPointResponse {
+
+    @Schema(description = "Start of the bucket, or time of the snapshot for raw points", example = "2026-10-17T10:00:00Z")
+    private Instant timestamp;
+
+    @Schema(description = "Number of snapshots in the bucket", example = "360")
+    private Integer samples;
+
+    @Schema(description = "Average age of all clients", example = "35.5")
+    private Double averageAge;
+
+    @Schema(description = "Standard deviation of client ages", example = "12.3")
+    private Double standardDeviation;
+
+    @Schema(description = "Total number of clients, averaged over the bucket", example = "10.0")
+    private Double totalClients;
+}
@@ -0,0 +1,29 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Optional query parameters of the metrics history endpoint")
+public class MetricsHistoryQuery {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Start of the range (ISO-8601 date-time), one day before to by default", example = "2026-10-16T00:00:00Z")
+    private OffsetDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "End of the range (ISO-8601 date-time), now by default", example = "2026-10-17T00:00:00Z")
+    private OffsetDateTime to;
+
+    @Schema(description = "Resolution: raw, minute, hour or day; chosen from the length of the range by default", example = "hour")
+    private String step;
+}
@@ -0,0 +1,30 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Time series of client metrics snapshots")
+public class MetricsHistoryResponse {
+
+    @Schema(description = "Start of the range", example = "2026-10-16T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "End of the range", example = "2026-10-17T00:00:00Z")
+    private Instant to;
+
+    @Schema(description = "Resolution of the points", example = "hour")
+    private String step;
+
+    @Schema(description = "Points in chronological order")
+    private List<MetricsHistoryPointResponse> points;
+}
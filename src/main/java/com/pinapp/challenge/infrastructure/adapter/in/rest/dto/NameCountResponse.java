@@ -0,0 +1,24 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Estimated number of clients sharing a name")
+public class NameCountResponse {
+
+    @Schema(description = "First or last name", example = "García")
+    private String name;
+
+    @Schema(description = "Estimated number of clients with this name, never below the true count", example = "42")
+    private Long count;
+
+    @Schema(description = "Maximum overestimation of count; 0 means the count is exact", example = "0")
+    private Long error;
+}
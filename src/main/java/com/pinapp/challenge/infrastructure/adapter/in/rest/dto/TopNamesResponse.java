@@ -0,0 +1,23 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Most common client first and last names")
+public class TopNamesResponse {
+
+    @Schema(description = "Most common first names, from the most to the least frequent")
+    private List<NameCountResponse> firstNames;
+
+    @Schema(description = "Most common last names, from the most to the least frequent")
+    private List<NameCountResponse> lastNames;
+}
@@ -0,0 +1,88 @@
+package com.pinapp.challenge.infrastructure.adapter.out.file;
+
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.port.out.ClientSnapshotPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores client snapshots as {@code clients-v<version>.csv.gz} files in a local directory.
+ * <p>
+ * A snapshot is written to a temporary file and atomically renamed into place, so readers only
+ * ever see complete files. Two generations are kept on disk: when a new snapshot is published,
+ * the one it replaces stays as the previous generation until the following rotation, so a
+ * sendfile that started on it is never cut short by the rename. Only the generation before that
+ * is deleted, and only after the new snapshot is published.
+ * <p>
+ * The directory has no default outside the dev profile: each instance keeps its own two files,
+ * and on platforms whose local disk is memory-backed they count against the instance's memory.
+ */
+@Component
+public class FileClientSnapshotAdapter implements ClientSnapshotPort {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private volatile ClientSnapshot latest;
+    private ClientSnapshot previous;
+
+    public FileClientSnapshotAdapter(@Value("${app.snapshot.directory}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @Override
+    public Optional<ClientSnapshot> findLatest() {
+        return Optional.ofNullable(latest);
+    }
+
+    @Override
+    public synchronized ClientSnapshot write(ClientTableVersion tableVersion, Consumer<OutputStream> content) {
+        Path target = directory.resolve("clients-v" + tableVersion.getVersion() + ".csv.gz");
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, "clients-", ".tmp");
+            try (OutputStream output = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE), BUFFER_SIZE)) {
+                content.accept(output);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            ClientSnapshot snapshot = new ClientSnapshot(tableVersion, target, Files.size(target));
+            ClientSnapshot retired = previous;
+            previous = latest;
+            latest = snapshot;
+            if (retired != null && !retired.getFile().equals(target)
+                    && (previous == null || !retired.getFile().equals(previous.getFile()))) {
+                deleteQuietly(retired.getFile());
+            }
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(temporary);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Only a leftover temporary file or a retired snapshot
+        }
+    }
+}
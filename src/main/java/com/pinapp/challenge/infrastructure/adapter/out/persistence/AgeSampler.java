@@ -0,0 +1,11 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.AgeSample;
+
+/**
+ * Vendor-specific strategy for drawing a random sample of the age column
+ */
+public interface AgeSampler {
+
+    AgeSample sample(int targetSize);
+}
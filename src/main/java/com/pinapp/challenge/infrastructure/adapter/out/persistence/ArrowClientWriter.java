@@ -0,0 +1,252 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import org.apache.arrow.flatbuf.Buffer;
+import org.apache.arrow.flatbuf.Date;
+import org.apache.arrow.flatbuf.DateUnit;
+import org.apache.arrow.flatbuf.Endianness;
+import org.apache.arrow.flatbuf.Field;
+import org.apache.arrow.flatbuf.FieldNode;
+import org.apache.arrow.flatbuf.Int;
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.MetadataVersion;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.Type;
+import org.apache.arrow.flatbuf.Utf8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes client rows as an Apache Arrow IPC stream: a schema message, one record batch per
+ * {@code batchSize} clients and the end-of-stream marker.
+ * <p>
+ * Columns are id (int64), first_name and last_name (utf8), age (int32) and birth_date (date32,
+ * days since 1970-01-01), all non-nullable. Each column has a fixed heap buffer that is filled
+ * row by row and reused for every batch, so memory stays flat however many clients are written.
+ */
+class ArrowClientWriter implements Closeable {
+
+    // Large enough to amortize the per-batch metadata, small enough to keep the buffers around 1 MB
+    static final int DEFAULT_BATCH_SIZE = 8192;
+
+    private static final int CONTINUATION = 0xFFFFFFFF;
+    private static final int ALIGNMENT = 8;
+    private static final byte[] PADDING = new byte[ALIGNMENT];
+
+    private final OutputStream output;
+    private final int batchSize;
+    private final ByteBuffer ids;
+    private final StringColumn firstNames;
+    private final StringColumn lastNames;
+    private final ByteBuffer ages;
+    private final ByteBuffer birthDates;
+    private final ByteBuffer prefix = ByteBuffer.allocate(2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private int rows;
+    private boolean closed;
+
+    ArrowClientWriter(OutputStream output, int batchSize) throws IOException {
+        this.output = output;
+        this.batchSize = batchSize;
+        this.ids = ByteBuffer.allocate(batchSize * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.firstNames = new StringColumn(batchSize);
+        this.lastNames = new StringColumn(batchSize);
+        this.ages = ByteBuffer.allocate(batchSize * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.birthDates = ByteBuffer.allocate(batchSize * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        writeMessage(schemaMessage());
+    }
+
+    /**
+     * Appends one client row to the current batch, writing the batch out once it is full
+     */
+    void write(long id, String firstName, String lastName, int age, long birthDateEpochDay) throws IOException {
+        ids.putLong(id);
+        firstNames.add(firstName);
+        lastNames.add(lastName);
+        ages.putInt(age);
+        birthDates.putInt(Math.toIntExact(birthDateEpochDay));
+        if (++rows == batchSize) {
+            flushBatch();
+        }
+    }
+
+    /**
+     * Writes the last partial batch and the end-of-stream marker; the output stream is left open
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (rows > 0) {
+            flushBatch();
+        }
+        writePrefix(0);
+        output.flush();
+    }
+
+    private void flushBatch() throws IOException {
+        // Buffers in schema order: validity (empty, nothing is null) and values, plus offsets for strings
+        int[] lengths = {
+                0, ids.position(),
+                0, firstNames.offsetsLength(), firstNames.dataLength,
+                0, lastNames.offsetsLength(), lastNames.dataLength,
+                0, ages.position(),
+                0, birthDates.position()
+        };
+        long[] offsets = new long[lengths.length];
+        long bodyLength = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            offsets[i] = bodyLength;
+            bodyLength += padded(lengths[i]);
+        }
+
+        writeMessage(recordBatchMessage(offsets, lengths, bodyLength));
+        writeBody(ids.array(), ids.position());
+        writeBody(firstNames.offsets.array(), firstNames.offsetsLength());
+        writeBody(firstNames.data, firstNames.dataLength);
+        writeBody(lastNames.offsets.array(), lastNames.offsetsLength());
+        writeBody(lastNames.data, lastNames.dataLength);
+        writeBody(ages.array(), ages.position());
+        writeBody(birthDates.array(), birthDates.position());
+
+        rows = 0;
+        ids.clear();
+        firstNames.clear();
+        lastNames.clear();
+        ages.clear();
+        birthDates.clear();
+    }
+
+    private byte[] schemaMessage() {
+        FlatBufferBuilder builder = new FlatBufferBuilder(512);
+        int[] fields = {
+                field(builder, "id", Type.Int, Int.createInt(builder, 64, true)),
+                field(builder, "first_name", Type.Utf8, utf8(builder)),
+                field(builder, "last_name", Type.Utf8, utf8(builder)),
+                field(builder, "age", Type.Int, Int.createInt(builder, 32, true)),
+                field(builder, "birth_date", Type.Date, Date.createDate(builder, DateUnit.DAY))
+        };
+        int fieldsVector = Schema.createFieldsVector(builder, fields);
+        Schema.startSchema(builder);
+        Schema.addEndianness(builder, Endianness.Little);
+        Schema.addFields(builder, fieldsVector);
+        return message(builder, MessageHeader.Schema, Schema.endSchema(builder), 0);
+    }
+
+    private byte[] recordBatchMessage(long[] offsets, int[] lengths, long bodyLength) {
+        FlatBufferBuilder builder = new FlatBufferBuilder(256);
+        // Struct vectors are built back to front
+        RecordBatch.startNodesVector(builder, 5);
+        for (int i = 0; i < 5; i++) {
+            FieldNode.createFieldNode(builder, rows, 0);
+        }
+        int nodes = builder.endVector();
+        RecordBatch.startBuffersVector(builder, lengths.length);
+        for (int i = lengths.length - 1; i >= 0; i--) {
+            Buffer.createBuffer(builder, offsets[i], lengths[i]);
+        }
+        int buffers = builder.endVector();
+        RecordBatch.startRecordBatch(builder);
+        RecordBatch.addLength(builder, rows);
+        RecordBatch.addNodes(builder, nodes);
+        RecordBatch.addBuffers(builder, buffers);
+        return message(builder, MessageHeader.RecordBatch, RecordBatch.endRecordBatch(builder), bodyLength);
+    }
+
+    private static int field(FlatBufferBuilder builder, String name, byte typeType, int type) {
+        int nameOffset = builder.createString(name);
+        int children = Field.createChildrenVector(builder, new int[0]);
+        Field.startField(builder);
+        Field.addName(builder, nameOffset);
+        Field.addNullable(builder, false);
+        Field.addTypeType(builder, typeType);
+        Field.addType(builder, type);
+        Field.addChildren(builder, children);
+        return Field.endField(builder);
+    }
+
+    private static int utf8(FlatBufferBuilder builder) {
+        Utf8.startUtf8(builder);
+        return Utf8.endUtf8(builder);
+    }
+
+    private static byte[] message(FlatBufferBuilder builder, byte headerType, int header, long bodyLength) {
+        Message.startMessage(builder);
+        Message.addVersion(builder, MetadataVersion.V5);
+        Message.addHeaderType(builder, headerType);
+        Message.addHeader(builder, header);
+        Message.addBodyLength(builder, bodyLength);
+        builder.finish(Message.endMessage(builder));
+        return builder.sizedByteArray();
+    }
+
+    /**
+     * Encapsulated message: continuation marker, metadata length, metadata padded so the body starts aligned
+     */
+    private void writeMessage(byte[] metadata) throws IOException {
+        int paddedLength = padded(prefix.capacity() + metadata.length) - prefix.capacity();
+        writePrefix(paddedLength);
+        output.write(metadata);
+        output.write(PADDING, 0, paddedLength - metadata.length);
+    }
+
+    private void writePrefix(int metadataLength) throws IOException {
+        prefix.clear();
+        prefix.putInt(CONTINUATION).putInt(metadataLength);
+        output.write(prefix.array());
+    }
+
+    private void writeBody(byte[] buffer, int length) throws IOException {
+        output.write(buffer, 0, length);
+        output.write(PADDING, 0, padded(length) - length);
+    }
+
+    private static int padded(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * Variable-width utf8 column: int32 start offsets followed by the concatenated bytes
+     */
+    private static final class StringColumn {
+
+        private final ByteBuffer offsets;
+        private byte[] data;
+        private int dataLength;
+
+        private StringColumn(int batchSize) {
+            this.offsets = ByteBuffer.allocate((batchSize + 1) * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            this.offsets.putInt(0);
+            this.data = new byte[batchSize * 16];
+        }
+
+        private void add(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (dataLength + bytes.length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + bytes.length));
+            }
+            System.arraycopy(bytes, 0, data, dataLength, bytes.length);
+            dataLength += bytes.length;
+            offsets.putInt(dataLength);
+        }
+
+        private int offsetsLength() {
+            return offsets.position();
+        }
+
+        private void clear() {
+            offsets.clear();
+            offsets.putInt(0);
+            dataLength = 0;
+        }
+    }
+}
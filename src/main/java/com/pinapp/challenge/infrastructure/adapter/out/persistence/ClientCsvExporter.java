@@ -0,0 +1,16 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import java.io.OutputStream;
+
+/**
+ * Vendor-specific strategy for writing the whole clients table as CSV
+ * <p>
+ * Output is RFC 4180 CSV in UTF-8 with a header row and the columns id, first_name, last_name,
+ * age and birth_date (ISO date), one {@code \n}-terminated line per client.
+ */
+public interface ClientCsvExporter {
+
+    String HEADER = "id,first_name,last_name,age,birth_date";
+
+    void export(OutputStream output);
+}
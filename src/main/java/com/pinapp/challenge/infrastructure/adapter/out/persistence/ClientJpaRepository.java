@@ -1,8 +1,27 @@
 package com.pinapp.challenge.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 @Repository
 public interface ClientJpaRepository extends JpaRepository<ClientEntity, Long> {
+
+    @Query(value = "SELECT total_clients AS totalClients, sum_age AS sumAge, sum_age_squared AS sumAgeSquared " +
+            "FROM client_metrics WHERE id = 1", nativeQuery = true)
+    ClientMetricsSummaryProjection findMetricsSummary();
+
+    /**
+     * Streams every client through a JDBC cursor. The constructor expression returns
+     * unmanaged instances, so the persistence context does not grow with the table.
+     */
+    @Query("SELECT new com.pinapp.challenge.infrastructure.adapter.out.persistence.ClientEntity(" +
+            "c.id, c.firstName, c.lastName, c.age, c.birthDate) FROM ClientEntity c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ClientEntity> streamAll();
 }
@@ -0,0 +1,23 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+
+import java.util.Optional;
+
+/**
+ * Vendor-specific strategy for having the database render a client list page as JSON
+ */
+public interface ClientJsonRenderer {
+
+    /**
+     * For databases without JSON functions: callers fall back to mapping rows themselves
+     */
+    ClientJsonRenderer UNSUPPORTED = (query, after, limit) -> Optional.empty();
+
+    /**
+     * @return up to limit clients after the given position as a JSON array, or empty if unsupported
+     */
+    Optional<ClientPageJson> render(ClientQuery query, ClientPosition after, int limit);
+}
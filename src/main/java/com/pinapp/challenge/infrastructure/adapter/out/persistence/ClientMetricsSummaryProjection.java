@@ -0,0 +1,10 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+/**
+ * Row of the trigger-maintained client_metrics summary table.
+ */
+public interface ClientMetricsSummaryProjection {
+    Long getTotalClients();
+    Long getSumAge();
+    Long getSumAgeSquared();
+}
@@ -0,0 +1,168 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.ClientField;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.SortDirection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SQL for one filtered, ordered slice of the client list. Name filters are anchored prefixes
+ * and ranges are plain comparisons, so each one can be served by an index range scan:
+ * the V7 and V12 (sort value, id) indexes, or idx_clients_full_name for combined name prefixes.
+ * Pages continue from a (sort value, id) row comparison rather than an OFFSET, which those indexes
+ * serve as a seek that already returns rows in page order.
+ * Only the columns behind the requested fields are selected, plus the id and sort column
+ * a paged query needs to build its next position.
+ */
+final class ClientQuerySql {
+
+    static final String SELECT_CLIENTS = "SELECT id, first_name, last_name, age, birth_date FROM clients";
+
+    // Canonical column order, so equal fieldsets always produce the same statement
+    private static final List<String> COLUMNS = List.of("id", "first_name", "last_name", "age", "birth_date");
+
+    private final String sql;
+    private final Object[] args;
+    private final Set<String> columns;
+    private final String orderBy;
+
+    private ClientQuerySql(String sql, Object[] args, Set<String> columns, String orderBy) {
+        this.sql = sql;
+        this.args = args;
+        this.columns = columns;
+        this.orderBy = orderBy;
+    }
+
+    /**
+     * @param after position to continue after, or null to start from the beginning
+     * @param limit maximum number of rows, or null for all of them
+     */
+    static ClientQuerySql of(ClientQuery query, ClientPosition after, Integer limit) {
+        Set<String> columns = columns(query, limit != null);
+        List<String> predicates = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (query.getFirstNamePrefix() != null) {
+            predicates.add("first_name LIKE ? ESCAPE '\\'");
+            args.add(likePrefix(query.getFirstNamePrefix()));
+        }
+        if (query.getLastNamePrefix() != null) {
+            predicates.add("last_name LIKE ? ESCAPE '\\'");
+            args.add(likePrefix(query.getLastNamePrefix()));
+        }
+        if (query.getMinAge() != null) {
+            predicates.add("age >= ?");
+            args.add(query.getMinAge());
+        }
+        if (query.getMaxAge() != null) {
+            predicates.add("age <= ?");
+            args.add(query.getMaxAge());
+        }
+        if (query.getBornFrom() != null) {
+            predicates.add("birth_date >= ?");
+            args.add(query.getBornFrom());
+        }
+        if (query.getBornTo() != null) {
+            predicates.add("birth_date <= ?");
+            args.add(query.getBornTo());
+        }
+
+        ClientSort sort = query.getSort();
+        String comparison = query.getDirection() == SortDirection.DESC ? "<" : ">";
+        if (after != null) {
+            if (sort == ClientSort.ID) {
+                predicates.add("id " + comparison + " ?");
+            } else {
+                predicates.add("(" + column(sort) + ", id) " + comparison + " (?, ?)");
+                args.add(after.getKey());
+            }
+            args.add(after.getId());
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(String.join(", ", columns))
+                .append(" FROM clients");
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        String direction = query.getDirection() == SortDirection.DESC ? " DESC" : "";
+        String orderBy = (sort != ClientSort.ID ? column(sort) + direction + ", " : "") + "id" + direction;
+        sql.append(" ORDER BY ").append(orderBy);
+        if (limit != null) {
+            sql.append(" LIMIT ?");
+            args.add(limit);
+        }
+        return new ClientQuerySql(sql.toString(), args.toArray(), columns, orderBy);
+    }
+
+    private static Set<String> columns(ClientQuery query, boolean paged) {
+        Set<String> needed = new LinkedHashSet<>();
+        for (ClientField field : query.getFields()) {
+            needed.add(column(field));
+        }
+        if (paged) {
+            needed.add("id");
+            needed.add(column(query.getSort()));
+        }
+        Set<String> columns = new LinkedHashSet<>();
+        for (String column : COLUMNS) {
+            if (needed.contains(column)) {
+                columns.add(column);
+            }
+        }
+        return columns;
+    }
+
+    static String column(ClientField field) {
+        return switch (field) {
+            case ID -> "id";
+            case FIRST_NAME -> "first_name";
+            case LAST_NAME -> "last_name";
+            case AGE -> "age";
+            case BIRTH_DATE, ESTIMATED_DEATH_DATE -> "birth_date";
+        };
+    }
+
+    static String column(ClientSort sort) {
+        return switch (sort) {
+            case ID -> "id";
+            case FIRST_NAME -> "first_name";
+            case LAST_NAME -> "last_name";
+            case AGE -> "age";
+            case BIRTH_DATE -> "birth_date";
+        };
+    }
+
+    /**
+     * Escapes LIKE wildcards so the prefix matches literally
+     */
+    static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    Object[] getArgs() {
+        return args;
+    }
+
+    Set<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return ORDER BY list of the statement, over the selected column names
+     */
+    String getOrderBy() {
+        return orderBy;
+    }
+}
@@ -1,20 +1,67 @@
 package com.pinapp.challenge.infrastructure.adapter.out.persistence;
 
+import com.pinapp.challenge.domain.model.AgeSample;
+import com.pinapp.challenge.domain.model.AgeStatistics;
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientChange;
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import com.pinapp.challenge.domain.model.ClientChanges;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
 import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class ClientRepositoryAdapter implements ClientRepositoryPort {
 
+    private static final int AGE_FETCH_SIZE = 10_000;
+    // 1 MB of ages: large enough for the kernel to split across cores, small enough for any heap
+    static final int AGE_BATCH_SIZE = 1 << 18;
+    private static final int CLIENT_FETCH_SIZE = 1000;
+    private static final String ARROW_SELECT = "SELECT id, first_name, last_name, age, birth_date FROM clients ORDER BY id";
+    private static final String CHANGES_SELECT = "SELECT ch.client_id, ch.version, ch.deleted, "
+            + "c.first_name, c.last_name, c.age, c.birth_date "
+            + "FROM client_changes ch LEFT JOIN clients c ON c.id = ch.client_id AND NOT ch.deleted";
+
     private final ClientJpaRepository clientJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AgeSampler ageSampler;
+    private final ClientCsvExporter clientCsvExporter;
+    private final ClientJsonRenderer clientJsonRenderer;
 
-    public ClientRepositoryAdapter(ClientJpaRepository clientJpaRepository) {
+    public ClientRepositoryAdapter(ClientJpaRepository clientJpaRepository, JdbcTemplate jdbcTemplate, AgeSampler ageSampler,
+                                   ClientCsvExporter clientCsvExporter, ClientJsonRenderer clientJsonRenderer) {
         this.clientJpaRepository = clientJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ageSampler = ageSampler;
+        this.clientCsvExporter = clientCsvExporter;
+        this.clientJsonRenderer = clientJsonRenderer;
     }
 
     @Override
@@ -38,6 +85,73 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Client> findPage(ClientQuery query, ClientPosition after, int limit) {
+        ClientQuerySql select = ClientQuerySql.of(query, after, limit);
+        return jdbcTemplate.query(select.getSql(), clientRowMapper(select.getColumns()), select.getArgs());
+    }
+
+    @Override
+    public Optional<ClientPageJson> findPageJson(ClientQuery query, ClientPosition after, int limit) {
+        return clientJsonRenderer.render(query, after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Client> consumer) {
+        try (Stream<ClientEntity> entities = clientJpaRepository.streamAll()) {
+            entities.map(this::toDomain).forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(ClientQuery query, Consumer<Client> consumer) {
+        ClientQuerySql select = ClientQuerySql.of(query, null, null);
+        RowMapper<Client> rowMapper = clientRowMapper(select.getColumns());
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(select.getSql());
+            statement.setFetchSize(CLIENT_FETCH_SIZE);
+            new ArgumentPreparedStatementSetter(select.getArgs()).setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(rowMapper.mapRow(resultSet, 0)));
+    }
+
+    /**
+     * Read-only transaction so a cursor-based export streams rows instead of buffering the result
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCsv(OutputStream output) {
+        clientCsvExporter.export(output);
+    }
+
+    /**
+     * Fills the Arrow column buffers straight from the cursor's columns, without a Client per row
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportArrow(OutputStream output) {
+        try (ArrowClientWriter writer = new ArrowClientWriter(output, ArrowClientWriter.DEFAULT_BATCH_SIZE)) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(ARROW_SELECT);
+                statement.setFetchSize(CLIENT_FETCH_SIZE);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> writeArrowRow(writer, resultSet));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeArrowRow(ArrowClientWriter writer, ResultSet resultSet) throws SQLException {
+        try {
+            writer.write(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3), resultSet.getInt(4),
+                    resultSet.getObject(5, LocalDate.class).toEpochDay());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void deleteById(Long id) {
         clientJpaRepository.deleteById(id);
@@ -48,6 +162,109 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
         return clientJpaRepository.count();
     }
 
+    @Override
+    public AgeStatistics getAgeStatistics() {
+        ClientMetricsSummaryProjection summary = clientJpaRepository.findMetricsSummary();
+        if (summary == null) {
+            return AgeStatistics.EMPTY;
+        }
+        return AgeStatistics.fromSums(summary.getTotalClients(), summary.getSumAge(), summary.getSumAgeSquared());
+    }
+
+    /**
+     * Reads the age column into one reused primitive batch, without entities or boxed integers, so
+     * memory stays at one batch however large the table is.
+     * Runs in a read-only transaction so the PostgreSQL driver honours the fetch size and streams rows.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachAgeBatch(ObjIntConsumer<int[]> batchConsumer) {
+        AgeBatcher batcher = new AgeBatcher(AGE_BATCH_SIZE, batchConsumer);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT age FROM clients");
+            statement.setFetchSize(AGE_FETCH_SIZE);
+            return statement;
+        }, batcher);
+        batcher.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AgeSample sampleAges(int targetSize) {
+        return ageSampler.sample(targetSize);
+    }
+
+    /**
+     * Reads the trigger-maintained version row, a single primary key lookup
+     */
+    @Override
+    public ClientTableVersion getTableVersion() {
+        return jdbcTemplate.queryForObject(
+                "SELECT version, last_modified FROM table_versions WHERE table_name = 'clients'",
+                (resultSet, rowNum) -> new ClientTableVersion(resultSet.getLong("version"),
+                        resultSet.getObject("last_modified", OffsetDateTime.class).toInstant()));
+    }
+
+    /**
+     * Reads the changes after the position and the table version from one snapshot, so the position
+     * returned once the log is exhausted covers exactly the changes this read could see.
+     * Writers lock the version row before logging a change, so changes commit in version order.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ClientChanges findChanges(ClientChangePosition since, int limit) {
+        StringBuilder sql = new StringBuilder(CHANGES_SELECT);
+        List<Object> args = new ArrayList<>();
+        if (since != null && since.getClientId() == null) {
+            sql.append(" WHERE ch.version > ?");
+            args.add(since.getVersion());
+        } else if (since != null) {
+            sql.append(" WHERE (ch.version, ch.client_id) > (?, ?)");
+            args.add(since.getVersion());
+            args.add(since.getClientId());
+        }
+        sql.append(" ORDER BY ch.version, ch.client_id LIMIT ?");
+        // One extra row tells whether more changes follow
+        args.add(limit + 1);
+        List<ClientChange> changes = jdbcTemplate.query(sql.toString(), (resultSet, rowNum) -> {
+            long clientId = resultSet.getLong("client_id");
+            long version = resultSet.getLong("version");
+            if (resultSet.getBoolean("deleted")) {
+                return ClientChange.deleted(clientId, version);
+            }
+            return new ClientChange(clientId, version, new Client(clientId, resultSet.getString("first_name"),
+                    resultSet.getString("last_name"), resultSet.getInt("age"),
+                    resultSet.getObject("birth_date", LocalDate.class)));
+        }, args.toArray());
+
+        if (changes.size() > limit) {
+            List<ClientChange> page = changes.subList(0, limit);
+            return new ClientChanges(page, ClientChangePosition.after(page.get(limit - 1)), true);
+        }
+        long version = getTableVersion().getVersion();
+        if (since != null) {
+            version = Math.max(version, since.getVersion());
+        }
+        return new ClientChanges(changes, ClientChangePosition.atVersion(version), false);
+    }
+
+    /**
+     * Maps only the selected columns; the attributes behind the others stay null
+     */
+    private static RowMapper<Client> clientRowMapper(Set<String> columns) {
+        boolean id = columns.contains("id");
+        boolean firstName = columns.contains("first_name");
+        boolean lastName = columns.contains("last_name");
+        boolean age = columns.contains("age");
+        boolean birthDate = columns.contains("birth_date");
+        return (resultSet, rowNum) -> new Client(
+                id ? resultSet.getLong("id") : null,
+                firstName ? resultSet.getString("first_name") : null,
+                lastName ? resultSet.getString("last_name") : null,
+                age ? resultSet.getInt("age") : null,
+                birthDate ? resultSet.getObject("birth_date", LocalDate.class) : null);
+    }
+
     private ClientEntity toEntity(Client client) {
         return ClientEntity.builder()
                 .id(client.getId())
@@ -67,4 +284,55 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
                 entity.getBirthDate()
         );
     }
+
+    /**
+     * Fills a fixed primitive batch from an integer column and hands it over each time it is full
+     */
+    static final class AgeBatcher implements RowCallbackHandler {
+
+        private final int[] batch;
+        private final ObjIntConsumer<int[]> batchConsumer;
+        private int size;
+
+        AgeBatcher(int batchSize, ObjIntConsumer<int[]> batchConsumer) {
+            this.batch = new int[batchSize];
+            this.batchConsumer = batchConsumer;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            batch[size++] = resultSet.getInt(1);
+            if (size == batch.length) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (size > 0) {
+                batchConsumer.accept(batch, size);
+                size = 0;
+            }
+        }
+    }
+
+    /**
+     * Collects an integer column into a growable primitive array
+     */
+    static final class AgeColumnCollector implements RowCallbackHandler {
+
+        private int[] ages = new int[1024];
+        private int size;
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            if (size == ages.length) {
+                ages = Arrays.copyOf(ages, size * 2);
+            }
+            ages[size++] = resultSet.getInt(1);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ages, size);
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes the CSV row by row from a forward-only cursor, for databases without a bulk copy API.
+ * Quoting follows PostgreSQL's CSV format so both exporters produce the same file.
+ */
+public class CursorClientCsvExporter implements ClientCsvExporter {
+
+    static final String SELECT_SQL = "SELECT id, first_name, last_name, age, birth_date FROM clients";
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CursorClientCsvExporter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void export(OutputStream output) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try {
+            writer.write(HEADER);
+            writer.write('\n');
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> writeRow(writer, resultSet));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRow(Writer writer, ResultSet resultSet) throws SQLException {
+        try {
+            writer.write(Long.toString(resultSet.getLong(1)));
+            writer.write(',');
+            writeText(writer, resultSet.getString(2));
+            writer.write(',');
+            writeText(writer, resultSet.getString(3));
+            writer.write(',');
+            writer.write(Integer.toString(resultSet.getInt(4)));
+            writer.write(',');
+            writer.write(resultSet.getString(5));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Quotes values containing a delimiter, quote or line break, doubling embedded quotes; empty
+     * strings are quoted too so they stay distinguishable from NULL, as in PostgreSQL
+     */
+    static void writeText(Writer writer, String value) throws IOException {
+        if (!value.isEmpty() && value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
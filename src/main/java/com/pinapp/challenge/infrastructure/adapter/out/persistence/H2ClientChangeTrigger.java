@@ -0,0 +1,28 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.h2.tools.TriggerAdapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * H2 row trigger that upserts the written client's row in client_changes at the current table version.
+ */
+public class H2ClientChangeTrigger extends TriggerAdapter {
+
+    // The version row was already bumped, and locked, by clients_version for this row
+    private static final String RECORD_CHANGE = "MERGE INTO client_changes (client_id, version, deleted) KEY (client_id) " +
+            "VALUES (?, (SELECT version FROM table_versions WHERE table_name = 'clients'), ?)";
+
+    @Override
+    public void fire(Connection conn, ResultSet oldRow, ResultSet newRow) throws SQLException {
+        boolean deleted = newRow == null;
+        try (PreparedStatement statement = conn.prepareStatement(RECORD_CHANGE)) {
+            statement.setLong(1, deleted ? oldRow.getLong("id") : newRow.getLong("id"));
+            statement.setBoolean(2, deleted);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.h2.tools.TriggerAdapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * H2 row trigger that folds each inserted, updated or deleted age into the client_metrics summary row.
+ */
+public class H2ClientMetricsTrigger extends TriggerAdapter {
+
+    private static final String UPDATE_METRICS = "UPDATE client_metrics " +
+            "SET total_clients = total_clients + ?, sum_age = sum_age + ?, sum_age_squared = sum_age_squared + ? " +
+            "WHERE id = 1";
+
+    @Override
+    public void fire(Connection conn, ResultSet oldRow, ResultSet newRow) throws SQLException {
+        long clientsDelta = 0;
+        long ageDelta = 0;
+        long ageSquaredDelta = 0;
+
+        if (oldRow != null) {
+            long age = oldRow.getInt("age");
+            clientsDelta--;
+            ageDelta -= age;
+            ageSquaredDelta -= age * age;
+        }
+        if (newRow != null) {
+            long age = newRow.getInt("age");
+            clientsDelta++;
+            ageDelta += age;
+            ageSquaredDelta += age * age;
+        }
+
+        try (PreparedStatement statement = conn.prepareStatement(UPDATE_METRICS)) {
+            statement.setLong(1, clientsDelta);
+            statement.setLong(2, ageDelta);
+            statement.setLong(3, ageSquaredDelta);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * H2 row trigger that bumps the version and last modified time of its table in table_versions.
+ */
+public class H2TableVersionTrigger implements Trigger {
+
+    private static final String BUMP_VERSION = "UPDATE table_versions " +
+            "SET version = version + 1, last_modified = CURRENT_TIMESTAMP " +
+            "WHERE table_name = ?";
+
+    private String tableName;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName, boolean before, int type) {
+        // H2 reports unquoted identifiers in upper case; versions are keyed by the lower case name
+        this.tableName = tableName.toLowerCase();
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(BUMP_VERSION)) {
+            statement.setString(1, tableName);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.MetricsHistoryPoint;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+import com.pinapp.challenge.domain.port.out.MetricsHistoryRepositoryPort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Component
+public class MetricsHistoryRepositoryAdapter implements MetricsHistoryRepositoryPort {
+
+    // One statement inserts the bucket or folds the snapshot into its running means; every
+    // right-hand side reads the values from before the update. Standard MERGE, for H2 and PostgreSQL alike
+    static final String MERGE_BUCKET = "MERGE INTO metrics_history h USING (SELECT "
+            + "CAST(? AS VARCHAR(8)) AS resolution, CAST(? AS TIMESTAMP WITH TIME ZONE) AS bucket_start, "
+            + "CAST(? AS DOUBLE PRECISION) AS average_age, CAST(? AS DOUBLE PRECISION) AS standard_deviation, "
+            + "CAST(? AS DOUBLE PRECISION) AS total_clients) s "
+            + "ON h.resolution = s.resolution AND h.bucket_start = s.bucket_start "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + "average_age = h.average_age + (s.average_age - h.average_age) / (h.samples + 1), "
+            + "standard_deviation = h.standard_deviation + (s.standard_deviation - h.standard_deviation) / (h.samples + 1), "
+            + "total_clients = h.total_clients + (s.total_clients - h.total_clients) / (h.samples + 1), "
+            + "samples = h.samples + 1 "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "(resolution, bucket_start, samples, average_age, standard_deviation, total_clients) "
+            + "VALUES (s.resolution, s.bucket_start, 1, s.average_age, s.standard_deviation, s.total_clients)";
+    static final String FIND_BUCKETS = "SELECT bucket_start, samples, average_age, standard_deviation, total_clients "
+            + "FROM metrics_history WHERE resolution = ? AND bucket_start >= ? AND bucket_start <= ? ORDER BY bucket_start";
+    static final String DELETE_BUCKETS = "DELETE FROM metrics_history WHERE resolution = ? AND bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MetricsHistoryRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Several instances may record into the same bucket. When two of them insert a new bucket at
+     * once, the loser gets a duplicate key and its retry finds the winner's row and updates it
+     */
+    @Override
+    public void record(MetricsResolution resolution, Instant bucketStart, ClientMetrics metrics) {
+        Object[] args = {resolution.getParameterName(), toTimestamp(bucketStart),
+                metrics.getAverageAge(), metrics.getStandardDeviation(), (double) metrics.getTotalClients()};
+        try {
+            jdbcTemplate.update(MERGE_BUCKET, args);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(MERGE_BUCKET, args);
+        }
+    }
+
+    @Override
+    public List<MetricsHistoryPoint> find(MetricsResolution resolution, Instant from, Instant to) {
+        return jdbcTemplate.query(FIND_BUCKETS, (resultSet, rowNum) -> new MetricsHistoryPoint(
+                        resultSet.getObject(1, OffsetDateTime.class).toInstant(),
+                        resultSet.getInt(2),
+                        resultSet.getDouble(3),
+                        resultSet.getDouble(4),
+                        resultSet.getDouble(5)),
+                resolution.getParameterName(), toTimestamp(from), toTimestamp(to));
+    }
+
+    @Override
+    public void deleteBefore(MetricsResolution resolution, Instant cutoff) {
+        jdbcTemplate.update(DELETE_BUCKETS, resolution.getParameterName(), toTimestamp(cutoff));
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,40 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.port.out.NameSketchRepositoryPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Component
+public class NameSketchRepositoryAdapter implements NameSketchRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NameSketchRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<byte[]> load(String name) {
+        // The rows are seeded by the migration; registers stay null until a sketch is first saved
+        return Optional.ofNullable(jdbcTemplate.query("SELECT registers FROM name_sketches WHERE name = ?",
+                resultSet -> resultSet.next() ? resultSet.getBytes(1) : null, name));
+    }
+
+    @Override
+    @Transactional
+    public void update(String name, UnaryOperator<byte[]> update) {
+        // Locking the row makes instances writing the same sketch merge in turn instead of overwriting each other
+        List<byte[]> stored = jdbcTemplate.query("SELECT registers FROM name_sketches WHERE name = ? FOR UPDATE",
+                (resultSet, rowNum) -> resultSet.getBytes(1), name);
+        if (stored.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO name_sketches (name, registers) VALUES (?, ?)", name, update.apply(null));
+        } else {
+            jdbcTemplate.update("UPDATE name_sketches SET registers = ? WHERE name = ?", update.apply(stored.get(0)), name);
+        }
+    }
+}
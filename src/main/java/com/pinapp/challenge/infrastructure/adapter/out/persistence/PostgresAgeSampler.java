@@ -0,0 +1,40 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.AgeSample;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Locale;
+
+/**
+ * Samples ages with {@code TABLESAMPLE BERNOULLI}, which keeps each row independently with the
+ * given probability, and takes the number of clients from the planner's row estimate in
+ * {@code pg_class.reltuples}. Row-level sampling matches the simple random sample the confidence
+ * intervals assume; {@code SYSTEM} would keep whole pages, whose rows are correlated by insertion
+ * order. BERNOULLI still visits every page but decodes only the sampled rows, and the count never
+ * scans the table.
+ */
+public class PostgresAgeSampler implements AgeSampler {
+
+    static final String ROW_ESTIMATE_QUERY = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'clients'::regclass";
+    static final String SAMPLE_QUERY = "SELECT age FROM clients TABLESAMPLE BERNOULLI (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresAgeSampler(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public AgeSample sample(int targetSize) {
+        Long estimate = jdbcTemplate.queryForObject(ROW_ESTIMATE_QUERY, Long.class);
+        // reltuples is -1 until the table has been vacuumed or analyzed
+        long estimatedTotal = estimate == null || estimate < 0
+                ? jdbcTemplate.queryForObject("SELECT count(*) FROM clients", Long.class)
+                : estimate;
+
+        double percent = estimatedTotal <= targetSize ? 100.0 : 100.0 * targetSize / estimatedTotal;
+        ClientRepositoryAdapter.AgeColumnCollector collector = new ClientRepositoryAdapter.AgeColumnCollector();
+        jdbcTemplate.query(String.format(Locale.ROOT, SAMPLE_QUERY, percent), collector);
+        return new AgeSample(collector.toArray(), estimatedTotal);
+    }
+}
@@ -0,0 +1,37 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Lets the server format the CSV with {@code COPY ... TO STDOUT} and pipes the driver's copy
+ * stream straight into the output. Rows never become Java objects, so memory use does not
+ * depend on the table size.
+ */
+public class PostgresClientCsvExporter implements ClientCsvExporter {
+
+    static final String COPY_SQL = "COPY clients (id, first_name, last_name, age, birth_date) TO STDOUT "
+            + "WITH (FORMAT csv, HEADER, ENCODING 'UTF8')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresClientCsvExporter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void export(OutputStream output) {
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(COPY_SQL, output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientField;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the page with {@code json_build_object} per row and {@code json_agg} over the page, so
+ * rows reach the application as one ready-to-send byte array instead of entities and DTOs.
+ * <p>
+ * The page query is the same keyset query as the mapped list, with one extra row that tells
+ * whether another page follows; the sort value and id of the last row included come back
+ * alongside the JSON to build the next position.
+ */
+public class PostgresClientJsonRenderer implements ClientJsonRenderer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresClientJsonRenderer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<ClientPageJson> render(ClientQuery query, ClientPosition after, int limit) {
+        ClientQuerySql page = ClientQuerySql.of(query, after, limit + 1);
+        ClientSort sort = query.getSort();
+        // The page size bounds the aggregate, the next-page check and the last row lookups
+        List<Object> args = new ArrayList<>(Collections.nCopies(sort == ClientSort.ID ? 3 : 4, limit));
+        args.addAll(List.of(page.getArgs()));
+        return jdbcTemplate.queryForObject(sql(query, page), (resultSet, rowNum) -> {
+            ClientPosition next = resultSet.getBoolean("has_next")
+                    ? new ClientPosition(sort.parseKey(resultSet.getString("last_key")), resultSet.getLong("last_id"))
+                    : null;
+            // The driver hands over the json value's UTF-8 bytes without decoding them into a String
+            return Optional.of(new ClientPageJson(resultSet.getBytes("body"), next));
+        }, args.toArray());
+    }
+
+    static String sql(ClientQuery query, ClientQuerySql page) {
+        ClientSort sort = query.getSort();
+        String lastKey = sort == ClientSort.ID
+                ? "NULL"
+                : "(max(" + ClientQuerySql.column(sort) + ") FILTER (WHERE n = ?))::text";
+        return "SELECT COALESCE(json_agg(" + jsonObject(query) + " ORDER BY n) FILTER (WHERE n <= ?), '[]') AS body, "
+                + "count(*) > ? AS has_next, "
+                + "max(id) FILTER (WHERE n = ?) AS last_id, "
+                + lastKey + " AS last_key "
+                + "FROM (SELECT page.*, row_number() OVER (ORDER BY " + page.getOrderBy() + ") AS n "
+                + "FROM (" + page.getSql() + ") page) numbered";
+    }
+
+    /**
+     * Object with the requested fields, keyed and ordered like the application's response
+     */
+    static String jsonObject(ClientQuery query) {
+        return query.getFields().stream()
+                .sorted()
+                .map(field -> "'" + field.getParameterName() + "', " + value(field))
+                .collect(Collectors.joining(", ", "json_build_object(", ")"));
+    }
+
+    private static String value(ClientField field) {
+        if (field == ClientField.ESTIMATED_DEATH_DATE) {
+            return "(birth_date + interval '" + Client.LIFE_EXPECTANCY_YEARS + " years')::date";
+        }
+        return ClientQuerySql.column(field);
+    }
+}
@@ -0,0 +1,54 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.AgeSample;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Fallback for databases without table sampling: streams the age column once through a cursor
+ * and keeps a uniform reservoir sample (Algorithm R). The total is the exact number of rows read.
+ */
+public class ReservoirAgeSampler implements AgeSampler {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Supplier<Random> random;
+
+    public ReservoirAgeSampler(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, ThreadLocalRandom::current);
+    }
+
+    ReservoirAgeSampler(JdbcTemplate jdbcTemplate, Supplier<Random> random) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = random;
+    }
+
+    @Override
+    public AgeSample sample(int targetSize) {
+        int[] reservoir = new int[targetSize];
+        long[] seen = new long[1];
+        Random generator = random.get();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT age FROM clients");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            long row = seen[0]++;
+            if (row < targetSize) {
+                reservoir[(int) row] = resultSet.getInt(1);
+            } else {
+                long slot = generator.nextLong(row + 1);
+                if (slot < targetSize) {
+                    reservoir[(int) slot] = resultSet.getInt(1);
+                }
+            }
+        });
+        return new AgeSample(Arrays.copyOf(reservoir, (int) Math.min(seen[0], targetSize)), seen[0]);
+    }
+}
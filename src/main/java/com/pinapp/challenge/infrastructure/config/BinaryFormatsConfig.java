@@ -0,0 +1,60 @@
+package com.pinapp.challenge.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Registers CBOR (application/cbor) and Smile (application/x-jackson-smile) message converters,
+ * built from the same Jackson settings as JSON so requests and responses map identically.
+ * <p>
+ * Dates are written as a day count since 1970-01-01 instead of ISO strings; in CBOR the count
+ * carries tag 100 (RFC 8943). Jackson reads such integers back as dates, and ISO strings are
+ * still accepted in request bodies.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    // RFC 8943: number of days since the epoch date 1970-01-01
+    static final int CBOR_EPOCH_DAYS_TAG = 100;
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory())
+                .serializerByType(LocalDate.class, new EpochDaySerializer())
+                .build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory())
+                .serializerByType(LocalDate.class, new EpochDaySerializer())
+                .build());
+    }
+
+    static class EpochDaySerializer extends StdSerializer<LocalDate> {
+
+        EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (generator instanceof CBORGenerator cbor) {
+                cbor.writeTag(CBOR_EPOCH_DAYS_TAG);
+            }
+            generator.writeNumber(value.toEpochDay());
+        }
+    }
+}
@@ -38,7 +38,9 @@ public class CorsConfig {
             "Accept",
             "X-Requested-With",
             "Cache-Control",
-            "Content-Length"
+            "Content-Length",
+            "X-Next-Cursor",
+            "Link"
         ));
         
         // Allow credentials - but note: can't use with allowedOrigins("*")
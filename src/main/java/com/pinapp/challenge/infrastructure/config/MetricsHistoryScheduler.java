@@ -0,0 +1,27 @@
+package com.pinapp.challenge.infrastructure.config;
+
+import com.pinapp.challenge.domain.service.MetricsHistoryService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Takes a metrics history snapshot every app.metrics.history.interval.
+ * Set app.metrics.history.enabled=false to stop recording, e.g. in tests that record snapshots themselves.
+ */
+@Component
+@ConditionalOnProperty(name = "app.metrics.history.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsHistoryScheduler {
+
+    private final MetricsHistoryService metricsHistoryService;
+
+    public MetricsHistoryScheduler(MetricsHistoryService metricsHistoryService) {
+        this.metricsHistoryService = metricsHistoryService;
+    }
+
+    @Scheduled(fixedRateString = "${app.metrics.history.interval:PT10S}",
+            initialDelayString = "${app.metrics.history.interval:PT10S}")
+    public void recordSnapshot() {
+        metricsHistoryService.recordSnapshot();
+    }
+}
@@ -0,0 +1,51 @@
+package com.pinapp.challenge.infrastructure.config;
+
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.AgeSampler;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.ClientCsvExporter;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.ClientJsonRenderer;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.CursorClientCsvExporter;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.PostgresClientCsvExporter;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.PostgresClientJsonRenderer;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.PostgresAgeSampler;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.ReservoirAgeSampler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Persistence beans whose implementation depends on the database vendor.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public AgeSampler ageSampler(JdbcTemplate jdbcTemplate) {
+        if (isPostgres(jdbcTemplate)) {
+            return new PostgresAgeSampler(jdbcTemplate);
+        }
+        return new ReservoirAgeSampler(jdbcTemplate);
+    }
+
+    @Bean
+    public ClientCsvExporter clientCsvExporter(JdbcTemplate jdbcTemplate) {
+        if (isPostgres(jdbcTemplate)) {
+            return new PostgresClientCsvExporter(jdbcTemplate);
+        }
+        return new CursorClientCsvExporter(jdbcTemplate);
+    }
+
+    @Bean
+    public ClientJsonRenderer clientJsonRenderer(JdbcTemplate jdbcTemplate) {
+        if (isPostgres(jdbcTemplate)) {
+            return new PostgresClientJsonRenderer(jdbcTemplate);
+        }
+        return ClientJsonRenderer.UNSUPPORTED;
+    }
+
+    private static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pinapp.challenge.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled background jobs, such as the metrics history snapshots
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,15 @@
+-- Latest change per client, for delta syncs: one row per client ever written, so repeated writes
+-- to a client collapse into one row. version is the clients table version (see V8) that made the
+-- change, and deleted rows are kept as tombstones. Maintained by triggers (see db/vendor/*/V11).
+CREATE TABLE client_changes (
+    client_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL
+);
+
+CREATE INDEX idx_client_changes_version ON client_changes(version, client_id);
+
+-- Existing clients count as changed at the current version, so a sync from scratch receives them
+INSERT INTO client_changes (client_id, version, deleted)
+SELECT id, (SELECT version FROM table_versions WHERE table_name = 'clients'), FALSE
+FROM clients;
@@ -0,0 +1,13 @@
+-- Create single-row summary of client ages, kept current by triggers on clients
+CREATE TABLE client_metrics (
+    id INTEGER PRIMARY KEY,
+    total_clients BIGINT NOT NULL,
+    sum_age BIGINT NOT NULL,
+    sum_age_squared BIGINT NOT NULL,
+    CONSTRAINT client_metrics_single_row CHECK (id = 1)
+);
+
+-- Seed the summary from the clients already stored
+INSERT INTO client_metrics (id, total_clients, sum_age, sum_age_squared)
+SELECT 1, COUNT(*), COALESCE(SUM(age), 0), COALESCE(SUM(CAST(age AS BIGINT) * age), 0)
+FROM clients;
@@ -0,0 +1,10 @@
+-- HyperLogLog registers backing the distinct first and last name counts
+CREATE TABLE name_sketches (
+    name VARCHAR(32) PRIMARY KEY,
+    registers BYTEA
+);
+
+-- Registers are filled in from the stored clients the first time the application starts
+INSERT INTO name_sketches (name, registers) VALUES
+    ('first_name', NULL),
+    ('last_name', NULL);
@@ -0,0 +1,10 @@
+-- Client metrics snapshots: raw points plus minute, hour and day buckets averaging the snapshots they contain
+CREATE TABLE metrics_history (
+    resolution VARCHAR(8) NOT NULL,
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    samples INTEGER NOT NULL,
+    average_age DOUBLE PRECISION NOT NULL,
+    standard_deviation DOUBLE PRECISION NOT NULL,
+    total_clients DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (resolution, bucket_start)
+);
@@ -0,0 +1,9 @@
+-- Monotonic version per table, bumped by triggers on every write (see db/vendor/*/V9).
+-- Backs the ETag and Last-Modified validators of the client endpoints.
+CREATE TABLE table_versions (
+    table_name VARCHAR(64) PRIMARY KEY,
+    version BIGINT NOT NULL,
+    last_modified TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO table_versions (table_name, version, last_modified) VALUES ('clients', 1, CURRENT_TIMESTAMP);
@@ -0,0 +1,101 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.AgeDistribution;
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.testdata.AgeDistributionTestData;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgeHistogramTest {
+
+    private AgeHistogram ageHistogram;
+
+    @BeforeEach
+    void setUp() {
+        ageHistogram = new AgeHistogram();
+    }
+
+    @Test
+    void distribution_WithoutClients_ShouldBeEmpty() {
+        // When & Then
+        assertEquals(AgeDistribution.EMPTY, ageHistogram.distribution());
+    }
+
+    @Test
+    void distribution_WithBasicClients_ShouldComputeExtremesAndPercentiles() {
+        // Given
+        ClientTestData.BASIC_CLIENTS_LIST.forEach(ageHistogram::add);
+
+        // When
+        AgeDistribution distribution = ageHistogram.distribution();
+
+        // Then
+        assertEquals(AgeDistributionTestData.BASIC_DISTRIBUTION, distribution);
+    }
+
+    @Test
+    void distribution_WithHundredAges_ShouldUseNearestRankPercentiles() {
+        // Given - ages 1..100, one client each
+        for (int age = 1; age <= 100; age++) {
+            ageHistogram.add(ClientTestData.createClientWithAge(age));
+        }
+
+        // When
+        AgeDistribution distribution = ageHistogram.distribution();
+
+        // Then
+        assertEquals(100L, distribution.getTotalClients());
+        assertEquals(1, distribution.getMinAge());
+        assertEquals(100, distribution.getMaxAge());
+        assertEquals(50, distribution.getMedianAge());
+        assertEquals(90, distribution.getP90Age());
+        assertEquals(99, distribution.getP99Age());
+        assertEquals(100, distribution.getHistogram().size());
+    }
+
+    @Test
+    void remove_ShouldDecrementCountAndNeverGoNegative() {
+        // Given
+        ageHistogram.add(ClientTestData.JOHN_DOE);
+        ageHistogram.add(ClientTestData.JOHN_DOE);
+
+        // When
+        ageHistogram.remove(ClientTestData.JOHN_DOE);
+        ageHistogram.remove(ClientTestData.MARY_GARCIA);
+
+        // Then
+        AgeDistribution distribution = ageHistogram.distribution();
+        assertEquals(1L, distribution.getTotalClients());
+        assertEquals(1L, distribution.getHistogram().get(30));
+        assertNull(distribution.getHistogram().get(25));
+    }
+
+    @Test
+    void add_WithAgeAboveMaximum_ShouldCountInLastBucket() {
+        // Given
+        Client veryOld = ClientTestData.createClientWithAge(AgeHistogram.MAX_AGE + 20);
+
+        // When
+        ageHistogram.add(veryOld);
+
+        // Then
+        AgeDistribution distribution = ageHistogram.distribution();
+        assertEquals(AgeHistogram.MAX_AGE, distribution.getMaxAge());
+        assertEquals(1L, distribution.getHistogram().get(AgeHistogram.MAX_AGE));
+    }
+
+    @Test
+    void clear_ShouldResetAllCounts() {
+        // Given
+        ClientTestData.LARGE_CLIENTS_LIST.forEach(ageHistogram::add);
+
+        // When
+        ageHistogram.clear();
+
+        // Then
+        assertEquals(AgeDistribution.EMPTY, ageHistogram.distribution());
+    }
+}
@@ -0,0 +1,177 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BirthDateIndexTest {
+
+    private BirthDateIndex birthDateIndex;
+
+    @BeforeEach
+    void setUp() {
+        birthDateIndex = new BirthDateIndex();
+    }
+
+    @Test
+    void statisticsAsOf_WithoutClients_ShouldBeEmpty() {
+        // When & Then
+        assertEquals(AgeStatistics.EMPTY, birthDateIndex.statisticsAsOf(LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    void statisticsAsOf_WithBasicClients_ShouldUseAgesAtReferenceDate() {
+        // Given - born 1994-01-15, 1999-05-20 and 1989-03-10
+        ClientTestData.BASIC_CLIENTS_LIST.forEach(birthDateIndex::add);
+
+        // When - ages on 2030-01-01 are 35, 30 and 40
+        AgeStatistics statistics = birthDateIndex.statisticsAsOf(LocalDate.of(2030, 1, 1));
+
+        // Then
+        assertEquals(3L, statistics.getCount());
+        assertEquals(35.0, statistics.getMean(), 1e-9);
+        assertEquals(5.0, statistics.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void statisticsAsOf_BeforeSomeBirthDates_ShouldOnlyCountClientsAlreadyBorn() {
+        // Given
+        ClientTestData.BASIC_CLIENTS_LIST.forEach(birthDateIndex::add);
+
+        // When - on 1995-01-01 only the 1989 and 1994 clients exist, aged 5 and 0
+        AgeStatistics statistics = birthDateIndex.statisticsAsOf(LocalDate.of(1995, 1, 1));
+
+        // Then
+        assertEquals(2L, statistics.getCount());
+        assertEquals(2.5, statistics.getMean(), 1e-9);
+    }
+
+    @Test
+    void statisticsAsOf_OnLeapDayBirthdays_ShouldMatchPeriodBetween() {
+        // Given
+        Client leapDayClient = ClientTestData.createClientWithBirthDate(LocalDate.of(2000, 2, 29));
+        birthDateIndex.add(leapDayClient);
+
+        // When & Then
+        assertEquals(0.0, birthDateIndex.statisticsAsOf(LocalDate.of(2001, 2, 28)).getMean());
+        assertEquals(1.0, birthDateIndex.statisticsAsOf(LocalDate.of(2001, 3, 1)).getMean());
+        assertEquals(4.0, birthDateIndex.statisticsAsOf(LocalDate.of(2004, 2, 29)).getMean());
+    }
+
+    @Test
+    void statisticsAsOf_FarInTheFuture_ShouldSumAgesPerClient() {
+        // Given
+        List<LocalDate> birthDates = List.of(LocalDate.of(1990, 5, 20), LocalDate.of(2000, 2, 29), LocalDate.of(1985, 12, 31));
+        birthDates.forEach(birthDate -> birthDateIndex.add(ClientTestData.createClientWithBirthDate(birthDate)));
+        LocalDate asOf = LocalDate.of(10_000, 3, 1);
+
+        // When
+        AgeStatistics statistics = birthDateIndex.statisticsAsOf(asOf);
+
+        // Then - a loop per year of age would take about 8000 binary searches for three clients
+        AgeStatistics expected = AgeStatistics.EMPTY;
+        for (LocalDate birthDate : birthDates) {
+            expected = expected.add(Period.between(birthDate, asOf).getYears());
+        }
+        assertEquals(3, statistics.getCount());
+        assertEquals(expected.getMean(), statistics.getMean(), 1e-9);
+        assertEquals(expected.getStandardDeviation(), statistics.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void statisticsAsOf_WithRandomBirthDates_ShouldMatchFullScan() {
+        // Given
+        Random random = new Random(42);
+        List<LocalDate> birthDates = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate birthDate = LocalDate.of(1920, 1, 1).plusDays(random.nextInt(100 * 365));
+            birthDates.add(birthDate);
+            birthDateIndex.add(ClientTestData.createClientWithBirthDate(birthDate));
+        }
+        LocalDate asOf = LocalDate.of(2030, 2, 28);
+
+        // When
+        AgeStatistics statistics = birthDateIndex.statisticsAsOf(asOf);
+
+        // Then
+        AgeStatistics expected = AgeStatistics.EMPTY;
+        for (LocalDate birthDate : birthDates) {
+            expected = expected.add(Period.between(birthDate, asOf).getYears());
+        }
+        assertEquals(expected.getCount(), statistics.getCount());
+        assertEquals(expected.getMean(), statistics.getMean(), 1e-9);
+        assertEquals(expected.getStandardDeviation(), statistics.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void load_WithUnsortedScan_ShouldMatchClientsAddedOneByOne() {
+        // Given
+        Random random = new Random(7);
+        BirthDateIndex expected = new BirthDateIndex();
+        birthDateIndex.add(ClientTestData.JOHN_DOE);
+
+        // When - The scan replaces what was there before
+        ClientIndex.Loader loader = birthDateIndex.load();
+        for (int i = 0; i < 3_000; i++) {
+            Client client = ClientTestData.createClientWithBirthDate(LocalDate.of(1920, 1, 1).plusDays(random.nextInt(100 * 365)));
+            loader.accept(client);
+            expected.add(client);
+        }
+        loader.accept(ClientTestData.CLIENT_WITH_NULL_BIRTH_DATE);
+        loader.finish();
+        birthDateIndex.add(ClientTestData.MARY_GARCIA);
+        expected.add(ClientTestData.MARY_GARCIA);
+
+        // Then
+        LocalDate asOf = LocalDate.of(2030, 2, 28);
+        assertEquals(expected.statisticsAsOf(asOf), birthDateIndex.statisticsAsOf(asOf));
+        assertEquals(expected.statisticsAsOf(LocalDate.of(1970, 6, 1)), birthDateIndex.statisticsAsOf(LocalDate.of(1970, 6, 1)));
+    }
+
+    @Test
+    void remove_ShouldDropOneMatchingBirthDate() {
+        // Given
+        birthDateIndex.add(ClientTestData.JOHN_DOE);
+        birthDateIndex.add(ClientTestData.JOHN_DOE);
+        birthDateIndex.add(ClientTestData.MARY_GARCIA);
+
+        // When
+        birthDateIndex.remove(ClientTestData.JOHN_DOE);
+        birthDateIndex.remove(ClientTestData.CARLOS_LOPEZ);
+
+        // Then
+        assertEquals(2L, birthDateIndex.statisticsAsOf(LocalDate.of(2030, 1, 1)).getCount());
+    }
+
+    @Test
+    void add_WithoutBirthDate_ShouldBeIgnored() {
+        // When
+        birthDateIndex.add(ClientTestData.CLIENT_WITH_NULL_BIRTH_DATE);
+        birthDateIndex.remove(ClientTestData.CLIENT_WITH_NULL_BIRTH_DATE);
+
+        // Then
+        assertEquals(AgeStatistics.EMPTY, birthDateIndex.statisticsAsOf(LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    void clear_ShouldRemoveAllBirthDates() {
+        // Given
+        ClientTestData.LARGE_CLIENTS_LIST.forEach(birthDateIndex::add);
+
+        // When
+        birthDateIndex.clear();
+
+        // Then
+        assertEquals(AgeStatistics.EMPTY, birthDateIndex.statisticsAsOf(LocalDate.of(2030, 1, 1)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientIndexesTest {
+
+    @Mock
+    private ClientRepositoryPort clientRepositoryPort;
+
+    // Real default methods, so a reload clears each index and adds the scanned clients
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ClientIndex firstIndex;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ClientIndex secondIndex;
+
+    private ClientIndexes clientIndexes;
+
+    @BeforeEach
+    void setUp() {
+        clientIndexes = new ClientIndexes(clientRepositoryPort, List.of(firstIndex, secondIndex));
+    }
+
+    @Test
+    void add_ShouldNotifyEveryIndex() {
+        // When
+        clientIndexes.add(ClientTestData.JOHN_DOE);
+
+        // Then
+        verify(firstIndex).add(ClientTestData.JOHN_DOE);
+        verify(secondIndex).add(ClientTestData.JOHN_DOE);
+    }
+
+    @Test
+    void remove_ShouldNotifyEveryIndex() {
+        // When
+        clientIndexes.remove(ClientTestData.JOHN_DOE);
+
+        // Then
+        verify(firstIndex).remove(ClientTestData.JOHN_DOE);
+        verify(secondIndex).remove(ClientTestData.JOHN_DOE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void afterSingletonsInstantiated_ShouldClearAndSeedFromSingleScan() {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Client> consumer = invocation.getArgument(0);
+            ClientTestData.BASIC_CLIENTS_LIST.forEach(consumer);
+            return null;
+        }).when(clientRepositoryPort).streamAll(any(Consumer.class));
+
+        // When
+        clientIndexes.afterSingletonsInstantiated();
+
+        // Then
+        InOrder inOrder = inOrder(firstIndex, clientRepositoryPort);
+        inOrder.verify(firstIndex).clear();
+        inOrder.verify(clientRepositoryPort).streamAll(any(Consumer.class));
+        verify(secondIndex).clear();
+        verify(firstIndex, times(3)).add(any(Client.class));
+        verify(secondIndex, times(3)).add(any(Client.class));
+        verify(clientRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_ShouldFinishEveryLoaderAfterTheScan() {
+        // Given
+        ClientIndex.Loader loader = mock(ClientIndex.Loader.class);
+        doReturn(loader).when(firstIndex).load();
+        doAnswer(invocation -> {
+            Consumer<Client> consumer = invocation.getArgument(0);
+            ClientTestData.BASIC_CLIENTS_LIST.forEach(consumer);
+            return null;
+        }).when(clientRepositoryPort).streamAll(any(Consumer.class));
+
+        // When
+        clientIndexes.rebuild();
+
+        // Then
+        InOrder inOrder = inOrder(loader);
+        inOrder.verify(loader, times(3)).accept(any(Client.class));
+        inOrder.verify(loader).finish();
+        verify(firstIndex, never()).add(any(Client.class));
+        verify(secondIndex, times(3)).add(any(Client.class));
+    }
+}
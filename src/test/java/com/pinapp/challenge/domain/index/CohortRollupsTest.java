@@ -0,0 +1,86 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CohortRollupsTest {
+
+    private CohortRollups cohortRollups;
+
+    @BeforeEach
+    void setUp() {
+        cohortRollups = new CohortRollups();
+        List.of(ClientTestData.JOHN_DOE, ClientTestData.MARY_GARCIA, ClientTestData.CARLOS_LOPEZ,
+                ClientTestData.ANNA_SMITH, ClientTestData.DAVID_BROWN).forEach(cohortRollups::add);
+    }
+
+    @Test
+    void metricsBy_BirthDecade_ShouldAggregateEachDecade() {
+        // When
+        Map<String, ClientMetrics> metrics = cohortRollups.metricsBy(MetricsGrouping.BIRTH_DECADE);
+
+        // Then - 1982 and 1989 in the 1980s, 1994, 1996 and 1999 in the 1990s
+        assertEquals(List.of("1980s", "1990s"), List.copyOf(metrics.keySet()));
+        assertEquals(2L, metrics.get("1980s").getTotalClients());
+        assertEquals(38.5, metrics.get("1980s").getAverageAge(), 1e-9);
+        assertEquals(3L, metrics.get("1990s").getTotalClients());
+        assertEquals(27.666666666, metrics.get("1990s").getAverageAge(), 1e-6);
+        assertEquals(2.516611478, metrics.get("1990s").getStandardDeviation(), 1e-6);
+    }
+
+    @Test
+    void metricsBy_LastNameInitial_ShouldAggregateEachInitial() {
+        // When
+        Map<String, ClientMetrics> metrics = cohortRollups.metricsBy(MetricsGrouping.LAST_NAME_INITIAL);
+
+        // Then
+        assertEquals(List.of("B", "D", "G", "L", "S"), List.copyOf(metrics.keySet()));
+        assertEquals(new ClientMetrics(30.0, 0.0, 1L), metrics.get("D"));
+    }
+
+    @Test
+    void remove_ShouldUpdateGroupAndDropItWhenEmpty() {
+        // When
+        cohortRollups.remove(ClientTestData.DAVID_BROWN);
+        cohortRollups.remove(ClientTestData.JOHN_DOE);
+
+        // Then
+        Map<String, ClientMetrics> byInitial = cohortRollups.metricsBy(MetricsGrouping.LAST_NAME_INITIAL);
+        assertFalse(byInitial.containsKey("B"));
+        assertFalse(byInitial.containsKey("D"));
+
+        Map<String, ClientMetrics> byDecade = cohortRollups.metricsBy(MetricsGrouping.BIRTH_DECADE);
+        assertEquals(new ClientMetrics(35.0, 0.0, 1L), byDecade.get("1980s"));
+        assertEquals(2L, byDecade.get("1990s").getTotalClients());
+        assertEquals(26.5, byDecade.get("1990s").getAverageAge(), 1e-9);
+    }
+
+    @Test
+    void remove_WithUnknownGroup_ShouldBeIgnored() {
+        // When
+        cohortRollups.remove(ClientTestData.OLD_CLIENT);
+
+        // Then
+        assertFalse(cohortRollups.metricsBy(MetricsGrouping.BIRTH_YEAR).containsKey("1944"));
+        assertEquals(5, cohortRollups.metricsBy(MetricsGrouping.BIRTH_YEAR).size());
+    }
+
+    @Test
+    void clear_ShouldRemoveAllGroups() {
+        // When
+        cohortRollups.clear();
+
+        // Then
+        for (MetricsGrouping grouping : MetricsGrouping.values()) {
+            assertTrue(cohortRollups.metricsBy(grouping).isEmpty());
+        }
+    }
+}
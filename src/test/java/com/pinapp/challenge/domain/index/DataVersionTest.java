@@ -0,0 +1,41 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataVersionTest {
+
+    @Test
+    void current_ShouldIncreaseOnEveryWrite() {
+        // Given
+        DataVersion dataVersion = new DataVersion();
+        long initial = dataVersion.current();
+
+        // When
+        dataVersion.add(ClientTestData.JOHN_DOE);
+        dataVersion.remove(ClientTestData.JOHN_DOE);
+        dataVersion.clear();
+
+        // Then
+        assertEquals(initial + 3, dataVersion.current());
+    }
+
+    @Test
+    void observeTableVersion_ShouldIncreaseOnlyWhenTableVersionMoves() {
+        // Given
+        DataVersion dataVersion = new DataVersion();
+        dataVersion.observeTableVersion(7L);
+        long initial = dataVersion.current();
+
+        // When
+        dataVersion.observeTableVersion(7L);
+        long unchanged = dataVersion.current();
+        dataVersion.observeTableVersion(8L);
+
+        // Then
+        assertEquals(initial, unchanged);
+        assertEquals(initial + 1, dataVersion.current());
+    }
+}
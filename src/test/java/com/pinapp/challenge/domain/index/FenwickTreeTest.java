@@ -0,0 +1,62 @@
+package com.pinapp.challenge.domain.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenwickTreeTest {
+
+    @Test
+    void rangeSum_WithRandomUpdates_ShouldMatchPlainArray() {
+        // Given
+        FenwickTree tree = new FenwickTree(200);
+        long[] values = new long[200];
+        Random random = new Random(7);
+        for (int i = 0; i < 1_000; i++) {
+            int position = random.nextInt(200);
+            long delta = random.nextInt(21) - 10;
+            tree.add(position, delta);
+            values[position] += delta;
+        }
+
+        // When & Then
+        for (int from = 0; from < 200; from += 13) {
+            for (int to = from; to < 200; to += 17) {
+                long expected = 0;
+                for (int i = from; i <= to; i++) {
+                    expected += values[i];
+                }
+                assertEquals(expected, tree.rangeSum(from, to));
+            }
+        }
+    }
+
+    @Test
+    void prefixSum_OutsideBounds_ShouldClampToTree() {
+        // Given
+        FenwickTree tree = new FenwickTree(10);
+        tree.add(0, 5);
+        tree.add(9, 3);
+
+        // When & Then
+        assertEquals(0, tree.prefixSum(-1));
+        assertEquals(8, tree.prefixSum(100));
+        assertEquals(0, tree.rangeSum(5, 4));
+        assertEquals(10, tree.size());
+    }
+
+    @Test
+    void clear_ShouldResetAllSums() {
+        // Given
+        FenwickTree tree = new FenwickTree(10);
+        tree.add(3, 5);
+
+        // When
+        tree.clear();
+
+        // Then
+        assertEquals(0, tree.prefixSum(9));
+    }
+}
@@ -0,0 +1,115 @@
+package com.pinapp.challenge.domain.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimate_WithEmptySketch_ShouldReturnZero() {
+        // When & Then
+        assertEquals(0L, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void offer_WithRepeatedValue_ShouldCountItOnce() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // When
+        boolean first = sketch.offer("Doe");
+        boolean second = sketch.offer("Doe");
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1L, sketch.estimate());
+    }
+
+    @Test
+    void estimate_WithFewValues_ShouldBeExactThroughLinearCounting() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // When
+        for (String name : new String[]{"John", "Mary", "Carlos", "Anna", "David", "John"}) {
+            sketch.offer(name);
+        }
+
+        // Then
+        assertEquals(5L, sketch.estimate());
+    }
+
+    @Test
+    void estimate_WithManyValues_ShouldBeWithinTwoPercent() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog();
+        int distinct = 500_000;
+
+        // When
+        for (int i = 0; i < distinct; i++) {
+            sketch.offer("name-" + i);
+            sketch.offer("name-" + (i / 2));
+        }
+
+        // Then
+        assertEquals(distinct, sketch.estimate(), distinct * 0.02);
+    }
+
+    @Test
+    void merge_WithTwoSketches_ShouldEstimateUnion() {
+        // Given
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (int i = 0; i < 60_000; i++) {
+            (i < 40_000 ? left : right).offer("client-" + i);
+            if (i >= 20_000 && i < 40_000) {
+                right.offer("client-" + i);
+            }
+            union.offer("client-" + i);
+        }
+
+        // When
+        boolean changed = left.merge(right);
+
+        // Then
+        assertTrue(changed);
+        assertArrayEquals(union.toByteArray(), left.toByteArray());
+        assertFalse(left.merge(right));
+    }
+
+    @Test
+    void fromByteArray_WithSavedRegisters_ShouldRestoreSketch() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog();
+        sketch.offer("Doe");
+        sketch.offer("Garcia");
+        byte[] registers = sketch.toByteArray();
+
+        // When
+        HyperLogLog restored = HyperLogLog.fromByteArray(registers);
+        registers[0] = 42;
+
+        // Then
+        assertEquals(2L, restored.estimate());
+        assertFalse(restored.offer("Garcia"));
+        assertEquals(HyperLogLog.REGISTER_COUNT, restored.toByteArray().length);
+    }
+
+    @Test
+    void fromByteArray_WithWrongLength_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> HyperLogLog.fromByteArray(new byte[16]));
+        assertEquals("Expected 16384 registers but got 16", exception.getMessage());
+    }
+
+    @Test
+    void hash_WithSimilarNames_ShouldDiffer() {
+        // When & Then
+        assertNotEquals(HyperLogLog.hash("Ana"), HyperLogLog.hash("Anna"));
+        assertEquals(HyperLogLog.hash("Doe"), HyperLogLog.hash("Doe"));
+    }
+}
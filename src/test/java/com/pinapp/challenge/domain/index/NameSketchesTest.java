@@ -0,0 +1,172 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import com.pinapp.challenge.domain.port.out.NameSketchRepositoryPort;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NameSketchesTest {
+
+    @Mock
+    private NameSketchRepositoryPort nameSketchRepositoryPort;
+
+    @Mock
+    private ClientRepositoryPort clientRepositoryPort;
+
+    private NameSketches nameSketches;
+
+    @BeforeEach
+    void setUp() {
+        nameSketches = new NameSketches(nameSketchRepositoryPort, clientRepositoryPort);
+    }
+
+    @Test
+    void add_WithNewNames_ShouldUpdateEstimatesWithoutTouchingRepository() {
+        // When
+        nameSketches.add(ClientTestData.JOHN_DOE);
+        nameSketches.add(ClientTestData.MARY_GARCIA);
+
+        // Then
+        assertEquals(2L, nameSketches.distinctFirstNames());
+        assertEquals(2L, nameSketches.distinctLastNames());
+        verifyNoInteractions(nameSketchRepositoryPort);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sync_AfterAdd_ShouldPersistAndCountTheUnion() {
+        // Given
+        HyperLogLog stored = new HyperLogLog();
+        stored.offer("Mary");
+        stored.offer("Carlos");
+        AtomicReference<byte[]> written = new AtomicReference<>();
+        doAnswer(invocation -> {
+            UnaryOperator<byte[]> update = invocation.getArgument(1);
+            written.set(update.apply(stored.toByteArray()));
+            return null;
+        }).when(nameSketchRepositoryPort).update(eq(NameSketches.FIRST_NAMES), any(UnaryOperator.class));
+        nameSketches.add(ClientTestData.JOHN_DOE);
+
+        // When
+        nameSketches.sync();
+
+        // Then
+        assertEquals(3L, nameSketches.distinctFirstNames());
+        assertEquals(3L, HyperLogLog.fromByteArray(written.get()).estimate());
+        verify(nameSketchRepositoryPort).update(eq(NameSketches.LAST_NAMES), any());
+    }
+
+    @Test
+    void sync_WithoutLocalChanges_ShouldOnlyMergeStoredSketches() {
+        // Given
+        nameSketches.add(ClientTestData.JOHN_DOE);
+        nameSketches.sync();
+        clearInvocations(nameSketchRepositoryPort);
+        HyperLogLog stored = new HyperLogLog();
+        stored.offer("Mary");
+        when(nameSketchRepositoryPort.load(NameSketches.FIRST_NAMES)).thenReturn(Optional.of(stored.toByteArray()));
+        when(nameSketchRepositoryPort.load(NameSketches.LAST_NAMES)).thenReturn(Optional.empty());
+
+        // When
+        nameSketches.sync();
+
+        // Then
+        assertEquals(2L, nameSketches.distinctFirstNames());
+        assertEquals(1L, nameSketches.distinctLastNames());
+        verify(nameSketchRepositoryPort, never()).update(any(), any());
+    }
+
+    @Test
+    void sync_WithAlreadySeenNames_ShouldNotPersistAgain() {
+        // Given
+        nameSketches.add(ClientTestData.JOHN_DOE);
+        nameSketches.sync();
+        clearInvocations(nameSketchRepositoryPort);
+        Client namesake = new Client(99L, "John", "Doe", 40, LocalDate.of(1984, 2, 2));
+
+        // When
+        nameSketches.add(namesake);
+        nameSketches.sync();
+
+        // Then
+        verify(nameSketchRepositoryPort, never()).update(any(), any());
+        assertEquals(1L, nameSketches.distinctFirstNames());
+    }
+
+    @Test
+    void sync_AfterFailedPersist_ShouldRetryOnNextSync() {
+        // Given
+        nameSketches.add(ClientTestData.JOHN_DOE);
+        doThrow(new IllegalStateException("Database unavailable")).doNothing()
+                .when(nameSketchRepositoryPort).update(eq(NameSketches.FIRST_NAMES), any());
+
+        // When
+        assertThrows(IllegalStateException.class, nameSketches::sync);
+        nameSketches.sync();
+
+        // Then
+        verify(nameSketchRepositoryPort, times(2)).update(eq(NameSketches.FIRST_NAMES), any());
+        assertEquals(1L, nameSketches.distinctFirstNames());
+    }
+
+    @Test
+    void restore_WithStoredSketches_ShouldLoadWithoutScanningClients() {
+        // Given
+        HyperLogLog firstNames = new HyperLogLog();
+        firstNames.offer("John");
+        firstNames.offer("Mary");
+        firstNames.offer("Carlos");
+        HyperLogLog lastNames = new HyperLogLog();
+        lastNames.offer("Doe");
+        when(nameSketchRepositoryPort.load(NameSketches.FIRST_NAMES)).thenReturn(Optional.of(firstNames.toByteArray()));
+        when(nameSketchRepositoryPort.load(NameSketches.LAST_NAMES)).thenReturn(Optional.of(lastNames.toByteArray()));
+
+        // When
+        nameSketches.afterSingletonsInstantiated();
+
+        // Then
+        assertEquals(3L, nameSketches.distinctFirstNames());
+        assertEquals(1L, nameSketches.distinctLastNames());
+        verify(clientRepositoryPort, never()).streamAll(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void restore_WithoutStoredSketches_ShouldBuildFromClientsAndSave() {
+        // Given
+        when(nameSketchRepositoryPort.load(any())).thenReturn(Optional.empty());
+        doAnswer(invocation -> {
+            Consumer<Client> consumer = invocation.getArgument(0);
+            ClientTestData.LARGE_CLIENTS_LIST.forEach(consumer);
+            return null;
+        }).when(clientRepositoryPort).streamAll(any(Consumer.class));
+
+        // When
+        nameSketches.restore();
+
+        // Then
+        assertEquals(ClientTestData.LARGE_CLIENTS_LIST.stream().map(Client::getFirstName).distinct().count(),
+                nameSketches.distinctFirstNames());
+        assertEquals(ClientTestData.LARGE_CLIENTS_LIST.stream().map(Client::getLastName).distinct().count(),
+                nameSketches.distinctLastNames());
+        verify(nameSketchRepositoryPort).update(eq(NameSketches.FIRST_NAMES), any());
+        verify(nameSketchRepositoryPort).update(eq(NameSketches.LAST_NAMES), any());
+    }
+}
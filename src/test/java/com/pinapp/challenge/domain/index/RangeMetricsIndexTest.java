@@ -0,0 +1,124 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeMetricsIndexTest {
+
+    private RangeMetricsIndex rangeMetricsIndex;
+
+    @BeforeEach
+    void setUp() {
+        rangeMetricsIndex = new RangeMetricsIndex();
+        // Ages 30, 25, 35, 28, 42, 18 and 80
+        ClientTestData.LARGE_CLIENTS_LIST.forEach(rangeMetricsIndex::add);
+    }
+
+    @Test
+    void statistics_WithAgeRange_ShouldOnlyIncludeAgesInRange() {
+        // When
+        AgeStatistics statistics = rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(25, 35));
+
+        // Then - ages 25, 28, 30 and 35
+        assertEquals(AgeStatistics.EMPTY.add(25).add(28).add(30).add(35).getCount(), statistics.getCount());
+        assertEquals(29.5, statistics.getMean(), 1e-9);
+        assertEquals(AgeStatistics.EMPTY.add(25).add(28).add(30).add(35).getStandardDeviation(),
+                statistics.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void statistics_WithOpenAgeBounds_ShouldIncludeEverythingOnThatSide() {
+        // When & Then
+        assertEquals(2L, rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(40, null)).getCount());
+        assertEquals(2L, rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(null, 25)).getCount());
+        assertEquals(7L, rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(null, null)).getCount());
+    }
+
+    @Test
+    void statistics_WithBirthDateWindow_ShouldIncludeBoundaryDates() {
+        // When - 1989-03-10 (35) up to 1996-08-12 (28), both inclusive, with 1994-01-15 (30) in between
+        AgeStatistics statistics = rangeMetricsIndex.statistics(
+                ClientMetricsFilter.bornBetween(LocalDate.of(1989, 3, 10), LocalDate.of(1996, 8, 12)));
+
+        // Then
+        assertEquals(3L, statistics.getCount());
+        assertEquals(31.0, statistics.getMean(), 1e-9);
+    }
+
+    @Test
+    void statistics_WithOpenBirthDateBounds_ShouldIncludeEverythingOnThatSide() {
+        // When & Then
+        assertEquals(3L, rangeMetricsIndex.statistics(ClientMetricsFilter.bornBetween(LocalDate.of(1995, 1, 1), null)).getCount());
+        assertEquals(1L, rangeMetricsIndex.statistics(ClientMetricsFilter.bornBetween(null, LocalDate.of(1950, 1, 1))).getCount());
+    }
+
+    @Test
+    void remove_ShouldExcludeClientFromBothTrees() {
+        // When
+        rangeMetricsIndex.remove(ClientTestData.OLD_CLIENT);
+
+        // Then
+        assertEquals(0L, rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(60, null)).getCount());
+        assertEquals(0L, rangeMetricsIndex.statistics(ClientMetricsFilter.bornBetween(null, LocalDate.of(1950, 1, 1))).getCount());
+    }
+
+    @Test
+    void add_WithBirthDateOutsideSupportedWindow_ShouldClampToBound() {
+        // Given
+        rangeMetricsIndex.add(ClientTestData.createClientWithBirthDate(LocalDate.of(1700, 1, 1)));
+
+        // When & Then
+        assertEquals(1L, rangeMetricsIndex.statistics(
+                ClientMetricsFilter.bornBetween(null, RangeMetricsIndex.MIN_BIRTH_DATE)).getCount());
+    }
+
+    @Test
+    void statistics_WithAgeRangeAboveSupportedAges_ShouldBeEmpty() {
+        // Given
+        rangeMetricsIndex.add(ClientTestData.createClientWithAge(AgeHistogram.MAX_AGE));
+
+        // When & Then
+        assertEquals(AgeStatistics.EMPTY, rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(200, null)));
+        assertEquals(1L, rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(AgeHistogram.MAX_AGE, 200)).getCount());
+    }
+
+    @Test
+    void statistics_WithBirthDateWindowBeforeSupportedDates_ShouldBeEmpty() {
+        // Given
+        rangeMetricsIndex.add(ClientTestData.createClientWithBirthDate(LocalDate.of(1700, 1, 1)));
+
+        // When & Then
+        assertEquals(AgeStatistics.EMPTY, rangeMetricsIndex.statistics(
+                ClientMetricsFilter.bornBetween(null, LocalDate.of(1800, 1, 1))));
+        assertEquals(AgeStatistics.EMPTY, rangeMetricsIndex.statistics(
+                ClientMetricsFilter.bornBetween(LocalDate.of(2200, 1, 1), null)));
+    }
+
+    @Test
+    void statistics_WithBirthDateWindowCrossingLowerBound_ShouldOnlyCutThatBound() {
+        // When - Only bornFrom lies outside the supported dates
+        AgeStatistics statistics = rangeMetricsIndex.statistics(
+                ClientMetricsFilter.bornBetween(LocalDate.of(1700, 1, 1), LocalDate.of(1950, 1, 1)));
+
+        // Then
+        assertEquals(rangeMetricsIndex.statistics(ClientMetricsFilter.bornBetween(null, LocalDate.of(1950, 1, 1))), statistics);
+        assertEquals(1L, statistics.getCount());
+    }
+
+    @Test
+    void clear_ShouldRemoveAllClients() {
+        // When
+        rangeMetricsIndex.clear();
+
+        // Then
+        assertEquals(AgeStatistics.EMPTY, rangeMetricsIndex.statistics(ClientMetricsFilter.ageBetween(null, null)));
+        assertEquals(AgeStatistics.EMPTY, rangeMetricsIndex.statistics(ClientMetricsFilter.bornBetween(null, null)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.NameCount;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceSavingTest {
+
+    @Test
+    void top_WithFewerItemsThanCapacity_ShouldReturnExactCountsInDescendingOrder() {
+        // Given
+        SpaceSaving summary = new SpaceSaving(10);
+        for (String name : new String[]{"Doe", "Garcia", "Doe", "Lopez", "Doe", "Garcia"}) {
+            summary.add(name);
+        }
+
+        // When
+        List<NameCount> top = summary.top(2);
+
+        // Then
+        assertEquals(List.of(new NameCount("Doe", 3, 0), new NameCount("Garcia", 2, 0)), top);
+        assertEquals(3, summary.size());
+    }
+
+    @Test
+    void add_WithMoreItemsThanCapacity_ShouldEvictLeastFrequentAndRecordError() {
+        // Given
+        SpaceSaving summary = new SpaceSaving(2);
+        summary.add("Doe");
+        summary.add("Doe");
+        summary.add("Garcia");
+
+        // When
+        summary.add("Lopez");
+
+        // Then
+        assertEquals(List.of(new NameCount("Doe", 2, 0), new NameCount("Lopez", 2, 1)), summary.top(5));
+        assertEquals(2, summary.size());
+    }
+
+    @Test
+    void top_WithSkewedStream_ShouldKeepEveryHeavyHitter() {
+        // Given - Three names above n / capacity among many rare ones
+        SpaceSaving summary = new SpaceSaving(50);
+        for (int i = 0; i < 10_000; i++) {
+            summary.add(i % 5 == 0 ? "Doe" : i % 7 == 0 ? "Garcia" : i % 11 == 0 ? "Lopez" : "rare-" + i);
+        }
+
+        // When
+        List<NameCount> top = summary.top(3);
+
+        // Then
+        assertEquals(List.of("Doe", "Garcia", "Lopez"), top.stream().map(NameCount::getName).toList());
+        for (NameCount nameCount : top) {
+            assertTrue(nameCount.getCount() - nameCount.getError() <= trueCount(nameCount.getName()));
+            assertTrue(nameCount.getCount() >= trueCount(nameCount.getName()));
+        }
+    }
+
+    @Test
+    void remove_WithTrackedItem_ShouldDecrementAndDropAtZero() {
+        // Given
+        SpaceSaving summary = new SpaceSaving(10);
+        summary.add("Doe");
+        summary.add("Doe");
+        summary.add("Garcia");
+
+        // When
+        summary.remove("Doe");
+        summary.remove("Garcia");
+        summary.remove("Unknown");
+
+        // Then
+        assertEquals(List.of(new NameCount("Doe", 1, 0)), summary.top(10));
+    }
+
+    @Test
+    void remove_WithEvictedReplacement_ShouldKeepErrorWithinCount() {
+        // Given
+        SpaceSaving summary = new SpaceSaving(1);
+        summary.add("Doe");
+        summary.add("Doe");
+        summary.add("Garcia");
+
+        // When
+        summary.remove("Garcia");
+        summary.remove("Garcia");
+
+        // Then
+        assertEquals(List.of(new NameCount("Garcia", 1, 1)), summary.top(1));
+    }
+
+    @Test
+    void clear_ShouldDropAllCounters() {
+        // Given
+        SpaceSaving summary = new SpaceSaving(10);
+        summary.add("Doe");
+
+        // When
+        summary.clear();
+
+        // Then
+        assertEquals(0, summary.size());
+        assertTrue(summary.top(5).isEmpty());
+    }
+
+    private static long trueCount(String name) {
+        long count = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String expected = i % 5 == 0 ? "Doe" : i % 7 == 0 ? "Garcia" : i % 11 == 0 ? "Lopez" : "rare-" + i;
+            if (expected.equals(name)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pinapp.challenge.domain.index;
+
+import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.NameCount;
+import com.pinapp.challenge.domain.model.TopNames;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopNamesIndexTest {
+
+    private TopNamesIndex topNamesIndex;
+
+    @BeforeEach
+    void setUp() {
+        topNamesIndex = new TopNamesIndex(100);
+    }
+
+    @Test
+    void top_WithClients_ShouldRankFirstAndLastNamesSeparately() {
+        // Given
+        topNamesIndex.add(ClientTestData.JOHN_DOE);
+        topNamesIndex.add(new Client(10L, "John", "Smith", 40, LocalDate.of(1984, 1, 1)));
+        topNamesIndex.add(new Client(11L, "Mary", "Smith", 35, LocalDate.of(1989, 1, 1)));
+
+        // When
+        TopNames top = topNamesIndex.top(1);
+
+        // Then
+        assertEquals(List.of(new NameCount("John", 2, 0)), top.getFirstNames());
+        assertEquals(List.of(new NameCount("Smith", 2, 0)), top.getLastNames());
+        assertEquals(100, topNamesIndex.getCapacity());
+    }
+
+    @Test
+    void remove_WithDeletedClient_ShouldDecrementItsNames() {
+        // Given
+        topNamesIndex.add(ClientTestData.JOHN_DOE);
+        topNamesIndex.add(ClientTestData.MARY_GARCIA);
+
+        // When
+        topNamesIndex.remove(ClientTestData.JOHN_DOE);
+
+        // Then
+        TopNames top = topNamesIndex.top(10);
+        assertEquals(List.of(new NameCount("Mary", 1, 0)), top.getFirstNames());
+        assertEquals(1, top.getLastNames().size());
+    }
+
+    @Test
+    void add_WithMissingNames_ShouldIgnoreThem() {
+        // Given
+        Client unnamed = new Client(12L, null, null, 30, LocalDate.of(1994, 1, 1));
+
+        // When
+        topNamesIndex.add(unnamed);
+        topNamesIndex.remove(unnamed);
+
+        // Then
+        assertTrue(topNamesIndex.top(5).getFirstNames().isEmpty());
+        assertTrue(topNamesIndex.top(5).getLastNames().isEmpty());
+    }
+
+    @Test
+    void clear_ShouldForgetAllNames() {
+        // Given
+        ClientTestData.LARGE_CLIENTS_LIST.forEach(topNamesIndex::add);
+
+        // When
+        topNamesIndex.clear();
+
+        // Then
+        assertEquals(new TopNames(List.of(), List.of()), topNamesIndex.top(5));
+    }
+}
@@ -0,0 +1,79 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.AgeDistributionTestData;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgeDistributionTest {
+
+    @Test
+    void ageDistribution_WithValidData_ShouldExposeAllValues() {
+        // Given
+        AgeDistribution distribution = AgeDistributionTestData.BASIC_DISTRIBUTION;
+
+        // When & Then
+        assertEquals(AgeDistributionTestData.EXPECTED_TOTAL_CLIENTS, distribution.getTotalClients());
+        assertEquals(AgeDistributionTestData.EXPECTED_MIN_AGE, distribution.getMinAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_MAX_AGE, distribution.getMaxAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_MEDIAN_AGE, distribution.getMedianAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_P90_AGE, distribution.getP90Age());
+        assertEquals(AgeDistributionTestData.EXPECTED_P99_AGE, distribution.getP99Age());
+        assertEquals(AgeDistributionTestData.BASIC_HISTOGRAM, distribution.getHistogram());
+    }
+
+    @Test
+    void getHistogram_ShouldBeUnmodifiable() {
+        // Given
+        Map<Integer, Long> histogram = new HashMap<>(Map.of(30, 1L));
+        AgeDistribution distribution = new AgeDistribution(1L, 30, 30, 30, 30, 30, histogram);
+
+        // When & Then
+        assertThrows(UnsupportedOperationException.class, () -> distribution.getHistogram().put(40, 1L));
+    }
+
+    @Test
+    void empty_ShouldHaveZeroClientsAndNoPercentiles() {
+        // When
+        AgeDistribution empty = AgeDistribution.EMPTY;
+
+        // Then
+        assertEquals(0L, empty.getTotalClients());
+        assertNull(empty.getMinAge());
+        assertNull(empty.getMedianAge());
+        assertTrue(empty.getHistogram().isEmpty());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        AgeDistribution first = new AgeDistribution(3L, 25, 35, 30, 35, 35, AgeDistributionTestData.BASIC_HISTOGRAM);
+        AgeDistribution second = new AgeDistribution(3L, 25, 35, 30, 35, 35, AgeDistributionTestData.BASIC_HISTOGRAM);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, AgeDistribution.EMPTY);
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a distribution");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // When
+        String result = AgeDistributionTestData.BASIC_DISTRIBUTION.toString();
+
+        // Then
+        assertTrue(result.contains("totalClients=3"));
+        assertTrue(result.contains("minAge=25"));
+        assertTrue(result.contains("maxAge=35"));
+        assertTrue(result.contains("medianAge=30"));
+        assertTrue(result.contains("p90Age=35"));
+        assertTrue(result.contains("p99Age=35"));
+        assertTrue(result.contains("histogram="));
+    }
+}
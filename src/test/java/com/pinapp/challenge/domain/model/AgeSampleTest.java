@@ -0,0 +1,48 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgeSampleTest {
+
+    @Test
+    void size_ShouldReturnNumberOfSampledAges() {
+        // Given
+        AgeSample sample = new AgeSample(new int[]{30, 25, 35}, 1_000L);
+
+        // When & Then
+        assertEquals(3, sample.size());
+        assertEquals(1_000L, sample.getEstimatedTotal());
+        assertArrayEquals(new int[]{30, 25, 35}, sample.getAges());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        AgeSample first = new AgeSample(new int[]{30, 25}, 10L);
+        AgeSample second = new AgeSample(new int[]{30, 25}, 10L);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new AgeSample(new int[]{30, 26}, 10L));
+        assertNotEquals(first, new AgeSample(new int[]{30, 25}, 11L));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a sample");
+    }
+
+    @Test
+    void toString_ShouldContainSizeAndEstimatedTotal() {
+        // Given
+        AgeSample sample = new AgeSample(new int[]{30, 25}, 10L);
+
+        // When
+        String result = sample.toString();
+
+        // Then
+        assertTrue(result.contains("size=2"));
+        assertTrue(result.contains("estimatedTotal=10"));
+    }
+}
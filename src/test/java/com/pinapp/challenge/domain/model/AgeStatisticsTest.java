@@ -0,0 +1,148 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgeStatisticsTest {
+
+    @Test
+    void add_WithSeveralAges_ShouldMatchTwoPassCalculation() {
+        // Given
+        AgeStatistics statistics = AgeStatistics.EMPTY;
+
+        // When
+        statistics = statistics.add(30).add(25).add(35);
+
+        // Then
+        assertEquals(3L, statistics.getCount());
+        assertEquals(30.0, statistics.getMean(), 1e-9);
+        assertEquals(5.0, statistics.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void fromSums_WithSumsOfAges_ShouldMatchAccumulatedStatistics() {
+        // Given
+        AgeStatistics accumulated = AgeStatistics.EMPTY.add(30).add(25).add(35);
+
+        // When
+        AgeStatistics result = AgeStatistics.fromSums(3L, 90L, 2750L);
+
+        // Then
+        assertEquals(accumulated.getCount(), result.getCount());
+        assertEquals(accumulated.getMean(), result.getMean(), 1e-9);
+        assertEquals(accumulated.getSumOfSquaredDeviations(), result.getSumOfSquaredDeviations(), 1e-9);
+        assertSame(AgeStatistics.EMPTY, AgeStatistics.fromSums(0L, 0L, 0L));
+    }
+
+    @Test
+    void remove_WithPreviouslyAddedAge_ShouldRestorePreviousStatistics() {
+        // Given
+        AgeStatistics statistics = AgeStatistics.EMPTY.add(30).add(25).add(35);
+
+        // When
+        AgeStatistics result = statistics.remove(35);
+
+        // Then
+        assertEquals(2L, result.getCount());
+        assertEquals(27.5, result.getMean(), 1e-9);
+        assertEquals(Math.sqrt(12.5), result.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void remove_WithLastAge_ShouldReturnEmpty() {
+        // Given
+        AgeStatistics statistics = AgeStatistics.EMPTY.add(30);
+
+        // When & Then
+        assertEquals(AgeStatistics.EMPTY, statistics.remove(30));
+        assertEquals(AgeStatistics.EMPTY, AgeStatistics.EMPTY.remove(30));
+    }
+
+    @Test
+    void merge_WithTwoPartitions_ShouldEqualSequentialAccumulation() {
+        // Given
+        AgeStatistics left = AgeStatistics.EMPTY.add(18).add(42).add(30);
+        AgeStatistics right = AgeStatistics.EMPTY.add(80).add(25);
+        AgeStatistics sequential = AgeStatistics.EMPTY.add(18).add(42).add(30).add(80).add(25);
+
+        // When
+        AgeStatistics merged = left.merge(right);
+
+        // Then
+        assertEquals(sequential.getCount(), merged.getCount());
+        assertEquals(sequential.getMean(), merged.getMean(), 1e-9);
+        assertEquals(sequential.getSumOfSquaredDeviations(), merged.getSumOfSquaredDeviations(), 1e-9);
+    }
+
+    @Test
+    void merge_WithEmptyStatistics_ShouldReturnOtherSide() {
+        // Given
+        AgeStatistics statistics = AgeStatistics.EMPTY.add(30);
+
+        // When & Then
+        assertSame(statistics, statistics.merge(AgeStatistics.EMPTY));
+        assertSame(statistics, AgeStatistics.EMPTY.merge(statistics));
+    }
+
+    @Test
+    void getStandardDeviation_WithSingleAge_ShouldReturnZero() {
+        // Given
+        AgeStatistics statistics = AgeStatistics.EMPTY.add(42);
+
+        // When & Then
+        assertEquals(0.0, statistics.getStandardDeviation());
+    }
+
+    @Test
+    void toClientMetrics_WithEmptyStatistics_ShouldReturnZeroMetrics() {
+        // When
+        ClientMetrics metrics = AgeStatistics.EMPTY.toClientMetrics();
+
+        // Then
+        assertEquals(new ClientMetrics(0.0, 0.0, 0L), metrics);
+    }
+
+    @Test
+    void toClientMetrics_WithAges_ShouldMapAllValues() {
+        // Given
+        AgeStatistics statistics = AgeStatistics.EMPTY.add(30).add(25).add(35);
+
+        // When
+        ClientMetrics metrics = statistics.toClientMetrics();
+
+        // Then
+        assertEquals(30.0, metrics.getAverageAge(), 1e-9);
+        assertEquals(5.0, metrics.getStandardDeviation(), 1e-9);
+        assertEquals(3L, metrics.getTotalClients());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        AgeStatistics first = new AgeStatistics(2L, 27.5, 12.5);
+        AgeStatistics second = new AgeStatistics(2L, 27.5, 12.5);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new AgeStatistics(3L, 27.5, 12.5));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not statistics");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // Given
+        AgeStatistics statistics = new AgeStatistics(2L, 27.5, 12.5);
+
+        // When
+        String result = statistics.toString();
+
+        // Then
+        assertTrue(result.contains("count=2"));
+        assertTrue(result.contains("mean=27.5"));
+        assertTrue(result.contains("sumOfSquaredDeviations=12.5"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApproximateClientMetricsTest {
+
+    @Test
+    void fromSample_WithSampleOfLargePopulation_ShouldReturnNormalApproximationIntervals() {
+        // Given
+        AgeStatistics sample = AgeStatistics.EMPTY.add(30).add(25).add(35);
+
+        // When
+        ApproximateClientMetrics result = ApproximateClientMetrics.fromSample(sample, 1_000_001L);
+
+        // Then
+        double correction = Math.sqrt(999_998.0 / 1_000_000.0);
+        double meanMargin = 1.959963984540054 * 5.0 / Math.sqrt(3) * correction;
+        double deviationMargin = 1.959963984540054 * 5.0 / Math.sqrt(4) * correction;
+        assertEquals(new ClientMetrics(30.0, 5.0, 1_000_001L), result.getMetrics());
+        assertEquals(3, result.getSampleSize());
+        assertEquals(30.0 - meanMargin, result.getAverageAgeLower(), 1e-9);
+        assertEquals(30.0 + meanMargin, result.getAverageAgeUpper(), 1e-9);
+        assertEquals(5.0 - deviationMargin, result.getStandardDeviationLower(), 1e-9);
+        assertEquals(5.0 + deviationMargin, result.getStandardDeviationUpper(), 1e-9);
+    }
+
+    @Test
+    void fromSample_WithWholePopulation_ShouldCollapseIntervals() {
+        // Given
+        AgeStatistics sample = AgeStatistics.EMPTY.add(30).add(25).add(35);
+
+        // When
+        ApproximateClientMetrics result = ApproximateClientMetrics.fromSample(sample, 3L);
+
+        // Then
+        assertEquals(30.0, result.getAverageAgeLower(), 1e-9);
+        assertEquals(30.0, result.getAverageAgeUpper(), 1e-9);
+        assertEquals(5.0, result.getStandardDeviationLower(), 1e-9);
+        assertEquals(5.0, result.getStandardDeviationUpper(), 1e-9);
+    }
+
+    @Test
+    void fromSample_WithWideSpread_ShouldNotReturnNegativeDeviationBound() {
+        // Given
+        AgeStatistics sample = AgeStatistics.EMPTY.add(18).add(80);
+
+        // When
+        ApproximateClientMetrics result = ApproximateClientMetrics.fromSample(sample, 1_000_000L);
+
+        // Then
+        assertEquals(0.0, result.getStandardDeviationLower());
+        assertTrue(result.getStandardDeviationUpper() > result.getMetrics().getStandardDeviation());
+    }
+
+    @Test
+    void fromSample_WithFewerThanTwoAges_ShouldReturnDegenerateIntervals() {
+        // When
+        ApproximateClientMetrics single = ApproximateClientMetrics.fromSample(AgeStatistics.EMPTY.add(42), 500L);
+        ApproximateClientMetrics empty = ApproximateClientMetrics.fromSample(AgeStatistics.EMPTY, 0L);
+
+        // Then
+        assertEquals(new ApproximateClientMetrics(new ClientMetrics(42.0, 0.0, 500L), 1, 42.0, 42.0, 0.0, 0.0), single);
+        assertEquals(0L, empty.getMetrics().getTotalClients());
+        assertEquals(0, empty.getSampleSize());
+    }
+
+    @Test
+    void fromSample_WithEstimateBelowSampleSize_ShouldReportSampleSizeAsTotal() {
+        // Given
+        AgeStatistics sample = AgeStatistics.EMPTY.add(30).add(25).add(35);
+
+        // When
+        ApproximateClientMetrics result = ApproximateClientMetrics.fromSample(sample, 0L);
+
+        // Then
+        assertEquals(3L, result.getMetrics().getTotalClients());
+        assertEquals(result.getAverageAgeLower(), result.getAverageAgeUpper(), 1e-9);
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ApproximateClientMetrics first = new ApproximateClientMetrics(new ClientMetrics(30.0, 5.0, 100L), 3, 25.0, 35.0, 2.0, 8.0);
+        ApproximateClientMetrics second = new ApproximateClientMetrics(new ClientMetrics(30.0, 5.0, 100L), 3, 25.0, 35.0, 2.0, 8.0);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ApproximateClientMetrics(new ClientMetrics(30.0, 5.0, 100L), 4, 25.0, 35.0, 2.0, 8.0));
+        assertNotEquals(first, new ApproximateClientMetrics(new ClientMetrics(31.0, 5.0, 100L), 3, 25.0, 35.0, 2.0, 8.0));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not metrics");
+    }
+
+    @Test
+    void toString_ShouldContainSampleSizeAndIntervals() {
+        // Given
+        ApproximateClientMetrics metrics = new ApproximateClientMetrics(new ClientMetrics(30.0, 5.0, 100L), 3, 25.0, 35.0, 2.0, 8.0);
+
+        // When
+        String result = metrics.toString();
+
+        // Then
+        assertTrue(result.contains("sampleSize=3"));
+        assertTrue(result.contains("averageAge=[25.0, 35.0]"));
+        assertTrue(result.contains("standardDeviation=[2.0, 8.0]"));
+    }
+}
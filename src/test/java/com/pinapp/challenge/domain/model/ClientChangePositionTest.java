@@ -0,0 +1,56 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientChangePositionTest {
+
+    @Test
+    void after_ShouldTakeVersionAndClientIdOfChange() {
+        // When
+        ClientChangePosition result = ClientChangePosition.after(new ClientChange(2L, 9L, ClientTestData.MARY_GARCIA));
+
+        // Then
+        assertEquals(9L, result.getVersion());
+        assertEquals(2L, result.getClientId());
+    }
+
+    @Test
+    void atVersion_ShouldCoverWholeVersion() {
+        // When
+        ClientChangePosition result = ClientChangePosition.atVersion(9L);
+
+        // Then
+        assertEquals(9L, result.getVersion());
+        assertNull(result.getClientId());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientChangePosition first = new ClientChangePosition(9L, 2L);
+        ClientChangePosition second = new ClientChangePosition(9L, 2L);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientChangePosition(9L, 3L));
+        assertNotEquals(first, new ClientChangePosition(10L, 2L));
+        assertNotEquals(first, ClientChangePosition.atVersion(9L));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a position");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // When
+        String result = new ClientChangePosition(9L, 2L).toString();
+
+        // Then
+        assertTrue(result.contains("version=9"));
+        assertTrue(result.contains("clientId=2"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientChangeTest {
+
+    @Test
+    void isDeleted_ShouldDependOnClientState() {
+        // Given
+        ClientChange upserted = new ClientChange(1L, 5L, ClientTestData.JOHN_DOE);
+        ClientChange deleted = ClientChange.deleted(2L, 6L);
+
+        // When & Then
+        assertFalse(upserted.isDeleted());
+        assertEquals(ClientTestData.JOHN_DOE, upserted.getClient());
+        assertTrue(deleted.isDeleted());
+        assertNull(deleted.getClient());
+        assertEquals(2L, deleted.getClientId());
+        assertEquals(6L, deleted.getVersion());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientChange first = new ClientChange(1L, 5L, ClientTestData.JOHN_DOE);
+        ClientChange second = new ClientChange(1L, 5L, ClientTestData.JOHN_DOE);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientChange(1L, 6L, ClientTestData.JOHN_DOE));
+        assertNotEquals(first, new ClientChange(2L, 5L, ClientTestData.JOHN_DOE));
+        assertNotEquals(first, ClientChange.deleted(1L, 5L));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a change");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // When
+        String result = ClientChange.deleted(2L, 6L).toString();
+
+        // Then
+        assertTrue(result.contains("clientId=2"));
+        assertTrue(result.contains("version=6"));
+        assertTrue(result.contains("client=null"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientChangesTest {
+
+    private static final ClientChange JOHN_UPDATED = new ClientChange(1L, 5L, ClientTestData.JOHN_DOE);
+    private static final ClientChange MARY_DELETED = ClientChange.deleted(2L, 6L);
+
+    @Test
+    void constructor_WithMutableList_ShouldKeepDefensiveCopy() {
+        // Given
+        List<ClientChange> changes = new ArrayList<>(List.of(JOHN_UPDATED, MARY_DELETED));
+
+        // When
+        ClientChanges result = new ClientChanges(changes, ClientChangePosition.atVersion(6L), false);
+        changes.clear();
+
+        // Then
+        assertEquals(2, result.getChanges().size());
+        assertThrows(UnsupportedOperationException.class, () -> result.getChanges().clear());
+        assertEquals(ClientChangePosition.atVersion(6L), result.getNext());
+        assertFalse(result.hasMore());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientChanges first = new ClientChanges(List.of(JOHN_UPDATED), ClientChangePosition.after(JOHN_UPDATED), true);
+        ClientChanges second = new ClientChanges(List.of(JOHN_UPDATED), ClientChangePosition.after(JOHN_UPDATED), true);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientChanges(List.of(JOHN_UPDATED), ClientChangePosition.after(JOHN_UPDATED), false));
+        assertNotEquals(first, new ClientChanges(List.of(JOHN_UPDATED), ClientChangePosition.atVersion(5L), true));
+        assertNotEquals(first, new ClientChanges(List.of(MARY_DELETED), ClientChangePosition.after(JOHN_UPDATED), true));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not changes");
+    }
+
+    @Test
+    void toString_ShouldContainSizeAndPosition() {
+        // When
+        String result = new ClientChanges(List.of(JOHN_UPDATED, MARY_DELETED), ClientChangePosition.atVersion(6L), false).toString();
+
+        // Then
+        assertTrue(result.contains("changes=2"));
+        assertTrue(result.contains("version=6"));
+        assertTrue(result.contains("hasMore=false"));
+    }
+}
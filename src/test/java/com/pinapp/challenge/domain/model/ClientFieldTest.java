@@ -0,0 +1,42 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientFieldTest {
+
+    @Test
+    void fromParameter_WithFieldList_ShouldResolveIgnoringCaseAndSpaces() {
+        // When & Then
+        assertEquals(EnumSet.of(ClientField.ID, ClientField.LAST_NAME, ClientField.BIRTH_DATE),
+                ClientField.fromParameter("id, LASTNAME,birthDate"));
+        assertEquals(EnumSet.of(ClientField.ESTIMATED_DEATH_DATE), ClientField.fromParameter("estimatedDeathDate,"));
+    }
+
+    @Test
+    void fromParameter_WithoutList_ShouldReturnAllFields() {
+        // When & Then
+        assertSame(ClientField.ALL, ClientField.fromParameter(null));
+        assertSame(ClientField.ALL, ClientField.fromParameter(" "));
+        assertSame(ClientField.ALL, ClientField.fromParameter(","));
+        assertEquals(EnumSet.allOf(ClientField.class), ClientField.ALL);
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientField.fromParameter("id,salary"));
+
+        assertEquals("Unsupported field value: salary", exception.getMessage());
+    }
+
+    @Test
+    void getParameterName_ShouldMatchResponseProperty() {
+        // When & Then
+        assertEquals("estimatedDeathDate", ClientField.ESTIMATED_DEATH_DATE.getParameterName());
+    }
+}
@@ -0,0 +1,94 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientMetricsFilterTest {
+
+    @Test
+    void ageBetween_ShouldBeAgeRange() {
+        // When
+        ClientMetricsFilter filter = ClientMetricsFilter.ageBetween(25, 40);
+
+        // Then
+        assertTrue(filter.isAgeRange());
+        assertFalse(filter.isEmpty());
+        assertEquals(25, filter.getMinAge());
+        assertEquals(40, filter.getMaxAge());
+    }
+
+    @Test
+    void bornBetween_ShouldBeBirthDateWindow() {
+        // When
+        ClientMetricsFilter filter = ClientMetricsFilter.bornBetween(LocalDate.of(1980, 1, 1), LocalDate.of(1989, 12, 31));
+
+        // Then
+        assertFalse(filter.isAgeRange());
+        assertFalse(filter.isEmpty());
+        assertEquals(LocalDate.of(1980, 1, 1), filter.getBornFrom());
+        assertEquals(LocalDate.of(1989, 12, 31), filter.getBornTo());
+    }
+
+    @Test
+    void constructor_WithoutBounds_ShouldBeEmpty() {
+        // When & Then
+        assertTrue(new ClientMetricsFilter(null, null, null, null).isEmpty());
+    }
+
+    @Test
+    void constructor_WithInvertedAgeRange_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientMetricsFilter.ageBetween(40, 25));
+
+        assertEquals("minAge must not be greater than maxAge", exception.getMessage());
+    }
+
+    @Test
+    void constructor_WithInvertedBirthDateWindow_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientMetricsFilter.bornBetween(LocalDate.of(1990, 1, 1), LocalDate.of(1980, 1, 1)));
+
+        assertEquals("bornFrom must not be after bornTo", exception.getMessage());
+    }
+
+    @Test
+    void constructor_WithAgeAndBirthDateBounds_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new ClientMetricsFilter(25, null, null, LocalDate.of(1990, 1, 1)));
+
+        assertEquals("Age and birth date ranges cannot be combined", exception.getMessage());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameBounds_ShouldBeEqual() {
+        // Given
+        ClientMetricsFilter first = ClientMetricsFilter.ageBetween(25, 40);
+        ClientMetricsFilter second = ClientMetricsFilter.ageBetween(25, 40);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, ClientMetricsFilter.ageBetween(25, 41));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a filter");
+    }
+
+    @Test
+    void toString_ShouldContainAllBounds() {
+        // When
+        String result = ClientMetricsFilter.ageBetween(25, 40).toString();
+
+        // Then
+        assertTrue(result.contains("minAge=25"));
+        assertTrue(result.contains("maxAge=40"));
+        assertTrue(result.contains("bornFrom=null"));
+        assertTrue(result.contains("bornTo=null"));
+    }
+}
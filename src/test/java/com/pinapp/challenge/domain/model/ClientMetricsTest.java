@@ -176,4 +176,20 @@ class ClientMetricsTest {
         // When & Then
         assertNotEquals(metrics1, metrics2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void equals_WithDifferentDistinctNames_ShouldReturnFalse() {
+        // Given
+        ClientMetrics metrics1 = new ClientMetrics(30.0, 5.0, 3L);
+        ClientMetrics metrics2 = new ClientMetrics(30.0, 5.0, 3L);
+        metrics1.setDistinctFirstNames(3L);
+        metrics1.setDistinctLastNames(2L);
+        metrics2.setDistinctFirstNames(3L);
+        metrics2.setDistinctLastNames(3L);
+
+        // When & Then
+        assertNotEquals(metrics1, metrics2);
+        assertEquals(3L, metrics1.getDistinctFirstNames());
+        assertTrue(metrics1.toString().contains("distinctLastNames=2"));
+    }
+}
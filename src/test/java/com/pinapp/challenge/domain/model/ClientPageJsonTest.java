@@ -0,0 +1,48 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientPageJsonTest {
+
+    private static final byte[] JSON = "[{\"id\" : 1}]".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void hasNext_WithNextPosition_ShouldBeTrue() {
+        // When & Then
+        assertTrue(new ClientPageJson(JSON, new ClientPosition(null, 1L)).hasNext());
+        assertFalse(new ClientPageJson(JSON, null).hasNext());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameContent_ShouldBeEqual() {
+        // Given
+        ClientPageJson first = new ClientPageJson(JSON, new ClientPosition(null, 1L));
+        ClientPageJson second = new ClientPageJson(JSON.clone(), new ClientPosition(null, 1L));
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientPageJson(JSON, null));
+        assertNotEquals(first, new ClientPageJson("[]".getBytes(StandardCharsets.UTF_8), new ClientPosition(null, 1L)));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a page");
+    }
+
+    @Test
+    void toString_ShouldContainJsonAndNextPosition() {
+        // Given
+        ClientPageJson page = new ClientPageJson(JSON, new ClientPosition(null, 1L));
+
+        // When
+        String result = page.toString();
+
+        // Then
+        assertTrue(result.contains("json=[{\"id\" : 1}]"));
+        assertTrue(result.contains("next=ClientPosition{key=null, id=1}"));
+    }
+}
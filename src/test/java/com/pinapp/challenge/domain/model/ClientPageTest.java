@@ -0,0 +1,58 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientPageTest {
+
+    @Test
+    void constructor_WithMutableList_ShouldKeepDefensiveCopy() {
+        // Given
+        List<Client> clients = new ArrayList<>(ClientTestData.BASIC_CLIENTS_LIST);
+
+        // When
+        ClientPage page = new ClientPage(clients, new ClientPosition(null, 3L));
+        clients.clear();
+
+        // Then
+        assertEquals(3, page.getClients().size());
+        assertThrows(UnsupportedOperationException.class, () -> page.getClients().clear());
+    }
+
+    @Test
+    void hasNext_ShouldDependOnNextPosition() {
+        // When & Then
+        assertTrue(new ClientPage(ClientTestData.SINGLE_CLIENT_LIST, new ClientPosition(null, 1L)).hasNext());
+        assertFalse(new ClientPage(ClientTestData.SINGLE_CLIENT_LIST, null).hasNext());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientPage first = new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, new ClientPosition(null, 3L));
+        ClientPage second = new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, new ClientPosition(null, 3L));
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, null));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a page");
+    }
+
+    @Test
+    void toString_ShouldContainSizeAndNextPosition() {
+        // When
+        String result = new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, new ClientPosition(null, 3L)).toString();
+
+        // Then
+        assertTrue(result.contains("clients=3"));
+        assertTrue(result.contains("next=ClientPosition{key=null, id=3}"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientPositionTest {
+
+    @Test
+    void after_ShouldTakeSortValueAndIdOfClient() {
+        // When
+        ClientPosition byLastName = ClientPosition.after(ClientSort.LAST_NAME, ClientTestData.MARY_GARCIA);
+        ClientPosition byId = ClientPosition.after(ClientSort.ID, ClientTestData.MARY_GARCIA);
+
+        // Then
+        assertEquals("Garcia", byLastName.getKey());
+        assertEquals(2L, byLastName.getId());
+        assertNull(byId.getKey());
+        assertEquals(2L, byId.getId());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientPosition first = new ClientPosition(30, 4L);
+        ClientPosition second = new ClientPosition(30, 4L);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientPosition(30, 5L));
+        assertNotEquals(first, new ClientPosition(31, 4L));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a position");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // When
+        String result = new ClientPosition("Doe", 1L).toString();
+
+        // Then
+        assertTrue(result.contains("key=Doe"));
+        assertTrue(result.contains("id=1"));
+    }
+}
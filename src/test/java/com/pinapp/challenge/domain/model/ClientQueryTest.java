@@ -0,0 +1,99 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientQueryTest {
+
+    @Test
+    void constructor_WithoutSortOrDirection_ShouldDefaultToIdAscending() {
+        // When
+        ClientQuery query = new ClientQuery("Jo", "", 20, 40, null, null, null, null);
+
+        // Then
+        assertEquals("Jo", query.getFirstNamePrefix());
+        assertNull(query.getLastNamePrefix());
+        assertEquals(20, query.getMinAge());
+        assertEquals(40, query.getMaxAge());
+        assertEquals(ClientSort.ID, query.getSort());
+        assertEquals(SortDirection.ASC, query.getDirection());
+    }
+
+    @Test
+    void constructor_WithAgeAndBirthDateRanges_ShouldKeepBoth() {
+        // When
+        ClientQuery query = new ClientQuery(null, null, 20, null, LocalDate.of(1980, 1, 1), LocalDate.of(1999, 12, 31),
+                ClientSort.BIRTH_DATE, SortDirection.DESC);
+
+        // Then
+        assertEquals(LocalDate.of(1980, 1, 1), query.getBornFrom());
+        assertEquals(LocalDate.of(1999, 12, 31), query.getBornTo());
+        assertEquals(ClientSort.BIRTH_DATE, query.getSort());
+        assertEquals(SortDirection.DESC, query.getDirection());
+    }
+
+    @Test
+    void withFields_ShouldKeepFiltersAndRestrictFields() {
+        // Given
+        ClientQuery query = new ClientQuery("Jo", null, null, null, null, null, ClientSort.AGE, null);
+
+        // When
+        ClientQuery projected = query.withFields(EnumSet.of(ClientField.ID, ClientField.LAST_NAME));
+
+        // Then
+        assertEquals("Jo", projected.getFirstNamePrefix());
+        assertEquals(ClientSort.AGE, projected.getSort());
+        assertEquals(Set.of(ClientField.ID, ClientField.LAST_NAME), projected.getFields());
+        assertTrue(projected.includes(ClientField.LAST_NAME));
+        assertFalse(projected.includes(ClientField.AGE));
+        assertTrue(query.includes(ClientField.AGE));
+        assertEquals(ClientField.ALL, query.withFields(Set.of()).getFields());
+        assertNotEquals(query, projected);
+    }
+
+    @Test
+    void constructor_WithInvertedRanges_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException ageException = assertThrows(IllegalArgumentException.class,
+                () -> new ClientQuery(null, null, 50, 40, null, null, null, null));
+        IllegalArgumentException dateException = assertThrows(IllegalArgumentException.class,
+                () -> new ClientQuery(null, null, null, null, LocalDate.of(2000, 1, 1), LocalDate.of(1990, 1, 1), null, null));
+
+        assertEquals("minAge must not be greater than maxAge", ageException.getMessage());
+        assertEquals("bornFrom must not be after bornTo", dateException.getMessage());
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientQuery first = new ClientQuery("Jo", "Do", 20, 40, null, null, ClientSort.AGE, SortDirection.DESC);
+        ClientQuery second = new ClientQuery("Jo", "Do", 20, 40, null, null, ClientSort.AGE, SortDirection.DESC);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertEquals(ClientQuery.ALL, new ClientQuery(null, null, null, null, null, null, null, null));
+        assertNotEquals(first, new ClientQuery("Jo", "Do", 20, 40, null, null, ClientSort.AGE, SortDirection.ASC));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a query");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // When
+        String result = new ClientQuery("Jo", null, 20, null, null, null, ClientSort.AGE, SortDirection.DESC).toString();
+
+        // Then
+        assertTrue(result.contains("firstNamePrefix='Jo'"));
+        assertTrue(result.contains("minAge=20"));
+        assertTrue(result.contains("sort=AGE"));
+        assertTrue(result.contains("direction=DESC"));
+        assertTrue(result.contains("fields="));
+    }
+}
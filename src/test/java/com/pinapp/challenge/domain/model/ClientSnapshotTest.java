@@ -0,0 +1,44 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientSnapshotTest {
+
+    private static final ClientTableVersion TABLE_VERSION = new ClientTableVersion(2L, Instant.parse("2026-10-17T10:15:30Z"));
+    private static final Path FILE = Path.of("snapshots", "clients-v2.csv.gz");
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientSnapshot first = new ClientSnapshot(TABLE_VERSION, FILE, 284L);
+        ClientSnapshot second = new ClientSnapshot(TABLE_VERSION, FILE, 284L);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientSnapshot(TABLE_VERSION, FILE, 300L));
+        assertNotEquals(first, new ClientSnapshot(TABLE_VERSION, Path.of("clients-v3.csv.gz"), 284L));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a snapshot");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // Given
+        ClientSnapshot snapshot = new ClientSnapshot(TABLE_VERSION, FILE, 284L);
+
+        // When
+        String result = snapshot.toString();
+
+        // Then
+        assertTrue(result.contains("version=2"));
+        assertTrue(result.contains("clients-v2.csv.gz"));
+        assertTrue(result.contains("size=284"));
+    }
+}
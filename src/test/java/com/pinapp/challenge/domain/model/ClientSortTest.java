@@ -0,0 +1,68 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientSortTest {
+
+    @Test
+    void fromParameter_WithSupportedNames_ShouldResolveIgnoringCase() {
+        // When & Then
+        assertEquals(ClientSort.ID, ClientSort.fromParameter("id"));
+        assertEquals(ClientSort.FIRST_NAME, ClientSort.fromParameter("firstName"));
+        assertEquals(ClientSort.LAST_NAME, ClientSort.fromParameter("LASTNAME"));
+        assertEquals(ClientSort.AGE, ClientSort.fromParameter("age"));
+        assertEquals(ClientSort.BIRTH_DATE, ClientSort.fromParameter("birthdate"));
+    }
+
+    @Test
+    void fromParameter_WithoutName_ShouldDefaultToId() {
+        // When & Then
+        assertEquals(ClientSort.ID, ClientSort.fromParameter(null));
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientSort.fromParameter("salary"));
+
+        assertEquals("Unsupported sort value: salary", exception.getMessage());
+    }
+
+    @Test
+    void keyOf_ShouldReturnSortedFieldOfClient() {
+        // Given
+        Client client = ClientTestData.JOHN_DOE;
+
+        // When & Then
+        assertNull(ClientSort.ID.keyOf(client));
+        assertEquals("John", ClientSort.FIRST_NAME.keyOf(client));
+        assertEquals("Doe", ClientSort.LAST_NAME.keyOf(client));
+        assertEquals(30, ClientSort.AGE.keyOf(client));
+        assertEquals(LocalDate.of(1994, 1, 15), ClientSort.BIRTH_DATE.keyOf(client));
+    }
+
+    @Test
+    void parseKey_WithValidText_ShouldReturnTypedValue() {
+        // When & Then
+        assertNull(ClientSort.ID.parseKey("anything"));
+        assertEquals("Doe", ClientSort.LAST_NAME.parseKey("Doe"));
+        assertEquals(30, ClientSort.AGE.parseKey("30"));
+        assertEquals(LocalDate.of(1994, 1, 15), ClientSort.BIRTH_DATE.parseKey("1994-01-15"));
+    }
+
+    @Test
+    void parseKey_WithInvalidText_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientSort.AGE.parseKey("old"));
+
+        assertEquals("Invalid age value: old", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> ClientSort.BIRTH_DATE.parseKey("1994-13-01"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientTableVersionTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-10-17T10:15:30Z");
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        ClientTableVersion first = new ClientTableVersion(2L, LAST_MODIFIED);
+        ClientTableVersion second = new ClientTableVersion(2L, LAST_MODIFIED);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new ClientTableVersion(3L, LAST_MODIFIED));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a version");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // Given
+        ClientTableVersion version = new ClientTableVersion(2L, LAST_MODIFIED);
+
+        // When
+        String result = version.toString();
+
+        // Then
+        assertTrue(result.contains("version=2"));
+        assertTrue(result.contains("lastModified=2026-10-17T10:15:30Z"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportFormatTest {
+
+    @Test
+    void fromParameter_WithSupportedName_ShouldResolveIgnoringCase() {
+        // When & Then
+        assertEquals(ExportFormat.ARROW, ExportFormat.fromParameter("arrow"));
+        assertEquals(ExportFormat.ARROW, ExportFormat.fromParameter("ARROW"));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromParameter("Csv"));
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ExportFormat.fromParameter("parquet"));
+
+        assertEquals("Unsupported format value: parquet", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.fromParameter(null));
+    }
+
+    @Test
+    void getParameterName_ShouldMatchRequestParameter() {
+        // When & Then
+        assertEquals("arrow", ExportFormat.ARROW.getParameterName());
+        assertEquals("csv", ExportFormat.CSV.getParameterName());
+    }
+}
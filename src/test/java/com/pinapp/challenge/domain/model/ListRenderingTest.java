@@ -0,0 +1,36 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListRenderingTest {
+
+    @Test
+    void fromParameter_WithSupportedNames_ShouldResolveIgnoringCase() {
+        // When & Then
+        assertEquals(ListRendering.APPLICATION, ListRendering.fromParameter("application"));
+        assertEquals(ListRendering.DATABASE, ListRendering.fromParameter("Database"));
+    }
+
+    @Test
+    void fromParameter_WithoutName_ShouldDefaultToApplication() {
+        // When & Then
+        assertEquals(ListRendering.APPLICATION, ListRendering.fromParameter(null));
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ListRendering.fromParameter("browser"));
+
+        assertEquals("Unsupported render value: browser", exception.getMessage());
+    }
+
+    @Test
+    void getParameterName_ShouldMatchRequestParameter() {
+        // When & Then
+        assertEquals("database", ListRendering.DATABASE.getParameterName());
+    }
+}
@@ -0,0 +1,68 @@
+package com.pinapp.challenge.domain.model;
+
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsGroupingTest {
+
+    @Test
+    void fromParameter_WithSupportedNames_ShouldResolveIgnoringCase() {
+        // When & Then
+        assertEquals(MetricsGrouping.BIRTH_DECADE, MetricsGrouping.fromParameter("birthDecade"));
+        assertEquals(MetricsGrouping.BIRTH_YEAR, MetricsGrouping.fromParameter("BIRTHYEAR"));
+        assertEquals(MetricsGrouping.LAST_NAME_INITIAL, MetricsGrouping.fromParameter("lastNameInitial"));
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MetricsGrouping.fromParameter("firstName"));
+
+        assertEquals("Unsupported groupBy value: firstName", exception.getMessage());
+    }
+
+    @Test
+    void keyOf_ShouldReturnCohortOfClient() {
+        // Given
+        Client client = ClientTestData.JOHN_DOE;
+
+        // When & Then
+        assertEquals("1990s", MetricsGrouping.BIRTH_DECADE.keyOf(client));
+        assertEquals("1994", MetricsGrouping.BIRTH_YEAR.keyOf(client));
+        assertEquals("D", MetricsGrouping.LAST_NAME_INITIAL.keyOf(client));
+    }
+
+    @Test
+    void keyOf_WithLowercaseLastNameAndCenturyBirthYear_ShouldNormalizeKey() {
+        // Given
+        Client client = new Client(1L, "Ana", " de la Cruz", 24, LocalDate.of(2000, 2, 29));
+
+        // When & Then
+        assertEquals("2000s", MetricsGrouping.BIRTH_DECADE.keyOf(client));
+        assertEquals("2000", MetricsGrouping.BIRTH_YEAR.keyOf(client));
+        assertEquals("D", MetricsGrouping.LAST_NAME_INITIAL.keyOf(client));
+    }
+
+    @Test
+    void keyOf_WithMissingFields_ShouldReturnUnknown() {
+        // Given
+        Client client = ClientTestData.CLIENT_WITH_ALL_NULLS;
+
+        // When & Then
+        assertEquals("unknown", MetricsGrouping.BIRTH_DECADE.keyOf(client));
+        assertEquals("unknown", MetricsGrouping.BIRTH_YEAR.keyOf(client));
+        assertEquals("unknown", MetricsGrouping.LAST_NAME_INITIAL.keyOf(client));
+    }
+
+    @Test
+    void getParameterName_ShouldMatchRequestParameter() {
+        // When & Then
+        assertEquals("birthDecade", MetricsGrouping.BIRTH_DECADE.getParameterName());
+        assertEquals("lastNameInitial", MetricsGrouping.LAST_NAME_INITIAL.getParameterName());
+    }
+}
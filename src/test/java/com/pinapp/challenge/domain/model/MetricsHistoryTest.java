@@ -0,0 +1,65 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsHistoryTest {
+
+    private static final Instant FROM = Instant.parse("2026-10-16T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-10-17T00:00:00Z");
+    private static final MetricsHistoryPoint POINT = new MetricsHistoryPoint(FROM, 6, 30.0, 5.0, 3.0);
+
+    @Test
+    void metricsHistory_ShouldExposeRangeResolutionAndPoints() {
+        // Given
+        MetricsHistory history = new MetricsHistory(FROM, TO, MetricsResolution.HOUR, List.of(POINT));
+
+        // When & Then
+        assertEquals(FROM, history.getFrom());
+        assertEquals(TO, history.getTo());
+        assertEquals(MetricsResolution.HOUR, history.getResolution());
+        assertEquals(List.of(POINT), history.getPoints());
+        assertTrue(history.toString().contains("points=1"));
+    }
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        MetricsHistory first = new MetricsHistory(FROM, TO, MetricsResolution.HOUR, List.of(POINT));
+        MetricsHistory second = new MetricsHistory(FROM, TO, MetricsResolution.HOUR, List.of(POINT));
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new MetricsHistory(FROM, TO, MetricsResolution.DAY, List.of(POINT)));
+        assertNotEquals(first, new MetricsHistory(FROM, TO, MetricsResolution.HOUR, List.of()));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a history");
+    }
+
+    @Test
+    void metricsHistoryPoint_ShouldExposeValuesAndCompareByValue() {
+        // Given
+        MetricsHistoryPoint same = new MetricsHistoryPoint(FROM, 6, 30.0, 5.0, 3.0);
+
+        // When & Then
+        assertEquals(FROM, POINT.getTimestamp());
+        assertEquals(6, POINT.getSamples());
+        assertEquals(30.0, POINT.getAverageAge());
+        assertEquals(5.0, POINT.getStandardDeviation());
+        assertEquals(3.0, POINT.getTotalClients());
+        assertEquals(same, POINT);
+        assertEquals(same.hashCode(), POINT.hashCode());
+        assertEquals(POINT, POINT);
+        assertNotEquals(POINT, new MetricsHistoryPoint(FROM, 7, 30.0, 5.0, 3.0));
+        assertNotEquals(POINT, new MetricsHistoryPoint(TO, 6, 30.0, 5.0, 3.0));
+        assertNotEquals(POINT, null);
+        assertNotEquals(POINT, "not a point");
+        assertTrue(POINT.toString().contains("samples=6"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsModeTest {
+
+    @Test
+    void fromParameter_WithSupportedNames_ShouldResolveIgnoringCase() {
+        // When & Then
+        assertEquals(MetricsMode.SUMMARY, MetricsMode.fromParameter("summary"));
+        assertEquals(MetricsMode.EXACT, MetricsMode.fromParameter("EXACT"));
+        assertEquals(MetricsMode.APPROX, MetricsMode.fromParameter("approx"));
+    }
+
+    @Test
+    void fromParameter_WithoutName_ShouldDefaultToSummary() {
+        // When & Then
+        assertEquals(MetricsMode.SUMMARY, MetricsMode.fromParameter(null));
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MetricsMode.fromParameter("fast"));
+
+        assertEquals("Unsupported mode value: fast", exception.getMessage());
+    }
+
+    @Test
+    void getParameterName_ShouldMatchRequestParameter() {
+        // When & Then
+        assertEquals("exact", MetricsMode.EXACT.getParameterName());
+    }
+}
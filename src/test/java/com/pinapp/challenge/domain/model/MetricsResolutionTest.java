@@ -0,0 +1,56 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsResolutionTest {
+
+    private static final Instant INSTANT = Instant.parse("2026-10-17T10:42:17.123456Z");
+
+    @Test
+    void bucketStart_ShouldTruncateToResolutionInUtc() {
+        // When & Then
+        assertEquals(Instant.parse("2026-10-17T10:42:17.123Z"), MetricsResolution.RAW.bucketStart(INSTANT));
+        assertEquals(Instant.parse("2026-10-17T10:42:00Z"), MetricsResolution.MINUTE.bucketStart(INSTANT));
+        assertEquals(Instant.parse("2026-10-17T10:00:00Z"), MetricsResolution.HOUR.bucketStart(INSTANT));
+        assertEquals(Instant.parse("2026-10-17T00:00:00Z"), MetricsResolution.DAY.bucketStart(INSTANT));
+    }
+
+    @Test
+    void getRetention_ShouldKeepCoarserResolutionsLonger() {
+        // When & Then
+        assertEquals(Duration.ofDays(1), MetricsResolution.RAW.getRetention());
+        assertEquals(Duration.ofDays(7), MetricsResolution.MINUTE.getRetention());
+        assertEquals(Duration.ofDays(90), MetricsResolution.HOUR.getRetention());
+        assertNull(MetricsResolution.DAY.getRetention());
+    }
+
+    @Test
+    void fromParameter_WithSupportedNames_ShouldResolveIgnoringCase() {
+        // When & Then
+        assertEquals(MetricsResolution.RAW, MetricsResolution.fromParameter("raw"));
+        assertEquals(MetricsResolution.HOUR, MetricsResolution.fromParameter("HOUR"));
+        assertEquals("minute", MetricsResolution.MINUTE.getParameterName());
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MetricsResolution.fromParameter("week"));
+        assertEquals("Unsupported step value: week", exception.getMessage());
+    }
+
+    @Test
+    void forSpan_ShouldPickFinestResolutionForRange() {
+        // When & Then
+        assertEquals(MetricsResolution.RAW, MetricsResolution.forSpan(Duration.ofMinutes(30)));
+        assertEquals(MetricsResolution.MINUTE, MetricsResolution.forSpan(Duration.ofHours(6)));
+        assertEquals(MetricsResolution.HOUR, MetricsResolution.forSpan(Duration.ofDays(7)));
+        assertEquals(MetricsResolution.DAY, MetricsResolution.forSpan(Duration.ofDays(365)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameCountTest {
+
+    @Test
+    void equalsAndHashCode_WithSameValues_ShouldBeEqual() {
+        // Given
+        NameCount first = new NameCount("Doe", 3L, 1L);
+        NameCount second = new NameCount("Doe", 3L, 1L);
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, first);
+        assertNotEquals(first, new NameCount("Doe", 4L, 1L));
+        assertNotEquals(first, new NameCount("Doe", 3L, 0L));
+        assertNotEquals(first, new NameCount("Smith", 3L, 1L));
+        assertNotEquals(first, null);
+        assertNotEquals(first, "not a name count");
+    }
+
+    @Test
+    void toString_ShouldContainAllFields() {
+        // Given
+        NameCount nameCount = new NameCount("Doe", 3L, 1L);
+
+        // When
+        String result = nameCount.toString();
+
+        // Then
+        assertTrue(result.contains("name='Doe'"));
+        assertTrue(result.contains("count=3"));
+        assertTrue(result.contains("error=1"));
+    }
+
+    @Test
+    void topNames_ShouldExposeBothListsAndCompareByValue() {
+        // Given
+        TopNames topNames = new TopNames(List.of(new NameCount("John", 2L, 0L)), List.of(new NameCount("Doe", 3L, 0L)));
+        TopNames same = new TopNames(List.of(new NameCount("John", 2L, 0L)), List.of(new NameCount("Doe", 3L, 0L)));
+
+        // When & Then
+        assertEquals("John", topNames.getFirstNames().get(0).getName());
+        assertEquals(3L, topNames.getLastNames().get(0).getCount());
+        assertEquals(same, topNames);
+        assertEquals(same.hashCode(), topNames.hashCode());
+        assertEquals(topNames, topNames);
+        assertNotEquals(topNames, new TopNames(List.of(), List.of()));
+        assertNotEquals(topNames, null);
+        assertNotEquals(topNames, "not top names");
+        assertTrue(topNames.toString().contains("firstNames=[NameCount{name='John'"));
+    }
+}
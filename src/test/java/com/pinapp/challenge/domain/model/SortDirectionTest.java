@@ -0,0 +1,36 @@
+package com.pinapp.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortDirectionTest {
+
+    @Test
+    void fromParameter_WithSupportedNames_ShouldResolveIgnoringCase() {
+        // When & Then
+        assertEquals(SortDirection.ASC, SortDirection.fromParameter("asc"));
+        assertEquals(SortDirection.DESC, SortDirection.fromParameter("DESC"));
+    }
+
+    @Test
+    void fromParameter_WithoutName_ShouldDefaultToAscending() {
+        // When & Then
+        assertEquals(SortDirection.ASC, SortDirection.fromParameter(null));
+    }
+
+    @Test
+    void fromParameter_WithUnsupportedName_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SortDirection.fromParameter("up"));
+
+        assertEquals("Unsupported direction value: up", exception.getMessage());
+    }
+
+    @Test
+    void getParameterName_ShouldMatchRequestParameter() {
+        // When & Then
+        assertEquals("desc", SortDirection.DESC.getParameterName());
+    }
+}
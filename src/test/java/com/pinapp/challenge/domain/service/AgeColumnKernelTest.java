@@ -0,0 +1,104 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.model.AgeStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgeColumnKernelTest {
+
+    @Test
+    void compute_WithSmallColumn_ShouldMatchSequentialAccumulation() {
+        // Given
+        int[] ages = {30, 25, 35, 28, 42, 18, 80};
+        AgeStatistics expected = AgeStatistics.EMPTY;
+        for (int age : ages) {
+            expected = expected.add(age);
+        }
+
+        // When
+        AgeStatistics result = AgeColumnKernel.compute(ages);
+
+        // Then
+        assertEquals(expected.getCount(), result.getCount());
+        assertEquals(expected.getMean(), result.getMean(), 1e-9);
+        assertEquals(expected.getStandardDeviation(), result.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void compute_WithColumnLargerThanThreshold_ShouldSplitAndMatchExactSums() {
+        // Given
+        int[] ages = new int[AgeColumnKernel.SEQUENTIAL_THRESHOLD * 5 + 3];
+        Random random = new Random(11);
+        long sum = 0;
+        long sumOfSquares = 0;
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] = 1 + random.nextInt(100);
+            sum += ages[i];
+            sumOfSquares += (long) ages[i] * ages[i];
+        }
+
+        // When
+        AgeStatistics result = AgeColumnKernel.compute(ages);
+
+        // Then
+        assertEquals(AgeStatistics.fromSums(ages.length, sum, sumOfSquares), result);
+    }
+
+    @Test
+    void compute_WithLength_ShouldOnlyUsePrefixOfColumn() {
+        // Given
+        int[] ages = {30, 25, 35, 99, 99};
+
+        // When
+        AgeStatistics result = AgeColumnKernel.compute(ages, 3);
+
+        // Then
+        assertEquals(3L, result.getCount());
+        assertEquals(30.0, result.getMean(), 1e-9);
+        assertEquals(5.0, result.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    void compute_WithEmptyColumn_ShouldReturnEmpty() {
+        // When & Then
+        assertSame(AgeStatistics.EMPTY, AgeColumnKernel.compute(new int[0]));
+    }
+
+    @Test
+    void compute_WithInvalidLength_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> AgeColumnKernel.compute(new int[2], 3));
+        assertThrows(IllegalArgumentException.class, () -> AgeColumnKernel.compute(new int[2], -1));
+    }
+
+    @Test
+    void accumulator_WithReusedBatches_ShouldMatchWholeColumn() {
+        // Given
+        int[] ages = new int[1_000];
+        Random random = new Random(7);
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] = 1 + random.nextInt(100);
+        }
+        AgeColumnKernel.Accumulator accumulator = new AgeColumnKernel.Accumulator();
+        int[] batch = new int[300];
+
+        // When - the same array is refilled for every batch, the last one only partly
+        for (int from = 0; from < ages.length; from += batch.length) {
+            int length = Math.min(batch.length, ages.length - from);
+            System.arraycopy(ages, from, batch, 0, length);
+            accumulator.accept(batch, length);
+        }
+
+        // Then
+        assertEquals(AgeColumnKernel.compute(ages), accumulator.toStatistics());
+    }
+
+    @Test
+    void accumulator_WithoutBatches_ShouldReturnEmpty() {
+        // When & Then
+        assertSame(AgeStatistics.EMPTY, new AgeColumnKernel.Accumulator().toStatistics());
+    }
+}
@@ -0,0 +1,226 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.index.DataVersion;
+import com.pinapp.challenge.domain.model.ApproximateClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import com.pinapp.challenge.domain.port.in.GetClientMetricsUseCase;
+import com.pinapp.challenge.testdata.ClientMetricsTestData;
+import com.pinapp.challenge.testdata.ClientTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingClientMetricsServiceTest {
+
+    private static final Duration TTL = Duration.ofSeconds(5);
+
+    @Mock
+    private GetClientMetricsUseCase delegate;
+
+    private DataVersion dataVersion;
+    private AtomicLong clock;
+    private double randomValue;
+    private CachingClientMetricsService cachingService;
+
+    @BeforeEach
+    void setUp() {
+        dataVersion = new DataVersion();
+        clock = new AtomicLong(1_000_000_000L);
+        randomValue = 0.5;
+        cachingService = new CachingClientMetricsService(delegate, dataVersion, TTL, 1.0, clock::get, () -> randomValue);
+    }
+
+    @Test
+    void getClientMetrics_WithSameVersion_ShouldComputeOnce() {
+        // Given
+        when(delegate.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+
+        // When
+        ClientMetrics first = cachingService.getClientMetrics();
+        ClientMetrics second = cachingService.getClientMetrics();
+
+        // Then
+        assertEquals(ClientMetricsTestData.BASIC_METRICS, first);
+        assertSame(first, second);
+        verify(delegate, times(1)).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_AfterWrite_ShouldRecompute() {
+        // Given
+        when(delegate.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS, ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT);
+        cachingService.getClientMetrics();
+
+        // When
+        dataVersion.add(ClientTestData.JOHN_DOE);
+        ClientMetrics result = cachingService.getClientMetrics();
+
+        // Then
+        assertEquals(ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT, result);
+        verify(delegate, times(2)).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_AfterTableVersionChange_ShouldRecompute() {
+        // Given
+        when(delegate.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS, ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT);
+        cachingService.getClientMetrics();
+
+        // When - Written by another instance, so only a table version read notices it
+        dataVersion.observeTableVersion(43L);
+        ClientMetrics result = cachingService.getClientMetrics();
+
+        // Then
+        assertEquals(ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT, result);
+        verify(delegate, times(2)).getClientMetrics();
+    }
+
+    @Test
+    void getIndexVersion_ShouldReturnDataVersion() {
+        // When & Then
+        assertEquals(dataVersion.current(), cachingService.getIndexVersion());
+    }
+
+    @Test
+    void getClientMetrics_AfterTtl_ShouldRecompute() {
+        // Given
+        when(delegate.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+        cachingService.getClientMetrics();
+
+        // When
+        clock.addAndGet(TTL.toNanos());
+        cachingService.getClientMetrics();
+
+        // Then
+        verify(delegate, times(2)).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_NearExpiryWithSlowComputation_ShouldRefreshEarly() {
+        // Given - the computation takes one second
+        when(delegate.getClientMetrics()).thenAnswer(invocation -> {
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            return ClientMetricsTestData.BASIC_METRICS;
+        });
+        cachingService.getClientMetrics();
+
+        // When - one second before expiry, with -ln(1 - 0.9) ~ 2.3 seconds of early expiry
+        clock.addAndGet(TTL.minusSeconds(1).toNanos());
+        randomValue = 0.9;
+        cachingService.getClientMetrics();
+
+        // Then
+        verify(delegate, times(2)).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_NearExpiryWithLowDraw_ShouldKeepCachedValue() {
+        // Given
+        when(delegate.getClientMetrics()).thenAnswer(invocation -> {
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            return ClientMetricsTestData.BASIC_METRICS;
+        });
+        cachingService.getClientMetrics();
+
+        // When - one second before expiry, with -ln(1 - 0.1) ~ 0.1 seconds of early expiry
+        clock.addAndGet(TTL.minusSeconds(1).toNanos());
+        randomValue = 0.1;
+        cachingService.getClientMetrics();
+
+        // Then
+        verify(delegate, times(1)).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_WhileAnotherThreadRecomputesExpiredValue_ShouldServePreviousValue() throws Exception {
+        // Given
+        CountDownLatch recomputing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getClientMetrics())
+                .thenReturn(ClientMetricsTestData.BASIC_METRICS)
+                .thenAnswer(invocation -> {
+                    recomputing.countDown();
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT;
+                });
+        cachingService.getClientMetrics();
+        clock.addAndGet(TTL.toNanos());
+
+        // When
+        CompletableFuture<ClientMetrics> refreshing = CompletableFuture.supplyAsync(cachingService::getClientMetrics);
+        assertTrue(recomputing.await(5, TimeUnit.SECONDS));
+        ClientMetrics servedMeanwhile = cachingService.getClientMetrics();
+        release.countDown();
+
+        // Then
+        assertEquals(ClientMetricsTestData.BASIC_METRICS, servedMeanwhile);
+        assertEquals(ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT, refreshing.get(5, TimeUnit.SECONDS));
+        assertEquals(ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT, cachingService.getClientMetrics());
+        verify(delegate, times(2)).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_WhileAnotherThreadRecomputesAfterVersionBump_ShouldWaitForNewValue() throws Exception {
+        // Given
+        CountDownLatch recomputing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getClientMetrics())
+                .thenReturn(ClientMetricsTestData.BASIC_METRICS)
+                .thenAnswer(invocation -> {
+                    recomputing.countDown();
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT;
+                });
+        cachingService.getClientMetrics();
+        dataVersion.observeTableVersion(43L);
+
+        // When
+        CompletableFuture<ClientMetrics> refreshing = CompletableFuture.supplyAsync(cachingService::getClientMetrics);
+        assertTrue(recomputing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ClientMetrics> waiting = CompletableFuture.supplyAsync(cachingService::getClientMetrics);
+
+        // Then - the value cached for the previous version is never handed out
+        assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertEquals(ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT, refreshing.get(5, TimeUnit.SECONDS));
+        assertEquals(ClientMetricsTestData.EXPECTED_METRICS_FOR_SINGLE_CLIENT, waiting.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(2)).getClientMetrics();
+    }
+
+    @Test
+    void otherMetricsVariants_ShouldBePassedToDelegate() {
+        // Given
+        ClientMetricsFilter filter = ClientMetricsFilter.ageBetween(25, 40);
+        LocalDate asOf = LocalDate.of(2030, 1, 1);
+        when(delegate.getClientMetrics(MetricsGrouping.BIRTH_YEAR)).thenReturn(Map.of());
+        when(delegate.getClientMetrics(filter)).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+        when(delegate.getClientMetricsAsOf(asOf)).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+        when(delegate.getExactClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+        ApproximateClientMetrics approximate = new ApproximateClientMetrics(ClientMetricsTestData.BASIC_METRICS, 3, 25.0, 35.0, 2.0, 8.0);
+        when(delegate.getApproximateClientMetrics()).thenReturn(approximate);
+
+        // When & Then
+        assertEquals(Map.of(), cachingService.getClientMetrics(MetricsGrouping.BIRTH_YEAR));
+        assertEquals(ClientMetricsTestData.BASIC_METRICS, cachingService.getClientMetrics(filter));
+        assertEquals(ClientMetricsTestData.BASIC_METRICS, cachingService.getClientMetricsAsOf(asOf));
+        assertEquals(ClientMetricsTestData.BASIC_METRICS, cachingService.getExactClientMetrics());
+        assertSame(approximate, cachingService.getApproximateClientMetrics());
+    }
+}
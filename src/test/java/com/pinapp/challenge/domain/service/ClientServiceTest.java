@@ -1,8 +1,34 @@
 package com.pinapp.challenge.domain.service;
 
+import com.pinapp.challenge.domain.index.AgeHistogram;
+import com.pinapp.challenge.domain.index.BirthDateIndex;
+import com.pinapp.challenge.domain.index.ClientIndexes;
+import com.pinapp.challenge.domain.index.DataVersion;
+import com.pinapp.challenge.domain.index.CohortRollups;
+import com.pinapp.challenge.domain.index.NameSketches;
+import com.pinapp.challenge.domain.index.RangeMetricsIndex;
+import com.pinapp.challenge.domain.index.TopNamesIndex;
+import com.pinapp.challenge.domain.model.AgeDistribution;
+import com.pinapp.challenge.domain.model.AgeSample;
+import com.pinapp.challenge.domain.model.ApproximateClientMetrics;
+import com.pinapp.challenge.domain.model.AgeStatistics;
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientChange;
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import com.pinapp.challenge.domain.model.ClientChanges;
 import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.domain.model.ClientPage;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import com.pinapp.challenge.domain.model.NameCount;
+import com.pinapp.challenge.domain.model.TopNames;
 import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import com.pinapp.challenge.testdata.AgeDistributionTestData;
 import com.pinapp.challenge.testdata.ClientTestData;
 import com.pinapp.challenge.testdata.ClientMetricsTestData;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +37,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,14 +53,40 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ClientServiceTest {
 
+    private static final int SAMPLE_SIZE = 100;
+
     @Mock
     private ClientRepositoryPort clientRepositoryPort;
 
+    @Mock
+    private ClientIndexes clientIndexes;
+
+    @Mock
+    private AgeHistogram ageHistogram;
+
+    @Mock
+    private CohortRollups cohortRollups;
+
+    @Mock
+    private BirthDateIndex birthDateIndex;
+
+    @Mock
+    private RangeMetricsIndex rangeMetricsIndex;
+
+    @Mock
+    private NameSketches nameSketches;
+
+    @Mock
+    private TopNamesIndex topNamesIndex;
+
+    private final DataVersion dataVersion = new DataVersion();
+
     private ClientService clientService;
 
     @BeforeEach
     void setUp() {
-        clientService = new ClientService(clientRepositoryPort);
+        clientService = new ClientService(clientRepositoryPort, clientIndexes, ageHistogram, cohortRollups, birthDateIndex,
+                rangeMetricsIndex, nameSketches, topNamesIndex, dataVersion, SAMPLE_SIZE);
     }
 
     @Test
@@ -49,6 +109,8 @@ class ClientServiceTest {
         assertEquals(ClientTestData.EXPECTED_BIRTH_DATE, result.getBirthDate());
         
         verify(clientRepositoryPort).save(client);
+        verify(clientIndexes).add(savedClient);
+        verify(nameSketches).add(savedClient);
     }
 
     @Test
@@ -62,6 +124,7 @@ class ClientServiceTest {
         
         assertEquals("First name is required", exception.getMessage());
         verify(clientRepositoryPort, never()).save(any());
+        verify(clientIndexes, never()).add(any());
     }
 
     @Test
@@ -77,6 +140,36 @@ class ClientServiceTest {
         verify(clientRepositoryPort, never()).save(any());
     }
 
+    @Test
+    void createClient_WithAgeAboveMaximum_ShouldThrowException() {
+        // Given
+        Client client = ClientTestData.createClientWithAge(AgeHistogram.MAX_AGE + 1);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> clientService.createClient(client));
+
+        assertEquals("Age must be at most 130", exception.getMessage());
+        verify(clientRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    void createClient_WithBirthDateOutsideIndexedRange_ShouldThrowException() {
+        // Given
+        Client bornTooEarly = new Client("Born", "Early", 30, RangeMetricsIndex.MIN_BIRTH_DATE.minusDays(1));
+        Client bornTooLate = new Client("Born", "Late", 30, RangeMetricsIndex.MAX_BIRTH_DATE.plusDays(1));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> clientService.createClient(bornTooEarly));
+        IllegalArgumentException lateException = assertThrows(IllegalArgumentException.class,
+            () -> clientService.createClient(bornTooLate));
+
+        assertEquals("Birth date must be between 1850-01-01 and 2149-12-31", exception.getMessage());
+        assertEquals(exception.getMessage(), lateException.getMessage());
+        verify(clientRepositoryPort, never()).save(any());
+    }
+
     @Test
     void getAllClients_ShouldReturnAllClients() {
         // Given
@@ -96,10 +189,103 @@ class ClientServiceTest {
         verify(clientRepositoryPort).findAll();
     }
 
+    @Test
+    void streamAllClients_ShouldDelegateToRepository() {
+        // Given
+        Consumer<Client> consumer = client -> { };
+
+        // When
+        clientService.streamAllClients(ClientQuery.ALL, consumer);
+
+        // Then
+        verify(clientRepositoryPort).streamAll(ClientQuery.ALL, consumer);
+    }
+
+    @Test
+    void exportAllClientsAsCsv_ShouldDelegateToRepository() {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        clientService.exportAllClientsAsCsv(output);
+
+        // Then
+        verify(clientRepositoryPort).exportCsv(output);
+    }
+
+    @Test
+    void exportAllClientsAsArrow_ShouldDelegateToRepository() {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        clientService.exportAllClientsAsArrow(output);
+
+        // Then
+        verify(clientRepositoryPort).exportArrow(output);
+    }
+
+    @Test
+    void getClients_WithMoreClientsThanLimit_ShouldReturnPageAndNextId() {
+        // Given
+        ClientQuery byLastName = new ClientQuery(null, null, null, null, null, null, ClientSort.LAST_NAME, null);
+        when(clientRepositoryPort.findPage(byLastName, null, 3)).thenReturn(ClientTestData.BASIC_CLIENTS_LIST);
+
+        // When
+        ClientPage result = clientService.getClients(byLastName, null, 2);
+
+        // Then
+        assertEquals(ClientTestData.BASIC_CLIENTS_LIST.subList(0, 2), result.getClients());
+        assertTrue(result.hasNext());
+        assertEquals(new ClientPosition("Garcia", 2L), result.getNext());
+    }
+
+    @Test
+    void getClients_WithLastPage_ShouldReturnNoNextId() {
+        // Given
+        ClientPosition after = new ClientPosition(null, 1L);
+        when(clientRepositoryPort.findPage(ClientQuery.ALL, after, 11)).thenReturn(ClientTestData.BASIC_CLIENTS_LIST.subList(1, 3));
+
+        // When
+        ClientPage result = clientService.getClients(ClientQuery.ALL, after, 10);
+
+        // Then
+        assertEquals(2, result.getClients().size());
+        assertFalse(result.hasNext());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void getClientsAsJson_ShouldReturnPageRenderedByRepository() {
+        // Given
+        ClientPageJson page = new ClientPageJson("[]".getBytes(StandardCharsets.UTF_8), null);
+        when(clientRepositoryPort.findPageJson(ClientQuery.ALL, null, 100)).thenReturn(Optional.of(page));
+
+        // When & Then
+        assertEquals(Optional.of(page), clientService.getClientsAsJson(ClientQuery.ALL, null, 100));
+    }
+
+    @Test
+    void getClientsAsJson_WithLimitOutOfRange_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientService.getClientsAsJson(ClientQuery.ALL, null, 0));
+        verifyNoInteractions(clientRepositoryPort);
+    }
+
+    @Test
+    void getClients_WithLimitOutOfRange_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> clientService.getClients(ClientQuery.ALL, null, 0));
+        assertEquals("limit must be between 1 and " + ClientService.MAX_PAGE_SIZE, exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> clientService.getClients(ClientQuery.ALL, null, ClientService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(clientRepositoryPort);
+    }
+
     @Test
     void getClientMetrics_WithEmptyList_ShouldReturnZeroMetrics() {
         // Given
-        when(clientRepositoryPort.findAll()).thenReturn(ClientTestData.EMPTY_CLIENTS_LIST);
+        when(clientRepositoryPort.getAgeStatistics()).thenReturn(ClientMetricsTestData.AGE_STATISTICS_FOR_EMPTY_LIST);
 
         // When
         ClientMetrics result = clientService.getClientMetrics();
@@ -110,15 +296,17 @@ class ClientServiceTest {
         assertEquals(ClientMetricsTestData.EXPECTED_RESPONSE_FOR_EMPTY_LIST.getStandardDeviation(), result.getStandardDeviation());
         assertEquals(ClientMetricsTestData.EXPECTED_RESPONSE_FOR_EMPTY_LIST.getTotalClients(), result.getTotalClients());
         
-        verify(clientRepositoryPort).findAll();
+        verify(clientRepositoryPort).getAgeStatistics();
+        verify(nameSketches, never()).sync();
+        verify(clientRepositoryPort, never()).findAll();
     }
 
     @Test
     void getClientMetrics_WithClients_ShouldCalculateCorrectMetrics() {
         // Given
-        List<Client> clients = ClientTestData.CLIENTS_FOR_METRICS;
-        
-        when(clientRepositoryPort.findAll()).thenReturn(clients);
+        when(clientRepositoryPort.getAgeStatistics()).thenReturn(ClientMetricsTestData.AGE_STATISTICS_FOR_BASIC_CLIENTS);
+        when(nameSketches.distinctFirstNames()).thenReturn(3L);
+        when(nameSketches.distinctLastNames()).thenReturn(2L);
 
         // When
         ClientMetrics result = clientService.getClientMetrics();
@@ -128,7 +316,229 @@ class ClientServiceTest {
         assertEquals(ClientMetricsTestData.EXPECTED_RESPONSE_FOR_BASIC_CLIENTS.getAverageAge(), result.getAverageAge());
         assertEquals(ClientMetricsTestData.EXPECTED_RESPONSE_FOR_BASIC_CLIENTS.getStandardDeviation(), result.getStandardDeviation(), 0.1);
         assertEquals(ClientMetricsTestData.EXPECTED_RESPONSE_FOR_BASIC_CLIENTS.getTotalClients(), result.getTotalClients());
+        assertEquals(3L, result.getDistinctFirstNames());
+        assertEquals(2L, result.getDistinctLastNames());
         
-        verify(clientRepositoryPort).findAll();
+        verify(clientRepositoryPort).getAgeStatistics();
+        verify(clientRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    void getClientMetrics_WithGrouping_ShouldReturnCohortRollups() {
+        // Given
+        Map<String, ClientMetrics> groups = Map.of("1990s", ClientMetricsTestData.BASIC_METRICS);
+        when(cohortRollups.metricsBy(MetricsGrouping.BIRTH_DECADE)).thenReturn(groups);
+
+        // When
+        Map<String, ClientMetrics> result = clientService.getClientMetrics(MetricsGrouping.BIRTH_DECADE);
+
+        // Then
+        assertEquals(groups, result);
+        verify(clientRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    void getClientMetricsAsOf_OutsideSupportedDates_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientService.getClientMetricsAsOf(LocalDate.of(2150, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> clientService.getClientMetricsAsOf(LocalDate.MAX));
+        assertThrows(IllegalArgumentException.class, () -> clientService.getClientMetricsAsOf(LocalDate.of(1849, 12, 31)));
+        verifyNoInteractions(birthDateIndex);
+    }
+
+    @Test
+    void getClientMetricsAsOf_ShouldReturnMetricsFromBirthDateIndex() {
+        // Given
+        LocalDate asOf = LocalDate.of(2030, 1, 1);
+        when(birthDateIndex.statisticsAsOf(asOf)).thenReturn(AgeStatistics.fromSums(3L, 105L, 3725L));
+
+        // When
+        ClientMetrics result = clientService.getClientMetricsAsOf(asOf);
+
+        // Then
+        assertEquals(35.0, result.getAverageAge(), 1e-9);
+        assertEquals(5.0, result.getStandardDeviation(), 1e-9);
+        assertEquals(3L, result.getTotalClients());
+        verify(clientRepositoryPort, never()).findAll();
+        verify(clientRepositoryPort, never()).getAgeStatistics();
+    }
+
+    @Test
+    void getClientMetrics_WithFilter_ShouldReturnMetricsFromRangeIndex() {
+        // Given
+        ClientMetricsFilter filter = ClientMetricsFilter.ageBetween(25, 40);
+        when(rangeMetricsIndex.statistics(filter)).thenReturn(ClientMetricsTestData.AGE_STATISTICS_FOR_BASIC_CLIENTS);
+
+        // When
+        ClientMetrics result = clientService.getClientMetrics(filter);
+
+        // Then
+        assertEquals(30.0, result.getAverageAge(), 1e-9);
+        assertEquals(3L, result.getTotalClients());
+        verify(clientRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    void getExactClientMetrics_ShouldRecomputeFromAgeColumn() {
+        // Given
+        doAnswer(invocation -> {
+            ObjIntConsumer<int[]> batchConsumer = invocation.getArgument(0);
+            batchConsumer.accept(new int[]{30, 25, 99}, 2);
+            batchConsumer.accept(new int[]{35, 99, 99}, 1);
+            return null;
+        }).when(clientRepositoryPort).forEachAgeBatch(any());
+
+        // When
+        ClientMetrics result = clientService.getExactClientMetrics();
+
+        // Then
+        assertEquals(30.0, result.getAverageAge(), 1e-9);
+        assertEquals(5.0, result.getStandardDeviation(), 1e-9);
+        assertEquals(3L, result.getTotalClients());
+        verify(clientRepositoryPort, never()).findAll();
+        verify(clientRepositoryPort, never()).getAgeStatistics();
+    }
+
+    @Test
+    void getApproximateClientMetrics_ShouldEstimateFromSample() {
+        // Given
+        when(clientRepositoryPort.sampleAges(SAMPLE_SIZE)).thenReturn(new AgeSample(new int[]{30, 25, 35}, 300L));
+
+        // When
+        ApproximateClientMetrics result = clientService.getApproximateClientMetrics();
+
+        // Then
+        assertEquals(30.0, result.getMetrics().getAverageAge(), 1e-9);
+        assertEquals(5.0, result.getMetrics().getStandardDeviation(), 1e-9);
+        assertEquals(300L, result.getMetrics().getTotalClients());
+        assertEquals(3, result.getSampleSize());
+        assertTrue(result.getAverageAgeLower() < 30.0 && result.getAverageAgeUpper() > 30.0);
+        verify(clientRepositoryPort, never()).forEachAgeBatch(any());
+    }
+
+    @Test
+    void getClientTableVersion_ShouldReturnRepositoryVersion() {
+        // Given
+        ClientTableVersion version = new ClientTableVersion(3L, Instant.parse("2026-10-17T10:15:30Z"));
+        when(clientRepositoryPort.getTableVersion()).thenReturn(version);
+
+        // When & Then
+        assertEquals(version, clientService.getClientTableVersion());
+    }
+
+    @Test
+    void getClientTableVersion_WhenTableVersionMoved_ShouldChangeIndexVersion() {
+        // Given
+        when(clientRepositoryPort.getTableVersion()).thenReturn(
+                new ClientTableVersion(3L, Instant.parse("2026-10-17T10:15:30Z")),
+                new ClientTableVersion(4L, Instant.parse("2026-10-17T10:15:31Z")));
+        clientService.getClientTableVersion();
+        long before = clientService.getIndexVersion();
+
+        // When - another instance wrote a client
+        clientService.getClientTableVersion();
+
+        // Then
+        assertNotEquals(before, clientService.getIndexVersion());
+    }
+
+    @Test
+    void getIndexVersion_AfterIndexWrite_ShouldChange() {
+        // Given
+        long before = clientService.getIndexVersion();
+
+        // When
+        dataVersion.add(ClientTestData.JOHN_DOE);
+
+        // Then
+        assertNotEquals(before, clientService.getIndexVersion());
+    }
+
+    @Test
+    void getClientChanges_ShouldReturnChangesFromRepository() {
+        // Given
+        ClientChangePosition since = new ClientChangePosition(3L, 1L);
+        ClientChanges changes = new ClientChanges(List.of(ClientChange.deleted(2L, 4L)), ClientChangePosition.atVersion(4L), false);
+        when(clientRepositoryPort.findChanges(since, 100)).thenReturn(changes);
+
+        // When & Then
+        assertEquals(changes, clientService.getClientChanges(since, 100));
+    }
+
+    @Test
+    void getClientChanges_WithLimitOutOfRange_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientService.getClientChanges(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> clientService.getClientChanges(null, ClientService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(clientRepositoryPort);
+    }
+
+    @Test
+    void getTopNames_WithSupportedK_ShouldReturnTopNamesFromIndex() {
+        // Given
+        TopNames topNames = new TopNames(List.of(new NameCount("John", 2L, 0L)), List.of(new NameCount("Doe", 3L, 0L)));
+        when(topNamesIndex.getCapacity()).thenReturn(1000);
+        when(topNamesIndex.top(20)).thenReturn(topNames);
+
+        // When
+        TopNames result = clientService.getTopNames(20);
+
+        // Then
+        assertEquals(topNames, result);
+        verify(clientRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    void getTopNames_WithKOutsideCapacity_ShouldThrowException() {
+        // Given
+        when(topNamesIndex.getCapacity()).thenReturn(1000);
+
+        // When & Then
+        IllegalArgumentException tooSmall = assertThrows(IllegalArgumentException.class, () -> clientService.getTopNames(0));
+        IllegalArgumentException tooLarge = assertThrows(IllegalArgumentException.class, () -> clientService.getTopNames(1001));
+        assertEquals("k must be between 1 and 1000", tooSmall.getMessage());
+        assertEquals("k must be between 1 and 1000", tooLarge.getMessage());
+        verify(topNamesIndex, never()).top(anyInt());
+    }
+
+    @Test
+    void deleteClient_WithExistingId_ShouldDeleteClient() {
+        // Given
+        when(clientRepositoryPort.findById(2L)).thenReturn(Optional.of(ClientTestData.MARY_GARCIA));
+
+        // When
+        boolean deleted = clientService.deleteClient(2L);
+
+        // Then
+        assertTrue(deleted);
+        verify(clientRepositoryPort).deleteById(2L);
+        verify(clientIndexes).remove(ClientTestData.MARY_GARCIA);
+    }
+
+    @Test
+    void deleteClient_WithNonExistingId_ShouldReturnFalse() {
+        // Given
+        when(clientRepositoryPort.findById(999L)).thenReturn(Optional.empty());
+
+        // When
+        boolean deleted = clientService.deleteClient(999L);
+
+        // Then
+        assertFalse(deleted);
+        verify(clientRepositoryPort, never()).deleteById(any());
+        verify(clientIndexes, never()).remove(any());
+    }
+
+    @Test
+    void getAgeDistribution_ShouldReturnHistogramDistribution() {
+        // Given
+        when(ageHistogram.distribution()).thenReturn(AgeDistributionTestData.BASIC_DISTRIBUTION);
+
+        // When
+        AgeDistribution result = clientService.getAgeDistribution();
+
+        // Then
+        assertEquals(AgeDistributionTestData.BASIC_DISTRIBUTION, result);
+        verify(clientRepositoryPort, never()).findAll();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.port.out.ClientRepositoryPort;
+import com.pinapp.challenge.domain.port.out.ClientSnapshotPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientSnapshotServiceTest {
+
+    private static final ClientTableVersion VERSION_2 = new ClientTableVersion(2L, Instant.parse("2026-10-17T10:15:30Z"));
+    private static final ClientTableVersion VERSION_3 = new ClientTableVersion(3L, Instant.parse("2026-10-17T10:16:00Z"));
+
+    @Mock
+    private ClientRepositoryPort clientRepositoryPort;
+
+    @Mock
+    private ClientSnapshotPort clientSnapshotPort;
+
+    @InjectMocks
+    private ClientSnapshotService clientSnapshotService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshSnapshot_WithoutSnapshot_ShouldWriteCsvExport() {
+        // Given
+        when(clientRepositoryPort.getTableVersion()).thenReturn(VERSION_2);
+        when(clientSnapshotPort.findLatest()).thenReturn(Optional.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(clientSnapshotPort.write(eq(VERSION_2), any(Consumer.class))).thenAnswer(invocation -> {
+            ((Consumer<OutputStream>) invocation.getArgument(1)).accept(output);
+            return null;
+        });
+
+        // When
+        clientSnapshotService.refreshSnapshot();
+
+        // Then
+        verify(clientRepositoryPort).exportCsv(output);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshSnapshot_WithSnapshotOfOlderVersion_ShouldWriteNewSnapshot() {
+        // Given
+        when(clientRepositoryPort.getTableVersion()).thenReturn(VERSION_3);
+        when(clientSnapshotPort.findLatest()).thenReturn(Optional.of(snapshot(VERSION_2)));
+
+        // When
+        clientSnapshotService.refreshSnapshot();
+
+        // Then
+        verify(clientSnapshotPort).write(eq(VERSION_3), any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshSnapshot_WithSnapshotOfCurrentVersion_ShouldNotExportAgain() {
+        // Given
+        when(clientRepositoryPort.getTableVersion()).thenReturn(VERSION_2);
+        when(clientSnapshotPort.findLatest()).thenReturn(Optional.of(snapshot(VERSION_2)));
+
+        // When
+        clientSnapshotService.refreshSnapshot();
+
+        // Then
+        verify(clientSnapshotPort, never()).write(any(), any(Consumer.class));
+        verify(clientRepositoryPort, never()).exportCsv(any());
+    }
+
+    @Test
+    void getLatestSnapshot_ShouldReturnStoredSnapshot() {
+        // Given
+        ClientSnapshot snapshot = snapshot(VERSION_2);
+        when(clientSnapshotPort.findLatest()).thenReturn(Optional.of(snapshot));
+
+        // When & Then
+        assertEquals(Optional.of(snapshot), clientSnapshotService.getLatestSnapshot());
+        verifyNoInteractions(clientRepositoryPort);
+    }
+
+    private static ClientSnapshot snapshot(ClientTableVersion version) {
+        return new ClientSnapshot(version, Path.of("clients-v" + version.getVersion() + ".csv.gz"), 284L);
+    }
+}
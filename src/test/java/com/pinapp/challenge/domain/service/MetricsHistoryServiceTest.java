@@ -0,0 +1,104 @@
+package com.pinapp.challenge.domain.service;
+
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.MetricsHistory;
+import com.pinapp.challenge.domain.model.MetricsHistoryPoint;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+import com.pinapp.challenge.domain.port.in.GetClientMetricsUseCase;
+import com.pinapp.challenge.domain.port.out.MetricsHistoryRepositoryPort;
+import com.pinapp.challenge.testdata.ClientMetricsTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsHistoryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T10:42:17Z");
+
+    @Mock
+    private GetClientMetricsUseCase getClientMetricsUseCase;
+
+    @Mock
+    private MetricsHistoryRepositoryPort metricsHistoryRepositoryPort;
+
+    private MetricsHistoryService metricsHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        metricsHistoryService = new MetricsHistoryService(getClientMetricsUseCase, metricsHistoryRepositoryPort,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void recordSnapshot_ShouldFoldMetricsIntoEveryResolutionAndPruneExpiredPoints() {
+        // Given
+        ClientMetrics metrics = ClientMetricsTestData.BASIC_METRICS;
+        when(getClientMetricsUseCase.getClientMetrics()).thenReturn(metrics);
+
+        // When
+        metricsHistoryService.recordSnapshot();
+
+        // Then
+        verify(metricsHistoryRepositoryPort).record(MetricsResolution.RAW, NOW, metrics);
+        verify(metricsHistoryRepositoryPort).record(MetricsResolution.MINUTE, Instant.parse("2026-10-17T10:42:00Z"), metrics);
+        verify(metricsHistoryRepositoryPort).record(MetricsResolution.HOUR, Instant.parse("2026-10-17T10:00:00Z"), metrics);
+        verify(metricsHistoryRepositoryPort).record(MetricsResolution.DAY, Instant.parse("2026-10-17T00:00:00Z"), metrics);
+        verify(metricsHistoryRepositoryPort).deleteBefore(MetricsResolution.RAW, Instant.parse("2026-10-16T10:42:17Z"));
+        verify(metricsHistoryRepositoryPort).deleteBefore(MetricsResolution.MINUTE, Instant.parse("2026-10-10T10:42:17Z"));
+        verify(metricsHistoryRepositoryPort).deleteBefore(MetricsResolution.HOUR, Instant.parse("2026-07-19T10:42:17Z"));
+        verify(metricsHistoryRepositoryPort, never()).deleteBefore(eq(MetricsResolution.DAY), any());
+    }
+
+    @Test
+    void getMetricsHistory_WithRangeAndStep_ShouldReadBucketsFromStartBucket() {
+        // Given
+        Instant from = Instant.parse("2026-10-17T08:30:00Z");
+        List<MetricsHistoryPoint> points = List.of(new MetricsHistoryPoint(Instant.parse("2026-10-17T08:00:00Z"), 360, 30.0, 5.0, 3.0));
+        when(metricsHistoryRepositoryPort.find(MetricsResolution.HOUR, Instant.parse("2026-10-17T08:00:00Z"), NOW)).thenReturn(points);
+
+        // When
+        MetricsHistory history = metricsHistoryService.getMetricsHistory(from, NOW, MetricsResolution.HOUR);
+
+        // Then
+        assertEquals(new MetricsHistory(from, NOW, MetricsResolution.HOUR, points), history);
+    }
+
+    @Test
+    void getMetricsHistory_WithoutParameters_ShouldReturnLastDayByMinute() {
+        // Given
+        Instant dayBefore = Instant.parse("2026-10-16T10:42:17Z");
+        when(metricsHistoryRepositoryPort.find(MetricsResolution.MINUTE, Instant.parse("2026-10-16T10:42:00Z"), NOW))
+                .thenReturn(List.of());
+
+        // When
+        MetricsHistory history = metricsHistoryService.getMetricsHistory(null, null, null);
+
+        // Then
+        assertEquals(dayBefore, history.getFrom());
+        assertEquals(NOW, history.getTo());
+        assertEquals(MetricsResolution.MINUTE, history.getResolution());
+        assertTrue(history.getPoints().isEmpty());
+    }
+
+    @Test
+    void getMetricsHistory_WithFromAfterTo_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> metricsHistoryService.getMetricsHistory(NOW, NOW.minusSeconds(1), null));
+        assertEquals("from must not be after to", exception.getMessage());
+        verifyNoInteractions(metricsHistoryRepositoryPort);
+    }
+}
@@ -1,25 +1,54 @@
 package com.pinapp.challenge.e2e;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pinapp.challenge.domain.index.ClientIndexes;
+import com.pinapp.challenge.domain.index.NameSketches;
+import com.pinapp.challenge.domain.service.ClientSnapshotService;
+import com.pinapp.challenge.domain.service.MetricsHistoryService;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientMetricsResponse;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientResponse;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.CreateClientRequest;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.ClientEntity;
 import com.pinapp.challenge.infrastructure.adapter.out.persistence.ClientJpaRepository;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,11 +57,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * End-to-End tests for the Client Management API
  * Tests the complete flow from HTTP request through all layers to the database
  */
-@SpringBootTest
+// Snapshots are taken explicitly by the history tests, so keep the scheduled ones out of the way
+@SpringBootTest(properties = {
+        "app.metrics.history.enabled=false",
+        "app.snapshot.interval=PT1H",
+        "app.snapshot.directory=target/e2e-snapshots"
+})
 @AutoConfigureMockMvc
 @ActiveProfiles("dev")
 public class ClientE2ETest {
 
+    private static final int CONCURRENT_WRITERS = 4;
+    private static final int INSERTS_PER_WRITER = 50;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -42,10 +79,27 @@ public class ClientE2ETest {
     @Autowired
     private ClientJpaRepository clientRepository;
 
+    @Autowired
+    private ClientIndexes clientIndexes;
+
+    @Autowired
+    private NameSketches nameSketches;
+
+    @Autowired
+    private MetricsHistoryService metricsHistoryService;
+
+    @Autowired
+    private ClientSnapshotService clientSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         // Clean database before each test
         clientRepository.deleteAll();
+        // The cleanup bypasses the service, so reseed the in-memory indexes
+        clientIndexes.rebuild();
     }
 
     @Test
@@ -163,6 +217,523 @@ public class ClientE2ETest {
         assertThat(metrics.getStandardDeviation()).isGreaterThan(0.0);
     }
 
+    @Test
+    void e2e_PageThroughClients_ShouldVisitEveryClientOnce() throws Exception {
+        // Given - Five clients
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Page" + i + "\",\"lastName\":\"User\",\"age\":30,\"birthDate\":\"1994-01-15\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        // When - Following the cursor two clients at a time
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/clients").param("limit", "2").with(httpBasic("admin", "password123"));
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+            List<ClientResponse> page = objectMapper.readValue(
+                    result.getResponse().getContentAsString(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, ClientResponse.class)
+            );
+            page.forEach(client -> visited.add(client.getFirstName()));
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+            if (cursor != null) {
+                assertThat(result.getResponse().getHeader("Link"))
+                        .isEqualTo("</api/clients?after=" + cursor + "&limit=2>; rel=\"next\"");
+            } else {
+                assertThat(result.getResponse().getHeader("Link")).isNull();
+            }
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(visited).containsExactly("Page0", "Page1", "Page2", "Page3", "Page4");
+
+        mockMvc.perform(get("/api/clients").param("after", "bogus!")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/clients").param("limit", "0")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_StreamClientsAsNdjson_ShouldWriteOneClientPerLine() throws Exception {
+        // Given - Three clients
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Stream" + i + "\",\"lastName\":\"User\",\"age\":30,\"birthDate\":\"1994-01-15\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/clients")
+                        .accept("application/x-ndjson")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        ClientResponse first = objectMapper.readValue(lines[0], ClientResponse.class);
+        assertThat(first.getFirstName()).isEqualTo("Stream0");
+        assertThat(first.getBirthDate()).isEqualTo(LocalDate.of(1994, 1, 15));
+        assertThat(objectMapper.readValue(lines[2], ClientResponse.class).getFirstName()).isEqualTo("Stream2");
+
+        // And - Browsers and generic clients still get the JSON array
+        mockMvc.perform(get("/api/clients")
+                        .accept("text/html,application/xhtml+xml,*/*;q=0.8")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$").isArray());
+        mockMvc.perform(get("/api/clients")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    void e2e_FilterAndSortClients_ShouldReturnMatchingClientsInOrder() throws Exception {
+        // Given
+        String[][] clients = {
+                {"John", "Doe", "30", "1994-01-15"},
+                {"Jane", "Dorsey", "25", "1999-05-20"},
+                {"Jack", "Do_e", "41", "1983-02-01"},
+                {"Mary", "Garcia", "35", "1989-03-10"},
+                {"Joan", "Dorsey", "28", "1996-08-12"}
+        };
+        for (String[] client : clients) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"" + client[0] + "\",\"lastName\":\"" + client[1]
+                                    + "\",\"age\":" + client[2] + ",\"birthDate\":\"" + client[3] + "\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then - Prefix and age range, youngest first
+        mockMvc.perform(get("/api/clients")
+                        .param("lastName", "Do")
+                        .param("maxAge", "35")
+                        .param("sort", "age")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].firstName").value("Jane"))
+                .andExpect(jsonPath("$[1].firstName").value("Joan"))
+                .andExpect(jsonPath("$[2].firstName").value("John"));
+
+        // And - Wildcards in the prefix match literally
+        mockMvc.perform(get("/api/clients")
+                        .param("lastName", "Do_")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].firstName").value("Jack"));
+
+        // And - Birth date range combined with a first name prefix
+        mockMvc.perform(get("/api/clients")
+                        .param("firstName", "J")
+                        .param("bornFrom", "1990-01-01")
+                        .param("sort", "birthDate")
+                        .param("direction", "desc")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].firstName").value("Jane"))
+                .andExpect(jsonPath("$[2].firstName").value("John"));
+
+        // And - Pages sorted by last name descending (ties by id, also descending) follow the cursor without gaps
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/clients")
+                    .param("sort", "lastName")
+                    .param("direction", "desc")
+                    .param("limit", "2")
+                    .with(httpBasic("admin", "password123"));
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            List<ClientResponse> page = objectMapper.readValue(
+                    result.getResponse().getContentAsString(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, ClientResponse.class)
+            );
+            page.forEach(client -> visited.add(client.getFirstName()));
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+        } while (cursor != null);
+        assertThat(visited).containsExactly("Mary", "Joan", "Jane", "John", "Jack");
+
+        // And - Filters apply to the NDJSON stream too
+        MvcResult started = mockMvc.perform(get("/api/clients")
+                        .param("minAge", "35")
+                        .accept("application/x-ndjson")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).hasSize(2);
+
+        // And - Invalid parameters are rejected
+        mockMvc.perform(get("/api/clients").param("sort", "salary")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/clients").param("minAge", "50").param("maxAge", "40")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+        String descendingCursor = mockMvc.perform(get("/api/clients")
+                        .param("sort", "lastName")
+                        .param("direction", "desc")
+                        .param("limit", "2")
+                        .with(httpBasic("admin", "password123")))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+        mockMvc.perform(get("/api/clients")
+                        .param("sort", "lastName")
+                        .param("after", descendingCursor)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_ListClientsWithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Field" + i + "\",\"lastName\":\"User" + i + "\",\"age\":" + (30 + i)
+                                    + ",\"birthDate\":\"1994-01-15\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then - Only the requested properties are serialized, even when sorting on another column
+        MvcResult firstPage = mockMvc.perform(get("/api/clients")
+                        .param("fields", "lastName,estimatedDeathDate")
+                        .param("sort", "age")
+                        .param("limit", "2")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].lastName").value("User0"))
+                .andExpect(jsonPath("$[0].estimatedDeathDate").value("2074-01-15"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$[0].age").doesNotExist())
+                .andExpect(jsonPath("$[0].birthDate").doesNotExist())
+                .andReturn();
+
+        // And - The cursor still works although id and age were not returned
+        mockMvc.perform(get("/api/clients")
+                        .param("fields", "lastName,estimatedDeathDate")
+                        .param("sort", "age")
+                        .param("limit", "2")
+                        .param("after", firstPage.getResponse().getHeader("X-Next-Cursor"))
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].lastName").value("User2"));
+
+        // And - The NDJSON stream honours the fieldset too
+        MvcResult started = mockMvc.perform(get("/api/clients")
+                        .param("fields", "id")
+                        .accept("application/x-ndjson")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).allMatch(line -> line.matches("\\{\"id\":\\d+}"));
+
+        mockMvc.perform(get("/api/clients").param("fields", "id,password")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_CreateAndListClientsInBinaryFormats_ShouldRoundTripWithEpochDayDates() throws Exception {
+        // Given - A client created from a CBOR body with an epoch-day birth date
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+        ObjectMapper smile = new ObjectMapper(new SmileFactory());
+        byte[] request = cbor.writeValueAsBytes(Map.of("firstName", "John", "lastName", "Doe", "age", 30,
+                "birthDate", LocalDate.of(1994, 1, 15).toEpochDay()));
+        byte[] created = mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType("application/cbor")
+                        .accept("application/cbor")
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(cbor.readTree(created).get("birthDate").asLong()).isEqualTo(LocalDate.of(1994, 1, 15).toEpochDay());
+
+        // When/Then - The list is served in each binary format with dates as day counts
+        MvcResult cborList = mockMvc.perform(get("/api/clients")
+                        .accept("application/cbor")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn();
+        JsonNode cborClient = cbor.readTree(cborList.getResponse().getContentAsByteArray()).get(0);
+        assertThat(cborClient.get("firstName").asText()).isEqualTo("John");
+        assertThat(cborClient.get("birthDate").isIntegralNumber()).isTrue();
+        assertThat(cborClient.get("estimatedDeathDate").asLong()).isEqualTo(LocalDate.of(2074, 1, 15).toEpochDay());
+        assertThat(cborList.getResponse().getHeader("ETag")).endsWith("-cbor\"");
+
+        byte[] smileList = mockMvc.perform(get("/api/clients")
+                        .accept("application/x-jackson-smile")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(smile.readTree(smileList).get(0).get("lastName").asText()).isEqualTo("Doe");
+
+        mockMvc.perform(get("/api/clients")
+                        .accept("application/cbor")
+                        .header("If-None-Match", cborList.getResponse().getHeader("ETag"))
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isNotModified());
+
+        // And - JSON is still the default
+        mockMvc.perform(get("/api/clients")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].birthDate").value("1994-01-15"));
+        mockMvc.perform(get("/api/clients")
+                        .accept(MediaType.ALL)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/clients")
+                        .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void e2e_ExportClientsAsArrow_ShouldStreamColumnarBatches() throws Exception {
+        // Given
+        clientRepository.save(ClientEntity.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+        clientRepository.save(ClientEntity.builder().firstName("Jane").lastName("Smith").age(25).birthDate(LocalDate.of(1999, 5, 20)).build());
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/clients/export")
+                        .param("format", "arrow")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/vnd.apache.arrow.stream"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        try (RootAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(body), allocator)) {
+            assertThat(reader.loadNextBatch()).isTrue();
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertThat(root.getRowCount()).isEqualTo(2);
+            assertThat(root.getVector("last_name").getObject(1).toString()).isEqualTo("Smith");
+            assertThat(((DateDayVector) root.getVector("birth_date")).get(0)).isEqualTo((int) LocalDate.of(1994, 1, 15).toEpochDay());
+        }
+
+        mockMvc.perform(get("/api/clients/export")
+                        .param("format", "xlsx")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_ExportClientsAsCsv_ShouldStreamHeaderAndQuotedRows() throws Exception {
+        // Given
+        ClientEntity john = clientRepository.save(ClientEntity.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+        ClientEntity mary = clientRepository.save(ClientEntity.builder().firstName("Mary").lastName("O'Brien, Jr.").age(25).birthDate(LocalDate.of(1999, 5, 20)).build());
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/clients/export")
+                        .param("format", "csv")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"clients.csv\""))
+                .andExpect(content().string("id,first_name,last_name,age,birth_date\n"
+                        + john.getId() + ",John,Doe,30,1994-01-15\n"
+                        + mary.getId() + ",Mary,\"O'Brien, Jr.\",25,1999-05-20\n"));
+    }
+
+    @Test
+    void e2e_DownloadSnapshot_ShouldServeGzippedCsvOfCurrentVersion() throws Exception {
+        // Given
+        ClientEntity john = clientRepository.save(ClientEntity.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+        clientSnapshotService.refreshSnapshot();
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/clients/snapshot")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andReturn();
+
+        // Then
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))
+                .readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(csv).isEqualTo("id,first_name,last_name,age,birth_date\n" + john.getId() + ",John,Doe,30,1994-01-15\n");
+        String etag = result.getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/clients/snapshot")
+                        .header("If-None-Match", etag)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isNotModified());
+
+        // A write moves the version on, and the next refresh replaces the file
+        clientRepository.save(ClientEntity.builder().firstName("Jane").lastName("Smith").age(25).birthDate(LocalDate.of(1999, 5, 20)).build());
+        clientSnapshotService.refreshSnapshot();
+        mockMvc.perform(get("/api/clients/snapshot")
+                        .header("If-None-Match", etag)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void e2e_ListClientsRenderedByH2_ShouldFallBackToApplicationJson() throws Exception {
+        // Given
+        clientRepository.save(ClientEntity.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+
+        // When
+        String mapped = mockMvc.perform(get("/api/clients")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String rendered = mockMvc.perform(get("/api/clients")
+                        .param("render", "database")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(rendered).isEqualTo(mapped);
+        mockMvc.perform(get("/api/clients")
+                        .param("render", "server")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_ListClientsWithGzip_ShouldServeCompressedCopyOfSameJson() throws Exception {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Gzip" + i + "\",\"lastName\":\"User\",\"age\":30,\"birthDate\":\"1994-01-15\"}"))
+                    .andExpect(status().isCreated());
+        }
+        String plain = mockMvc.perform(get("/api/clients")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andReturn().getResponse().getContentAsString();
+
+        // When
+        MvcResult compressed = mockMvc.perform(get("/api/clients")
+                        .header("Accept-Encoding", "gzip")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        // Then
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+        }
+        assertThat(plain).contains("Gzip19");
+    }
+
+    @Test
+    void e2e_ConditionalGet_ShouldReturnNotModifiedUntilClientsChange() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"John\",\"lastName\":\"Doe\",\"age\":30,\"birthDate\":\"1994-01-15\"}"))
+                .andExpect(status().isCreated());
+
+        // When/Then - Both endpoints carry the table version as validators
+        MvcResult list = mockMvc.perform(get("/api/clients")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn();
+        String etag = list.getResponse().getHeader("ETag");
+        assertThat(etag).matches("\"\\d+\"");
+        MvcResult metrics = mockMvc.perform(get("/api/clients/metrics")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(30.0))
+                .andReturn();
+        String metricsEtag = metrics.getResponse().getHeader("ETag");
+        assertThat(metricsEtag).startsWith(etag.substring(0, etag.length() - 1) + "-");
+
+        mockMvc.perform(get("/api/clients")
+                        .header("If-None-Match", etag)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isNotModified())
+                .andExpect(result -> assertThat(result.getResponse().getHeaders("Vary")).contains("Accept-Encoding"))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/clients/metrics")
+                        .header("If-None-Match", metricsEtag)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isNotModified());
+
+        // And - Any write, even one bypassing the service, bumps the version and shows up in the bodies
+        jdbcTemplate.update("UPDATE clients SET age = 31");
+
+        mockMvc.perform(get("/api/clients")
+                        .header("If-None-Match", etag)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].age").value(31));
+        MvcResult changed = mockMvc.perform(get("/api/clients/metrics")
+                        .header("If-None-Match", metricsEtag)
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(31.0))
+                .andReturn();
+        assertThat(changed.getResponse().getHeader("ETag")).isNotEqualTo(metricsEtag);
+
+        // And - Sampled metrics are never validated
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("mode", "approx")
+                        .header("If-None-Match", changed.getResponse().getHeader("ETag"))
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
     @Test
     void e2e_WithoutAuthentication_ShouldReturnUnauthorized() throws Exception {
         // Given - No authentication
@@ -180,6 +751,36 @@ public class ClientE2ETest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void e2e_CreateClientOutsideIndexedRange_ShouldReturnBadRequest() throws Exception {
+        // Given - An age and a birth date past the range metrics buckets
+        CreateClientRequest tooOld = CreateClientRequest.builder()
+                .firstName("Too")
+                .lastName("Old")
+                .age(131)
+                .birthDate(LocalDate.of(1894, 1, 15))
+                .build();
+        CreateClientRequest bornTooEarly = CreateClientRequest.builder()
+                .firstName("Born")
+                .lastName("Early")
+                .age(30)
+                .birthDate(LocalDate.of(1849, 12, 31))
+                .build();
+
+        // When/Then
+        mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(tooOld)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bornTooEarly)))
+                .andExpect(status().isBadRequest());
+        assertThat(clientRepository.findAll()).isEmpty();
+    }
+
     @Test
     void e2e_InvalidClientData_ShouldReturnBadRequest() throws Exception {
         // Given - Invalid client (negative age)
@@ -349,5 +950,544 @@ public class ClientE2ETest {
         // And - Verify database has exactly one record
         assertThat(clientRepository.findAll()).hasSize(1);
     }
-}
 
+    @Test
+    void e2e_DeleteClient_ShouldRemoveClientAndUpdateMetrics() throws Exception {
+        // Given - Two clients
+        CreateClientRequest keep = CreateClientRequest.builder()
+                .firstName("Keep")
+                .lastName("Me")
+                .age(30)
+                .birthDate(LocalDate.of(1994, 1, 15))
+                .build();
+        CreateClientRequest remove = CreateClientRequest.builder()
+                .firstName("Remove")
+                .lastName("Me")
+                .age(50)
+                .birthDate(LocalDate.of(1974, 1, 15))
+                .build();
+
+        mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(keep)))
+                .andExpect(status().isCreated());
+
+        MvcResult createResult = mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(remove)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        ClientResponse created = objectMapper.readValue(
+                createResult.getResponse().getContentAsString(),
+                ClientResponse.class
+        );
+
+        // When - Delete the second client
+        mockMvc.perform(delete("/api/clients/{id}", created.getId())
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isNoContent());
+
+        // Then - It is gone and metrics only reflect the remaining client
+        assertThat(clientRepository.findAll()).hasSize(1);
+
+        mockMvc.perform(get("/api/clients/metrics")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(30.0))
+                .andExpect(jsonPath("$.totalClients").value(1));
+
+        // And - Deleting it again returns 404
+        mockMvc.perform(delete("/api/clients/{id}", created.getId())
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void e2e_SyncClientChanges_ShouldReturnOnlyChangesSinceToken() throws Exception {
+        // Given - A cache that synced everything so far
+        String token = syncFromStart();
+        ClientEntity keep = clientRepository.save(ClientEntity.builder().firstName("Keep").lastName("Me").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+        ClientEntity remove = clientRepository.save(ClientEntity.builder().firstName("Remove").lastName("Me").age(50).birthDate(LocalDate.of(1974, 1, 15)).build());
+
+        // When - One client is updated directly in the database and the other deleted through the API
+        keep.setAge(31);
+        clientRepository.save(keep);
+        mockMvc.perform(delete("/api/clients/{id}", remove.getId())
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isNoContent());
+
+        // Then - Only those two clients come back, each with its latest change, in the order they changed
+        JsonNode changes = getChanges(token, 1000);
+        assertThat(changes.get("hasMore").asBoolean()).isFalse();
+        assertThat(changes.get("changes")).hasSize(2);
+        JsonNode updated = changes.get("changes").get(0);
+        assertThat(updated.get("id").asLong()).isEqualTo(keep.getId());
+        assertThat(updated.get("deleted").asBoolean()).isFalse();
+        assertThat(updated.get("client").get("age").asInt()).isEqualTo(31);
+        assertThat(updated.get("client").get("estimatedDeathDate").asText()).isEqualTo("2074-01-15");
+        JsonNode deleted = changes.get("changes").get(1);
+        assertThat(deleted.get("id").asLong()).isEqualTo(remove.getId());
+        assertThat(deleted.get("deleted").asBoolean()).isTrue();
+        assertThat(deleted.has("client")).isFalse();
+
+        // And - Nothing is left after the new token
+        JsonNode unchanged = getChanges(changes.get("token").asText(), 1000);
+        assertThat(unchanged.get("changes")).isEmpty();
+        assertThat(unchanged.get("token").asText()).isEqualTo(changes.get("token").asText());
+
+        // And - A smaller limit splits the same changes across calls
+        JsonNode first = getChanges(token, 1);
+        assertThat(first.get("hasMore").asBoolean()).isTrue();
+        assertThat(first.get("changes").get(0).get("id").asLong()).isEqualTo(keep.getId());
+        JsonNode second = getChanges(first.get("token").asText(), 1);
+        assertThat(second.get("changes").get(0).get("id").asLong()).isEqualTo(remove.getId());
+
+        mockMvc.perform(get("/api/clients/changes")
+                        .param("since", "not-a-token")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Pages through the whole change log like a cache starting from nothing
+     * @return token to sync from afterwards
+     */
+    @Test
+    void e2e_SyncClientChangesDuringConcurrentInserts_ShouldMissNoClient() throws Exception {
+        // Given - A cache that synced everything so far, and writers inserting straight into the database
+        String token = syncFromStart();
+        ExecutorService writers = Executors.newFixedThreadPool(CONCURRENT_WRITERS);
+        List<Future<?>> inserts = new ArrayList<>();
+        for (int writer = 0; writer < CONCURRENT_WRITERS; writer++) {
+            int first = writer * INSERTS_PER_WRITER;
+            inserts.add(writers.submit(() -> {
+                for (int i = first; i < first + INSERTS_PER_WRITER; i++) {
+                    jdbcTemplate.update("INSERT INTO clients (first_name, last_name, age, birth_date) VALUES (?, ?, ?, ?)",
+                            "Writer" + i, "Concurrent", 30, LocalDate.of(1994, 1, 15));
+                }
+            }));
+        }
+
+        // When - The cache keeps syncing in small pages while the inserts commit, then drains the log
+        Set<Long> synced = new HashSet<>();
+        long lastVersion = 0;
+        boolean drained = false;
+        while (!drained) {
+            boolean writing = inserts.stream().anyMatch(insert -> !insert.isDone());
+            JsonNode changes = getChanges(token, 7);
+            for (JsonNode change : changes.get("changes")) {
+                synced.add(change.get("id").asLong());
+            }
+            long version = tokenVersion(changes.get("token").asText());
+            assertThat(version).isGreaterThanOrEqualTo(lastVersion);
+            lastVersion = version;
+            token = changes.get("token").asText();
+            drained = !writing && !changes.get("hasMore").asBoolean();
+        }
+        for (Future<?> insert : inserts) {
+            insert.get(30, TimeUnit.SECONDS);
+        }
+        writers.shutdown();
+
+        // Then - Every inserted client came back, and the final token is the table version
+        List<Long> inserted = jdbcTemplate.queryForList("SELECT id FROM clients WHERE last_name = 'Concurrent'", Long.class);
+        assertThat(inserted).hasSize(CONCURRENT_WRITERS * INSERTS_PER_WRITER);
+        assertThat(synced).containsExactlyInAnyOrderElementsOf(inserted);
+        assertThat(lastVersion).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT version FROM table_versions WHERE table_name = 'clients'", Long.class));
+    }
+
+    /**
+     * Version of the change log position wrapped by a sync token ("changes:version[:clientId]")
+     */
+    private static long tokenVersion(String token) {
+        String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        return Long.parseLong(position.split(":")[1]);
+    }
+
+    private String syncFromStart() throws Exception {
+        JsonNode changes = getChanges(null, 1000);
+        while (changes.get("hasMore").asBoolean()) {
+            changes = getChanges(changes.get("token").asText(), 1000);
+        }
+        return changes.get("token").asText();
+    }
+
+    private JsonNode getChanges(String since, int limit) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/clients/changes")
+                .param("limit", String.valueOf(limit))
+                .with(httpBasic("admin", "password123"));
+        if (since != null) {
+            request.param("since", since);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    void e2e_MetricsAfterDirectDatabaseWrites_ShouldIncludeThem() throws Exception {
+        // Given - Clients stored directly in the database, bypassing the service
+        clientRepository.save(ClientEntity.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+        clientRepository.save(ClientEntity.builder().firstName("Jane").lastName("Smith").age(25).birthDate(LocalDate.of(1999, 5, 20)).build());
+        ClientEntity bob = clientRepository.save(ClientEntity.builder().firstName("Bob").lastName("Johnson").age(35).birthDate(LocalDate.of(1989, 3, 10)).build());
+
+        // When/Then - The trigger-maintained summary reflects the stored rows
+        mockMvc.perform(get("/api/clients/metrics")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(30.0))
+                .andExpect(jsonPath("$.standardDeviation").value(5.0))
+                .andExpect(jsonPath("$.totalClients").value(3));
+
+        // And - Updating an age directly is reflected as well once the cached metrics are invalidated
+        bob.setAge(65);
+        clientRepository.save(bob);
+        clientIndexes.rebuild();
+
+        mockMvc.perform(get("/api/clients/metrics")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(40.0))
+                .andExpect(jsonPath("$.totalClients").value(3));
+    }
+
+    @Test
+    void e2e_CreateClientsAndGetAgeDistribution_ShouldReturnPercentiles() throws Exception {
+        // Given - Create clients with ages 25, 30, 30 and 60
+        int[] ages = {25, 30, 30, 60};
+        for (int age : ages) {
+            CreateClientRequest request = CreateClientRequest.builder()
+                    .firstName("Client")
+                    .lastName("Age" + age)
+                    .age(age)
+                    .birthDate(LocalDate.now().minusYears(age))
+                    .build();
+
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then - Get the distribution
+        mockMvc.perform(get("/api/clients/metrics/distribution")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalClients").value(4))
+                .andExpect(jsonPath("$.minAge").value(25))
+                .andExpect(jsonPath("$.maxAge").value(60))
+                .andExpect(jsonPath("$.medianAge").value(30))
+                .andExpect(jsonPath("$.p90Age").value(60))
+                .andExpect(jsonPath("$.p99Age").value(60))
+                .andExpect(jsonPath("$.histogram.30").value(2))
+                .andExpect(jsonPath("$.histogram.25").value(1));
+    }
+
+    @Test
+    void e2e_GetMetricsGroupedByBirthDecade_ShouldReturnCohorts() throws Exception {
+        // Given - Two clients born in the 1990s and one in the 1980s
+        CreateClientRequest[] requests = {
+                CreateClientRequest.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build(),
+                CreateClientRequest.builder().firstName("Jane").lastName("Smith").age(25).birthDate(LocalDate.of(1999, 5, 20)).build(),
+                CreateClientRequest.builder().firstName("Bob").lastName("Johnson").age(35).birthDate(LocalDate.of(1989, 3, 10)).build()
+        };
+        for (CreateClientRequest request : requests) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then - Cohorts are returned in key order next to the overall metrics
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("groupBy", "birthDecade")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalClients").value(3))
+                .andExpect(jsonPath("$.groupBy").value("birthDecade"))
+                .andExpect(jsonPath("$.groups.length()").value(2))
+                .andExpect(jsonPath("$.groups[0].group").value("1980s"))
+                .andExpect(jsonPath("$.groups[0].totalClients").value(1))
+                .andExpect(jsonPath("$.groups[1].group").value("1990s"))
+                .andExpect(jsonPath("$.groups[1].averageAge").value(27.5))
+                .andExpect(jsonPath("$.groups[1].totalClients").value(2));
+
+        // And - Without groupBy the response keeps its original shape
+        mockMvc.perform(get("/api/clients/metrics")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy").doesNotExist())
+                .andExpect(jsonPath("$.groups").doesNotExist());
+    }
+
+    @Test
+    void e2e_GetMetricsWithUnsupportedGroupBy_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("groupBy", "firstName")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Unsupported groupBy value: firstName"));
+    }
+
+    @Test
+    void e2e_GetMetricsAsOfDate_ShouldUseAgesFromBirthDates() throws Exception {
+        // Given - Stored ages that are deliberately stale
+        CreateClientRequest[] requests = {
+                CreateClientRequest.builder().firstName("John").lastName("Doe").age(1).birthDate(LocalDate.of(1994, 1, 15)).build(),
+                CreateClientRequest.builder().firstName("Jane").lastName("Smith").age(1).birthDate(LocalDate.of(1999, 5, 20)).build(),
+                CreateClientRequest.builder().firstName("Bob").lastName("Johnson").age(1).birthDate(LocalDate.of(1989, 3, 10)).build()
+        };
+        for (CreateClientRequest request : requests) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then - Ages on 2030-01-01 are 35, 30 and 40
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("asOf", "2030-01-01")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(35.0))
+                .andExpect(jsonPath("$.standardDeviation").value(5.0))
+                .andExpect(jsonPath("$.totalClients").value(3));
+
+        // And - An invalid date is rejected
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("asOf", "01/01/2030")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+
+        // And - So is a date far outside the supported range
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("asOf", "+999999999-12-31")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_GetMetricsForAgeRangeAndBirthDateWindow_ShouldFilterClients() throws Exception {
+        // Given - Clients aged 30, 25, 35 and 60
+        CreateClientRequest[] requests = {
+                CreateClientRequest.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build(),
+                CreateClientRequest.builder().firstName("Jane").lastName("Smith").age(25).birthDate(LocalDate.of(1999, 5, 20)).build(),
+                CreateClientRequest.builder().firstName("Bob").lastName("Johnson").age(35).birthDate(LocalDate.of(1989, 3, 10)).build(),
+                CreateClientRequest.builder().firstName("Ann").lastName("Lee").age(60).birthDate(LocalDate.of(1964, 7, 1)).build()
+        };
+        for (CreateClientRequest request : requests) {
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then - Age range 25 to 40
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("minAge", "25")
+                        .param("maxAge", "40")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(30.0))
+                .andExpect(jsonPath("$.standardDeviation").value(5.0))
+                .andExpect(jsonPath("$.totalClients").value(3));
+
+        // And - Born in the 1990s
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("bornFrom", "1990-01-01")
+                        .param("bornTo", "1999-12-31")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(27.5))
+                .andExpect(jsonPath("$.totalClients").value(2));
+
+        // And - Combining age and birth date ranges is rejected
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("minAge", "25")
+                        .param("bornFrom", "1990-01-01")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_GetMetricsInExactMode_ShouldMatchSummaryMetrics() throws Exception {
+        // Given
+        clientRepository.save(ClientEntity.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+        clientRepository.save(ClientEntity.builder().firstName("Jane").lastName("Smith").age(25).birthDate(LocalDate.of(1999, 5, 20)).build());
+        clientRepository.save(ClientEntity.builder().firstName("Bob").lastName("Johnson").age(35).birthDate(LocalDate.of(1989, 3, 10)).build());
+
+        // When/Then - Recomputed from the age column
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("mode", "exact")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(30.0))
+                .andExpect(jsonPath("$.standardDeviation").value(5.0))
+                .andExpect(jsonPath("$.totalClients").value(3));
+
+        // And - An unsupported mode is rejected
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("mode", "fast")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void e2e_GetMetricsInApproxMode_ShouldReturnEstimateWithConfidenceIntervals() throws Exception {
+        // Given - Fewer clients than the sample size, so the reservoir holds every age
+        clientRepository.save(ClientEntity.builder().firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build());
+        clientRepository.save(ClientEntity.builder().firstName("Jane").lastName("Smith").age(25).birthDate(LocalDate.of(1999, 5, 20)).build());
+        clientRepository.save(ClientEntity.builder().firstName("Bob").lastName("Johnson").age(35).birthDate(LocalDate.of(1989, 3, 10)).build());
+
+        // When/Then - A complete sample has zero-width intervals
+        mockMvc.perform(get("/api/clients/metrics")
+                        .param("mode", "approx")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(30.0))
+                .andExpect(jsonPath("$.standardDeviation").value(5.0))
+                .andExpect(jsonPath("$.totalClients").value(3))
+                .andExpect(jsonPath("$.sampleSize").value(3))
+                .andExpect(jsonPath("$.confidenceLevel").value(0.95))
+                .andExpect(jsonPath("$.averageAgeInterval.lower").value(30.0))
+                .andExpect(jsonPath("$.averageAgeInterval.upper").value(30.0))
+                .andExpect(jsonPath("$.standardDeviationInterval.lower").value(5.0));
+    }
+
+    @Test
+    void e2e_CreateClientsWithNewNames_ShouldCountDistinctNamesAcrossRestarts() throws Exception {
+        // Given - The sketches only grow, so compare against the names counted by earlier tests
+        ClientMetricsResponse before = objectMapper.readValue(mockMvc.perform(get("/api/clients/metrics")
+                        .with(httpBasic("admin", "password123")))
+                .andReturn().getResponse().getContentAsString(), ClientMetricsResponse.class);
+
+        // When - Two new first names sharing one new last name, one of them twice
+        for (String firstName : List.of("Zebulon", "Quirina", "Zebulon")) {
+            CreateClientRequest request = CreateClientRequest.builder()
+                    .firstName(firstName)
+                    .lastName("Hyperloglog")
+                    .age(40)
+                    .birthDate(LocalDate.of(1984, 6, 1))
+                    .build();
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // Then
+        mockMvc.perform(get("/api/clients/metrics")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.distinctFirstNames").value(before.getDistinctFirstNames() + 2))
+                .andExpect(jsonPath("$.distinctLastNames").value(before.getDistinctLastNames() + 1));
+
+        // And - Once the background sync has persisted them, reloading the registers as on startup gives the same estimates
+        nameSketches.sync();
+        nameSketches.restore();
+        assertThat(nameSketches.distinctFirstNames()).isEqualTo(before.getDistinctFirstNames() + 2);
+        assertThat(nameSketches.distinctLastNames()).isEqualTo(before.getDistinctLastNames() + 1);
+    }
+
+    @Test
+    void e2e_GetTopNames_ShouldRankMostCommonNames() throws Exception {
+        // Given
+        String[][] names = {{"John", "Doe"}, {"John", "Smith"}, {"Mary", "Doe"}, {"John", "Doe"}, {"Anna", "Lopez"}};
+        for (String[] name : names) {
+            CreateClientRequest request = CreateClientRequest.builder()
+                    .firstName(name[0])
+                    .lastName(name[1])
+                    .age(30)
+                    .birthDate(LocalDate.of(1994, 1, 15))
+                    .build();
+            mockMvc.perform(post("/api/clients")
+                            .with(httpBasic("admin", "password123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then
+        mockMvc.perform(get("/api/clients/metrics/top-names")
+                        .param("k", "2")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstNames.length()").value(2))
+                .andExpect(jsonPath("$.firstNames[0].name").value("John"))
+                .andExpect(jsonPath("$.firstNames[0].count").value(3))
+                .andExpect(jsonPath("$.firstNames[0].error").value(0))
+                .andExpect(jsonPath("$.lastNames[0].name").value("Doe"))
+                .andExpect(jsonPath("$.lastNames[0].count").value(3));
+    }
+
+    @Test
+    void e2e_GetTopNamesWithInvalidK_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/clients/metrics/top-names")
+                        .param("k", "0")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("k must be between 1 and 1000"));
+    }
+
+    @Test
+    void e2e_RecordSnapshotsAndGetHistory_ShouldReturnRawAndDownsampledPoints() throws Exception {
+        // Given - Two snapshots with different metrics
+        jdbcTemplate.update("DELETE FROM metrics_history");
+        mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateClientRequest.builder()
+                                .firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build())))
+                .andExpect(status().isCreated());
+        metricsHistoryService.recordSnapshot();
+        mockMvc.perform(post("/api/clients")
+                        .with(httpBasic("admin", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateClientRequest.builder()
+                                .firstName("Jane").lastName("Smith").age(40).birthDate(LocalDate.of(1984, 5, 20)).build())))
+                .andExpect(status().isCreated());
+        metricsHistoryService.recordSnapshot();
+
+        // When/Then - Raw points are the snapshots themselves
+        mockMvc.perform(get("/api/clients/metrics/history")
+                        .param("step", "raw")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.step").value("raw"))
+                .andExpect(jsonPath("$.points.length()").value(2))
+                .andExpect(jsonPath("$.points[0].averageAge").value(30.0))
+                .andExpect(jsonPath("$.points[0].totalClients").value(1.0))
+                .andExpect(jsonPath("$.points[1].averageAge").value(35.0))
+                .andExpect(jsonPath("$.points[1].totalClients").value(2.0));
+
+        // And - The day bucket averages both snapshots
+        mockMvc.perform(get("/api/clients/metrics/history")
+                        .param("step", "day")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points.length()").value(1))
+                .andExpect(jsonPath("$.points[0].samples").value(2))
+                .andExpect(jsonPath("$.points[0].averageAge").value(32.5))
+                .andExpect(jsonPath("$.points[0].totalClients").value(1.5));
+    }
+
+    @Test
+    void e2e_GetHistoryWithInvalidRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/clients/metrics/history")
+                        .param("from", "2026-10-17T00:00:00Z")
+                        .param("to", "2026-10-16T00:00:00Z")
+                        .with(httpBasic("admin", "password123")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("from must not be after to"));
+    }
+}
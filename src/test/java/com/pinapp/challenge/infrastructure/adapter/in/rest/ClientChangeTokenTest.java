@@ -0,0 +1,61 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest;
+
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientChangeTokenTest {
+
+    @Test
+    void decode_WithEncodedPositions_ShouldReturnSamePositions() {
+        // Given
+        ClientChangePosition atVersion = ClientChangePosition.atVersion(42L);
+        ClientChangePosition withinVersion = new ClientChangePosition(42L, 12345L);
+
+        // When
+        String versionToken = ClientChangeToken.encode(atVersion);
+        String clientToken = ClientChangeToken.encode(withinVersion);
+
+        // Then
+        assertEquals("Y2hhbmdlczo0Mg", versionToken);
+        assertFalse(clientToken.contains("12345"));
+        assertEquals(atVersion, ClientChangeToken.decode(versionToken));
+        assertEquals(withinVersion, ClientChangeToken.decode(clientToken));
+    }
+
+    @Test
+    void decode_WithoutToken_ShouldReturnNull() {
+        // When & Then
+        assertNull(ClientChangeToken.decode(null));
+        assertNull(ClientChangeToken.decode(" "));
+    }
+
+    @Test
+    void decode_WithMalformedToken_ShouldThrowIllegalArgumentException() {
+        // Given
+        String notBase64 = "%%%";
+        String listCursor = encode("id:42");
+        String notNumber = encode("changes:abc");
+        String badClientId = encode("changes:42:x");
+        String tooManyParts = encode("changes:42:1:2");
+        String missingVersion = encode("changes");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientChangeToken.decode(notBase64));
+        assertEquals("Invalid token: %%%", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> ClientChangeToken.decode(listCursor));
+        assertThrows(IllegalArgumentException.class, () -> ClientChangeToken.decode(notNumber));
+        assertThrows(IllegalArgumentException.class, () -> ClientChangeToken.decode(badClientId));
+        assertThrows(IllegalArgumentException.class, () -> ClientChangeToken.decode(tooManyParts));
+        assertThrows(IllegalArgumentException.class, () -> ClientChangeToken.decode(missingVersion));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,13 +1,52 @@
 package com.pinapp.challenge.infrastructure.adapter.in.rest;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ApproximateClientMetrics;
+import com.pinapp.challenge.domain.model.ClientChange;
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import com.pinapp.challenge.domain.model.ClientChanges;
+import com.pinapp.challenge.domain.model.ClientField;
 import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.ClientMetricsFilter;
+import com.pinapp.challenge.domain.model.ClientPage;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.model.SortDirection;
+import com.pinapp.challenge.domain.model.MetricsGrouping;
+import com.pinapp.challenge.domain.model.MetricsHistory;
+import com.pinapp.challenge.domain.model.MetricsHistoryPoint;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+import com.pinapp.challenge.domain.model.NameCount;
+import com.pinapp.challenge.domain.model.TopNames;
 import com.pinapp.challenge.domain.port.in.CreateClientUseCase;
+import com.pinapp.challenge.domain.port.in.DeleteClientUseCase;
+import com.pinapp.challenge.domain.port.in.GetAgeDistributionUseCase;
 import com.pinapp.challenge.domain.port.in.GetAllClientsUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientChangesUseCase;
 import com.pinapp.challenge.domain.port.in.GetClientMetricsUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientSnapshotUseCase;
+import com.pinapp.challenge.domain.port.in.GetClientTableVersionUseCase;
+import com.pinapp.challenge.domain.port.in.GetMetricsHistoryUseCase;
+import com.pinapp.challenge.domain.port.in.GetTopNamesUseCase;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.AgeDistributionResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientChangeResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientChangesResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientListQuery;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientMetricsQuery;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientMetricsResponse;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.ClientResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.MetricsHistoryQuery;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.MetricsHistoryResponse;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.TopNamesResponse;
 import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.CreateClientRequest;
+import com.pinapp.challenge.testdata.AgeDistributionTestData;
 import com.pinapp.challenge.testdata.ClientTestData;
 import com.pinapp.challenge.testdata.ClientMetricsTestData;
 import com.pinapp.challenge.testdata.CreateClientRequestTestData;
@@ -15,13 +54,39 @@ import com.pinapp.challenge.testdata.ClientResponseTestData;
 import com.pinapp.challenge.testdata.ClientMetricsResponseTestData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,13 +103,51 @@ class ClientControllerTest {
     @Mock
     private GetClientMetricsUseCase getClientMetricsUseCase;
 
+    @Mock
+    private DeleteClientUseCase deleteClientUseCase;
+
+    @Mock
+    private GetAgeDistributionUseCase getAgeDistributionUseCase;
+
+    @Mock
+    private GetTopNamesUseCase getTopNamesUseCase;
+
+    @Mock
+    private GetMetricsHistoryUseCase getMetricsHistoryUseCase;
+
+    @Mock
+    private GetClientTableVersionUseCase getClientTableVersionUseCase;
+
+    @Mock
+    private GetClientSnapshotUseCase getClientSnapshotUseCase;
+
+    @Mock
+    private GetClientChangesUseCase getClientChangesUseCase;
+
+    private static final ClientTableVersion TABLE_VERSION = new ClientTableVersion(42L, Instant.parse("2026-10-17T10:15:30Z"));
+
     private ClientController clientController;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest servletRequest;
+    private MockHttpServletResponse servletResponse;
+    private ServletWebRequest webRequest;
     private Client testClient;
     private CreateClientRequest testRequest;
 
     @BeforeEach
     void setUp() {
-        clientController = new ClientController(createClientUseCase, getAllClientsUseCase, getClientMetricsUseCase);
+        // Same date handling as the mapper Spring Boot configures
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        clientController = new ClientController(createClientUseCase, getAllClientsUseCase, getClientMetricsUseCase, deleteClientUseCase,
+                getAgeDistributionUseCase, getTopNamesUseCase, getMetricsHistoryUseCase, getClientTableVersionUseCase,
+                getClientSnapshotUseCase, getClientChangesUseCase,
+                new SerializedResponseCache(DataSize.ofMegabytes(1)), objectMapper);
+        servletRequest = new MockHttpServletRequest("GET", "/api/clients");
+        servletResponse = new MockHttpServletResponse();
+        webRequest = new ServletWebRequest(servletRequest, servletResponse);
+        lenient().when(getClientTableVersionUseCase.getClientTableVersion()).thenReturn(TABLE_VERSION);
         testClient = ClientTestData.JOHN_DOE;
         testRequest = CreateClientRequestTestData.VALID_REQUEST;
     }
@@ -77,16 +180,16 @@ class ClientControllerTest {
     void getAllClients_ShouldReturnAllClients() {
         // Given
         List<Client> clients = ClientTestData.BASIC_CLIENTS_LIST;
-        when(getAllClientsUseCase.getAllClients()).thenReturn(clients);
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 100)).thenReturn(new ClientPage(clients, null));
 
         // When
-        ResponseEntity<List<ClientResponse>> response = clientController.getAllClients();
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         
-        List<ClientResponse> clientResponses = response.getBody();
+        List<ClientResponse> clientResponses = readClients(response);
         assertNotNull(clientResponses);
         assertEquals(3, clientResponses.size());
         
@@ -98,28 +201,956 @@ class ClientControllerTest {
         assertEquals(ClientResponseTestData.EXPECTED_BIRTH_DATE, firstClient.getBirthDate());
         assertEquals(ClientResponseTestData.EXPECTED_ESTIMATED_DEATH_DATE, firstClient.getEstimatedDeathDate());
         
-        verify(getAllClientsUseCase).getAllClients();
+        assertFalse(response.getHeaders().containsKey(ClientController.NEXT_CURSOR_HEADER));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.LINK));
+        verify(getAllClientsUseCase).getClients(ClientQuery.ALL, null, 100);
+    }
+
+    @Test
+    void getAllClients_WithMoreClients_ShouldReturnNextCursorHeader() {
+        // Given
+        List<Client> clients = ClientTestData.BASIC_CLIENTS_LIST.subList(0, 2);
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 2)).thenReturn(new ClientPage(clients, new ClientPosition(null, 2L)));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 2, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, readClients(response).size());
+        String cursor = response.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER);
+        assertEquals(new ClientPosition(null, 2L), ClientCursor.decode(cursor, ClientSort.ID, SortDirection.ASC));
+    }
+
+    @Test
+    void getAllClients_WithMoreClients_ShouldLinkToNextPageKeepingOtherParameters() {
+        // Given
+        servletRequest.setQueryString("lastName=Do&after=aWQ6MQ&limit=2");
+        List<Client> clients = ClientTestData.BASIC_CLIENTS_LIST.subList(0, 2);
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 2)).thenReturn(new ClientPage(clients, new ClientPosition(null, 2L)));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 2, new ClientListQuery(), webRequest);
+
+        // Then
+        String cursor = response.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER);
+        assertEquals("</api/clients?lastName=Do&after=" + cursor + "&limit=2>; rel=\"next\"",
+                response.getHeaders().getFirst(HttpHeaders.LINK));
+    }
+
+    @Test
+    void getAllClients_WithCursor_ShouldContinueAfterDecodedId() {
+        // Given
+        String cursor = ClientCursor.encode(ClientSort.ID, SortDirection.ASC, new ClientPosition(null, 2L));
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, new ClientPosition(null, 2L), 2))
+                .thenReturn(new ClientPage(List.of(ClientTestData.CARLOS_LOPEZ), null));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(cursor, 2, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(1, readClients(response).size());
+        assertEquals(ClientTestData.CARLOS_LOPEZ.getId(), readClients(response).get(0).getId());
+        verify(getAllClientsUseCase).getClients(ClientQuery.ALL, new ClientPosition(null, 2L), 2);
+    }
+
+    @Test
+    void getAllClients_WithFiltersAndSort_ShouldPassQueryAndEncodeSortedCursor() {
+        // Given
+        ClientListQuery query = ClientListQuery.builder()
+                .lastName("Ga")
+                .minAge(20)
+                .maxAge(40)
+                .bornFrom(LocalDate.of(1990, 1, 1))
+                .sort("lastName")
+                .direction("desc")
+                .build();
+        ClientQuery expected = new ClientQuery(null, "Ga", 20, 40, LocalDate.of(1990, 1, 1), null,
+                ClientSort.LAST_NAME, SortDirection.DESC);
+        ClientPosition next = new ClientPosition("Garcia", 2L);
+        when(getAllClientsUseCase.getClients(expected, null, 1))
+                .thenReturn(new ClientPage(List.of(ClientTestData.MARY_GARCIA), next));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 1, query, webRequest);
+
+        // Then
+        assertEquals("Mary", readClients(response).get(0).getFirstName());
+        String cursor = response.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER);
+        assertEquals(next, ClientCursor.decode(cursor, ClientSort.LAST_NAME, SortDirection.DESC));
+    }
+
+    @Test
+    void getAllClients_WithFields_ShouldReturnOnlyRequestedFields() {
+        // Given
+        ClientListQuery query = ClientListQuery.builder().fields("lastName,estimatedDeathDate").build();
+        ClientQuery expected = ClientQuery.ALL.withFields(EnumSet.of(ClientField.LAST_NAME, ClientField.ESTIMATED_DEATH_DATE));
+        Client projected = new Client(1L, null, "Doe", null, LocalDate.of(1994, 1, 15));
+        when(getAllClientsUseCase.getClients(expected, null, 100)).thenReturn(new ClientPage(List.of(projected), null));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, query, webRequest);
+
+        // Then
+        ClientResponse clientResponse = readClients(response).get(0);
+        assertEquals("Doe", clientResponse.getLastName());
+        assertEquals(LocalDate.of(2074, 1, 15), clientResponse.getEstimatedDeathDate());
+        assertNull(clientResponse.getId());
+        assertNull(clientResponse.getFirstName());
+        assertNull(clientResponse.getAge());
+        assertNull(clientResponse.getBirthDate());
+    }
+
+    @Test
+    void getAllClients_WithUnsupportedSort_ShouldThrowIllegalArgumentException() {
+        // Given
+        ClientListQuery query = ClientListQuery.builder().sort("salary").build();
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> clientController.getAllClients(null, 10, query, webRequest));
+        assertEquals("Unsupported sort value: salary", exception.getMessage());
+        verifyNoInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllClients_ShouldWriteOneJsonLinePerClient() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Client> consumer = invocation.getArgument(1);
+            ClientTestData.BASIC_CLIENTS_LIST.forEach(consumer);
+            return null;
+        }).when(getAllClientsUseCase).streamAllClients(eq(ClientQuery.ALL), any(Consumer.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = clientController.streamAllClients(new ClientListQuery());
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ClientController.NDJSON, response.getHeaders().getContentType().toString());
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":" + ClientResponseTestData.EXPECTED_ID + ","));
+        assertTrue(lines[0].contains("\"birthDate\":\"" + ClientResponseTestData.EXPECTED_BIRTH_DATE + "\""));
+        assertTrue(lines[1].contains("\"firstName\":\"Mary\""));
+        assertTrue(lines[1].startsWith("{"));
+        assertFalse(lines[2].contains("\n"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllClients_WithBrokenConnection_ShouldStopStreaming() {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Client> consumer = invocation.getArgument(1);
+            ClientTestData.BASIC_CLIENTS_LIST.forEach(consumer);
+            return null;
+        }).when(getAllClientsUseCase).streamAllClients(eq(ClientQuery.ALL), any(Consumer.class));
+        OutputStream brokenOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        // When & Then
+        StreamingResponseBody body = clientController.streamAllClients(new ClientListQuery()).getBody();
+        assertThrows(UncheckedIOException.class, () -> body.writeTo(brokenOutput));
+    }
+
+    @Test
+    void exportClients_WithArrowFormat_ShouldPipeRepositoryExportIntoResponse() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write(new byte[]{1, 2, 3});
+            return null;
+        }).when(getAllClientsUseCase).exportAllClientsAsArrow(any(OutputStream.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = clientController.exportClients("arrow");
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals("application/vnd.apache.arrow.stream", response.getHeaders().getContentType().toString());
+        assertTrue(response.getHeaders().getContentDisposition().isAttachment());
+        assertArrayEquals(new byte[]{1, 2, 3}, output.toByteArray());
+        verify(getAllClientsUseCase, never()).streamAllClients(any(), any());
+    }
+
+    @Test
+    void exportClients_WithCsvFormat_ShouldPipeRepositoryExportIntoResponse() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write("id,first_name,last_name,age,birth_date\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(getAllClientsUseCase).exportAllClientsAsCsv(any(OutputStream.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = clientController.exportClients("csv");
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(MediaType.parseMediaType("text/csv;charset=UTF-8"), response.getHeaders().getContentType());
+        assertEquals("clients.csv", response.getHeaders().getContentDisposition().getFilename());
+        assertEquals("id,first_name,last_name,age,birth_date\n", output.toString(StandardCharsets.UTF_8));
+        verify(getAllClientsUseCase, never()).streamAllClients(any(), any());
+    }
+
+    @Test
+    void downloadSnapshot_WithoutSnapshot_ShouldReturnNotFound() {
+        // Given
+        when(getClientSnapshotUseCase.getLatestSnapshot()).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = clientController.downloadSnapshot(webRequest);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void downloadSnapshot_WithSendfileSupport_ShouldHandFileToContainer(@TempDir Path directory) throws Exception {
+        // Given
+        ClientSnapshot snapshot = snapshotFile(directory);
+        when(getClientSnapshotUseCase.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
+        servletRequest.setAttribute(ClientController.SENDFILE_SUPPORT, Boolean.TRUE);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = clientController.downloadSnapshot(webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(snapshot.getSize(), response.getHeaders().getContentLength());
+        assertEquals("clients-v42.csv.gz", response.getHeaders().getContentDisposition().getFilename());
+        assertEquals(snapshot.getFile().toAbsolutePath().toString(), servletRequest.getAttribute(ClientController.SENDFILE_FILENAME));
+        assertEquals(0L, servletRequest.getAttribute(ClientController.SENDFILE_START));
+        assertEquals(snapshot.getSize(), servletRequest.getAttribute(ClientController.SENDFILE_END));
+        assertEquals("\"snapshot-42\"", servletResponse.getHeader("ETag"));
+    }
+
+    @Test
+    void downloadSnapshot_WithoutSendfileSupport_ShouldTransferFileIntoBody(@TempDir Path directory) throws Exception {
+        // Given
+        ClientSnapshot snapshot = snapshotFile(directory);
+        when(getClientSnapshotUseCase.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = clientController.downloadSnapshot(webRequest);
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(MediaType.parseMediaType("application/gzip"), response.getHeaders().getContentType());
+        assertArrayEquals(Files.readAllBytes(snapshot.getFile()), output.toByteArray());
+        assertNull(servletRequest.getAttribute(ClientController.SENDFILE_FILENAME));
+    }
+
+    @Test
+    void downloadSnapshot_WithMatchingIfNoneMatch_ShouldReturnNotModified(@TempDir Path directory) throws Exception {
+        // Given
+        when(getClientSnapshotUseCase.getLatestSnapshot()).thenReturn(Optional.of(snapshotFile(directory)));
+        servletRequest.addHeader("If-None-Match", "\"snapshot-42\"");
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = clientController.downloadSnapshot(webRequest);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getClientChanges_WithToken_ShouldReturnChangesAndNextToken() {
+        // Given
+        ClientChangePosition since = ClientChangePosition.atVersion(41L);
+        when(getClientChangesUseCase.getClientChanges(since, 500)).thenReturn(new ClientChanges(
+                List.of(new ClientChange(1L, 42L, testClient), ClientChange.deleted(2L, 42L)),
+                ClientChangePosition.atVersion(42L), false));
+
+        // When
+        ResponseEntity<ClientChangesResponse> response =
+                clientController.getClientChanges(ClientChangeToken.encode(since), 500);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ClientChangesResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(2, body.getChanges().size());
+        ClientChangeResponse updated = body.getChanges().get(0);
+        assertEquals(1L, updated.getId());
+        assertFalse(updated.getDeleted());
+        assertEquals(testClient.getFirstName(), updated.getClient().getFirstName());
+        assertEquals(testClient.calculateLifeExpectancy(), updated.getClient().getEstimatedDeathDate());
+        ClientChangeResponse deleted = body.getChanges().get(1);
+        assertEquals(2L, deleted.getId());
+        assertTrue(deleted.getDeleted());
+        assertNull(deleted.getClient());
+        assertEquals(ClientChangePosition.atVersion(42L), ClientChangeToken.decode(body.getToken()));
+        assertFalse(body.getHasMore());
+    }
+
+    @Test
+    void getClientChanges_WithoutToken_ShouldSyncFromStart() {
+        // Given
+        when(getClientChangesUseCase.getClientChanges(null, 1)).thenReturn(new ClientChanges(
+                List.of(new ClientChange(1L, 3L, testClient)), new ClientChangePosition(3L, 1L), true));
+
+        // When
+        ResponseEntity<ClientChangesResponse> response = clientController.getClientChanges(null, 1);
+
+        // Then
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().getHasMore());
+        assertEquals(new ClientChangePosition(3L, 1L), ClientChangeToken.decode(response.getBody().getToken()));
+    }
+
+    @Test
+    void getClientChanges_WithInvalidToken_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientController.getClientChanges("%%%", 100));
+        verifyNoInteractions(getClientChangesUseCase);
+    }
+
+    @Test
+    void exportClients_WithUnsupportedFormat_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientController.exportClients("parquet"));
+        verifyNoInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    void getAllClients_WithInvalidCursor_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientController.getAllClients("not-a-cursor", 10, new ClientListQuery(), webRequest));
+        verifyNoInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    void getAllClients_ShouldReturnTableVersionValidators() {
+        // Given
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 100)).thenReturn(new ClientPage(List.of(), null));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+        assertEquals("\"42\"", servletResponse.getHeader("ETag"));
+        assertEquals(TABLE_VERSION.getLastModified().toEpochMilli(), servletResponse.getDateHeader("Last-Modified"));
+    }
+
+    @Test
+    void getAllClients_WithDatabaseRendering_ShouldPassRenderedJsonThrough() {
+        // Given
+        byte[] json = "[{\"id\" : 1}]".getBytes(StandardCharsets.UTF_8);
+        ClientListQuery query = ClientListQuery.builder().render("database").build();
+        when(getAllClientsUseCase.getClientsAsJson(ClientQuery.ALL, null, 1))
+                .thenReturn(Optional.of(new ClientPageJson(json, new ClientPosition(null, 1L))));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 1, query, webRequest);
+
+        // Then
+        assertArrayEquals(json, response.getBody());
+        assertEquals(ClientCursor.encode(ClientSort.ID, SortDirection.ASC, new ClientPosition(null, 1L)),
+                response.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER));
+        verify(getAllClientsUseCase, never()).getClients(any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllClients_WithDatabaseRenderingUnsupported_ShouldFallBackToMappedClients() {
+        // Given
+        ClientListQuery query = ClientListQuery.builder().render("database").build();
+        when(getAllClientsUseCase.getClientsAsJson(ClientQuery.ALL, null, 100)).thenReturn(Optional.empty());
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 100)).thenReturn(new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, null));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, query, webRequest);
+
+        // Then
+        assertEquals(3, readClients(response).size());
+        assertNull(response.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getAllClients_WithUnsupportedRendering_ShouldThrowIllegalArgumentException() {
+        // Given
+        ClientListQuery query = ClientListQuery.builder().render("browser").build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientController.getAllClients(null, 100, query, webRequest));
+        verifyNoInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    void getAllClients_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutReadingClients() {
+        // Given
+        servletRequest.addHeader("If-None-Match", "\"42\"");
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("\"42\"", servletResponse.getHeader("ETag"));
+        verifyNoInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    void getAllClients_WithGzipAcceptEncoding_ShouldValidateCompressedRepresentationSeparately() {
+        // Given
+        servletRequest.addHeader("Accept-Encoding", "gzip");
+        servletRequest.addHeader("If-None-Match", "\"42\"");
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 100))
+                .thenReturn(new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, null));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().getFirst("Content-Encoding"));
+        assertEquals("\"42-gzip\"", servletResponse.getHeader("ETag"));
+    }
+
+    @Test
+    void getAllClients_WithMatchingGzipIfNoneMatch_ShouldReturnNotModifiedVaryingOnEncoding() {
+        // Given
+        servletRequest.addHeader("Accept-Encoding", "gzip");
+        servletRequest.addHeader("If-None-Match", "\"42-gzip\"");
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(List.of("Accept-Encoding"), response.getHeaders().getVary());
+        verifyNoInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    void getAllClients_WithStaleIfNoneMatch_ShouldReturnClients() {
+        // Given
+        servletRequest.addHeader("If-None-Match", "\"41\"");
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 100)).thenReturn(new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, null));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3, readClients(response).size());
     }
 
     @Test
     void getClientMetrics_ShouldReturnMetrics() {
         // Given
-        ClientMetrics metrics = ClientMetricsTestData.BASIC_METRICS;
+        ClientMetrics metrics = new ClientMetrics(ClientMetricsTestData.EXPECTED_AVERAGE_AGE,
+                ClientMetricsTestData.EXPECTED_STANDARD_DEVIATION, ClientMetricsTestData.EXPECTED_TOTAL_CLIENTS);
+        metrics.setDistinctFirstNames(3L);
+        metrics.setDistinctLastNames(2L);
         when(getClientMetricsUseCase.getClientMetrics()).thenReturn(metrics);
 
         // When
-        ResponseEntity<ClientMetricsResponse> response = clientController.getClientMetrics();
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(new ClientMetricsQuery(), webRequest);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         
-        ClientMetricsResponse metricsResponse = response.getBody();
+        ClientMetricsResponse metricsResponse = readMetrics(response);
         assertNotNull(metricsResponse);
         assertEquals(ClientMetricsResponseTestData.EXPECTED_AVERAGE_AGE, metricsResponse.getAverageAge());
         assertEquals(ClientMetricsResponseTestData.EXPECTED_STANDARD_DEVIATION, metricsResponse.getStandardDeviation());
         assertEquals(ClientMetricsResponseTestData.EXPECTED_TOTAL_CLIENTS, metricsResponse.getTotalClients());
+        assertEquals(3L, metricsResponse.getDistinctFirstNames());
+        assertEquals(2L, metricsResponse.getDistinctLastNames());
         
         verify(getClientMetricsUseCase).getClientMetrics();
+        verify(getClientMetricsUseCase, never()).getClientMetrics(any(MetricsGrouping.class));
+        assertNull(metricsResponse.getGroupBy());
+        assertNull(metricsResponse.getGroups());
+    }
+
+    @Test
+    void getClientMetrics_WithGroupBy_ShouldReturnGroupsInKeyOrder() {
+        // Given
+        Map<String, ClientMetrics> groups = new TreeMap<>(Map.of(
+                "1980s", new ClientMetrics(38.5, 4.9, 2L),
+                "1990s", new ClientMetrics(27.5, 3.5, 2L)
+        ));
+        when(getClientMetricsUseCase.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+        when(getClientMetricsUseCase.getClientMetrics(MetricsGrouping.BIRTH_DECADE)).thenReturn(groups);
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(
+                ClientMetricsQuery.builder().groupBy("birthDecade").build(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        ClientMetricsResponse metricsResponse = readMetrics(response);
+        assertNotNull(metricsResponse);
+        assertEquals(ClientMetricsResponseTestData.EXPECTED_TOTAL_CLIENTS, metricsResponse.getTotalClients());
+        assertEquals("birthDecade", metricsResponse.getGroupBy());
+        assertEquals(2, metricsResponse.getGroups().size());
+        assertEquals("1980s", metricsResponse.getGroups().get(0).getGroup());
+        assertEquals(38.5, metricsResponse.getGroups().get(0).getAverageAge());
+        assertEquals(4.9, metricsResponse.getGroups().get(0).getStandardDeviation());
+        assertEquals(2L, metricsResponse.getGroups().get(0).getTotalClients());
+        assertEquals("1990s", metricsResponse.getGroups().get(1).getGroup());
+    }
+
+    @Test
+    void getClientMetrics_WithAsOf_ShouldReturnMetricsAtReferenceDate() {
+        // Given
+        LocalDate asOf = LocalDate.of(2030, 1, 1);
+        when(getClientMetricsUseCase.getClientMetricsAsOf(asOf)).thenReturn(new ClientMetrics(35.0, 5.0, 3L));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(
+                ClientMetricsQuery.builder().asOf(asOf).build(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(readMetrics(response));
+        assertEquals(35.0, readMetrics(response).getAverageAge());
+        assertEquals(3L, readMetrics(response).getTotalClients());
+        verify(getClientMetricsUseCase, never()).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_WithAsOfAndGroupBy_ShouldThrowException() {
+        // Given
+        ClientMetricsQuery query = ClientMetricsQuery.builder().groupBy("birthYear").asOf(LocalDate.of(2030, 1, 1)).build();
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> clientController.getClientMetrics(query, webRequest));
+
+        assertEquals("mode, asOf, groupBy and range filters cannot be combined", exception.getMessage());
+        verifyNoInteractions(getClientMetricsUseCase);
+    }
+
+    @Test
+    void getClientMetrics_WithAgeRange_ShouldReturnFilteredMetrics() {
+        // Given
+        ClientMetricsFilter filter = ClientMetricsFilter.ageBetween(25, 40);
+        when(getClientMetricsUseCase.getClientMetrics(filter)).thenReturn(new ClientMetrics(30.0, 5.0, 3L));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(
+                ClientMetricsQuery.builder().minAge(25).maxAge(40).build(), webRequest);
+
+        // Then
+        assertNotNull(readMetrics(response));
+        assertEquals(30.0, readMetrics(response).getAverageAge());
+        assertEquals(3L, readMetrics(response).getTotalClients());
+        verify(getClientMetricsUseCase, never()).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_WithBirthDateWindow_ShouldReturnFilteredMetrics() {
+        // Given
+        ClientMetricsFilter filter = ClientMetricsFilter.bornBetween(LocalDate.of(1990, 1, 1), null);
+        when(getClientMetricsUseCase.getClientMetrics(filter)).thenReturn(new ClientMetrics(27.5, 3.5, 2L));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(
+                ClientMetricsQuery.builder().bornFrom(LocalDate.of(1990, 1, 1)).build(), webRequest);
+
+        // Then
+        assertNotNull(readMetrics(response));
+        assertEquals(2L, readMetrics(response).getTotalClients());
+    }
+
+    @Test
+    void getClientMetrics_WithRangeAndGroupBy_ShouldThrowException() {
+        // Given
+        ClientMetricsQuery query = ClientMetricsQuery.builder().groupBy("birthYear").minAge(18).build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientController.getClientMetrics(query, webRequest));
+        verifyNoInteractions(getClientMetricsUseCase);
+    }
+
+    @Test
+    void getClientMetrics_WithExactMode_ShouldRecomputeMetrics() {
+        // Given
+        when(getClientMetricsUseCase.getExactClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(
+                ClientMetricsQuery.builder().mode("exact").build(), webRequest);
+
+        // Then
+        assertNotNull(readMetrics(response));
+        assertEquals(ClientMetricsResponseTestData.EXPECTED_TOTAL_CLIENTS, readMetrics(response).getTotalClients());
+        verify(getClientMetricsUseCase, never()).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_WithApproxMode_ShouldReturnEstimateWithIntervals() {
+        // Given
+        ApproximateClientMetrics approximate = new ApproximateClientMetrics(
+                new ClientMetrics(35.5, 12.3, 1_000_000L), 10_000, 35.26, 35.74, 12.13, 12.47);
+        when(getClientMetricsUseCase.getApproximateClientMetrics()).thenReturn(approximate);
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(
+                ClientMetricsQuery.builder().mode("approx").build(), webRequest);
+
+        // Then
+        ClientMetricsResponse body = readMetrics(response);
+        assertNotNull(body);
+        assertEquals(35.5, body.getAverageAge());
+        assertEquals(1_000_000L, body.getTotalClients());
+        assertEquals(10_000, body.getSampleSize());
+        assertEquals(0.95, body.getConfidenceLevel());
+        assertEquals(35.26, body.getAverageAgeInterval().getLower());
+        assertEquals(35.74, body.getAverageAgeInterval().getUpper());
+        assertEquals(12.13, body.getStandardDeviationInterval().getLower());
+        assertEquals(12.47, body.getStandardDeviationInterval().getUpper());
+        verify(getClientMetricsUseCase, never()).getClientMetrics();
+        verifyNoInteractions(getClientTableVersionUseCase);
+        assertNull(servletResponse.getHeader("ETag"));
+    }
+
+    @Test
+    void getAllClients_WithCachedPage_ShouldServeSerializedBytesWithoutReadingClients() {
+        // Given
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 2))
+                .thenReturn(new ClientPage(ClientTestData.BASIC_CLIENTS_LIST.subList(0, 2), new ClientPosition(null, 2L)));
+        ResponseEntity<byte[]> first = clientController.getAllClients(null, 2, new ClientListQuery(), webRequest);
+
+        // When
+        ResponseEntity<byte[]> second = clientController.getAllClients(null, 2, new ClientListQuery(),
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/clients"), new MockHttpServletResponse()));
+
+        // Then
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(first.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER),
+                second.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER));
+        assertEquals(List.of("Accept-Encoding"), second.getHeaders().getVary());
+        verify(getAllClientsUseCase, times(1)).getClients(ClientQuery.ALL, null, 2);
+    }
+
+    @Test
+    void getAllClients_AfterTableVersionChange_ShouldReadClientsAgain() {
+        // Given
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 100)).thenReturn(new ClientPage(List.of(), null));
+        clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
+        when(getClientTableVersionUseCase.getClientTableVersion()).thenReturn(new ClientTableVersion(43L, Instant.now()));
+
+        // When
+        clientController.getAllClients(null, 100, new ClientListQuery(),
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/clients"), new MockHttpServletResponse()));
+
+        // Then
+        verify(getAllClientsUseCase, times(2)).getClients(ClientQuery.ALL, null, 100);
+    }
+
+    @Test
+    void getAllClients_WithGzipAcceptEncoding_ShouldReturnCompressedBody() throws IOException {
+        // Given
+        servletRequest.addHeader("Accept-Encoding", "gzip, deflate, br");
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 100))
+                .thenReturn(new ClientPage(ClientTestData.BASIC_CLIENTS_LIST, null));
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getAllClients(null, 100, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals("gzip", response.getHeaders().getFirst("Content-Encoding"));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            List<ClientResponse> clients = objectMapper.readValue(gzip.readAllBytes(), new TypeReference<>() {});
+            assertEquals(3, clients.size());
+        }
+    }
+
+    @Test
+    void getClientMetrics_WithCachedMetrics_ShouldNotComputeThemAgain() {
+        // Given
+        when(getClientMetricsUseCase.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+        clientController.getClientMetrics(new ClientMetricsQuery(), webRequest);
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(new ClientMetricsQuery(),
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/clients/metrics"), new MockHttpServletResponse()));
+
+        // Then
+        assertEquals(3L, readMetrics(response).getTotalClients());
+        assertNull(response.getHeaders().getFirst("Content-Encoding"));
+        verify(getClientMetricsUseCase, times(1)).getClientMetrics();
+    }
+
+    @Test
+    void getAllClientsBinary_ShouldReturnTypedPageWithFormatSpecificETag() {
+        // Given
+        servletRequest.addHeader("Accept", "application/x-jackson-smile");
+        when(getAllClientsUseCase.getClients(ClientQuery.ALL, null, 2))
+                .thenReturn(new ClientPage(ClientTestData.BASIC_CLIENTS_LIST.subList(0, 2), new ClientPosition(null, 2L)));
+
+        // When
+        ResponseEntity<List<ClientResponse>> response = clientController.getAllClientsBinary(null, 2, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ClientController.SMILE, response.getHeaders().getContentType().toString());
+        assertEquals(2, response.getBody().size());
+        assertTrue(response.getHeaders().containsKey(ClientController.NEXT_CURSOR_HEADER));
+        assertEquals("\"42-x-jackson-smile\"", servletResponse.getHeader("ETag"));
+    }
+
+    @Test
+    void getAllClientsBinary_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutReadingClients() {
+        // Given
+        servletRequest.addHeader("Accept", "application/cbor");
+        servletRequest.addHeader("If-None-Match", "\"42-cbor\"");
+
+        // When
+        ResponseEntity<List<ClientResponse>> response = clientController.getAllClientsBinary(null, 100, new ClientListQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verifyNoInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    void toBinaryFormat_WithAcceptVariants_ShouldPickPreferredEncoding() {
+        // When & Then
+        assertEquals("application/cbor", ClientController.toBinaryFormat("application/cbor").toString());
+        assertEquals(ClientController.SMILE, ClientController.toBinaryFormat(ClientController.SMILE).toString());
+        assertEquals(ClientController.SMILE,
+                ClientController.toBinaryFormat("application/cbor;q=0.5, application/x-jackson-smile").toString());
+        assertEquals("application/cbor", ClientController.toBinaryFormat("application/x-jackson-smile;q=0, */*").toString());
+        assertEquals("application/cbor", ClientController.toBinaryFormat(null).toString());
+    }
+
+    @Test
+    void getClientMetrics_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutComputingMetrics() {
+        // Given
+        when(getClientMetricsUseCase.getIndexVersion()).thenReturn(7L);
+        servletRequest.addHeader("If-None-Match", "\"42-7\"");
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(new ClientMetricsQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(List.of("Accept-Encoding"), response.getHeaders().getVary());
+        assertEquals("\"42-7\"", servletResponse.getHeader("ETag"));
+        verify(getClientMetricsUseCase, never()).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_AfterIndexWrite_ShouldComputeMetricsAgain() {
+        // Given - The table version stays the same while this instance has not indexed its own write yet
+        when(getClientMetricsUseCase.getIndexVersion()).thenReturn(7L, 8L);
+        when(getClientMetricsUseCase.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+        clientController.getClientMetrics(new ClientMetricsQuery(), webRequest);
+        servletRequest.addHeader("If-None-Match", "\"42-7\"");
+
+        // When
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(new ClientMetricsQuery(),
+                new ServletWebRequest(servletRequest, secondResponse));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"42-8\"", secondResponse.getHeader("ETag"));
+        verify(getClientMetricsUseCase, times(2)).getClientMetrics();
+    }
+
+    @Test
+    void getClientMetrics_WithIfModifiedSince_ShouldIgnoreTableDate() {
+        // Given
+        servletRequest.addHeader("If-Modified-Since", TABLE_VERSION.getLastModified().toEpochMilli());
+        when(getClientMetricsUseCase.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+
+        // When
+        ResponseEntity<byte[]> response = clientController.getClientMetrics(new ClientMetricsQuery(), webRequest);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(servletResponse.getHeader("Last-Modified"));
+    }
+
+    @Test
+    void getClientMetrics_WithExactModeAndGroupBy_ShouldThrowException() {
+        // Given
+        ClientMetricsQuery query = ClientMetricsQuery.builder().mode("exact").groupBy("birthYear").build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientController.getClientMetrics(query, webRequest));
+        verifyNoInteractions(getClientMetricsUseCase);
+    }
+
+    @Test
+    void getClientMetrics_WithUnsupportedGroupBy_ShouldThrowException() {
+        // Given
+        when(getClientMetricsUseCase.getClientMetrics()).thenReturn(ClientMetricsTestData.BASIC_METRICS);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> clientController.getClientMetrics(
+                ClientMetricsQuery.builder().groupBy("age").build(), webRequest));
+        verify(getClientMetricsUseCase, never()).getClientMetrics(any(MetricsGrouping.class));
+    }
+
+    @Test
+    void getAgeDistribution_ShouldReturnDistribution() {
+        // Given
+        when(getAgeDistributionUseCase.getAgeDistribution()).thenReturn(AgeDistributionTestData.BASIC_DISTRIBUTION);
+
+        // When
+        ResponseEntity<AgeDistributionResponse> response = clientController.getAgeDistribution();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        AgeDistributionResponse distributionResponse = response.getBody();
+        assertNotNull(distributionResponse);
+        assertEquals(AgeDistributionTestData.EXPECTED_TOTAL_CLIENTS, distributionResponse.getTotalClients());
+        assertEquals(AgeDistributionTestData.EXPECTED_MIN_AGE, distributionResponse.getMinAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_MAX_AGE, distributionResponse.getMaxAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_MEDIAN_AGE, distributionResponse.getMedianAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_P90_AGE, distributionResponse.getP90Age());
+        assertEquals(AgeDistributionTestData.EXPECTED_P99_AGE, distributionResponse.getP99Age());
+        assertEquals(AgeDistributionTestData.BASIC_HISTOGRAM, distributionResponse.getHistogram());
+
+        verify(getAgeDistributionUseCase).getAgeDistribution();
+    }
+
+    @Test
+    void deleteClient_WithExistingId_ShouldReturnNoContent() {
+        // Given
+        when(deleteClientUseCase.deleteClient(1L)).thenReturn(true);
+
+        // When
+        ResponseEntity<Void> response = clientController.deleteClient(1L);
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(deleteClientUseCase).deleteClient(1L);
+    }
+
+    @Test
+    void deleteClient_WithNonExistingId_ShouldReturnNotFound() {
+        // Given
+        when(deleteClientUseCase.deleteClient(999L)).thenReturn(false);
+
+        // When
+        ResponseEntity<Void> response = clientController.deleteClient(999L);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(deleteClientUseCase).deleteClient(999L);
+    }
+
+    @Test
+    void getTopNames_ShouldMapNameCounts() {
+        // Given
+        TopNames topNames = new TopNames(
+                List.of(new NameCount("John", 2L, 0L), new NameCount("Mary", 1L, 0L)),
+                List.of(new NameCount("Doe", 3L, 1L)));
+        when(getTopNamesUseCase.getTopNames(20)).thenReturn(topNames);
+
+        // When
+        ResponseEntity<TopNamesResponse> response = clientController.getTopNames(20);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        TopNamesResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(2, body.getFirstNames().size());
+        assertEquals("John", body.getFirstNames().get(0).getName());
+        assertEquals(2L, body.getFirstNames().get(0).getCount());
+        assertEquals("Doe", body.getLastNames().get(0).getName());
+        assertEquals(1L, body.getLastNames().get(0).getError());
+    }
+
+    @Test
+    void getMetricsHistory_WithRangeAndStep_ShouldMapPoints() {
+        // Given
+        Instant from = Instant.parse("2026-10-16T00:00:00Z");
+        Instant to = Instant.parse("2026-10-17T00:00:00Z");
+        MetricsHistory history = new MetricsHistory(from, to, MetricsResolution.HOUR,
+                List.of(new MetricsHistoryPoint(from, 360, 30.0, 5.0, 3.0)));
+        when(getMetricsHistoryUseCase.getMetricsHistory(from, to, MetricsResolution.HOUR)).thenReturn(history);
+
+        // When
+        ResponseEntity<MetricsHistoryResponse> response = clientController.getMetricsHistory(MetricsHistoryQuery.builder()
+                .from(OffsetDateTime.parse("2026-10-16T00:00:00Z"))
+                .to(OffsetDateTime.parse("2026-10-17T03:00:00+03:00"))
+                .step("hour")
+                .build());
+
+        // Then
+        MetricsHistoryResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(from, body.getFrom());
+        assertEquals(to, body.getTo());
+        assertEquals("hour", body.getStep());
+        assertEquals(1, body.getPoints().size());
+        assertEquals(from, body.getPoints().get(0).getTimestamp());
+        assertEquals(360, body.getPoints().get(0).getSamples());
+        assertEquals(30.0, body.getPoints().get(0).getAverageAge());
+        assertEquals(5.0, body.getPoints().get(0).getStandardDeviation());
+        assertEquals(3.0, body.getPoints().get(0).getTotalClients());
+    }
+
+    @Test
+    void getMetricsHistory_WithoutParameters_ShouldLetServiceChooseDefaults() {
+        // Given
+        Instant now = Instant.parse("2026-10-17T00:00:00Z");
+        when(getMetricsHistoryUseCase.getMetricsHistory(null, null, null))
+                .thenReturn(new MetricsHistory(now.minusSeconds(86_400), now, MetricsResolution.MINUTE, List.of()));
+
+        // When
+        ResponseEntity<MetricsHistoryResponse> response = clientController.getMetricsHistory(new MetricsHistoryQuery());
+
+        // Then
+        assertNotNull(response.getBody());
+        assertEquals("minute", response.getBody().getStep());
+        assertTrue(response.getBody().getPoints().isEmpty());
+    }
+
+    @Test
+    void getMetricsHistory_WithUnsupportedStep_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> clientController.getMetricsHistory(MetricsHistoryQuery.builder().step("week").build()));
+        verifyNoInteractions(getMetricsHistoryUseCase);
+    }
+
+    private static ClientSnapshot snapshotFile(Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("clients-v42.csv.gz"), new byte[]{0x1f, (byte) 0x8b, 8, 0, 1, 2, 3});
+        return new ClientSnapshot(TABLE_VERSION, file, Files.size(file));
+    }
+
+    private List<ClientResponse> readClients(ResponseEntity<byte[]> response) {
+        try {
+            return objectMapper.readValue(response.getBody(), new TypeReference<>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ClientMetricsResponse readMetrics(ResponseEntity<byte[]> response) {
+        try {
+            return objectMapper.readValue(response.getBody(), ClientMetricsResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest;
+
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.SortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientCursorTest {
+
+    @Test
+    void decode_WithEncodedId_ShouldReturnSamePosition() {
+        // Given
+        ClientPosition position = new ClientPosition(null, 12345L);
+
+        // When
+        String cursor = ClientCursor.encode(ClientSort.ID, SortDirection.ASC, position);
+
+        // Then
+        assertFalse(cursor.contains("12345"));
+        assertEquals(position, ClientCursor.decode(cursor, ClientSort.ID, SortDirection.ASC));
+    }
+
+    @Test
+    void decode_WithSortedPositions_ShouldRestoreTypedKeys() {
+        // Given
+        ClientPosition byName = new ClientPosition("De:la Cruz", 7L);
+        ClientPosition byAge = new ClientPosition(42, 8L);
+        ClientPosition byBirthDate = new ClientPosition(LocalDate.of(1990, 2, 3), 9L);
+
+        // When & Then
+        assertEquals(byName, ClientCursor.decode(ClientCursor.encode(ClientSort.LAST_NAME, SortDirection.ASC, byName), ClientSort.LAST_NAME, SortDirection.ASC));
+        assertEquals(byAge, ClientCursor.decode(ClientCursor.encode(ClientSort.AGE, SortDirection.ASC, byAge), ClientSort.AGE, SortDirection.ASC));
+        assertEquals(byBirthDate,
+                ClientCursor.decode(ClientCursor.encode(ClientSort.BIRTH_DATE, SortDirection.ASC, byBirthDate), ClientSort.BIRTH_DATE, SortDirection.ASC));
+    }
+
+    @Test
+    void decode_WithoutCursor_ShouldReturnNull() {
+        // When & Then
+        assertNull(ClientCursor.decode(null, ClientSort.ID, SortDirection.ASC));
+        assertNull(ClientCursor.decode(" ", ClientSort.AGE, SortDirection.ASC));
+    }
+
+    @Test
+    void decode_WithCursorFromAnotherSort_ShouldThrowIllegalArgumentException() {
+        // Given
+        String cursor = ClientCursor.encode(ClientSort.AGE, SortDirection.ASC, new ClientPosition(42, 8L));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientCursor.decode(cursor, ClientSort.BIRTH_DATE, SortDirection.ASC));
+        assertEquals("Cursor was issued for sort age, not birthDate", exception.getMessage());
+    }
+
+    @Test
+    void decode_WithCursorFromAnotherDirection_ShouldThrowIllegalArgumentException() {
+        // Given
+        String cursor = ClientCursor.encode(ClientSort.AGE, SortDirection.DESC, new ClientPosition(42, 8L));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientCursor.decode(cursor, ClientSort.AGE, SortDirection.ASC));
+        assertEquals("Cursor was issued for direction desc, not asc", exception.getMessage());
+        assertEquals(new ClientPosition(42, 8L), ClientCursor.decode(cursor, ClientSort.AGE, SortDirection.DESC));
+    }
+
+    @Test
+    void decode_WithMalformedCursor_ShouldThrowIllegalArgumentException() {
+        // Given
+        String notBase64 = "%%%";
+        String notNumber = encode("id:asc:abc");
+        String missingKey = encode("age:asc:3");
+        String badKey = encode("age:asc:3:old");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClientCursor.decode(notBase64, ClientSort.ID, SortDirection.ASC));
+        assertEquals("Invalid cursor: %%%", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> ClientCursor.decode(notNumber, ClientSort.ID, SortDirection.ASC));
+        assertThrows(IllegalArgumentException.class, () -> ClientCursor.decode(missingKey, ClientSort.AGE, SortDirection.ASC));
+        assertThrows(IllegalArgumentException.class, () -> ClientCursor.decode(badKey, ClientSort.AGE, SortDirection.ASC));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestExceptionHandlerTest {
+
+    private final RestExceptionHandler restExceptionHandler = new RestExceptionHandler();
+
+    @Test
+    void handleIllegalArgument_ShouldReturnBadRequestWithMessage() {
+        // When
+        ProblemDetail problem = restExceptionHandler.handleIllegalArgument(
+                new IllegalArgumentException("Unsupported groupBy value: age"));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST.value(), problem.getStatus());
+        assertEquals("Unsupported groupBy value: age", problem.getDetail());
+    }
+}
@@ -0,0 +1,162 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest;
+
+import com.pinapp.challenge.infrastructure.adapter.in.rest.SerializedResponseCache.CachedResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedResponseCacheTest {
+
+    @Test
+    void get_AfterPutAtSameVersion_ShouldReturnCachedResponse() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofKilobytes(64));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "abc");
+        CachedResponse stored = cache.put(1L, "key", json(10), headers);
+
+        // When
+        CachedResponse result = cache.get(1L, "key");
+
+        // Then
+        assertSame(stored, result);
+        assertEquals("abc", result.getHeaders().getFirst("X-Next-Cursor"));
+        assertNull(cache.get(1L, "other"));
+        assertNull(cache.get(2L, "key"));
+    }
+
+    @Test
+    void put_WithNewerVersion_ShouldDropOlderEntries() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofKilobytes(64));
+        cache.put(1L, "first", json(10), new HttpHeaders());
+        cache.put(1L, "second", json(10), new HttpHeaders());
+
+        // When
+        cache.put(2L, "first", json(20), new HttpHeaders());
+
+        // Then
+        assertEquals(1, cache.size());
+        assertNull(cache.get(1L, "second"));
+        assertNotNull(cache.get(2L, "first"));
+    }
+
+    @Test
+    void put_WithOlderVersion_ShouldReturnResponseWithoutCachingIt() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofKilobytes(64));
+        cache.put(2L, "key", json(10), new HttpHeaders());
+
+        // When
+        CachedResponse result = cache.put(1L, "stale", json(10), new HttpHeaders());
+
+        // Then
+        assertNotNull(result);
+        assertNull(cache.get(1L, "stale"));
+        assertNotNull(cache.get(2L, "key"));
+    }
+
+    @Test
+    void put_BeyondByteBudget_ShouldEvictLeastRecentlyUsed() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofBytes(250));
+        cache.put(1L, "a", new byte[100], new HttpHeaders());
+        cache.put(1L, "b", new byte[100], new HttpHeaders());
+        cache.get(1L, "a");
+
+        // When
+        cache.put(1L, "c", new byte[100], new HttpHeaders());
+
+        // Then
+        assertNotNull(cache.get(1L, "a"));
+        assertNull(cache.get(1L, "b"));
+        assertNotNull(cache.get(1L, "c"));
+        assertEquals(200L, cache.getTotalBytes());
+    }
+
+    @Test
+    void put_WithSameKey_ShouldReplaceAndRecountBytes() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofBytes(250));
+        cache.put(1L, "a", new byte[100], new HttpHeaders());
+
+        // When
+        cache.put(1L, "a", new byte[50], new HttpHeaders());
+
+        // Then
+        assertEquals(1, cache.size());
+        assertEquals(50L, cache.getTotalBytes());
+    }
+
+    @Test
+    void put_WithResponseLargerThanBudget_ShouldNotCacheIt() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofBytes(50));
+
+        // When
+        CachedResponse result = cache.put(1L, "key", new byte[100], new HttpHeaders());
+
+        // Then
+        assertEquals(100, result.getBody().length);
+        assertNull(cache.get(1L, "key"));
+        assertEquals(0L, cache.getTotalBytes());
+    }
+
+    @Test
+    void put_WithLargeBody_ShouldKeepDecompressibleGzipCopy() throws IOException {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofKilobytes(64));
+        byte[] body = json(200);
+
+        // When
+        CachedResponse result = cache.put(1L, "key", body, new HttpHeaders());
+
+        // Then
+        assertNotNull(result.getGzipBody());
+        assertTrue(result.getGzipBody().length < body.length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(result.getGzipBody()))) {
+            assertArrayEquals(body, gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void put_WithSmallBody_ShouldSkipCompression() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(DataSize.ofKilobytes(64));
+
+        // When
+        CachedResponse result = cache.put(1L, "key", json(1), new HttpHeaders());
+
+        // Then
+        assertNull(result.getGzipBody());
+    }
+
+    @Test
+    void acceptsGzip_WithAcceptEncodingVariants_ShouldHonourQualityValues() {
+        // When & Then
+        assertTrue(SerializedResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(SerializedResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(SerializedResponseCache.acceptsGzip("*"));
+        assertTrue(SerializedResponseCache.acceptsGzip("x-gzip"));
+        assertFalse(SerializedResponseCache.acceptsGzip(null));
+        assertFalse(SerializedResponseCache.acceptsGzip("identity"));
+        assertFalse(SerializedResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(SerializedResponseCache.acceptsGzip("*, gzip; q=0.0"));
+        assertFalse(SerializedResponseCache.acceptsGzip("*;q=0"));
+    }
+
+    private static byte[] json(int clients) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < clients; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"firstName\":\"John\",\"lastName\":\"Doe\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import com.pinapp.challenge.testdata.AgeDistributionTestData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgeDistributionResponseTest {
+
+    @Test
+    void ageDistributionResponse_WithBuilder_ShouldCreateSuccessfully() {
+        // Given
+        AgeDistributionResponse response = AgeDistributionResponse.builder()
+                .totalClients(AgeDistributionTestData.EXPECTED_TOTAL_CLIENTS)
+                .minAge(AgeDistributionTestData.EXPECTED_MIN_AGE)
+                .maxAge(AgeDistributionTestData.EXPECTED_MAX_AGE)
+                .medianAge(AgeDistributionTestData.EXPECTED_MEDIAN_AGE)
+                .p90Age(AgeDistributionTestData.EXPECTED_P90_AGE)
+                .p99Age(AgeDistributionTestData.EXPECTED_P99_AGE)
+                .histogram(AgeDistributionTestData.BASIC_HISTOGRAM)
+                .build();
+
+        // When & Then
+        assertEquals(AgeDistributionTestData.EXPECTED_TOTAL_CLIENTS, response.getTotalClients());
+        assertEquals(AgeDistributionTestData.EXPECTED_MIN_AGE, response.getMinAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_MAX_AGE, response.getMaxAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_MEDIAN_AGE, response.getMedianAge());
+        assertEquals(AgeDistributionTestData.EXPECTED_P90_AGE, response.getP90Age());
+        assertEquals(AgeDistributionTestData.EXPECTED_P99_AGE, response.getP99Age());
+        assertEquals(AgeDistributionTestData.BASIC_HISTOGRAM, response.getHistogram());
+    }
+
+    @Test
+    void ageDistributionResponse_WithNoArgsConstructor_ShouldHaveNullValues() {
+        // When
+        AgeDistributionResponse response = new AgeDistributionResponse();
+
+        // Then
+        assertNull(response.getTotalClients());
+        assertNull(response.getMedianAge());
+        assertNull(response.getHistogram());
+    }
+}
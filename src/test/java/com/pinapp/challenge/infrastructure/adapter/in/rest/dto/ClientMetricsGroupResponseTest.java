@@ -0,0 +1,40 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientMetricsGroupResponseTest {
+
+    @Test
+    void clientMetricsGroupResponse_WithBuilder_ShouldCreateSuccessfully() {
+        // Given
+        ClientMetricsGroupResponse response = ClientMetricsGroupResponse.builder()
+                .group("1990s")
+                .averageAge(29.5)
+                .standardDeviation(3.1)
+                .totalClients(4L)
+                .build();
+
+        // When & Then
+        assertEquals("1990s", response.getGroup());
+        assertEquals(29.5, response.getAverageAge());
+        assertEquals(3.1, response.getStandardDeviation());
+        assertEquals(4L, response.getTotalClients());
+    }
+
+    @Test
+    void clientMetricsGroupResponse_WithSetters_ShouldUpdateValues() {
+        // Given
+        ClientMetricsGroupResponse response = new ClientMetricsGroupResponse();
+
+        // When
+        response.setGroup("D");
+        response.setTotalClients(1L);
+
+        // Then
+        assertEquals("D", response.getGroup());
+        assertEquals(1L, response.getTotalClients());
+        assertNull(response.getAverageAge());
+    }
+}
@@ -0,0 +1,43 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientMetricsQueryTest {
+
+    @Test
+    void clientMetricsQuery_WithBuilder_ShouldCreateSuccessfully() {
+        // Given
+        ClientMetricsQuery query = ClientMetricsQuery.builder()
+                .minAge(25)
+                .maxAge(40)
+                .bornFrom(LocalDate.of(1980, 1, 1))
+                .bornTo(LocalDate.of(1999, 12, 31))
+                .build();
+
+        // When & Then
+        assertEquals(25, query.getMinAge());
+        assertEquals(40, query.getMaxAge());
+        assertEquals(LocalDate.of(1980, 1, 1), query.getBornFrom());
+        assertEquals(LocalDate.of(1999, 12, 31), query.getBornTo());
+        assertNull(query.getGroupBy());
+        assertNull(query.getAsOf());
+    }
+
+    @Test
+    void clientMetricsQuery_WithSetters_ShouldUpdateValues() {
+        // Given
+        ClientMetricsQuery query = new ClientMetricsQuery();
+
+        // When
+        query.setGroupBy("birthYear");
+        query.setAsOf(LocalDate.of(2030, 1, 1));
+
+        // Then
+        assertEquals("birthYear", query.getGroupBy());
+        assertEquals(LocalDate.of(2030, 1, 1), query.getAsOf());
+    }
+}
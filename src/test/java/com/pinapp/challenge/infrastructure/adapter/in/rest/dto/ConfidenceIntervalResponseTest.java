@@ -0,0 +1,34 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfidenceIntervalResponseTest {
+
+    @Test
+    void confidenceIntervalResponse_WithBuilder_ShouldCreateSuccessfully() {
+        // Given
+        ConfidenceIntervalResponse response = ConfidenceIntervalResponse.builder()
+                .lower(35.26)
+                .upper(35.74)
+                .build();
+
+        // When & Then
+        assertEquals(35.26, response.getLower());
+        assertEquals(35.74, response.getUpper());
+    }
+
+    @Test
+    void confidenceIntervalResponse_WithSetters_ShouldUpdateValues() {
+        // Given
+        ConfidenceIntervalResponse response = new ConfidenceIntervalResponse();
+
+        // When
+        response.setLower(12.1);
+
+        // Then
+        assertEquals(12.1, response.getLower());
+        assertNull(response.getUpper());
+    }
+}
@@ -0,0 +1,52 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsHistoryResponseTest {
+
+    @Test
+    void metricsHistoryResponse_WithBuilder_ShouldCreateSuccessfully() {
+        // Given
+        Instant timestamp = Instant.parse("2026-10-17T10:00:00Z");
+        MetricsHistoryPointResponse point = MetricsHistoryPointResponse.builder()
+                .timestamp(timestamp)
+                .samples(360)
+                .averageAge(30.0)
+                .standardDeviation(5.0)
+                .totalClients(3.0)
+                .build();
+        MetricsHistoryResponse response = MetricsHistoryResponse.builder()
+                .from(timestamp)
+                .to(timestamp.plusSeconds(3600))
+                .step("hour")
+                .points(List.of(point))
+                .build();
+
+        // When & Then
+        assertEquals(timestamp, response.getFrom());
+        assertEquals("hour", response.getStep());
+        assertEquals(360, response.getPoints().get(0).getSamples());
+        assertEquals(3.0, response.getPoints().get(0).getTotalClients());
+    }
+
+    @Test
+    void metricsHistoryQuery_WithSetters_ShouldUpdateValues() {
+        // Given
+        MetricsHistoryQuery query = new MetricsHistoryQuery();
+
+        // When
+        query.setFrom(OffsetDateTime.parse("2026-10-16T00:00:00Z"));
+        query.setStep("day");
+
+        // Then
+        assertEquals(OffsetDateTime.parse("2026-10-16T00:00:00Z"), query.getFrom());
+        assertEquals("day", query.getStep());
+        assertNull(query.getTo());
+    }
+}
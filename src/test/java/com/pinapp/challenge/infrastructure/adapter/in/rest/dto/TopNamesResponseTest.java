@@ -0,0 +1,41 @@
+package com.pinapp.challenge.infrastructure.adapter.in.rest.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopNamesResponseTest {
+
+    @Test
+    void topNamesResponse_WithBuilder_ShouldCreateSuccessfully() {
+        // Given
+        NameCountResponse doe = NameCountResponse.builder().name("Doe").count(3L).error(0L).build();
+        TopNamesResponse response = TopNamesResponse.builder()
+                .firstNames(List.of())
+                .lastNames(List.of(doe))
+                .build();
+
+        // When & Then
+        assertTrue(response.getFirstNames().isEmpty());
+        assertEquals("Doe", response.getLastNames().get(0).getName());
+        assertEquals(3L, response.getLastNames().get(0).getCount());
+        assertEquals(0L, response.getLastNames().get(0).getError());
+    }
+
+    @Test
+    void nameCountResponse_WithSetters_ShouldUpdateValues() {
+        // Given
+        NameCountResponse response = new NameCountResponse();
+
+        // When
+        response.setName("John");
+        response.setCount(2L);
+
+        // Then
+        assertEquals("John", response.getName());
+        assertEquals(2L, response.getCount());
+        assertNull(response.getError());
+    }
+}
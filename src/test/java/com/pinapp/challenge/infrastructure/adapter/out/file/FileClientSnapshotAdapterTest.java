@@ -0,0 +1,129 @@
+package com.pinapp.challenge.infrastructure.adapter.out.file;
+
+import com.pinapp.challenge.domain.model.ClientSnapshot;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileClientSnapshotAdapterTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-10-17T10:15:30Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void write_ShouldStoreGzippedContentNamedAfterVersion() throws Exception {
+        // Given
+        FileClientSnapshotAdapter adapter = new FileClientSnapshotAdapter(directory.resolve("snapshots").toString());
+        ClientTableVersion version = new ClientTableVersion(2L, LAST_MODIFIED);
+
+        // When
+        ClientSnapshot snapshot = adapter.write(version, content("id,first_name\n1,John\n"));
+
+        // Then
+        assertEquals(directory.resolve("snapshots").resolve("clients-v2.csv.gz"), snapshot.getFile());
+        assertEquals(version, snapshot.getTableVersion());
+        assertEquals(Files.size(snapshot.getFile()), snapshot.getSize());
+        assertEquals("id,first_name\n1,John\n", gunzip(snapshot.getFile()));
+        assertEquals(snapshot, adapter.findLatest().orElseThrow());
+        assertEquals(1, fileCount());
+    }
+
+    @Test
+    void write_WithSeveralVersions_ShouldKeepOnlyLatestAndPreviousFiles() throws Exception {
+        // Given
+        FileClientSnapshotAdapter adapter = new FileClientSnapshotAdapter(directory.toString());
+        ClientSnapshot first = adapter.write(new ClientTableVersion(1L, LAST_MODIFIED), content("v1"));
+        ClientSnapshot second = adapter.write(new ClientTableVersion(2L, LAST_MODIFIED), content("v2"));
+
+        // When
+        ClientSnapshot third = adapter.write(new ClientTableVersion(3L, LAST_MODIFIED), content("v3"));
+
+        // Then
+        assertFalse(Files.exists(first.getFile()));
+        assertTrue(Files.exists(second.getFile()));
+        assertEquals("v3", gunzip(third.getFile()));
+        assertEquals(third, adapter.findLatest().orElseThrow());
+        assertEquals(2, fileCount());
+    }
+
+    @Test
+    void write_AfterRewritingSameVersion_ShouldKeepItAsPreviousGeneration() throws Exception {
+        // Given
+        FileClientSnapshotAdapter adapter = new FileClientSnapshotAdapter(directory.toString());
+        adapter.write(new ClientTableVersion(1L, LAST_MODIFIED), content("v1"));
+        ClientSnapshot rewritten = adapter.write(new ClientTableVersion(1L, LAST_MODIFIED), content("v1"));
+
+        // When
+        ClientSnapshot next = adapter.write(new ClientTableVersion(2L, LAST_MODIFIED), content("v2"));
+
+        // Then
+        assertEquals("v1", gunzip(rewritten.getFile()));
+        assertEquals(next, adapter.findLatest().orElseThrow());
+        assertEquals(2, fileCount());
+    }
+
+    @Test
+    void write_WithFailingContent_ShouldKeepPreviousSnapshotAndRemoveTemporaryFile() throws Exception {
+        // Given
+        FileClientSnapshotAdapter adapter = new FileClientSnapshotAdapter(directory.toString());
+        ClientSnapshot previous = adapter.write(new ClientTableVersion(1L, LAST_MODIFIED), content("v1"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> adapter.write(new ClientTableVersion(2L, LAST_MODIFIED), output -> {
+            throw new IllegalStateException("Export failed");
+        }));
+
+        // Then
+        assertEquals(previous, adapter.findLatest().orElseThrow());
+        assertEquals(1, fileCount());
+    }
+
+    @Test
+    void write_WithUnusableDirectory_ShouldThrowUncheckedIOException() throws Exception {
+        // Given
+        Path file = Files.createFile(directory.resolve("not-a-directory"));
+        FileClientSnapshotAdapter adapter = new FileClientSnapshotAdapter(file.toString());
+
+        // When & Then
+        assertThrows(UncheckedIOException.class, () -> adapter.write(new ClientTableVersion(1L, LAST_MODIFIED), content("v1")));
+        assertTrue(adapter.findLatest().isEmpty());
+    }
+
+    private static Consumer<OutputStream> content(String text) {
+        return output -> {
+            try {
+                output.write(text.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private long fileCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.Client;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrowClientWriterTest {
+
+    private final BufferAllocator allocator = new RootAllocator();
+
+    @AfterEach
+    void tearDown() {
+        allocator.close();
+    }
+
+    @Test
+    void write_WithMoreClientsThanBatchSize_ShouldWriteReadableBatches() throws IOException {
+        // Given
+        List<Client> clients = List.of(
+                new Client(1L, "John", "Doe", 30, LocalDate.of(1994, 1, 15)),
+                new Client(2L, "José", "Núñez", 25, LocalDate.of(1999, 5, 20)),
+                new Client(3L, "Bob", "Johnson", 35, LocalDate.of(1969, 12, 31)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        try (ArrowClientWriter writer = new ArrowClientWriter(output, 2)) {
+            for (Client client : clients) {
+                writer.write(client.getId(), client.getFirstName(), client.getLastName(), client.getAge(),
+                        client.getBirthDate().toEpochDay());
+            }
+        }
+
+        // Then
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Client> read = new ArrayList<>();
+        try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(output.toByteArray()), allocator)) {
+            Schema schema = reader.getVectorSchemaRoot().getSchema();
+            assertEquals(List.of("id", "first_name", "last_name", "age", "birth_date"),
+                    schema.getFields().stream().map(field -> field.getName()).toList());
+            assertEquals(new ArrowType.Int(64, true), schema.findField("id").getType());
+            assertEquals(new ArrowType.Date(DateUnit.DAY), schema.findField("birth_date").getType());
+            assertFalse(schema.findField("last_name").isNullable());
+            while (reader.loadNextBatch()) {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                batchSizes.add(root.getRowCount());
+                for (int row = 0; row < root.getRowCount(); row++) {
+                    read.add(new Client(
+                            ((BigIntVector) root.getVector("id")).get(row),
+                            new String(((VarCharVector) root.getVector("first_name")).get(row), StandardCharsets.UTF_8),
+                            new String(((VarCharVector) root.getVector("last_name")).get(row), StandardCharsets.UTF_8),
+                            ((IntVector) root.getVector("age")).get(row),
+                            LocalDate.ofEpochDay(((DateDayVector) root.getVector("birth_date")).get(row))));
+                }
+            }
+        }
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals(clients, read);
+    }
+
+    @Test
+    void close_WithoutClients_ShouldWriteSchemaAndEndOfStreamOnly() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ArrowClientWriter writer = new ArrowClientWriter(output, 8);
+        writer.close();
+        writer.close();
+
+        // Then
+        try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(output.toByteArray()), allocator)) {
+            assertEquals(5, reader.getVectorSchemaRoot().getSchema().getFields().size());
+            assertFalse(reader.loadNextBatch());
+        }
+        assertEquals(0, output.size() % 8);
+    }
+}
@@ -0,0 +1,124 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.ClientField;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.SortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientQuerySqlTest {
+
+    @Test
+    void of_WithoutFilters_ShouldOrderByIdOnly() {
+        // When
+        ClientQuerySql select = ClientQuerySql.of(ClientQuery.ALL, null, 101);
+
+        // Then
+        assertEquals(ClientQuerySql.SELECT_CLIENTS + " ORDER BY id LIMIT ?", select.getSql());
+        assertArrayEquals(new Object[]{101}, select.getArgs());
+        assertEquals("id", select.getOrderBy());
+    }
+
+    @Test
+    void of_WithIdPosition_ShouldSeekPastPrimaryKey() {
+        // When
+        ClientQuerySql select = ClientQuerySql.of(ClientQuery.ALL, new ClientPosition(null, 40L), 11);
+
+        // Then
+        assertEquals(ClientQuerySql.SELECT_CLIENTS + " WHERE id > ? ORDER BY id LIMIT ?", select.getSql());
+        assertArrayEquals(new Object[]{40L, 11}, select.getArgs());
+    }
+
+    @Test
+    void of_WithAllFilters_ShouldUseRangePredicatesInOrder() {
+        // Given
+        ClientQuery query = new ClientQuery("Jo", "Do", 20, 40, LocalDate.of(1980, 1, 1), LocalDate.of(1999, 12, 31),
+                ClientSort.ID, SortDirection.ASC);
+
+        // When
+        ClientQuerySql select = ClientQuerySql.of(query, null, null);
+
+        // Then
+        assertEquals(ClientQuerySql.SELECT_CLIENTS + " WHERE first_name LIKE ? ESCAPE '\\' AND last_name LIKE ? ESCAPE '\\'"
+                + " AND age >= ? AND age <= ? AND birth_date >= ? AND birth_date <= ? ORDER BY id", select.getSql());
+        assertArrayEquals(new Object[]{"Jo%", "Do%", 20, 40, LocalDate.of(1980, 1, 1), LocalDate.of(1999, 12, 31)},
+                select.getArgs());
+    }
+
+    @Test
+    void of_WithSortedDescendingPosition_ShouldSeekWithRowComparison() {
+        // Given
+        ClientQuery query = new ClientQuery(null, null, null, null, null, null, ClientSort.LAST_NAME, SortDirection.DESC);
+
+        // When
+        ClientQuerySql select = ClientQuerySql.of(query, new ClientPosition("Garcia", 2L), 3);
+
+        // Then
+        assertEquals(ClientQuerySql.SELECT_CLIENTS + " WHERE (last_name, id) < (?, ?)"
+                + " ORDER BY last_name DESC, id DESC LIMIT ?", select.getSql());
+        assertArrayEquals(new Object[]{"Garcia", 2L, 3}, select.getArgs());
+    }
+
+    @Test
+    void of_WithPagedFieldset_ShouldSelectFieldsPlusPositionColumns() {
+        // Given
+        ClientQuery query = new ClientQuery(null, null, null, null, null, null, ClientSort.AGE, SortDirection.ASC)
+                .withFields(EnumSet.of(ClientField.ESTIMATED_DEATH_DATE, ClientField.LAST_NAME));
+
+        // When
+        ClientQuerySql select = ClientQuerySql.of(query, null, 10);
+
+        // Then
+        assertEquals("SELECT id, last_name, age, birth_date FROM clients ORDER BY age, id LIMIT ?", select.getSql());
+        assertEquals(Set.of("id", "last_name", "age", "birth_date"), select.getColumns());
+    }
+
+    @Test
+    void of_WithStreamedFieldset_ShouldSelectOnlyRequestedColumns() {
+        // Given
+        ClientQuery query = new ClientQuery(null, null, null, null, null, null, ClientSort.AGE, SortDirection.ASC)
+                .withFields(EnumSet.of(ClientField.LAST_NAME));
+
+        // When
+        ClientQuerySql select = ClientQuerySql.of(query, null, null);
+
+        // Then
+        assertEquals("SELECT last_name FROM clients ORDER BY age, id", select.getSql());
+        assertEquals(Set.of("last_name"), select.getColumns());
+    }
+
+    @Test
+    void column_ShouldMapEveryField() {
+        // When & Then
+        assertEquals("id", ClientQuerySql.column(ClientField.ID));
+        assertEquals("first_name", ClientQuerySql.column(ClientField.FIRST_NAME));
+        assertEquals("last_name", ClientQuerySql.column(ClientField.LAST_NAME));
+        assertEquals("age", ClientQuerySql.column(ClientField.AGE));
+        assertEquals("birth_date", ClientQuerySql.column(ClientField.BIRTH_DATE));
+        assertEquals("birth_date", ClientQuerySql.column(ClientField.ESTIMATED_DEATH_DATE));
+    }
+
+    @Test
+    void column_ShouldMapEverySortField() {
+        // When & Then
+        assertEquals("id", ClientQuerySql.column(ClientSort.ID));
+        assertEquals("first_name", ClientQuerySql.column(ClientSort.FIRST_NAME));
+        assertEquals("last_name", ClientQuerySql.column(ClientSort.LAST_NAME));
+        assertEquals("age", ClientQuerySql.column(ClientSort.AGE));
+        assertEquals("birth_date", ClientQuerySql.column(ClientSort.BIRTH_DATE));
+    }
+
+    @Test
+    void likePrefix_WithWildcards_ShouldEscapeThem() {
+        // When & Then
+        assertEquals("Do%", ClientQuerySql.likePrefix("Do"));
+        assertEquals("50\\%\\_off\\\\%", ClientQuerySql.likePrefix("50%_off\\"));
+    }
+}
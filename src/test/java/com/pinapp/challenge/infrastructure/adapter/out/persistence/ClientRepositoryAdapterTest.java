@@ -1,28 +1,86 @@
 package com.pinapp.challenge.infrastructure.adapter.out.persistence;
 
+import com.pinapp.challenge.domain.model.AgeSample;
+import com.pinapp.challenge.domain.model.AgeStatistics;
 import com.pinapp.challenge.domain.model.Client;
+import com.pinapp.challenge.domain.model.ClientChange;
+import com.pinapp.challenge.domain.model.ClientChangePosition;
+import com.pinapp.challenge.domain.model.ClientChanges;
+import com.pinapp.challenge.domain.model.ClientField;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.ClientTableVersion;
+import com.pinapp.challenge.domain.model.SortDirection;
 import com.pinapp.challenge.testdata.ClientTestData;
 import com.pinapp.challenge.testdata.ClientEntityTestData;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ClientRepositoryAdapterTest {
 
+    private static final String CHANGES_SELECT = "SELECT ch.client_id, ch.version, ch.deleted, "
+            + "c.first_name, c.last_name, c.age, c.birth_date "
+            + "FROM client_changes ch LEFT JOIN clients c ON c.id = ch.client_id AND NOT ch.deleted";
+
     @Mock
     private ClientJpaRepository clientJpaRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AgeSampler ageSampler;
+
+    @Mock
+    private ClientCsvExporter clientCsvExporter;
+
+    @Mock
+    private ClientJsonRenderer clientJsonRenderer;
+
     @InjectMocks
     private ClientRepositoryAdapter clientRepositoryAdapter;
 
@@ -111,6 +169,30 @@ class ClientRepositoryAdapterTest {
         verify(clientJpaRepository).findAll();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void findPage_ShouldRunKeysetQueryAndMapRows() throws Exception {
+        // Given
+        ClientQuery query = new ClientQuery(null, "Do", null, null, null, null, ClientSort.AGE, SortDirection.ASC);
+        ClientPosition after = new ClientPosition(25, 2L);
+        ClientQuerySql expected = ClientQuerySql.of(query, after, 5);
+        ResultSet resultSet = clientResultSet();
+        when(jdbcTemplate.query(eq(expected.getSql()), any(RowMapper.class), eq("Do%"), eq(25), eq(2L), eq(5)))
+                .thenAnswer(invocation -> {
+                    RowMapper<Client> rowMapper = invocation.getArgument(1);
+                    return List.of(rowMapper.mapRow(resultSet, 0));
+                });
+
+        // When
+        List<Client> result = clientRepositoryAdapter.findPage(query, after, 5);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(testClient.getId(), result.get(0).getId());
+        assertEquals(testClient.getLastName(), result.get(0).getLastName());
+        assertEquals(testClient.getBirthDate(), result.get(0).getBirthDate());
+    }
+
     @Test
     void findAll_WithNoClients_ShouldReturnEmptyList() {
         // Given
@@ -167,4 +249,375 @@ class ClientRepositoryAdapterTest {
         
         verify(clientJpaRepository).save(any(ClientEntity.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAgeStatistics_WithSummaryRow_ShouldDeriveStatisticsFromSums() {
+        // Given
+        ClientMetricsSummaryProjection summary = mock(ClientMetricsSummaryProjection.class);
+        when(summary.getTotalClients()).thenReturn(3L);
+        when(summary.getSumAge()).thenReturn(90L);
+        when(summary.getSumAgeSquared()).thenReturn(2750L);
+        when(clientJpaRepository.findMetricsSummary()).thenReturn(summary);
+
+        // When
+        AgeStatistics result = clientRepositoryAdapter.getAgeStatistics();
+
+        // Then
+        assertEquals(3L, result.getCount());
+        assertEquals(30.0, result.getMean(), 1e-9);
+        assertEquals(5.0, result.getStandardDeviation(), 1e-9);
+        verify(clientJpaRepository, never()).findAll();
+    }
+
+    @Test
+    void getAgeStatistics_WithoutSummaryRow_ShouldReturnEmpty() {
+        // Given
+        when(clientJpaRepository.findMetricsSummary()).thenReturn(null);
+
+        // When & Then
+        assertEquals(AgeStatistics.EMPTY, clientRepositoryAdapter.getAgeStatistics());
+    }
+
+    @Test
+    void streamAll_ShouldPassEveryClientToConsumer() {
+        // Given
+        when(clientJpaRepository.streamAll()).thenReturn(Stream.of(testEntity));
+        List<Client> received = new ArrayList<>();
+
+        // When
+        clientRepositoryAdapter.streamAll(received::add);
+
+        // Then
+        assertEquals(1, received.size());
+        assertEquals(testClient.getId(), received.get(0).getId());
+        assertEquals(testClient.getAge(), received.get(0).getAge());
+        verify(clientJpaRepository, never()).findAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findPage_WithFieldset_ShouldNotReadUnselectedColumns() throws Exception {
+        // Given
+        ClientQuery query = ClientQuery.ALL.withFields(EnumSet.of(ClientField.LAST_NAME));
+        ResultSet resultSet = clientResultSet();
+        when(jdbcTemplate.query(eq("SELECT id, last_name FROM clients ORDER BY id LIMIT ?"), any(RowMapper.class), eq(2)))
+                .thenAnswer(invocation -> {
+                    RowMapper<Client> rowMapper = invocation.getArgument(1);
+                    return List.of(rowMapper.mapRow(resultSet, 0));
+                });
+
+        // When
+        List<Client> result = clientRepositoryAdapter.findPage(query, null, 2);
+
+        // Then
+        assertEquals(testClient.getId(), result.get(0).getId());
+        assertEquals(testClient.getLastName(), result.get(0).getLastName());
+        assertNull(result.get(0).getFirstName());
+        assertNull(result.get(0).getAge());
+        assertNull(result.get(0).getBirthDate());
+        verify(resultSet, never()).getString("first_name");
+        verify(resultSet, never()).getObject("birth_date", LocalDate.class);
+    }
+
+    @Test
+    void streamAll_WithQuery_ShouldStreamMatchingRowsWithFetchSize() throws Exception {
+        // Given
+        ClientQuery query = new ClientQuery(null, null, 18, null, null, null, null, null);
+        ResultSet resultSet = clientResultSet();
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(ClientQuerySql.of(query, null, null).getSql())).thenReturn(statement);
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            creator.createPreparedStatement(connection);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        List<Client> received = new ArrayList<>();
+
+        // When
+        clientRepositoryAdapter.streamAll(query, received::add);
+
+        // Then
+        verify(statement).setFetchSize(1000);
+        verify(statement).setObject(1, 18);
+        assertEquals(1, received.size());
+        assertEquals(testClient.getFirstName(), received.get(0).getFirstName());
+    }
+
+    @Test
+    void forEachAgeBatch_ShouldStreamAgeColumnIntoPrimitiveBatch() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(30, 25, 35);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        List<int[]> batches = new ArrayList<>();
+
+        // When
+        clientRepositoryAdapter.forEachAgeBatch((batch, length) -> batches.add(Arrays.copyOf(batch, length)));
+
+        // Then
+        assertEquals(1, batches.size());
+        assertArrayEquals(new int[]{30, 25, 35}, batches.get(0));
+        verify(clientJpaRepository, never()).findAll();
+    }
+
+    @Test
+    void ageBatcher_WithMoreRowsThanBatchSize_ShouldHandOverFullBatchesThenRemainder() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3, 4, 5);
+        List<int[]> batches = new ArrayList<>();
+        ClientRepositoryAdapter.AgeBatcher batcher = new ClientRepositoryAdapter.AgeBatcher(2,
+                (batch, length) -> batches.add(Arrays.copyOf(batch, length)));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            batcher.processRow(resultSet);
+        }
+        batcher.flush();
+        batcher.flush();
+
+        // Then
+        assertEquals(3, batches.size());
+        assertArrayEquals(new int[]{1, 2}, batches.get(0));
+        assertArrayEquals(new int[]{3, 4}, batches.get(1));
+        assertArrayEquals(new int[]{5}, batches.get(2));
+    }
+
+    @Test
+    void ageColumnCollector_WithMoreRowsThanCapacity_ShouldGrow() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(42);
+        ClientRepositoryAdapter.AgeColumnCollector collector = new ClientRepositoryAdapter.AgeColumnCollector();
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            collector.processRow(resultSet);
+        }
+
+        // Then
+        int[] ages = collector.toArray();
+        assertEquals(5_000, ages.length);
+        assertEquals(42, ages[4_999]);
+    }
+
+    @Test
+    void sampleAges_ShouldDelegateToVendorSampler() {
+        // Given
+        AgeSample sample = new AgeSample(new int[]{30, 25}, 1_000L);
+        when(ageSampler.sample(2)).thenReturn(sample);
+
+        // When & Then
+        assertSame(sample, clientRepositoryAdapter.sampleAges(2));
+    }
+
+    @Test
+    void findPageJson_ShouldDelegateToVendorRenderer() {
+        // Given
+        ClientPageJson page = new ClientPageJson("[]".getBytes(StandardCharsets.UTF_8), null);
+        when(clientJsonRenderer.render(ClientQuery.ALL, null, 100)).thenReturn(Optional.of(page));
+
+        // When & Then
+        assertEquals(Optional.of(page), clientRepositoryAdapter.findPageJson(ClientQuery.ALL, null, 100));
+    }
+
+    @Test
+    void exportCsv_ShouldDelegateToVendorExporter() {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        clientRepositoryAdapter.exportCsv(output);
+
+        // Then
+        verify(clientCsvExporter).export(output);
+    }
+
+    @Test
+    void exportArrow_ShouldFillBatchesFromCursorColumns() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(resultSet.getString(2)).thenReturn("John", "José");
+        when(resultSet.getString(3)).thenReturn("Doe", "Núñez");
+        when(resultSet.getInt(4)).thenReturn(30, 25);
+        when(resultSet.getObject(5, LocalDate.class)).thenReturn(LocalDate.of(1994, 1, 15), LocalDate.of(1999, 5, 20));
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            creator.createPreparedStatement(connection);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        clientRepositoryAdapter.exportArrow(output);
+
+        // Then
+        verify(statement).setFetchSize(1000);
+        verify(clientJpaRepository, never()).findAll();
+        try (RootAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(output.toByteArray()), allocator)) {
+            assertTrue(reader.loadNextBatch());
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertEquals(2, root.getRowCount());
+            assertEquals(2L, ((BigIntVector) root.getVector("id")).get(1));
+            assertEquals("Núñez", new String(((VarCharVector) root.getVector("last_name")).get(1), StandardCharsets.UTF_8));
+            assertEquals(LocalDate.of(1994, 1, 15).toEpochDay(), ((DateDayVector) root.getVector("birth_date")).get(0));
+            assertFalse(reader.loadNextBatch());
+        }
+    }
+
+    @Test
+    void exportArrow_WithBrokenOutputMidBatch_ShouldStopStreaming() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(anyInt())).thenReturn("John");
+        when(resultSet.getObject(5, LocalDate.class)).thenReturn(LocalDate.of(1994, 1, 15));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < ArrowClientWriter.DEFAULT_BATCH_SIZE; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        OutputStream schemaOnlyOutput = new OutputStream() {
+            private int written;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                written += length;
+                if (written > 1024) {
+                    throw new IOException("Connection reset");
+                }
+            }
+        };
+
+        // When & Then
+        assertThrows(UncheckedIOException.class, () -> clientRepositoryAdapter.exportArrow(schemaOnlyOutput));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getTableVersion_ShouldReadClientsVersionRow() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong("version")).thenReturn(7L);
+        when(resultSet.getObject("last_modified", OffsetDateTime.class))
+                .thenReturn(OffsetDateTime.of(2026, 10, 17, 7, 15, 30, 0, ZoneOffset.ofHours(-3)));
+        when(jdbcTemplate.queryForObject(
+                eq("SELECT version, last_modified FROM table_versions WHERE table_name = 'clients'"), any(RowMapper.class)))
+                .thenAnswer(invocation -> ((RowMapper<ClientTableVersion>) invocation.getArgument(1)).mapRow(resultSet, 0));
+
+        // When
+        ClientTableVersion result = clientRepositoryAdapter.getTableVersion();
+
+        // Then
+        assertEquals(new ClientTableVersion(7L, Instant.parse("2026-10-17T10:15:30Z")), result);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findChanges_WithoutToken_ShouldReturnEveryChangeUpToTableVersion() throws Exception {
+        // Given
+        ResultSet updated = clientResultSet();
+        when(updated.getLong("client_id")).thenReturn(testClient.getId());
+        when(updated.getLong("version")).thenReturn(5L);
+        when(updated.getBoolean("deleted")).thenReturn(false);
+        ResultSet deleted = mock(ResultSet.class);
+        when(deleted.getLong("client_id")).thenReturn(2L);
+        when(deleted.getLong("version")).thenReturn(6L);
+        when(deleted.getBoolean("deleted")).thenReturn(true);
+        when(jdbcTemplate.query(eq(CHANGES_SELECT + " ORDER BY ch.version, ch.client_id LIMIT ?"), any(RowMapper.class), eq(11)))
+                .thenAnswer(invocation -> {
+                    RowMapper<ClientChange> rowMapper = invocation.getArgument(1);
+                    return List.of(rowMapper.mapRow(updated, 0), rowMapper.mapRow(deleted, 1));
+                });
+        stubTableVersion(7L);
+
+        // When
+        ClientChanges result = clientRepositoryAdapter.findChanges(null, 10);
+
+        // Then
+        assertEquals(List.of(new ClientChange(testClient.getId(), 5L, testClient), ClientChange.deleted(2L, 6L)), result.getChanges());
+        assertEquals(ClientChangePosition.atVersion(7L), result.getNext());
+        assertFalse(result.hasMore());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findChanges_WithMoreChangesThanLimit_ShouldContinueAfterLastChange() throws Exception {
+        // Given
+        ClientChangePosition since = new ClientChangePosition(4L, 1L);
+        when(jdbcTemplate.query(eq(CHANGES_SELECT + " WHERE (ch.version, ch.client_id) > (?, ?) ORDER BY ch.version, ch.client_id LIMIT ?"),
+                any(RowMapper.class), eq(4L), eq(1L), eq(2)))
+                .thenReturn(List.of(ClientChange.deleted(2L, 5L), ClientChange.deleted(3L, 5L)));
+
+        // When
+        ClientChanges result = clientRepositoryAdapter.findChanges(since, 1);
+
+        // Then
+        assertEquals(List.of(ClientChange.deleted(2L, 5L)), result.getChanges());
+        assertEquals(new ClientChangePosition(5L, 2L), result.getNext());
+        assertTrue(result.hasMore());
+        verify(jdbcTemplate, never()).queryForObject(any(String.class), any(RowMapper.class));
+    }
+
+    @Test
+    void findChanges_WithTokenAheadOfTableVersion_ShouldKeepTokenVersion() throws Exception {
+        // Given
+        when(jdbcTemplate.query(eq(CHANGES_SELECT + " WHERE ch.version > ? ORDER BY ch.version, ch.client_id LIMIT ?"),
+                any(RowMapper.class), eq(9L), eq(11)))
+                .thenReturn(List.of());
+        stubTableVersion(7L);
+
+        // When
+        ClientChanges result = clientRepositoryAdapter.findChanges(ClientChangePosition.atVersion(9L), 10);
+
+        // Then
+        assertTrue(result.getChanges().isEmpty());
+        assertEquals(ClientChangePosition.atVersion(9L), result.getNext());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubTableVersion(long version) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong("version")).thenReturn(version);
+        when(resultSet.getObject("last_modified", OffsetDateTime.class))
+                .thenReturn(OffsetDateTime.of(2026, 10, 17, 7, 15, 30, 0, ZoneOffset.UTC));
+        when(jdbcTemplate.queryForObject(
+                eq("SELECT version, last_modified FROM table_versions WHERE table_name = 'clients'"), any(RowMapper.class)))
+                .thenAnswer(invocation -> ((RowMapper<ClientTableVersion>) invocation.getArgument(1)).mapRow(resultSet, 0));
+    }
+
+    private ResultSet clientResultSet() throws Exception {
+        // Lenient: projected queries deliberately leave some columns unread
+        ResultSet resultSet = mock(ResultSet.class);
+        lenient().when(resultSet.getLong("id")).thenReturn(testClient.getId());
+        lenient().when(resultSet.getString("first_name")).thenReturn(testClient.getFirstName());
+        lenient().when(resultSet.getString("last_name")).thenReturn(testClient.getLastName());
+        lenient().when(resultSet.getInt("age")).thenReturn(testClient.getAge());
+        lenient().when(resultSet.getObject("birth_date", LocalDate.class)).thenReturn(testClient.getBirthDate());
+        return resultSet;
+    }
+}
@@ -0,0 +1,99 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CursorClientCsvExporterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CursorClientCsvExporter exporter;
+
+    @Test
+    void export_ShouldWriteHeaderAndOneLinePerRowWithFetchSize() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(resultSet.getString(2)).thenReturn("John", "Mary \"Molly\"");
+        when(resultSet.getString(3)).thenReturn("Doe", "O'Brien, Jr.");
+        when(resultSet.getInt(4)).thenReturn(30, 25);
+        when(resultSet.getString(5)).thenReturn("1994-01-15", "1999-05-20");
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(CursorClientCsvExporter.SELECT_SQL)).thenReturn(statement);
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            creator.createPreparedStatement(connection);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(output);
+
+        // Then
+        verify(statement).setFetchSize(1000);
+        assertEquals("id,first_name,last_name,age,birth_date\n"
+                + "1,John,Doe,30,1994-01-15\n"
+                + "2,\"Mary \"\"Molly\"\"\",\"O'Brien, Jr.\",25,1999-05-20\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_WithBrokenOutput_ShouldThrowUncheckedIOException() {
+        // Given
+        OutputStream brokenOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        // When & Then
+        assertThrows(UncheckedIOException.class, () -> exporter.export(brokenOutput));
+    }
+
+    @Test
+    void writeText_WithSpecialCharacters_ShouldQuoteLikePostgres() throws Exception {
+        // Given
+        StringWriter writer = new StringWriter();
+
+        // When
+        CursorClientCsvExporter.writeText(writer, "plain");
+        writer.write('|');
+        CursorClientCsvExporter.writeText(writer, "");
+        writer.write('|');
+        CursorClientCsvExporter.writeText(writer, "two\nlines");
+        writer.write('|');
+        CursorClientCsvExporter.writeText(writer, "carriage\rreturn");
+
+        // Then
+        assertEquals("plain|\"\"|\"two\nlines\"|\"carriage\rreturn\"", writer.toString());
+    }
+}
@@ -0,0 +1,91 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.ClientMetrics;
+import com.pinapp.challenge.domain.model.MetricsHistoryPoint;
+import com.pinapp.challenge.domain.model.MetricsResolution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsHistoryRepositoryAdapterTest {
+
+    private static final Instant BUCKET = Instant.parse("2026-10-17T10:00:00Z");
+    private static final OffsetDateTime BUCKET_TIMESTAMP = OffsetDateTime.of(2026, 10, 17, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private MetricsHistoryRepositoryAdapter metricsHistoryRepositoryAdapter;
+
+    @Test
+    void record_ShouldMergeSnapshotIntoBucket() {
+        // When
+        metricsHistoryRepositoryAdapter.record(MetricsResolution.HOUR, BUCKET, new ClientMetrics(30.0, 5.0, 3L));
+
+        // Then
+        verify(jdbcTemplate).update(MetricsHistoryRepositoryAdapter.MERGE_BUCKET, "hour", BUCKET_TIMESTAMP, 30.0, 5.0, 3.0);
+    }
+
+    @Test
+    void record_WithBucketInsertedConcurrently_ShouldRetryIntoExistingBucket() {
+        // Given
+        when(jdbcTemplate.update(MetricsHistoryRepositoryAdapter.MERGE_BUCKET, "hour", BUCKET_TIMESTAMP, 30.0, 5.0, 3.0))
+                .thenThrow(new DuplicateKeyException("metrics_history_pkey"))
+                .thenReturn(1);
+
+        // When
+        metricsHistoryRepositoryAdapter.record(MetricsResolution.HOUR, BUCKET, new ClientMetrics(30.0, 5.0, 3L));
+
+        // Then
+        verify(jdbcTemplate, times(2)).update(MetricsHistoryRepositoryAdapter.MERGE_BUCKET, "hour", BUCKET_TIMESTAMP, 30.0, 5.0, 3.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void find_ShouldMapRowsToPoints() throws Exception {
+        // Given
+        Instant to = Instant.parse("2026-10-17T12:00:00Z");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject(1, OffsetDateTime.class)).thenReturn(BUCKET_TIMESTAMP);
+        when(resultSet.getInt(2)).thenReturn(360);
+        when(resultSet.getDouble(3)).thenReturn(30.0);
+        when(resultSet.getDouble(4)).thenReturn(5.0);
+        when(resultSet.getDouble(5)).thenReturn(3.0);
+        when(jdbcTemplate.query(eq(MetricsHistoryRepositoryAdapter.FIND_BUCKETS), any(RowMapper.class),
+                eq("hour"), eq(BUCKET_TIMESTAMP), eq(OffsetDateTime.of(2026, 10, 17, 12, 0, 0, 0, ZoneOffset.UTC))))
+                .thenAnswer(invocation -> List.of(((RowMapper<MetricsHistoryPoint>) invocation.getArgument(1)).mapRow(resultSet, 0)));
+
+        // When
+        List<MetricsHistoryPoint> points = metricsHistoryRepositoryAdapter.find(MetricsResolution.HOUR, BUCKET, to);
+
+        // Then
+        assertEquals(List.of(new MetricsHistoryPoint(BUCKET, 360, 30.0, 5.0, 3.0)), points);
+    }
+
+    @Test
+    void deleteBefore_ShouldDeleteOlderBucketsOfResolution() {
+        // When
+        metricsHistoryRepositoryAdapter.deleteBefore(MetricsResolution.RAW, BUCKET);
+
+        // Then
+        verify(jdbcTemplate).update(MetricsHistoryRepositoryAdapter.DELETE_BUCKETS, "raw", BUCKET_TIMESTAMP);
+    }
+}
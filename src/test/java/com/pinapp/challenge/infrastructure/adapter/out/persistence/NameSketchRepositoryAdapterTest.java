@@ -0,0 +1,93 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NameSketchRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private NameSketchRepositoryAdapter nameSketchRepositoryAdapter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void load_WithStoredRegisters_ShouldReturnThem() throws Exception {
+        // Given
+        byte[] registers = {1, 2, 3};
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBytes(1)).thenReturn(registers);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq("last_name")))
+                .thenAnswer(invocation -> ((ResultSetExtractor<byte[]>) invocation.getArgument(1)).extractData(resultSet));
+
+        // When
+        Optional<byte[]> result = nameSketchRepositoryAdapter.load("last_name");
+
+        // Then
+        assertTrue(result.isPresent());
+        assertArrayEquals(registers, result.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void load_WithMissingRow_ShouldReturnEmpty() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(false);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq("first_name")))
+                .thenAnswer(invocation -> ((ResultSetExtractor<byte[]>) invocation.getArgument(1)).extractData(resultSet));
+
+        // When & Then
+        assertTrue(nameSketchRepositoryAdapter.load("first_name").isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_WithSeededRow_ShouldWriteRegistersComputedFromLockedRow() {
+        // Given
+        byte[] stored = {1, 2, 3};
+        byte[] merged = {3, 2, 3};
+        when(jdbcTemplate.query(eq("SELECT registers FROM name_sketches WHERE name = ? FOR UPDATE"), any(RowMapper.class), eq("first_name")))
+                .thenReturn(List.of(stored));
+
+        // When
+        nameSketchRepositoryAdapter.update("first_name", registers -> registers == stored ? merged : null);
+
+        // Then
+        verify(jdbcTemplate).update("UPDATE name_sketches SET registers = ? WHERE name = ?", merged, "first_name");
+        verify(jdbcTemplate, never()).update(eq("INSERT INTO name_sketches (name, registers) VALUES (?, ?)"), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_WithMissingRow_ShouldInsertRegisters() {
+        // Given
+        byte[] registers = {1, 2, 3};
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("first_name"))).thenReturn(List.of());
+
+        // When
+        nameSketchRepositoryAdapter.update("first_name", stored -> stored == null ? registers : null);
+
+        // Then
+        verify(jdbcTemplate).update("INSERT INTO name_sketches (name, registers) VALUES (?, ?)", "first_name", registers);
+    }
+}
@@ -0,0 +1,75 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.AgeSample;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresAgeSamplerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostgresAgeSampler sampler;
+
+    @Test
+    void sample_WithLargeTable_ShouldSampleProportionOfPages() throws Exception {
+        // Given
+        when(jdbcTemplate.queryForObject(PostgresAgeSampler.ROW_ESTIMATE_QUERY, Long.class)).thenReturn(1_000_000L);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(30, 25);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(eq("SELECT age FROM clients TABLESAMPLE BERNOULLI (1.0)"), any(RowCallbackHandler.class));
+
+        // When
+        AgeSample sample = sampler.sample(10_000);
+
+        // Then
+        assertEquals(new AgeSample(new int[]{30, 25}, 1_000_000L), sample);
+    }
+
+    @Test
+    void sample_WithTableSmallerThanTarget_ShouldReadAllPages() {
+        // Given
+        when(jdbcTemplate.queryForObject(PostgresAgeSampler.ROW_ESTIMATE_QUERY, Long.class)).thenReturn(500L);
+
+        // When
+        AgeSample sample = sampler.sample(10_000);
+
+        // Then
+        verify(jdbcTemplate).query(eq("SELECT age FROM clients TABLESAMPLE BERNOULLI (100.0)"), any(RowCallbackHandler.class));
+        assertEquals(500L, sample.getEstimatedTotal());
+        assertEquals(0, sample.size());
+    }
+
+    @Test
+    void sample_WithUnanalyzedTable_ShouldFallBackToCount() {
+        // Given
+        when(jdbcTemplate.queryForObject(PostgresAgeSampler.ROW_ESTIMATE_QUERY, Long.class)).thenReturn(-1L);
+        when(jdbcTemplate.queryForObject("SELECT count(*) FROM clients", Long.class)).thenReturn(20_000L);
+
+        // When
+        AgeSample sample = sampler.sample(10_000);
+
+        // Then
+        verify(jdbcTemplate).query(eq("SELECT age FROM clients TABLESAMPLE BERNOULLI (50.0)"), any(RowCallbackHandler.class));
+        assertEquals(20_000L, sample.getEstimatedTotal());
+    }
+}
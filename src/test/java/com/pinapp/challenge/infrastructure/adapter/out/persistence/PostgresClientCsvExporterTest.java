@@ -0,0 +1,67 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresClientCsvExporterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostgresClientCsvExporter exporter;
+
+    @Test
+    void export_ShouldCopyTableStraightIntoOutput() throws Exception {
+        // Given
+        CopyManager copyManager = connectionWithCopyManager();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(output);
+
+        // Then
+        verify(copyManager).copyOut(PostgresClientCsvExporter.COPY_SQL, output);
+        assertTrue(PostgresClientCsvExporter.COPY_SQL.contains("FORMAT csv, HEADER"));
+    }
+
+    @Test
+    void export_WithBrokenOutput_ShouldThrowUncheckedIOException() throws Exception {
+        // Given
+        CopyManager copyManager = connectionWithCopyManager();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(copyManager.copyOut(PostgresClientCsvExporter.COPY_SQL, output)).thenThrow(new IOException("Connection reset"));
+
+        // When & Then
+        assertThrows(UncheckedIOException.class, () -> exporter.export(output));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CopyManager connectionWithCopyManager() throws Exception {
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation ->
+                ((ConnectionCallback<Long>) invocation.getArgument(0)).doInConnection(connection));
+        return copyManager;
+    }
+}
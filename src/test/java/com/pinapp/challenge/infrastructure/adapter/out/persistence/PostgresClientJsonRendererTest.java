@@ -0,0 +1,109 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.ClientField;
+import com.pinapp.challenge.domain.model.ClientPageJson;
+import com.pinapp.challenge.domain.model.ClientPosition;
+import com.pinapp.challenge.domain.model.ClientQuery;
+import com.pinapp.challenge.domain.model.ClientSort;
+import com.pinapp.challenge.domain.model.SortDirection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresClientJsonRendererTest {
+
+    private static final byte[] JSON = "[{\"id\" : 1}]".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostgresClientJsonRenderer renderer;
+
+    @Test
+    void jsonObject_WithAllFields_ShouldUseResponseNamesAndOrder() {
+        // When
+        String jsonObject = PostgresClientJsonRenderer.jsonObject(ClientQuery.ALL);
+
+        // Then
+        assertEquals("json_build_object('id', id, 'firstName', first_name, 'lastName', last_name, 'age', age, "
+                + "'birthDate', birth_date, 'estimatedDeathDate', (birth_date + interval '80 years')::date)", jsonObject);
+    }
+
+    @Test
+    void sql_WithIdOrder_ShouldAggregateNumberedPageWithoutSortKey() {
+        // Given
+        ClientQuery query = ClientQuery.ALL.withFields(EnumSet.of(ClientField.ID));
+
+        // When
+        String sql = PostgresClientJsonRenderer.sql(query, ClientQuerySql.of(query, null, 3));
+
+        // Then
+        assertEquals("SELECT COALESCE(json_agg(json_build_object('id', id) ORDER BY n) FILTER (WHERE n <= ?), '[]') AS body, "
+                + "count(*) > ? AS has_next, max(id) FILTER (WHERE n = ?) AS last_id, NULL AS last_key "
+                + "FROM (SELECT page.*, row_number() OVER (ORDER BY id) AS n "
+                + "FROM (SELECT id FROM clients ORDER BY id LIMIT ?) page) numbered", sql);
+    }
+
+    @Test
+    void render_WithMoreRowsThanLimit_ShouldReturnJsonAndPositionOfLastRow() throws Exception {
+        // Given
+        ClientQuery query = new ClientQuery(null, null, null, null, null, null, ClientSort.BIRTH_DATE, SortDirection.DESC);
+        ClientPosition after = new ClientPosition(LocalDate.of(2000, 1, 1), 7L);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBoolean("has_next")).thenReturn(true);
+        when(resultSet.getString("last_key")).thenReturn("1994-01-15");
+        when(resultSet.getLong("last_id")).thenReturn(1L);
+        when(resultSet.getBytes("body")).thenReturn(JSON);
+        String sql = PostgresClientJsonRenderer.sql(query, ClientQuerySql.of(query, after, 3));
+        when(jdbcTemplate.queryForObject(eq(sql), any(RowMapper.class),
+                eq(2), eq(2), eq(2), eq(2), eq(LocalDate.of(2000, 1, 1)), eq(7L), eq(3)))
+                .thenAnswer(invocation -> ((RowMapper<?>) invocation.getArgument(1)).mapRow(resultSet, 0));
+
+        // When
+        Optional<ClientPageJson> page = renderer.render(query, after, 2);
+
+        // Then
+        assertTrue(sql.contains("(max(birth_date) FILTER (WHERE n = ?))::text AS last_key"));
+        assertTrue(sql.contains("row_number() OVER (ORDER BY birth_date DESC, id DESC)"));
+        assertEquals(new ClientPageJson(JSON, new ClientPosition(LocalDate.of(1994, 1, 15), 1L)), page.orElseThrow());
+    }
+
+    @Test
+    void render_WithLastPage_ShouldReturnJsonWithoutNextPosition() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBoolean("has_next")).thenReturn(false);
+        when(resultSet.getBytes("body")).thenReturn(JSON);
+        when(jdbcTemplate.queryForObject(any(String.class), any(RowMapper.class), eq(100), eq(100), eq(100), eq(101)))
+                .thenAnswer(invocation -> ((RowMapper<?>) invocation.getArgument(1)).mapRow(resultSet, 0));
+
+        // When
+        Optional<ClientPageJson> page = renderer.render(ClientQuery.ALL, null, 100);
+
+        // Then
+        assertEquals(new ClientPageJson(JSON, null), page.orElseThrow());
+    }
+
+    @Test
+    void unsupported_ShouldRenderNothing() {
+        // When & Then
+        assertTrue(ClientJsonRenderer.UNSUPPORTED.render(ClientQuery.ALL, null, 100).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.pinapp.challenge.infrastructure.adapter.out.persistence;
+
+import com.pinapp.challenge.domain.model.AgeSample;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservoirAgeSamplerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sample_WithFewerRowsThanTarget_ShouldKeepEveryAge() throws Exception {
+        // Given
+        streamAges(30, 25, 35);
+        ReservoirAgeSampler sampler = new ReservoirAgeSampler(jdbcTemplate);
+
+        // When
+        AgeSample sample = sampler.sample(10);
+
+        // Then
+        assertEquals(new AgeSample(new int[]{30, 25, 35}, 3L), sample);
+    }
+
+    @Test
+    void sample_WithMoreRowsThanTarget_ShouldKeepTargetSizeAndCountAllRows() throws Exception {
+        // Given
+        int[] ages = new int[1_000];
+        Arrays.setAll(ages, i -> i);
+        streamAges(ages);
+        ReservoirAgeSampler sampler = new ReservoirAgeSampler(jdbcTemplate, () -> new Random(42));
+
+        // When
+        AgeSample sample = sampler.sample(100);
+
+        // Then
+        assertEquals(100, sample.size());
+        assertEquals(1_000L, sample.getEstimatedTotal());
+        assertEquals(100, Arrays.stream(sample.getAges()).distinct().count());
+        assertTrue(Arrays.stream(sample.getAges()).anyMatch(age -> age >= 100),
+                "later rows should replace some of the first ones");
+    }
+
+    @Test
+    void sample_WithEmptyTable_ShouldReturnEmptySample() {
+        // Given
+        ReservoirAgeSampler sampler = new ReservoirAgeSampler(jdbcTemplate);
+
+        // When
+        AgeSample sample = sampler.sample(10);
+
+        // Then
+        assertEquals(new AgeSample(new int[0], 0L), sample);
+    }
+
+    private void streamAges(int... ages) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        int[] position = new int[1];
+        when(resultSet.getInt(1)).thenAnswer(invocation -> ages[position[0]]);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (position[0] = 0; position[0] < ages.length; position[0]++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.pinapp.challenge.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+import com.pinapp.challenge.infrastructure.adapter.in.rest.dto.CreateClientRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFormatsConfigTest {
+
+    private final BinaryFormatsConfig config = new BinaryFormatsConfig();
+
+    @Test
+    void cborHttpMessageConverter_ShouldWriteDatesAsTaggedEpochDays() throws Exception {
+        // Given
+        ObjectMapper cbor = config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+        LocalDate birthDate = LocalDate.of(1994, 1, 15);
+
+        // When
+        byte[] encoded = cbor.writeValueAsBytes(birthDate);
+
+        // Then
+        try (CBORParser parser = (CBORParser) cbor.createParser(encoded)) {
+            parser.nextToken();
+            assertEquals(BinaryFormatsConfig.CBOR_EPOCH_DAYS_TAG, parser.getCurrentTag());
+            assertEquals(birthDate.toEpochDay(), parser.getLongValue());
+        }
+        assertEquals(birthDate, cbor.readValue(encoded, LocalDate.class));
+    }
+
+    @Test
+    void smileHttpMessageConverter_ShouldRoundTripCreateClientRequest() throws Exception {
+        // Given
+        ObjectMapper smile = config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+        CreateClientRequest request = CreateClientRequest.builder()
+                .firstName("John").lastName("Doe").age(30).birthDate(LocalDate.of(1994, 1, 15)).build();
+
+        // When
+        byte[] encoded = smile.writeValueAsBytes(request);
+
+        // Then
+        assertEquals(request, smile.readValue(encoded, CreateClientRequest.class));
+        assertEquals(LocalDate.of(1994, 1, 15).toEpochDay(), smile.readTree(encoded).get("birthDate").asLong());
+    }
+}
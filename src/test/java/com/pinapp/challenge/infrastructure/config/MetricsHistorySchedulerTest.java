@@ -0,0 +1,21 @@
+package com.pinapp.challenge.infrastructure.config;
+
+import com.pinapp.challenge.domain.service.MetricsHistoryService;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class MetricsHistorySchedulerTest {
+
+    @Test
+    void recordSnapshot_ShouldDelegateToHistoryService() {
+        // Given
+        MetricsHistoryService metricsHistoryService = mock(MetricsHistoryService.class);
+
+        // When
+        new MetricsHistoryScheduler(metricsHistoryService).recordSnapshot();
+
+        // Then
+        verify(metricsHistoryService).recordSnapshot();
+    }
+}
@@ -0,0 +1,82 @@
+package com.pinapp.challenge.infrastructure.config;
+
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.ClientJsonRenderer;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.CursorClientCsvExporter;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.PostgresAgeSampler;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.PostgresClientCsvExporter;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.PostgresClientJsonRenderer;
+import com.pinapp.challenge.infrastructure.adapter.out.persistence.ReservoirAgeSampler;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PersistenceConfigTest {
+
+    private final PersistenceConfig persistenceConfig = new PersistenceConfig();
+
+    @Test
+    void ageSampler_WithPostgres_ShouldUseTableSampling() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+
+        // When & Then
+        assertInstanceOf(PostgresAgeSampler.class, persistenceConfig.ageSampler(jdbcTemplate));
+    }
+
+    @Test
+    void ageSampler_WithOtherDatabase_ShouldUseReservoirSampling() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // When & Then
+        assertInstanceOf(ReservoirAgeSampler.class, persistenceConfig.ageSampler(jdbcTemplate));
+    }
+
+    @Test
+    void clientCsvExporter_WithPostgres_ShouldUseCopy() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+
+        // When & Then
+        assertInstanceOf(PostgresClientCsvExporter.class, persistenceConfig.clientCsvExporter(jdbcTemplate));
+    }
+
+    @Test
+    void clientJsonRenderer_WithPostgres_ShouldRenderInDatabase() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+
+        // When & Then
+        assertInstanceOf(PostgresClientJsonRenderer.class, persistenceConfig.clientJsonRenderer(jdbcTemplate));
+    }
+
+    @Test
+    void clientJsonRenderer_WithOtherDatabase_ShouldBeUnsupported() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // When & Then
+        assertSame(ClientJsonRenderer.UNSUPPORTED, persistenceConfig.clientJsonRenderer(jdbcTemplate));
+    }
+
+    @Test
+    void clientCsvExporter_WithOtherDatabase_ShouldUseCursor() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // When & Then
+        assertInstanceOf(CursorClientCsvExporter.class, persistenceConfig.clientCsvExporter(jdbcTemplate));
+    }
+}
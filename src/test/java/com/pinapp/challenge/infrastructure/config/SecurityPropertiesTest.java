@@ -11,7 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * Tests for SecurityProperties configuration and BCrypt password encoding
  */
-@SpringBootTest
+@SpringBootTest(properties = "app.metrics.history.enabled=false")
 @ActiveProfiles("dev")
 public class SecurityPropertiesTest {
 
@@ -0,0 +1,24 @@
+package com.pinapp.challenge.testdata;
+
+import com.pinapp.challenge.domain.model.AgeDistribution;
+
+import java.util.Map;
+
+/**
+ * Test data factory for AgeDistribution domain model
+ * Provides predefined distributions for metrics test scenarios
+ */
+public class AgeDistributionTestData {
+
+    // Distribution of ClientTestData.BASIC_CLIENTS_LIST (ages 30, 25 and 35)
+    public static final Map<Integer, Long> BASIC_HISTOGRAM = Map.of(25, 1L, 30, 1L, 35, 1L);
+    public static final AgeDistribution BASIC_DISTRIBUTION = new AgeDistribution(3L, 25, 35, 30, 35, 35, BASIC_HISTOGRAM);
+
+    // Expected values for testing
+    public static final Long EXPECTED_TOTAL_CLIENTS = 3L;
+    public static final Integer EXPECTED_MIN_AGE = 25;
+    public static final Integer EXPECTED_MAX_AGE = 35;
+    public static final Integer EXPECTED_MEDIAN_AGE = 30;
+    public static final Integer EXPECTED_P90_AGE = 35;
+    public static final Integer EXPECTED_P99_AGE = 35;
+}
@@ -1,5 +1,6 @@
 package com.pinapp.challenge.testdata;
 
+import com.pinapp.challenge.domain.model.AgeStatistics;
 import com.pinapp.challenge.domain.model.Client;
 import com.pinapp.challenge.domain.model.ClientMetrics;
 
@@ -78,6 +79,10 @@ public class ClientMetricsTestData {
     public static final ClientMetrics EXPECTED_RESPONSE_FOR_SINGLE_CLIENT = new ClientMetrics(30.0, 0.0, 1L);
     public static final ClientMetrics EXPECTED_RESPONSE_FOR_EMPTY_LIST = new ClientMetrics(0.0, 0.0, 0L);
 
+    // Age statistics as aggregated by the repository
+    public static final AgeStatistics AGE_STATISTICS_FOR_BASIC_CLIENTS = AgeStatistics.fromSums(3L, 90L, 2750L);
+    public static final AgeStatistics AGE_STATISTICS_FOR_EMPTY_LIST = AgeStatistics.EMPTY;
+
     // Expected values for testing
     public static final Double EXPECTED_AVERAGE_AGE = 30.0;
     public static final Double EXPECTED_STANDARD_DEVIATION = 5.0;